@@ -59,6 +59,9 @@ dependencies {
 
     // H2 in-memory database for testing
     testImplementation("com.h2database:h2:2.2.224")
+
+    // SQLite driver for connection provider tests (Paper bundles it at runtime)
+    testImplementation("org.xerial:sqlite-jdbc:3.45.1.0")
 }
 
 java {
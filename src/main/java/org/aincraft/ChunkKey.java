@@ -20,6 +20,34 @@ public record ChunkKey(String world, int x, int z) {
         return new ChunkKey(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
     }
 
+    /**
+     * Packs chunk coordinates into a single long (x in the high 32 bits, z in the low 32 bits).
+     */
+    public static long pack(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Extracts the x coordinate from a value produced by {@link #pack(int, int)}.
+     */
+    public static int unpackX(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * Extracts the z coordinate from a value produced by {@link #pack(int, int)}.
+     */
+    public static int unpackZ(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Gets this chunk's coordinates packed into a single long.
+     */
+    public long packed() {
+        return pack(x, z);
+    }
+
     @Override
     public String toString() {
         return world + ":" + x + "," + z;
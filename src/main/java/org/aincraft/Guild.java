@@ -1,10 +1,15 @@
 package org.aincraft;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public final class Guild {
     private static final int DEFAULT_MAX_MEMBERS = 100;
@@ -14,26 +19,30 @@ public final class Guild {
     private static final int CHUNK_SHIFT = 4; // Block coordinates to chunk coordinates (right shift 4 = divide by 16)
 
     private final UUID id;
-    private String name;
-    private String description;
-    private UUID ownerId;
-    private final List<UUID> members;
+    // Guilds are shared through the repository cache and read off the main thread, so every
+    // mutable field is volatile and multi-field updates (spawn, homeblock) lock the guild
+    private volatile String name;
+    private volatile String description;
+    private volatile UUID ownerId;
+    // Immutable snapshot, replaced under the guild's lock on every membership change
+    private volatile Set<UUID> members;
+    private Supplier<? extends Collection<UUID>> memberLoader;
     private final long createdAt;
-    private int maxMembers;
-    private int maxChunks;
-    private String spawnWorld;
-    private Double spawnX;
-    private Double spawnY;
-    private Double spawnZ;
-    private Float spawnYaw;
-    private Float spawnPitch;
-    private String color;
-    private String homeblockWorld;
-    private Integer homeblockChunkX;
-    private Integer homeblockChunkZ;
-    private boolean allowExplosions;
-    private boolean allowFire;
-    private boolean isPublic;
+    private volatile int maxMembers;
+    private volatile int maxChunks;
+    private volatile String spawnWorld;
+    private volatile Double spawnX;
+    private volatile Double spawnY;
+    private volatile Double spawnZ;
+    private volatile Float spawnYaw;
+    private volatile Float spawnPitch;
+    private volatile String color;
+    private volatile String homeblockWorld;
+    private volatile Integer homeblockChunkX;
+    private volatile Integer homeblockChunkZ;
+    private volatile boolean allowExplosions;
+    private volatile boolean allowFire;
+    private volatile boolean isPublic;
 
     /**
      * Private constructor - use factory methods instead.
@@ -53,9 +62,8 @@ public final class Guild {
         this.name = name;
         this.description = description;
         this.ownerId = ownerId;
-        this.members = new ArrayList<>();
         if (isNew) {
-            this.members.add(ownerId);
+            this.members = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(ownerId)));
         }
         this.createdAt = createdAt;
         this.maxMembers = maxMembers;
@@ -107,12 +115,33 @@ public final class Guild {
      * @return an Optional containing the restored Guild, or Optional.empty() if validation fails
      */
     public static java.util.Optional<Guild> restore(UUID id, String name, String description, UUID ownerId, long createdAt, int maxMembers, String color) {
+        return restore(id, name, description, ownerId, createdAt, maxMembers, color, List::<UUID>of);
+    }
+
+    /**
+     * Factory method to restore a Guild from database storage with validation.
+     * Members are not read until first needed, then fetched once through the given loader.
+     *
+     * @param id the existing guild ID (cannot be null)
+     * @param name the guild name (cannot be null or empty)
+     * @param description the guild description (can be null)
+     * @param ownerId the guild owner UUID (cannot be null)
+     * @param createdAt the creation timestamp
+     * @param maxMembers the max members limit (must be >= 1)
+     * @param color the guild color (can be null)
+     * @param memberLoader supplies the stored member UUIDs in join order (cannot be null)
+     * @return an Optional containing the restored Guild, or Optional.empty() if validation fails
+     */
+    public static java.util.Optional<Guild> restore(UUID id, String name, String description, UUID ownerId, long createdAt,
+                                                    int maxMembers, String color,
+                                                    Supplier<? extends Collection<UUID>> memberLoader) {
         try {
             if (id == null || name == null || name.trim().isEmpty() || ownerId == null || maxMembers < MIN_MAX_MEMBERS) {
                 return java.util.Optional.empty();
             }
 
             Guild guild = new Guild(id, name, description, ownerId, createdAt, maxMembers, color, false);
+            guild.memberLoader = Objects.requireNonNull(memberLoader, "Member loader cannot be null");
             return java.util.Optional.of(guild);
         } catch (Exception e) {
             return java.util.Optional.empty();
@@ -126,15 +155,15 @@ public final class Guild {
      * @return true if the player was successfully added, false if they're already a member or guild is full
      * @throws IllegalArgumentException if playerId is null
      */
-    public boolean joinGuild(UUID playerId) {
+    public synchronized boolean joinGuild(UUID playerId) {
         validatePlayerId(playerId);
         if (isMemberFull()) {
             return false;
         }
-        if (members.contains(playerId)) {
+        if (members().contains(playerId)) {
             return false;
         }
-        return members.add(playerId);
+        return updateMembers(updated -> updated.add(playerId));
     }
 
     /**
@@ -145,15 +174,15 @@ public final class Guild {
      * @return true if the player was successfully removed, false if they're the owner or not a member
      * @throws IllegalArgumentException if playerId is null
      */
-    public LeaveResult leaveGuild(UUID playerId) {
+    public synchronized LeaveResult leaveGuild(UUID playerId) {
         validatePlayerId(playerId);
         if (isOwner(playerId)) {
             return LeaveResult.ownerCannotLeave();
         }
-        if (!members.contains(playerId)) {
+        if (!members().contains(playerId)) {
             return LeaveResult.notInGuild();
         }
-        members.remove(playerId);
+        updateMembers(updated -> updated.remove(playerId));
         return LeaveResult.success();
     }
 
@@ -166,7 +195,7 @@ public final class Guild {
      * @return true if the member was successfully kicked, false if kicker is not owner or target is owner
      * @throws IllegalArgumentException if kickerId or targetId is null
      */
-    public boolean kickMember(UUID kickerId, UUID targetId) {
+    public synchronized boolean kickMember(UUID kickerId, UUID targetId) {
         validatePlayerId(kickerId);
         validatePlayerId(targetId);
 
@@ -176,7 +205,7 @@ public final class Guild {
         if (isOwner(targetId)) {
             return false;
         }
-        return members.remove(targetId);
+        return updateMembers(updated -> updated.remove(targetId));
     }
 
     /**
@@ -206,7 +235,7 @@ public final class Guild {
      * @return true if the player is a member, false otherwise
      */
     public boolean isMember(UUID playerId) {
-        return members.contains(Objects.requireNonNull(playerId));
+        return members().contains(Objects.requireNonNull(playerId));
     }
 
     /**
@@ -215,7 +244,7 @@ public final class Guild {
      * @return the member count
      */
     public int getMemberCount() {
-        return members.size();
+        return members().size();
     }
 
     /**
@@ -226,9 +255,9 @@ public final class Guild {
      * @return true if ownership was successfully transferred, false if the new owner is not a member
      * @throws IllegalArgumentException if newOwnerId is null
      */
-    public boolean transferOwnership(UUID newOwnerId) {
+    public synchronized boolean transferOwnership(UUID newOwnerId) {
         validatePlayerId(newOwnerId);
-        if (!members.contains(newOwnerId)) {
+        if (!members().contains(newOwnerId)) {
             return false;
         }
         this.ownerId = newOwnerId;
@@ -241,11 +270,11 @@ public final class Guild {
      * @param maxMembers the new maximum member count (must be at least 1 and >= current member count)
      * @throws IllegalArgumentException if maxMembers is less than 1 or less than current member count
      */
-    public void setMaxMembers(int maxMembers) {
+    public synchronized void setMaxMembers(int maxMembers) {
         if (maxMembers < MIN_MAX_MEMBERS) {
             throw new IllegalArgumentException("Max members must be at least " + MIN_MAX_MEMBERS);
         }
-        if (maxMembers < members.size()) {
+        if (maxMembers < members().size()) {
             throw new IllegalArgumentException("Cannot set max members lower than current member count");
         }
         this.maxMembers = maxMembers;
@@ -257,7 +286,7 @@ public final class Guild {
      * @return true if member count >= max members, false otherwise
      */
     private boolean isMemberFull() {
-        return members.size() >= maxMembers;
+        return members().size() >= maxMembers;
     }
 
     /**
@@ -329,6 +358,36 @@ public final class Guild {
         return ownerId;
     }
 
+    /**
+     * Returns the current immutable member snapshot, loading it on first use for restored guilds.
+     * Reads never lock once the members are loaded; membership changes publish a new snapshot.
+     */
+    private Set<UUID> members() {
+        Set<UUID> snapshot = members;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (members == null) {
+                members = Collections.unmodifiableSet(new LinkedHashSet<>(memberLoader.get()));
+                memberLoader = null;
+            }
+            return members;
+        }
+    }
+
+    /**
+     * Applies a change to a copy of the member set and publishes the copy. Callers hold the guild's lock.
+     */
+    private boolean updateMembers(Predicate<Set<UUID>> change) {
+        Set<UUID> updated = new LinkedHashSet<>(members());
+        boolean changed = change.test(updated);
+        if (changed) {
+            members = Collections.unmodifiableSet(updated);
+        }
+        return changed;
+    }
+
     /**
      * Gets an unmodifiable copy of the members list.
      * Modifications to the returned list will not affect the guild.
@@ -336,7 +395,18 @@ public final class Guild {
      * @return an unmodifiable list of member UUIDs
      */
     public List<UUID> getMembers() {
-        return Collections.unmodifiableList(new ArrayList<>(members));
+        return Collections.unmodifiableList(new ArrayList<>(members()));
+    }
+
+    /**
+     * Gets the current member snapshot, for membership tests and iteration without copying.
+     * The snapshot is immutable and safe to iterate from any thread; later membership changes
+     * are not reflected in it.
+     *
+     * @return an unmodifiable set of member UUIDs, in join order
+     */
+    public Set<UUID> getMemberSet() {
+        return members();
     }
 
     /**
@@ -419,7 +489,7 @@ public final class Guild {
      * @param location the location to set as spawn (cannot be null)
      * @throws IllegalArgumentException if location is null
      */
-    public void setSpawn(org.bukkit.Location location) {
+    public synchronized void setSpawn(org.bukkit.Location location) {
         Objects.requireNonNull(location, "Location cannot be null");
         this.spawnWorld = location.getWorld().getName();
         this.spawnX = location.getX();
@@ -432,7 +502,7 @@ public final class Guild {
     /**
      * Clears the spawn location for this guild.
      */
-    public void clearSpawn() {
+    public synchronized void clearSpawn() {
         this.spawnWorld = null;
         this.spawnX = null;
         this.spawnY = null;
@@ -581,7 +651,7 @@ public final class Guild {
      *
      * @return the homeblock ChunkKey, or null if not set
      */
-    public ChunkKey getHomeblock() {
+    public synchronized ChunkKey getHomeblock() {
         if (!hasHomeblock()) {
             return null;
         }
@@ -594,7 +664,7 @@ public final class Guild {
      * @param chunk the chunk to set as homeblock (cannot be null)
      * @throws IllegalArgumentException if chunk is null
      */
-    public void setHomeblock(ChunkKey chunk) {
+    public synchronized void setHomeblock(ChunkKey chunk) {
         Objects.requireNonNull(chunk, "Chunk cannot be null");
         this.homeblockWorld = chunk.world();
         this.homeblockChunkX = chunk.x();
@@ -604,7 +674,7 @@ public final class Guild {
     /**
      * Clears the homeblock for this guild.
      */
-    public void clearHomeblock() {
+    public synchronized void clearHomeblock() {
         this.homeblockWorld = null;
         this.homeblockChunkX = null;
         this.homeblockChunkZ = null;
@@ -620,18 +690,19 @@ public final class Guild {
     public boolean isInHomeblock(org.bukkit.Location loc) {
         Objects.requireNonNull(loc, "Location cannot be null");
 
-        if (!hasHomeblock()) {
+        ChunkKey homeblock = getHomeblock();
+        if (homeblock == null) {
             return false;
         }
 
-        if (!loc.getWorld().getName().equals(homeblockWorld)) {
+        if (!loc.getWorld().getName().equals(homeblock.world())) {
             return false;
         }
 
         int chunkX = loc.getBlockX() >> CHUNK_SHIFT;
         int chunkZ = loc.getBlockZ() >> CHUNK_SHIFT;
 
-        return chunkX == homeblockChunkX && chunkZ == homeblockChunkZ;
+        return chunkX == homeblock.x() && chunkZ == homeblock.z();
     }
 
     /**
@@ -726,7 +797,7 @@ public final class Guild {
         return "Guild{" +
                 "id='" + id + '\'' +
                 ", name='" + name + '\'' +
-                ", memberCount=" + members.size() +
+                ", memberCount=" + members().size() +
                 ", maxMembers=" + maxMembers +
                 '}';
     }
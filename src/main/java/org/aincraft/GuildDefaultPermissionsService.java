@@ -5,7 +5,9 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.Optional;
 import java.util.UUID;
+import org.aincraft.service.PermissionDecisionCache;
 import org.aincraft.storage.GuildDefaultPermissionsRepository;
+import org.aincraft.subregion.RegionPermissionTables;
 import org.aincraft.subregion.SubjectType;
 
 /**
@@ -14,10 +16,16 @@ import org.aincraft.subregion.SubjectType;
  */
 public class GuildDefaultPermissionsService {
     private final GuildDefaultPermissionsRepository repository;
+    private final PermissionDecisionCache decisionCache;
+    private final RegionPermissionTables permissionTables;
 
     @Inject
-    public GuildDefaultPermissionsService(GuildDefaultPermissionsRepository repository) {
+    public GuildDefaultPermissionsService(GuildDefaultPermissionsRepository repository,
+                                          PermissionDecisionCache decisionCache,
+                                          RegionPermissionTables permissionTables) {
         this.repository = Objects.requireNonNull(repository, "Repository cannot be null");
+        this.decisionCache = Objects.requireNonNull(decisionCache, "Decision cache cannot be null");
+        this.permissionTables = Objects.requireNonNull(permissionTables, "Permission tables cannot be null");
     }
 
     /**
@@ -78,6 +86,7 @@ public class GuildDefaultPermissionsService {
         GuildDefaultPermissions perms = getOrCreate(guildId);
         perms.setAllyPermissions(permissions);
         repository.save(perms);
+        invalidate(guildId);
     }
 
     /**
@@ -91,6 +100,7 @@ public class GuildDefaultPermissionsService {
         GuildDefaultPermissions perms = getOrCreate(guildId);
         perms.setEnemyPermissions(permissions);
         repository.save(perms);
+        invalidate(guildId);
     }
 
     /**
@@ -104,6 +114,7 @@ public class GuildDefaultPermissionsService {
         GuildDefaultPermissions perms = getOrCreate(guildId);
         perms.setOutsiderPermissions(permissions);
         repository.save(perms);
+        invalidate(guildId);
     }
 
     /**
@@ -115,6 +126,7 @@ public class GuildDefaultPermissionsService {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
         GuildDefaultPermissions perms = new GuildDefaultPermissions(guildId, 4, 0, 0); // 4 = INTERACT
         repository.save(perms);
+        invalidate(guildId);
     }
 
     /**
@@ -125,6 +137,7 @@ public class GuildDefaultPermissionsService {
     public void delete(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
         repository.delete(guildId);
+        invalidate(guildId);
     }
 
     /**
@@ -137,4 +150,14 @@ public class GuildDefaultPermissionsService {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
         return repository.findByGuildId(guildId);
     }
+
+    /**
+     * Drops everything compiled from a guild's defaults: cached decisions and region permission tables.
+     *
+     * @param guildId the guild ID
+     */
+    private void invalidate(UUID guildId) {
+        decisionCache.invalidateGuild(guildId);
+        permissionTables.invalidateGuild(guildId);
+    }
 }
@@ -9,9 +9,15 @@ import java.util.Optional;
 import java.util.UUID;
 import org.aincraft.claim.ChunkClaimLog;
 import org.aincraft.claim.ChunkClaimLogRepository;
+import org.aincraft.claim.NearbyClaim;
 import org.aincraft.config.GuildsConfig;
 import org.aincraft.project.storage.GuildProjectPoolRepository;
 import org.aincraft.role.CompositeGuildRoleRepository;
+import org.aincraft.service.ChunkClaimService;
+import org.aincraft.service.MemberAuthorityLoader;
+import org.aincraft.service.MemberPermissionCache;
+import org.aincraft.service.MemberPermissionCache.MemberAuthority;
+import org.aincraft.service.PermissionDecisionCache;
 import org.aincraft.storage.ChunkClaimRepository;
 import org.aincraft.storage.GuildMemberRepository;
 import org.aincraft.storage.GuildRelationshipRepository;
@@ -44,13 +50,19 @@ public class GuildService {
     private final InviteRepository inviteRepository;
     private final GuildProjectPoolRepository poolRepository;
     private final GuildsConfig config;
+    private final PermissionDecisionCache decisionCache;
+    private final MemberPermissionCache permissionCache;
+    private final ChunkClaimService chunkClaimService;
+    private final MemberAuthorityLoader authorityLoader;
 
     @Inject
     public GuildService(GuildRepository guildRepository, PlayerGuildMapping playerGuildMapping,
                         GuildMemberRepository memberRepository, GuildRoleRepository roleRepository,
                         MemberRoleRepository memberRoleRepository, ChunkClaimRepository chunkClaimRepository,
                         GuildRelationshipRepository relationshipRepository, ChunkClaimLogRepository claimLogRepository,
-                        InviteRepository inviteRepository, GuildProjectPoolRepository poolRepository, GuildsConfig config) {
+                        InviteRepository inviteRepository, GuildProjectPoolRepository poolRepository, GuildsConfig config,
+                        PermissionDecisionCache decisionCache, MemberPermissionCache permissionCache,
+                        ChunkClaimService chunkClaimService, MemberAuthorityLoader authorityLoader) {
         this.guildRepository = Objects.requireNonNull(guildRepository, "Guild repository cannot be null");
         this.playerGuildMapping = Objects.requireNonNull(playerGuildMapping, "Player guild mapping cannot be null");
         this.memberRepository = Objects.requireNonNull(memberRepository, "Member repository cannot be null");
@@ -62,6 +74,10 @@ public class GuildService {
         this.inviteRepository = Objects.requireNonNull(inviteRepository, "Invite repository cannot be null");
         this.poolRepository = Objects.requireNonNull(poolRepository, "Pool repository cannot be null");
         this.config = Objects.requireNonNull(config, "Config cannot be null");
+        this.decisionCache = Objects.requireNonNull(decisionCache, "Decision cache cannot be null");
+        this.permissionCache = Objects.requireNonNull(permissionCache, "Permission cache cannot be null");
+        this.chunkClaimService = Objects.requireNonNull(chunkClaimService, "Chunk claim service cannot be null");
+        this.authorityLoader = Objects.requireNonNull(authorityLoader, "Authority loader cannot be null");
     }
 
     /**
@@ -104,6 +120,8 @@ public class GuildService {
         // Initialize guild creation timestamp for project pool 24h refresh cycle
         poolRepository.setGuildCreatedAt(guild.getId(), System.currentTimeMillis());
 
+        decisionCache.invalidatePlayer(ownerId);
+        permissionCache.invalidatePlayer(ownerId);
         return guild;
     }
 
@@ -140,6 +158,10 @@ public class GuildService {
         inviteRepository.deleteByGuildId(guildId);
 
         guildRepository.delete(guildId);
+
+        // Members lose their guild everywhere and other guilds lose a relationship; too broad to track
+        decisionCache.invalidateAll();
+        permissionCache.invalidateGuild(guildId);
         return true;
     }
 
@@ -173,7 +195,8 @@ public class GuildService {
             roleRepository.findByGuildAndName(guildId, GuildRole.DEFAULT_ROLE_NAME)
                     .ifPresent(role -> memberRoleRepository.assignRole(guildId, playerId, role.getId()));
 
-            guildRepository.save(guild);
+            decisionCache.invalidatePlayer(playerId);
+            permissionCache.invalidatePlayer(playerId);
             return true;
         }
 
@@ -204,7 +227,8 @@ public class GuildService {
             playerGuildMapping.removePlayerFromGuild(playerId);
             memberRepository.removeMember(guildId, playerId);
             memberRoleRepository.removeAllMemberRoles(guildId, playerId);
-            guildRepository.save(guild);
+            decisionCache.invalidatePlayer(playerId);
+            permissionCache.invalidateMember(guildId, playerId);
         }
 
         return result;
@@ -251,7 +275,8 @@ public class GuildService {
             playerGuildMapping.removePlayerFromGuild(targetId);
             memberRepository.removeMember(guildId, targetId);
             memberRoleRepository.removeAllMemberRoles(guildId, targetId);
-            guildRepository.save(guild);
+            decisionCache.invalidatePlayer(targetId);
+            permissionCache.invalidateMember(guildId, targetId);
             return true;
         }
 
@@ -304,6 +329,17 @@ public class GuildService {
         return guildIdOpt.flatMap(guildRepository::findById).orElse(null);
     }
 
+    /**
+     * Gets the ID of the guild a player belongs to, without loading the guild.
+     *
+     * @param playerId the player UUID
+     * @return the guild ID, or null if not in a guild
+     */
+    public UUID getPlayerGuildId(UUID playerId) {
+        Objects.requireNonNull(playerId, "Player ID cannot be null");
+        return playerGuildMapping.getPlayerGuildId(playerId).orElse(null);
+    }
+
     /**
      * Checks if a player has a specific permission in a guild.
      * Permissions are computed by OR-ing all assigned role permissions.
@@ -319,64 +355,28 @@ public class GuildService {
         Objects.requireNonNull(playerId, "Player ID cannot be null");
         Objects.requireNonNull(permission, "Permission cannot be null");
 
-        Optional<Guild> guildOpt = guildRepository.findById(guildId);
-        if (guildOpt.isEmpty()) {
-            return false;
-        }
-
-        Guild guild = guildOpt.get();
-        if (guild.isOwner(playerId)) {
-            return true;
-        }
-
-        // Compute effective permissions from all assigned roles
-        int effectivePermissions = computeEffectivePermissions(guildId, playerId);
-
-        // ADMIN permission grants all permissions
-        if ((effectivePermissions & GuildPermission.ADMIN.getBit()) != 0) {
-            return true;
-        }
-
-        return (effectivePermissions & permission.getBit()) != 0;
-    }
-
-    /**
-     * Computes effective permissions by OR-ing all assigned role permissions.
-     */
-    private int computeEffectivePermissions(UUID guildId, UUID playerId) {
-        List<String> roleIds = memberRoleRepository.getMemberRoleIds(guildId, playerId);
-        int permissions = 0;
-        for (String roleId : roleIds) {
-            Optional<GuildRole> role = ((CompositeGuildRoleRepository) roleRepository).findByIdAndGuild(roleId, guildId);
-            if (role.isPresent()) {
-                permissions |= role.get().getPermissions();
-            }
-        }
-        return permissions;
+        return getAuthority(guildId, playerId).hasPermission(permission);
     }
 
     /**
-     * Gets the highest priority role for a member.
+     * Gets the IDs of the guild roles assigned to a member, served from the member permission cache.
      *
      * @param guildId the guild ID
      * @param playerId the player UUID
-     * @return the highest priority role, or empty if no roles assigned
+     * @return the assigned role IDs; empty for the guild owner
      */
-    private Optional<GuildRole> getHighestPriorityRole(UUID guildId, UUID playerId) {
-        List<String> roleIds = memberRoleRepository.getMemberRoleIds(guildId, playerId);
-        GuildRole highestRole = null;
+    public List<String> getMemberRoleIds(UUID guildId, UUID playerId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(playerId, "Player ID cannot be null");
 
-        for (String roleId : roleIds) {
-            Optional<GuildRole> roleOpt = ((CompositeGuildRoleRepository) roleRepository).findByIdAndGuild(roleId, guildId);
-            if (roleOpt.isPresent()) {
-                GuildRole role = roleOpt.get();
-                if (highestRole == null || role.getPriority() > highestRole.getPriority()) {
-                    highestRole = role;
-                }
-            }
-        }
+        return getAuthority(guildId, playerId).roleIds();
+    }
 
-        return Optional.ofNullable(highestRole);
+    /**
+     * Gets a member's cached authority, resolving it from storage on a miss.
+     */
+    private MemberAuthority getAuthority(UUID guildId, UUID playerId) {
+        return permissionCache.get(guildId, playerId, authorityLoader::load);
     }
 
     /**
@@ -429,21 +429,21 @@ public class GuildService {
         }
 
         // For KICK permission, check role hierarchy
-        Optional<GuildRole> kickerRoleOpt = getHighestPriorityRole(guild.getId(), kickerId);
-        Optional<GuildRole> targetRoleOpt = getHighestPriorityRole(guild.getId(), targetId);
+        Integer kickerPriority = getAuthority(guild.getId(), kickerId).highestPriority();
+        Integer targetPriority = getAuthority(guild.getId(), targetId).highestPriority();
 
         // If target has no role, kicker can kick
-        if (targetRoleOpt.isEmpty()) {
+        if (targetPriority == null) {
             return true;
         }
 
         // If kicker has no role but target does, cannot kick
-        if (kickerRoleOpt.isEmpty()) {
+        if (kickerPriority == null) {
             return false;
         }
 
         // Compare priorities: kicker must have higher priority
-        return kickerRoleOpt.get().hasHigherPriorityThan(targetRoleOpt.get());
+        return kickerPriority > targetPriority;
     }
 
     /**
@@ -513,7 +513,8 @@ public class GuildService {
 
     /**
      * Claims a chunk for a guild.
-     * Requires the player to have CLAIM permission.
+     * Requires the player to have CLAIM permission; validation and first-claim handling are
+     * shared with {@link ChunkClaimService}.
      *
      * @param guildId the guild ID
      * @param playerId the player claiming the chunk
@@ -521,84 +522,8 @@ public class GuildService {
      * @return ClaimResult indicating success or specific failure reason
      */
     public ClaimResult claimChunk(UUID guildId, UUID playerId, ChunkKey chunk) {
-        Objects.requireNonNull(guildId, "Guild ID cannot be null");
-        Objects.requireNonNull(playerId, "Player ID cannot be null");
-        Objects.requireNonNull(chunk, "Chunk cannot be null");
-
-        if (!hasPermission(guildId, playerId, GuildPermission.CLAIM)) {
-            return ClaimResult.noPermission();
-        }
-
-        // Check if already claimed by this guild
-        Guild chunkOwner = getChunkOwner(chunk);
-        if (chunkOwner != null && chunkOwner.getId().equals(guildId)) {
-            return ClaimResult.alreadyOwned();
-        }
-
-        // Check if already claimed by another guild
-        if (chunkOwner != null) {
-            return ClaimResult.alreadyClaimed(chunkOwner.getName());
-        }
-
-        // Check buffer distance to other guilds
-        ClaimResult bufferCheck = checkBufferDistance(chunk, guildId);
-        if (!bufferCheck.isSuccess()) {
-            return bufferCheck;
-        }
-
-        // Validate chunk is adjacent to existing claims or is first claim
-        List<ChunkKey> guildChunks = chunkClaimRepository.getGuildChunks(guildId);
-        if (!guildChunks.isEmpty() && !isAdjacentToGuild(chunk, guildChunks)) {
-            return ClaimResult.notAdjacent();
-        }
-
-        // Check if guild has reached claim limit
-        Optional<Guild> guildOpt = guildRepository.findById(guildId);
-        if (guildOpt.isPresent()) {
-            Guild guild = guildOpt.get();
-            if (guildChunks.size() >= guild.getMaxChunks()) {
-                return ClaimResult.limitExceeded(guild.getMaxChunks());
-            }
-        }
-
-        boolean claimed = chunkClaimRepository.claim(chunk, guildId, playerId);
-        if (!claimed) {
-            return ClaimResult.failure("Failed to claim chunk");
-        }
-
-        // Log the claim action
-        claimLogRepository.log(new ChunkClaimLog(guildId, chunk, playerId, ChunkClaimLog.ActionType.CLAIM));
-
-        // Auto-set homeblock and spawn if this is first claim
-        if (guildOpt.isPresent()) {
-            Guild guild = guildOpt.get();
-            if (!guild.hasHomeblock()) {
-                guild.setHomeblock(chunk);
-                guildRepository.save(guild);
-
-                // Auto-set spawn at homeblock center
-                org.bukkit.World world = org.bukkit.Bukkit.getWorld(chunk.world());
-                if (world != null) {
-                    int centerX = chunk.x() * CHUNK_SIZE + CHUNK_CENTER_OFFSET;
-                    int centerZ = chunk.z() * CHUNK_SIZE + CHUNK_CENTER_OFFSET;
-                    int y = world.getHighestBlockYAt(centerX, centerZ);
-
-                    org.bukkit.Location spawnLoc = new org.bukkit.Location(
-                        world,
-                        centerX + BLOCK_CENTER_OFFSET,
-                        y + HEAD_BLOCK_OFFSET,
-                        centerZ + BLOCK_CENTER_OFFSET
-                    );
-
-                    if (isSafeSpawnLocation(spawnLoc)) {
-                        guild.setSpawn(spawnLoc);
-                        guildRepository.save(guild);
-                    }
-                }
-            }
-        }
-
-        return ClaimResult.success();
+        return chunkClaimService.claimChunk(guildId, playerId, chunk,
+                hasPermission(guildId, playerId, GuildPermission.CLAIM));
     }
 
     /**
@@ -676,10 +601,12 @@ public class GuildService {
 
         chunkClaimRepository.unclaimAll(guildId);
 
-        // Log each unclaim action
+        // Log all unclaim actions in one batch
+        List<ChunkClaimLog> entries = new ArrayList<>(chunks.size());
         for (ChunkKey chunk : chunks) {
-            claimLogRepository.log(new ChunkClaimLog(guildId, chunk, playerId, ChunkClaimLog.ActionType.UNCLAIM));
+            entries.add(new ChunkClaimLog(guildId, chunk, playerId, ChunkClaimLog.ActionType.UNCLAIM));
         }
+        claimLogRepository.logAll(entries);
 
         return true;
     }
@@ -698,6 +625,55 @@ public class GuildService {
                 .orElse(null);
     }
 
+    /**
+     * Gets the guild that owns the chunk containing a block.
+     * Avoids loading the chunk or allocating a ChunkKey on hot protection paths.
+     *
+     * @param world the world name
+     * @param blockX the block x coordinate
+     * @param blockZ the block z coordinate
+     * @return the guild if claimed, null otherwise
+     */
+    public Guild getChunkOwnerAt(String world, int blockX, int blockZ) {
+        Objects.requireNonNull(world, "World cannot be null");
+        return getChunkOwner(PackedChunkKey.ofBlock(world, blockX, blockZ));
+    }
+
+    /**
+     * Gets the guild that owns a chunk.
+     *
+     * @param packedChunk the chunk, encoded with {@link PackedChunkKey}
+     * @return the guild if claimed, null otherwise
+     */
+    public Guild getChunkOwner(long packedChunk) {
+        return chunkClaimRepository.getOwner(packedChunk)
+                .flatMap(guildRepository::findById)
+                .orElse(null);
+    }
+
+    /**
+     * Gets the ID of the guild that owns a chunk, without loading the guild.
+     *
+     * @param packedChunk the chunk, encoded with {@link PackedChunkKey}
+     * @return the owning guild ID, or null if unclaimed
+     */
+    public UUID getChunkOwnerId(long packedChunk) {
+        return chunkClaimRepository.getOwner(packedChunk).orElse(null);
+    }
+
+    /**
+     * Gets the ID of the guild that owns the chunk containing a block, without loading the guild.
+     *
+     * @param world the world name
+     * @param blockX the block x coordinate
+     * @param blockZ the block z coordinate
+     * @return the owning guild ID, or null if unclaimed
+     */
+    public UUID getChunkOwnerIdAt(String world, int blockX, int blockZ) {
+        Objects.requireNonNull(world, "World cannot be null");
+        return chunkClaimRepository.getOwner(PackedChunkKey.ofBlock(world, blockX, blockZ)).orElse(null);
+    }
+
     /**
      * Gets all chunks claimed by a guild.
      *
@@ -802,6 +778,8 @@ public class GuildService {
 
         memberRoleRepository.removeAllByRole(roleId);
         roleRepository.delete(roleId);
+        decisionCache.invalidateGuild(guildId);
+        permissionCache.invalidateGuild(guildId);
         return true;
     }
 
@@ -832,6 +810,8 @@ public class GuildService {
         GuildRole role = roleOpt.get();
         role.setPermissions(permissions);
         roleRepository.save(role);
+        decisionCache.invalidateGuild(guildId);
+        permissionCache.invalidateGuild(guildId);
         return true;
     }
 
@@ -844,6 +824,8 @@ public class GuildService {
     public void saveRole(GuildRole role) {
         Objects.requireNonNull(role, "Role cannot be null");
         roleRepository.save(role);
+        decisionCache.invalidateGuild(role.getGuildId());
+        permissionCache.invalidateGuild(role.getGuildId());
     }
 
     /**
@@ -954,6 +936,8 @@ public class GuildService {
         }
 
         memberRoleRepository.assignRole(guildId, targetId, roleId);
+        decisionCache.invalidatePlayer(targetId);
+        permissionCache.invalidateMember(guildId, targetId);
         return true;
     }
 
@@ -978,6 +962,8 @@ public class GuildService {
         }
 
         memberRoleRepository.unassignRole(guildId, targetId, roleId);
+        decisionCache.invalidatePlayer(targetId);
+        permissionCache.invalidateMember(guildId, targetId);
         return true;
     }
 
@@ -1045,12 +1031,7 @@ public class GuildService {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
         Objects.requireNonNull(playerId, "Player ID cannot be null");
 
-        Optional<Guild> guildOpt = guildRepository.findById(guildId);
-        if (guildOpt.isPresent() && guildOpt.get().isOwner(playerId)) {
-            return MemberPermissions.all();
-        }
-
-        return MemberPermissions.fromBitfield(computeEffectivePermissions(guildId, playerId));
+        return MemberPermissions.fromBitfield(getAuthority(guildId, playerId).permissions());
     }
 
     // ==================== Spawn Location Methods ====================
@@ -1240,32 +1221,6 @@ public class GuildService {
         return guild != null ? guild.getHomeblock() : null;
     }
 
-    /**
-     * Checks if a chunk is adjacent to any of the guild's existing claims.
-     * Adjacent means sharing an edge (not diagonal).
-     *
-     * @param chunk the chunk to check
-     * @param guildChunks the list of chunks already claimed by the guild
-     * @return true if chunk is adjacent to at least one guild chunk
-     */
-    private boolean isAdjacentToGuild(ChunkKey chunk, List<ChunkKey> guildChunks) {
-        for (ChunkKey existing : guildChunks) {
-            // Only check if in same world
-            if (!chunk.world().equals(existing.world())) {
-                continue;
-            }
-
-            int dx = Math.abs(chunk.x() - existing.x());
-            int dz = Math.abs(chunk.z() - existing.z());
-
-            // Adjacent if sharing an edge: (dx==1 && dz==0) or (dx==0 && dz==1)
-            if ((dx == 1 && dz == 0) || (dx == 0 && dz == 1)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * Validates buffer distance requirements for a chunk.
      * Public method for pre-validation before guild creation or chunk claiming.
@@ -1297,38 +1252,16 @@ public class GuildService {
             return ClaimResult.success();
         }
 
-        // Get all guilds
-        List<Guild> allGuilds = guildRepository.findAll();
-
-        // Check distance to each other guild's chunks
-        for (Guild otherGuild : allGuilds) {
-            // Skip own guild
-            if (otherGuild.getId().equals(guildId)) {
-                continue;
-            }
-
-            // Get chunks for this guild
-            List<ChunkKey> otherChunks = chunkClaimRepository.getGuildChunks(otherGuild.getId());
-
-            // Check Manhattan distance to each chunk
-            for (ChunkKey otherChunk : otherChunks) {
-                // Only check chunks in same world
-                if (!chunk.world().equals(otherChunk.world())) {
-                    continue;
-                }
-
-                int dx = Math.abs(chunk.x() - otherChunk.x());
-                int dz = Math.abs(chunk.z() - otherChunk.z());
-                int manhattanDistance = dx + dz;
-
-                // If within buffer distance, reject claim
-                if (manhattanDistance < bufferDistance) {
-                    return ClaimResult.tooCloseToGuild(otherGuild.getName(), bufferDistance, manhattanDistance);
-                }
-            }
+        // Closest chunk of any other guild inside the buffer, answered from the spatial index
+        Optional<NearbyClaim> nearby = chunkClaimRepository.findNearestForeignClaim(chunk, guildId, bufferDistance);
+        if (nearby.isEmpty()) {
+            return ClaimResult.success();
         }
 
-        return ClaimResult.success();
+        String otherGuildName = guildRepository.findById(nearby.get().guildId())
+                .map(Guild::getName)
+                .orElse("another guild");
+        return ClaimResult.tooCloseToGuild(otherGuildName, bufferDistance, nearby.get().distance());
     }
 
     /**
@@ -1361,5 +1294,8 @@ public class GuildService {
     public void save(Guild guild) {
         Objects.requireNonNull(guild, "Guild cannot be null");
         guildRepository.save(guild);
+        // Callers save after changing ownership, which grants or revokes every permission
+        decisionCache.invalidateGuild(guild.getId());
+        permissionCache.invalidateGuild(guild.getId());
     }
 }
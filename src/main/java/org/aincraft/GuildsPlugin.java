@@ -14,7 +14,9 @@ import io.papermc.paper.plugin.lifecycle.event.LifecycleEventManager;
 import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import org.aincraft.database.ConnectionProvider;
 import org.aincraft.database.SchemaManager;
+import org.aincraft.claim.AsyncChunkClaimLogRepository;
 import org.aincraft.claim.AutoClaimListener;
 import org.aincraft.claim.AutoClaimManager;
 import org.aincraft.claim.ClaimEntryNotifier;
@@ -37,6 +39,7 @@ import org.aincraft.commands.components.JoinComponent;
 import org.aincraft.commands.components.KickComponent;
 import org.aincraft.commands.components.LeaveComponent;
 import org.aincraft.commands.components.ListComponent;
+import org.aincraft.commands.components.TopComponent;
 import org.aincraft.commands.components.LogComponent;
 import org.aincraft.commands.components.MapComponent;
 import org.aincraft.commands.components.MemberComponent;
@@ -62,9 +65,12 @@ import org.aincraft.project.ProjectRegistry;
 import org.aincraft.project.listeners.QuestProgressListener;
 import org.aincraft.inject.GuildsModule;
 import org.aincraft.progression.ProgressionConfig;
+import org.aincraft.progression.ProgressionService;
+import org.aincraft.progression.XpAccumulator;
 import org.aincraft.progression.listeners.ProgressionXpListener;
 import org.aincraft.progression.listeners.ProgressionPlaytimeTask;
 import org.aincraft.listeners.GuildProtectionListener;
+import org.aincraft.listeners.PlayerSessionListener;
 import org.aincraft.map.GuildColorMapper;
 import org.aincraft.map.GuildMapRenderer;
 import org.aincraft.multiblock.MultiblockListener;
@@ -109,6 +115,7 @@ public class GuildsPlugin extends JavaPlugin {
     private DisbandComponent disbandComponent;
     private InfoComponent infoComponent;
     private ListComponent listComponent;
+    private TopComponent topComponent;
     private SpawnComponent spawnComponent;
     private SetspawnComponent setspawnComponent;
     private ColorComponent colorComponent;
@@ -206,6 +213,10 @@ public class GuildsPlugin extends JavaPlugin {
             if (vaultManager != null) {
                 vaultManager.saveAllAndClear();
             }
+            // Drain queued claim log entries and accumulated XP, then close database connections last
+            injector.getInstance(AsyncChunkClaimLogRepository.class).shutdown();
+            injector.getInstance(XpAccumulator.class).shutdown();
+            injector.getInstance(ConnectionProvider.class).shutdown();
         }
         getLogger().info("Guilds plugin disabled!");
     }
@@ -217,6 +228,7 @@ public class GuildsPlugin extends JavaPlugin {
         disbandComponent = injector.getInstance(DisbandComponent.class);
         infoComponent = injector.getInstance(InfoComponent.class);
         listComponent = injector.getInstance(ListComponent.class);
+        topComponent = injector.getInstance(TopComponent.class);
         spawnComponent = injector.getInstance(SpawnComponent.class);
         setspawnComponent = injector.getInstance(SetspawnComponent.class);
         colorComponent = injector.getInstance(ColorComponent.class);
@@ -259,6 +271,9 @@ public class GuildsPlugin extends JavaPlugin {
         GuildProtectionListener protectionListener = injector.getInstance(GuildProtectionListener.class);
         getServer().getPluginManager().registerEvents(protectionListener, this);
 
+        PlayerSessionListener sessionListener = injector.getInstance(PlayerSessionListener.class);
+        getServer().getPluginManager().registerEvents(sessionListener, this);
+
         SelectionVisualizerListener selectionVisualizerListener = injector.getInstance(SelectionVisualizerListener.class);
         getServer().getPluginManager().registerEvents(selectionVisualizerListener, this);
 
@@ -307,6 +322,15 @@ public class GuildsPlugin extends JavaPlugin {
         int intervalTicks = progressionConfig.getPlaytimeCheckInterval() * 20; // Convert seconds to ticks
         playtimeTask.runTaskTimer(this, intervalTicks, intervalTicks);
 
+        // Compact the progression log hourly, off the main thread
+        ProgressionService progressionService = injector.getInstance(ProgressionService.class);
+        getServer().getScheduler().runTaskTimerAsynchronously(this, () -> {
+            int compacted = progressionService.compactLogs();
+            if (compacted > 0) {
+                getLogger().info("Compacted " + compacted + " progression log entries into rollups");
+            }
+        }, 20L * 60, 20L * 60 * 60);
+
         getLogger().info("Guild progression system registered");
     }
 
@@ -349,6 +373,11 @@ public class GuildsPlugin extends JavaPlugin {
         return builder.buildFuture();
     }
 
+    private CompletableFuture<Suggestions> suggestLeaderboardMetrics(CommandContext<CommandSourceStack> context, SuggestionsBuilder builder) {
+        TopComponent.getMetricKeys().forEach(builder::suggest);
+        return builder.buildFuture();
+    }
+
     private CompletableFuture<Suggestions> suggestPlayerNames(CommandContext<CommandSourceStack> context, SuggestionsBuilder builder) {
         getServer().getOnlinePlayers().forEach(p -> builder.suggest(p.getName()));
         return builder.buildFuture();
@@ -469,11 +498,44 @@ public class GuildsPlugin extends JavaPlugin {
                             listComponent.execute(context.getSource().getSender(), new String[]{"list", String.valueOf(page)});
                             return 1;
                         })))
+                .then(Commands.literal("top")
+                    .executes(context -> {
+                        topComponent.execute(context.getSource().getSender(), new String[]{"top"});
+                        return 1;
+                    })
+                    .then(Commands.argument("metric", StringArgumentType.word())
+                        .suggests(this::suggestLeaderboardMetrics)
+                        .executes(context -> {
+                            String metric = StringArgumentType.getString(context, "metric");
+                            topComponent.execute(context.getSource().getSender(), new String[]{"top", metric});
+                            return 1;
+                        })
+                        .then(Commands.argument("page", IntegerArgumentType.integer(1))
+                            .executes(context -> {
+                                String metric = StringArgumentType.getString(context, "metric");
+                                int page = IntegerArgumentType.getInteger(context, "page");
+                                topComponent.execute(context.getSource().getSender(), new String[]{"top", metric, String.valueOf(page)});
+                                return 1;
+                            }))))
                 .then(Commands.literal("claim")
                     .executes(context -> {
                         claimComponent.execute(context.getSource().getSender(), new String[]{"claim"});
                         return 1;
-                    }))
+                    })
+                    .then(Commands.literal("square")
+                        .then(Commands.argument("radius", IntegerArgumentType.integer(1))
+                            .executes(context -> {
+                                int radius = IntegerArgumentType.getInteger(context, "radius");
+                                claimComponent.execute(context.getSource().getSender(), new String[]{"claim", "square", String.valueOf(radius)});
+                                return 1;
+                            })))
+                    .then(Commands.literal("radius")
+                        .then(Commands.argument("radius", IntegerArgumentType.integer(1))
+                            .executes(context -> {
+                                int radius = IntegerArgumentType.getInteger(context, "radius");
+                                claimComponent.execute(context.getSource().getSender(), new String[]{"claim", "radius", String.valueOf(radius)});
+                                return 1;
+                            }))))
                 .then(Commands.literal("unclaim")
                     .executes(context -> {
                         unclaimComponent.execute(context.getSource().getSender(), new String[]{"unclaim"});
@@ -483,7 +545,21 @@ public class GuildsPlugin extends JavaPlugin {
                         .executes(context -> {
                             unclaimComponent.execute(context.getSource().getSender(), new String[]{"unclaim", "all"});
                             return 1;
-                        })))
+                        }))
+                    .then(Commands.literal("square")
+                        .then(Commands.argument("radius", IntegerArgumentType.integer(1))
+                            .executes(context -> {
+                                int radius = IntegerArgumentType.getInteger(context, "radius");
+                                unclaimComponent.execute(context.getSource().getSender(), new String[]{"unclaim", "square", String.valueOf(radius)});
+                                return 1;
+                            })))
+                    .then(Commands.literal("radius")
+                        .then(Commands.argument("radius", IntegerArgumentType.integer(1))
+                            .executes(context -> {
+                                int radius = IntegerArgumentType.getInteger(context, "radius");
+                                unclaimComponent.execute(context.getSource().getSender(), new String[]{"unclaim", "radius", String.valueOf(radius)});
+                                return 1;
+                            }))))
                 .then(Commands.literal("auto")
                     .executes(context -> {
                         autoComponent.execute(context.getSource().getSender(), new String[]{"auto"});
@@ -831,7 +907,14 @@ public class GuildsPlugin extends JavaPlugin {
                         String guildName = StringArgumentType.getString(context, "guildName");
                         adminComponent.execute(context.getSource().getSender(), new String[]{"admin", "addchunk", guildName});
                         return 1;
-                    })))
+                    })
+                    .then(Commands.argument("radius", IntegerArgumentType.integer(1))
+                        .executes(context -> {
+                            String guildName = StringArgumentType.getString(context, "guildName");
+                            int radius = IntegerArgumentType.getInteger(context, "radius");
+                            adminComponent.execute(context.getSource().getSender(), new String[]{"admin", "addchunk", guildName, String.valueOf(radius)});
+                            return 1;
+                        }))))
             .then(Commands.literal("removechunk")
                 .executes(context -> {
                     adminComponent.execute(context.getSource().getSender(), new String[]{"admin", "removechunk"});
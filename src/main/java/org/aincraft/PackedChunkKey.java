@@ -0,0 +1,167 @@
+package org.aincraft;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Primitive encoding of a chunk position, including its world, in a single {@code long}.
+ * Used on hot paths (protection checks, explosions, pistons) where allocating a {@link ChunkKey}
+ * and hashing a world name per block adds measurable garbage. {@link ChunkKey} remains the
+ * API-facing type; convert with {@link #of(ChunkKey)} and {@link #toChunkKey(long)}.
+ * <p>
+ * Layout (high to low bits): 20-bit world id, 22-bit signed chunk x, 22-bit signed chunk z.
+ * World ids come from a process-wide registry and are stable until the server restarts,
+ * so packed keys must never be persisted.
+ */
+public final class PackedChunkKey {
+    private static final int COORD_BITS = 22;
+    private static final int WORLD_BITS = 64 - 2 * COORD_BITS;
+    private static final long COORD_MASK = (1L << COORD_BITS) - 1;
+    private static final int MIN_COORD = -(1 << (COORD_BITS - 1));
+    private static final int MAX_COORD = (1 << (COORD_BITS - 1)) - 1;
+    private static final int MAX_WORLDS = 1 << WORLD_BITS;
+    private static final int CHUNK_SHIFT = 4;
+
+    private static final Map<String, Integer> worldIds = new ConcurrentHashMap<>();
+    private static volatile String[] worldNames = new String[0];
+
+    private PackedChunkKey() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Packs a chunk position.
+     *
+     * @param world the world name
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     * @return the packed key
+     */
+    public static long of(String world, int chunkX, int chunkZ) {
+        return pack(worldId(world), chunkX, chunkZ);
+    }
+
+    /**
+     * Packs the position of the chunk containing a block.
+     *
+     * @param world the world name
+     * @param blockX the block x coordinate
+     * @param blockZ the block z coordinate
+     * @return the packed key
+     */
+    public static long ofBlock(String world, int blockX, int blockZ) {
+        return pack(worldId(world), blockX >> CHUNK_SHIFT, blockZ >> CHUNK_SHIFT);
+    }
+
+    /**
+     * Packs the position of the chunk containing a block, for an already-registered world id.
+     * Lets callers resolve the world id once when packing many blocks from the same world.
+     */
+    public static long ofBlock(int worldId, int blockX, int blockZ) {
+        return pack(worldId, blockX >> CHUNK_SHIFT, blockZ >> CHUNK_SHIFT);
+    }
+
+    /**
+     * Packs a chunk key.
+     */
+    public static long of(ChunkKey chunk) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        return of(chunk.world(), chunk.x(), chunk.z());
+    }
+
+    /**
+     * Packs a chunk position for an already-registered world id.
+     */
+    public static long pack(int worldId, int chunkX, int chunkZ) {
+        if (chunkX < MIN_COORD || chunkX > MAX_COORD || chunkZ < MIN_COORD || chunkZ > MAX_COORD) {
+            throw new IllegalArgumentException("Chunk coordinates out of range: " + chunkX + "," + chunkZ);
+        }
+        return ((long) worldId << (2 * COORD_BITS))
+                | ((chunkX & COORD_MASK) << COORD_BITS)
+                | (chunkZ & COORD_MASK);
+    }
+
+    /**
+     * Extracts the world id from a packed key.
+     */
+    public static int worldId(long packed) {
+        return (int) (packed >>> (2 * COORD_BITS));
+    }
+
+    /**
+     * Extracts the chunk x coordinate from a packed key.
+     */
+    public static int chunkX(long packed) {
+        return (int) (packed << WORLD_BITS >> (WORLD_BITS + COORD_BITS));
+    }
+
+    /**
+     * Extracts the chunk z coordinate from a packed key.
+     */
+    public static int chunkZ(long packed) {
+        return (int) (packed << (64 - COORD_BITS) >> (64 - COORD_BITS));
+    }
+
+    /**
+     * Gets the world name of a packed key.
+     */
+    public static String world(long packed) {
+        return worldName(worldId(packed));
+    }
+
+    /**
+     * Converts a packed key back to a {@link ChunkKey}.
+     */
+    public static ChunkKey toChunkKey(long packed) {
+        return new ChunkKey(world(packed), chunkX(packed), chunkZ(packed));
+    }
+
+    /**
+     * Gets the id for a world name, registering it on first use.
+     *
+     * @param world the world name
+     * @return the world id
+     */
+    public static int worldId(String world) {
+        Integer id = worldIds.get(world);
+        return id != null ? id : register(world);
+    }
+
+    /**
+     * Gets the world name for a registered id.
+     *
+     * @param worldId the world id
+     * @return the world name
+     * @throws IllegalArgumentException if the id was never registered
+     */
+    public static String worldName(int worldId) {
+        String[] names = worldNames;
+        if (worldId < 0 || worldId >= names.length) {
+            throw new IllegalArgumentException("Unknown world id: " + worldId);
+        }
+        return names[worldId];
+    }
+
+    private static synchronized int register(String world) {
+        Objects.requireNonNull(world, "World cannot be null");
+
+        Integer existing = worldIds.get(world);
+        if (existing != null) {
+            return existing;
+        }
+
+        String[] names = worldNames;
+        if (names.length >= MAX_WORLDS) {
+            throw new IllegalStateException("Too many worlds registered");
+        }
+
+        String[] grown = Arrays.copyOf(names, names.length + 1);
+        grown[names.length] = world;
+        // Publish the name before the id so readers never see an id without its name
+        worldNames = grown;
+        worldIds.put(world, names.length);
+        return names.length;
+    }
+}
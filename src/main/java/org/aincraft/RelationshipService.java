@@ -4,8 +4,11 @@ import com.google.inject.Inject;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.aincraft.service.PermissionDecisionCache;
+import org.aincraft.storage.AllianceGraph;
 import org.aincraft.storage.GuildRelationshipRepository;
 import org.aincraft.storage.GuildRepository;
 
@@ -20,13 +23,19 @@ public class RelationshipService {
 
     private final GuildRelationshipRepository relationshipRepository;
     private final GuildRepository guildRepository;
+    private final PermissionDecisionCache decisionCache;
+    private final AllianceGraph allianceGraph;
     private final int maxAllies;
 
     @Inject
     public RelationshipService(GuildRelationshipRepository relationshipRepository,
-                             GuildRepository guildRepository) {
+                             GuildRepository guildRepository,
+                             PermissionDecisionCache decisionCache,
+                             AllianceGraph allianceGraph) {
         this.relationshipRepository = Objects.requireNonNull(relationshipRepository);
         this.guildRepository = Objects.requireNonNull(guildRepository);
+        this.decisionCache = Objects.requireNonNull(decisionCache);
+        this.allianceGraph = Objects.requireNonNull(allianceGraph);
         this.maxAllies = DEFAULT_MAX_ALLIES;
     }
 
@@ -69,6 +78,7 @@ public class RelationshipService {
             sourceGuildId, targetGuildId, RelationType.ALLY, proposerId
         );
         relationshipRepository.save(relationship);
+        invalidateDecisions(sourceGuildId, targetGuildId);
         return relationship;
     }
 
@@ -109,6 +119,7 @@ public class RelationshipService {
             reverseRelationship.accept(); // Set status to ACTIVE
             relationshipRepository.save(reverseRelationship);
 
+            invalidateDecisions(targetGuildId, sourceGuildId);
             return true;
         }
 
@@ -143,6 +154,7 @@ public class RelationshipService {
         GuildRelationship relationship = request.get();
         if (relationship.reject()) {
             relationshipRepository.save(relationship);
+            invalidateDecisions(targetGuildId, sourceGuildId);
             return true;
         }
 
@@ -182,6 +194,7 @@ public class RelationshipService {
                     relationshipRepository.save(r);
                 });
 
+            invalidateDecisions(guildId, allyGuildId);
             return true;
         }
 
@@ -236,6 +249,7 @@ public class RelationshipService {
         );
         relationshipRepository.save(relationship2);
 
+        invalidateDecisions(sourceGuildId, targetGuildId);
         return relationship1;
     }
 
@@ -264,11 +278,13 @@ public class RelationshipService {
                 .filter(r -> r.getRelationType() == RelationType.ENEMY)
                 .filter(r -> r.involves(targetGuildId))
                 .forEach(r -> relationshipRepository.delete(r.getId()));
+            invalidateDecisions(sourceGuildId, targetGuildId);
             return true;
         }
 
         // For allies or pending, just cancel the single relationship
         relationshipRepository.delete(relationship.get().getId());
+        invalidateDecisions(sourceGuildId, targetGuildId);
         return true;
     }
 
@@ -362,6 +378,31 @@ public class RelationshipService {
         return type == RelationType.ALLY;
     }
 
+    /**
+     * Checks if two guilds belong to the same alliance bloc, i.e. are connected through
+     * any chain of active alliances. Answered from memory.
+     *
+     * @param guildId1 first guild ID
+     * @param guildId2 second guild ID
+     * @return true if both guilds are in one bloc (always true for the same guild)
+     */
+    public boolean isSameAllianceBloc(UUID guildId1, UUID guildId2) {
+        Objects.requireNonNull(guildId1, "Guild ID 1 cannot be null");
+        Objects.requireNonNull(guildId2, "Guild ID 2 cannot be null");
+        return allianceGraph.isSameBloc(guildId1, guildId2);
+    }
+
+    /**
+     * Gets every guild transitively allied with a guild. Answered from memory.
+     *
+     * @param guildId the guild ID
+     * @return the guild IDs of the bloc, including the guild itself
+     */
+    public Set<UUID> getAllianceBloc(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        return allianceGraph.getBloc(guildId);
+    }
+
     /**
      * Checks if two guilds are enemies.
      *
@@ -373,4 +414,13 @@ public class RelationshipService {
         RelationType type = getRelationType(guildId1, guildId2);
         return type == RelationType.ENEMY;
     }
+
+    /**
+     * Drops cached protection decisions in both guilds' territory, since visitors from the
+     * other guild are now judged under a different relationship.
+     */
+    private void invalidateDecisions(UUID guildId1, UUID guildId2) {
+        decisionCache.invalidateGuild(guildId1);
+        decisionCache.invalidateGuild(guildId2);
+    }
 }
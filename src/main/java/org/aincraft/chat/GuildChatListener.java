@@ -2,11 +2,7 @@ package org.aincraft.chat;
 
 import com.google.inject.Inject;
 import io.papermc.paper.event.player.AsyncChatEvent;
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import net.kyori.adventure.text.Component;
@@ -19,6 +15,7 @@ import org.aincraft.chat.ChatModeService.ChatMode;
 import dev.mintychochip.mint.Mint;
 import org.aincraft.service.GuildMemberService;
 import org.aincraft.service.PermissionService;
+import org.aincraft.storage.PlayerSessionCache;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -35,16 +32,19 @@ public class GuildChatListener implements Listener {
     private final GuildMemberService memberService;
     private final PermissionService permissionService;
     private final RelationshipService relationshipService;
+    private final PlayerSessionCache sessionCache;
 
     @Inject
     public GuildChatListener(ChatModeService chatModeService,
                             GuildMemberService memberService,
                             PermissionService permissionService,
-                            RelationshipService relationshipService) {
+                            RelationshipService relationshipService,
+                            PlayerSessionCache sessionCache) {
         this.chatModeService = Objects.requireNonNull(chatModeService);
         this.memberService = Objects.requireNonNull(memberService);
         this.permissionService = Objects.requireNonNull(permissionService);
         this.relationshipService = Objects.requireNonNull(relationshipService);
+        this.sessionCache = Objects.requireNonNull(sessionCache);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
@@ -105,12 +105,7 @@ public class GuildChatListener implements Listener {
         Component chatMessage = formatGuildChatMessage(sender, guild, message);
 
         // Send to all online guild members
-        Bukkit.getOnlinePlayers().stream()
-            .filter(p -> {
-                Guild playerGuild = memberService.getPlayerGuild(p.getUniqueId());
-                return playerGuild != null && playerGuild.getId().equals(guild.getId());
-            })
-            .forEach(p -> p.sendMessage(chatMessage));
+        sendToOnlineMembers(guild.getId(), chatMessage);
     }
 
     /**
@@ -119,17 +114,13 @@ public class GuildChatListener implements Listener {
     private void handleAllyChat(Player sender, Guild guild, String message) {
         Component chatMessage = formatAllyChatMessage(sender, guild, message);
 
-        // Get transitive allies
-        Set<UUID> allyGuildIds = getTransitiveAllies(guild.getId());
-        allyGuildIds.add(guild.getId()); // Include sender's guild
+        // Sender's guild and every transitive ally
+        Set<UUID> allyGuildIds = relationshipService.getAllianceBloc(guild.getId());
 
         // Send to all members of allied guilds
-        Bukkit.getOnlinePlayers().stream()
-            .filter(p -> {
-                Guild playerGuild = memberService.getPlayerGuild(p.getUniqueId());
-                return playerGuild != null && allyGuildIds.contains(playerGuild.getId());
-            })
-            .forEach(p -> p.sendMessage(chatMessage));
+        for (UUID allyGuildId : allyGuildIds) {
+            sendToOnlineMembers(allyGuildId, chatMessage);
+        }
     }
 
     /**
@@ -139,20 +130,29 @@ public class GuildChatListener implements Listener {
         Component chatMessage = formatOfficerChatMessage(sender, guild, message);
 
         // Send to all online guild members with CHAT_OFFICER permission
-        Bukkit.getOnlinePlayers().stream()
-            .filter(p -> {
-                Guild playerGuild = memberService.getPlayerGuild(p.getUniqueId());
-                if (playerGuild == null || !playerGuild.getId().equals(guild.getId())) {
-                    return false;
-                }
-                // Owner always receives officer chat
-                if (guild.isOwner(p.getUniqueId())) {
-                    return true;
-                }
-                // Check CHAT_OFFICER permission
-                return permissionService.hasPermission(guild.getId(), p.getUniqueId(), GuildPermission.CHAT_OFFICER);
-            })
-            .forEach(p -> p.sendMessage(chatMessage));
+        for (UUID memberId : sessionCache.getOnlineMembers(guild.getId())) {
+            // Owner always receives officer chat; the permission check is served from the member permission cache
+            if (!guild.isOwner(memberId)
+                    && !permissionService.hasPermission(guild.getId(), memberId, GuildPermission.CHAT_OFFICER)) {
+                continue;
+            }
+            Player recipient = Bukkit.getPlayer(memberId);
+            if (recipient != null) {
+                recipient.sendMessage(chatMessage);
+            }
+        }
+    }
+
+    /**
+     * Sends a message to every online member of a guild.
+     */
+    private void sendToOnlineMembers(UUID guildId, Component message) {
+        for (UUID memberId : sessionCache.getOnlineMembers(guildId)) {
+            Player recipient = Bukkit.getPlayer(memberId);
+            if (recipient != null) {
+                recipient.sendMessage(message);
+            }
+        }
     }
 
     /**
@@ -211,34 +211,4 @@ public class GuildChatListener implements Listener {
             .append(playerName)
             .append(msg);
     }
-
-    /**
-     * Gets all transitively allied guilds using BFS.
-     * Handles circular alliances via visited set.
-     *
-     * @param guildId the starting guild ID
-     * @return set of all transitively allied guild IDs (excluding the starting guild)
-     */
-    private Set<UUID> getTransitiveAllies(UUID guildId) {
-        Set<UUID> visited = new HashSet<>();
-        Queue<UUID> queue = new LinkedList<>();
-
-        queue.add(guildId);
-        visited.add(guildId);
-
-        while (!queue.isEmpty()) {
-            UUID current = queue.poll();
-            List<UUID> allies = relationshipService.getAllies(current);
-
-            for (UUID ally : allies) {
-                if (!visited.contains(ally)) {
-                    visited.add(ally);
-                    queue.add(ally);
-                }
-            }
-        }
-
-        visited.remove(guildId); // Remove starting guild
-        return visited;
-    }
 }
@@ -0,0 +1,232 @@
+package org.aincraft.claim;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.aincraft.ChunkKey;
+import org.aincraft.config.GuildsConfig;
+
+/**
+ * Write-behind decorator for the claim log.
+ * Entries are placed on a bounded in-memory queue and written by a background thread in batches,
+ * either once {@code batchSize} entries are waiting or every {@code flushIntervalMs}, whichever
+ * comes first. When the queue is full the configured {@link ClaimLogOverflowPolicy} applies.
+ * <p>
+ * A batch whose insert fails is kept and retried ahead of newer entries on the next flush; it is
+ * only discarded, with a warning, after {@value #MAX_WRITE_ATTEMPTS} consecutive failures.
+ * <p>
+ * Queries flush pending entries first so they always see everything logged before them, and
+ * {@link #shutdown()} drains the queue before the plugin disables.
+ */
+@Singleton
+public class AsyncChunkClaimLogRepository implements ChunkClaimLogRepository {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+
+    private final ChunkClaimLogRepository persistedRepository;
+    private final Logger logger;
+    private final int batchSize;
+    private final ClaimLogOverflowPolicy overflowPolicy;
+    private final BlockingQueue<ChunkClaimLog> queue;
+    private final ScheduledExecutorService writer;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Object flushLock = new Object();
+    private List<ChunkClaimLog> failedBatch = List.of();
+    private int failedAttempts;
+
+    @Inject
+    public AsyncChunkClaimLogRepository(
+            @Named("persisted") ChunkClaimLogRepository persistedRepository,
+            GuildsConfig config,
+            @Named("guilds") Logger logger) {
+        this(persistedRepository, logger,
+                config.getClaimLogBatchSize(),
+                config.getClaimLogFlushIntervalMs(),
+                config.getClaimLogQueueCapacity(),
+                config.getClaimLogOverflowPolicy());
+    }
+
+    public AsyncChunkClaimLogRepository(ChunkClaimLogRepository persistedRepository, Logger logger,
+                                        int batchSize, long flushIntervalMs, int queueCapacity,
+                                        ClaimLogOverflowPolicy overflowPolicy) {
+        this.persistedRepository = Objects.requireNonNull(persistedRepository, "persistedRepository cannot be null");
+        this.logger = Objects.requireNonNull(logger, "Logger cannot be null");
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "Overflow policy cannot be null");
+        if (batchSize < 1 || flushIntervalMs < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Batch size, flush interval and queue capacity must be positive");
+        }
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread t = new Thread(runnable, "Guilds-ClaimLog-Writer");
+            t.setDaemon(true);
+            return t;
+        });
+        writer.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void log(ChunkClaimLog entry) {
+        Objects.requireNonNull(entry, "Log entry cannot be null");
+        enqueue(entry);
+    }
+
+    @Override
+    public void logAll(List<ChunkClaimLog> entries) {
+        Objects.requireNonNull(entries, "Log entries cannot be null");
+
+        List<ChunkClaimLog> overflow = null;
+        for (ChunkClaimLog entry : entries) {
+            if (!queue.offer(entry)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(entry);
+            }
+        }
+        scheduleFlushIfFull();
+
+        if (overflow != null) {
+            handleOverflow(overflow);
+        }
+    }
+
+    @Override
+    public List<ChunkClaimLog> findByGuildId(UUID guildId, int limit) {
+        flush();
+        return persistedRepository.findByGuildId(guildId, limit);
+    }
+
+    @Override
+    public List<ChunkClaimLog> findByPlayer(UUID playerId, int limit) {
+        flush();
+        return persistedRepository.findByPlayer(playerId, limit);
+    }
+
+    @Override
+    public List<ChunkClaimLog> findByChunk(ChunkKey chunk, int limit) {
+        flush();
+        return persistedRepository.findByChunk(chunk, limit);
+    }
+
+    @Override
+    public void deleteByGuildId(UUID guildId) {
+        // Pending entries for the guild must not be written after its logs are deleted
+        flush();
+        persistedRepository.deleteByGuildId(guildId);
+    }
+
+    /**
+     * Writes every queued entry on the calling thread, waiting for any batch already in flight.
+     * If a batch fails to write it is kept for the next flush and the failure is rethrown.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            flushScheduled.set(false);
+
+            if (!failedBatch.isEmpty()) {
+                write(failedBatch);
+            }
+
+            List<ChunkClaimLog> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        long droppedSinceLastReport = dropped.getAndSet(0);
+        if (droppedSinceLastReport > 0) {
+            logger.warning("Claim log queue was full; dropped " + droppedSinceLastReport + " entries");
+        }
+    }
+
+    /**
+     * Stops the background writer and writes everything still queued.
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    /**
+     * Gets the number of entries waiting to be written, including a batch awaiting retry.
+     */
+    public int getPendingCount() {
+        synchronized (flushLock) {
+            return queue.size() + failedBatch.size();
+        }
+    }
+
+    /**
+     * Writes one drained batch, keeping it for retry if the insert fails. Must hold {@code flushLock}.
+     */
+    private void write(List<ChunkClaimLog> batch) {
+        try {
+            persistedRepository.logAll(batch);
+        } catch (RuntimeException e) {
+            failedAttempts++;
+            if (failedAttempts >= MAX_WRITE_ATTEMPTS) {
+                logger.severe("Discarding " + batch.size() + " claim log entries after "
+                        + failedAttempts + " failed write attempts");
+                failedBatch = List.of();
+                failedAttempts = 0;
+            } else {
+                failedBatch = batch;
+            }
+            throw e;
+        }
+        failedBatch = List.of();
+        failedAttempts = 0;
+    }
+
+    private void enqueue(ChunkClaimLog entry) {
+        if (queue.offer(entry)) {
+            scheduleFlushIfFull();
+        } else {
+            handleOverflow(List.of(entry));
+        }
+    }
+
+    private void scheduleFlushIfFull() {
+        if (queue.size() >= batchSize && flushScheduled.compareAndSet(false, true) && !writer.isShutdown()) {
+            writer.execute(this::flushQuietly);
+        }
+    }
+
+    private void handleOverflow(List<ChunkClaimLog> entries) {
+        switch (overflowPolicy) {
+            case WRITE_THROUGH -> persistedRepository.logAll(entries);
+            case DROP -> dropped.addAndGet(entries.size());
+        }
+    }
+
+    private void flushQuietly() {
+        // An exception escaping a scheduled task would cancel all future flushes
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to write claim log entries", e);
+        }
+    }
+}
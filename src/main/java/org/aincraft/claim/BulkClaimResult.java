@@ -0,0 +1,41 @@
+package org.aincraft.claim;
+
+import java.util.List;
+import java.util.Objects;
+import org.aincraft.ChunkKey;
+import org.aincraft.ClaimResult;
+
+/**
+ * Result of claiming a set of chunks at once.
+ * Validation is all-or-nothing, so a failed result never has any chunks attached.
+ *
+ * @param result the overall outcome
+ * @param chunks the chunks that were claimed (empty on failure)
+ */
+public record BulkClaimResult(ClaimResult result, List<ChunkKey> chunks) {
+
+    public BulkClaimResult {
+        Objects.requireNonNull(result, "Result cannot be null");
+        chunks = List.copyOf(Objects.requireNonNull(chunks, "Chunks cannot be null"));
+    }
+
+    public static BulkClaimResult success(List<ChunkKey> chunks) {
+        return new BulkClaimResult(ClaimResult.success(), chunks);
+    }
+
+    public static BulkClaimResult failure(ClaimResult result) {
+        return new BulkClaimResult(result, List.of());
+    }
+
+    public boolean isSuccess() {
+        return result.isSuccess();
+    }
+
+    public String getReason() {
+        return result.getReason();
+    }
+
+    public int count() {
+        return chunks.size();
+    }
+}
@@ -0,0 +1,434 @@
+package org.aincraft.claim;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.aincraft.ChunkKey;
+import org.aincraft.PackedChunkKey;
+import org.aincraft.util.LongHashSet;
+import org.aincraft.util.LongIntHashMap;
+
+/**
+ * Memory-resident index of chunk ownership.
+ * Chunks are stored per world (by {@link PackedChunkKey} world id), keyed by their
+ * {@link PackedChunkKey}, and point at a compact integer handle for the owning guild so lookups
+ * never allocate or touch the database.
+ * Each world also keeps a coarse grid of claim counts per {@value #CELL_SIZE}x{@value #CELL_SIZE}
+ * chunk cell, so neighbourhood queries skip empty space instead of scanning every claim.
+ * Per guild, a set of packed chunk keys answers adjacency and claim-limit checks without
+ * materializing the guild's chunk list.
+ * <p>
+ * Thread-safe: lookups take a shared read lock, mutations an exclusive write lock.
+ */
+public final class ChunkClaimIndex {
+    private static final int CELL_SHIFT = 4;
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    // World id (see PackedChunkKey) -> claims in that world; null for worlds without claims
+    private final List<WorldIndex> worlds = new ArrayList<>();
+    private final Map<UUID, Integer> guildHandles = new HashMap<>();
+    // Handle -> guild ID; slot 0 is unused because 0 marks an absent entry in LongIntHashMap
+    private final List<UUID> handleGuilds = new ArrayList<>();
+    // Guild ID -> packed keys of its chunks across all worlds
+    private final Map<UUID, LongHashSet> guildClaims = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int size;
+
+    public ChunkClaimIndex() {
+        handleGuilds.add(null);
+    }
+
+    /**
+     * Gets the guild that owns a chunk.
+     *
+     * @param world the world name
+     * @param x the chunk x coordinate
+     * @param z the chunk z coordinate
+     * @return the owning guild ID, or null if unclaimed
+     */
+    public UUID getOwner(String world, int x, int z) {
+        lock.readLock().lock();
+        try {
+            int worldId = PackedChunkKey.worldId(world);
+            WorldIndex worldIndex = worldIndex(worldId);
+            if (worldIndex == null) {
+                return null;
+            }
+            return handleGuilds.get(worldIndex.owners.get(PackedChunkKey.pack(worldId, x, z)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the guild that owns a chunk, without allocating or hashing the world name.
+     *
+     * @param packedChunk the chunk, encoded with {@link PackedChunkKey}
+     * @return the owning guild ID, or null if unclaimed
+     */
+    public UUID getOwner(long packedChunk) {
+        lock.readLock().lock();
+        try {
+            WorldIndex worldIndex = worldIndex(PackedChunkKey.worldId(packedChunk));
+            if (worldIndex == null) {
+                return null;
+            }
+            return handleGuilds.get(worldIndex.owners.get(packedChunk));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the guild that owns a chunk.
+     *
+     * @param chunk the chunk to check
+     * @return the owning guild ID, or null if unclaimed
+     */
+    public UUID getOwner(ChunkKey chunk) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        return getOwner(chunk.world(), chunk.x(), chunk.z());
+    }
+
+    /**
+     * Checks whether a chunk is claimed by any guild.
+     */
+    public boolean isClaimed(ChunkKey chunk) {
+        return getOwner(chunk) != null;
+    }
+
+    /**
+     * Records a chunk as owned by a guild, replacing any previous owner.
+     */
+    public void put(ChunkKey chunk, UUID guildId) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        lock.writeLock().lock();
+        try {
+            putUnlocked(chunk, guildId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Records many chunk ownerships at once, used for the startup bulk load.
+     */
+    public void putAll(Map<ChunkKey, UUID> owners) {
+        Objects.requireNonNull(owners, "Owners cannot be null");
+
+        lock.writeLock().lock();
+        try {
+            owners.forEach(this::putUnlocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a chunk from the index.
+     *
+     * @return the guild that owned the chunk, or null if it was unclaimed
+     */
+    public UUID remove(ChunkKey chunk) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+
+        lock.writeLock().lock();
+        try {
+            long key = PackedChunkKey.of(chunk);
+            WorldIndex worldIndex = worldIndex(PackedChunkKey.worldId(key));
+            if (worldIndex == null) {
+                return null;
+            }
+            int handle = worldIndex.remove(key);
+            if (handle == LongIntHashMap.NO_VALUE) {
+                return null;
+            }
+            size--;
+            UUID owner = handleGuilds.get(handle);
+            removeFromGuild(owner, key);
+            return owner;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every chunk owned by a guild.
+     *
+     * @return the number of chunks removed
+     */
+    public int removeGuild(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        lock.writeLock().lock();
+        try {
+            LongHashSet claims = guildClaims.remove(guildId);
+            if (claims == null) {
+                return 0;
+            }
+
+            claims.forEach(key -> worldIndex(PackedChunkKey.worldId(key)).remove(key));
+            size -= claims.size();
+            return claims.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of chunks claimed by a guild.
+     */
+    public int getChunkCount(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        lock.readLock().lock();
+        try {
+            LongHashSet claims = guildClaims.get(guildId);
+            return claims != null ? claims.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets all chunks claimed by a guild.
+     */
+    public List<ChunkKey> getGuildChunks(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        lock.readLock().lock();
+        try {
+            LongHashSet claims = guildClaims.get(guildId);
+            if (claims == null) {
+                return new ArrayList<>();
+            }
+
+            List<ChunkKey> chunks = new ArrayList<>(claims.size());
+            claims.forEach(key -> chunks.add(PackedChunkKey.toChunkKey(key)));
+            return chunks;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether a guild owns a chunk sharing an edge (not a corner) with the given chunk.
+     */
+    public boolean hasAdjacentClaim(ChunkKey chunk, UUID guildId) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        lock.readLock().lock();
+        try {
+            LongHashSet claims = guildClaims.get(guildId);
+            if (claims == null) {
+                return false;
+            }
+
+            int worldId = PackedChunkKey.worldId(chunk.world());
+            int x = chunk.x();
+            int z = chunk.z();
+            return claims.contains(PackedChunkKey.pack(worldId, x + 1, z))
+                || claims.contains(PackedChunkKey.pack(worldId, x - 1, z))
+                || claims.contains(PackedChunkKey.pack(worldId, x, z + 1))
+                || claims.contains(PackedChunkKey.pack(worldId, x, z - 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the closest chunk claimed by a guild other than {@code excludedGuildId} whose Manhattan
+     * distance to {@code chunk} is strictly less than {@code distance}.
+     * Only grid cells overlapping the search diamond are visited, and empty cells are skipped.
+     *
+     * @param chunk the chunk to search around
+     * @param excludedGuildId the guild whose claims are ignored
+     * @param distance the exclusive Manhattan distance bound
+     * @return the closest foreign claim, or null if none is within range
+     */
+    public NearbyClaim findNearestForeignClaim(ChunkKey chunk, UUID excludedGuildId, int distance) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        Objects.requireNonNull(excludedGuildId, "Excluded guild ID cannot be null");
+
+        int radius = distance - 1;
+        if (radius < 0) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            int worldId = PackedChunkKey.worldId(chunk.world());
+            WorldIndex worldIndex = worldIndex(worldId);
+            if (worldIndex == null) {
+                return null;
+            }
+
+            Integer excluded = guildHandles.get(excludedGuildId);
+            int excludedHandle = excluded != null ? excluded : LongIntHashMap.NO_VALUE;
+
+            int bestDistance = Integer.MAX_VALUE;
+            int bestX = 0;
+            int bestZ = 0;
+            int bestHandle = LongIntHashMap.NO_VALUE;
+
+            int minCellX = (chunk.x() - radius) >> CELL_SHIFT;
+            int maxCellX = (chunk.x() + radius) >> CELL_SHIFT;
+            int minCellZ = (chunk.z() - radius) >> CELL_SHIFT;
+            int maxCellZ = (chunk.z() + radius) >> CELL_SHIFT;
+
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                    if (!worldIndex.cells.containsKey(PackedChunkKey.pack(worldId, cellX, cellZ))) {
+                        continue;
+                    }
+
+                    int fromX = Math.max(cellX << CELL_SHIFT, chunk.x() - radius);
+                    int toX = Math.min((cellX << CELL_SHIFT) + CELL_SIZE - 1, chunk.x() + radius);
+                    for (int x = fromX; x <= toX; x++) {
+                        int dx = Math.abs(x - chunk.x());
+                        int remaining = radius - dx;
+                        int fromZ = Math.max(cellZ << CELL_SHIFT, chunk.z() - remaining);
+                        int toZ = Math.min((cellZ << CELL_SHIFT) + CELL_SIZE - 1, chunk.z() + remaining);
+                        for (int z = fromZ; z <= toZ; z++) {
+                            int handle = worldIndex.owners.get(PackedChunkKey.pack(worldId, x, z));
+                            if (handle == LongIntHashMap.NO_VALUE || handle == excludedHandle) {
+                                continue;
+                            }
+                            int manhattanDistance = dx + Math.abs(z - chunk.z());
+                            if (manhattanDistance < bestDistance) {
+                                bestDistance = manhattanDistance;
+                                bestX = x;
+                                bestZ = z;
+                                bestHandle = handle;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (bestHandle == LongIntHashMap.NO_VALUE) {
+                return null;
+            }
+            return new NearbyClaim(new ChunkKey(chunk.world(), bestX, bestZ), handleGuilds.get(bestHandle), bestDistance);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all entries from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            worlds.clear();
+            guildClaims.clear();
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the total number of claimed chunks across all worlds.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putUnlocked(ChunkKey chunk, UUID guildId) {
+        long key = PackedChunkKey.of(chunk);
+        int worldId = PackedChunkKey.worldId(key);
+        while (worlds.size() <= worldId) {
+            worlds.add(null);
+        }
+        WorldIndex worldIndex = worlds.get(worldId);
+        if (worldIndex == null) {
+            worldIndex = new WorldIndex();
+            worlds.set(worldId, worldIndex);
+        }
+        int handle = handleFor(guildId);
+        int previous = worldIndex.put(key, handle);
+        if (previous == handle) {
+            return;
+        }
+
+        if (previous == LongIntHashMap.NO_VALUE) {
+            size++;
+        } else {
+            removeFromGuild(handleGuilds.get(previous), key);
+        }
+        guildClaims.computeIfAbsent(guildId, id -> new LongHashSet()).add(key);
+    }
+
+    private void removeFromGuild(UUID guildId, long key) {
+        LongHashSet claims = guildClaims.get(guildId);
+        if (claims != null && claims.remove(key) && claims.isEmpty()) {
+            guildClaims.remove(guildId);
+        }
+    }
+
+    private WorldIndex worldIndex(int worldId) {
+        return worldId < worlds.size() ? worlds.get(worldId) : null;
+    }
+
+    private int handleFor(UUID guildId) {
+        Integer handle = guildHandles.get(guildId);
+        if (handle == null) {
+            handle = handleGuilds.size();
+            handleGuilds.add(guildId);
+            guildHandles.put(guildId, handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Claims in a single world: chunk owners plus per-cell claim counts, both keyed with
+     * {@link PackedChunkKey} so every key carries the same world id.
+     */
+    private static final class WorldIndex {
+        private final LongIntHashMap owners = new LongIntHashMap();
+        private final LongIntHashMap cells = new LongIntHashMap();
+
+        int put(long key, int handle) {
+            int previous = owners.put(key, handle);
+            if (previous == LongIntHashMap.NO_VALUE) {
+                long cell = cellOf(key);
+                cells.put(cell, cells.get(cell) + 1);
+            }
+            return previous;
+        }
+
+        int remove(long key) {
+            int previous = owners.remove(key);
+            if (previous != LongIntHashMap.NO_VALUE) {
+                long cell = cellOf(key);
+                int remaining = cells.get(cell) - 1;
+                if (remaining > 0) {
+                    cells.put(cell, remaining);
+                } else {
+                    cells.remove(cell);
+                }
+            }
+            return previous;
+        }
+
+        private static long cellOf(long key) {
+            return PackedChunkKey.pack(PackedChunkKey.worldId(key),
+                PackedChunkKey.chunkX(key) >> CELL_SHIFT, PackedChunkKey.chunkZ(key) >> CELL_SHIFT);
+        }
+    }
+}
@@ -17,6 +17,13 @@ public interface ChunkClaimLogRepository {
      */
     void log(ChunkClaimLog entry);
 
+    /**
+     * Logs many claim or unclaim actions in a single batched insert.
+     *
+     * @param entries the log entries to record
+     */
+    void logAll(List<ChunkClaimLog> entries);
+
     /**
      * Finds log entries for a specific guild, ordered by timestamp descending (newest first).
      *
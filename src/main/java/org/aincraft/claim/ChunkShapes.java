@@ -0,0 +1,69 @@
+package org.aincraft.claim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.aincraft.ChunkKey;
+
+/**
+ * Builds chunk sets for bulk claim operations.
+ */
+public final class ChunkShapes {
+
+    private ChunkShapes() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Gets the square of chunks centred on a chunk, {@code 2 * radius + 1} chunks wide.
+     *
+     * @param center the centre chunk
+     * @param radius the number of chunks on each side of the centre
+     * @return the chunks, ordered outward from the centre
+     */
+    public static List<ChunkKey> square(ChunkKey center, int radius) {
+        Objects.requireNonNull(center, "Center cannot be null");
+        requireRadius(radius);
+
+        List<ChunkKey> chunks = new ArrayList<>((2 * radius + 1) * (2 * radius + 1));
+        for (int ring = 0; ring <= radius; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dz = -ring; dz <= ring; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) == ring) {
+                        chunks.add(new ChunkKey(center.world(), center.x() + dx, center.z() + dz));
+                    }
+                }
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Gets the chunks whose centres lie within a circle around a chunk.
+     *
+     * @param center the centre chunk
+     * @param radius the circle radius in chunks
+     * @return the chunks, ordered outward from the centre
+     */
+    public static List<ChunkKey> circle(ChunkKey center, int radius) {
+        Objects.requireNonNull(center, "Center cannot be null");
+        requireRadius(radius);
+
+        int radiusSquared = radius * radius;
+        List<ChunkKey> chunks = new ArrayList<>();
+        for (ChunkKey chunk : square(center, radius)) {
+            int dx = chunk.x() - center.x();
+            int dz = chunk.z() - center.z();
+            if (dx * dx + dz * dz <= radiusSquared) {
+                chunks.add(chunk);
+            }
+        }
+        return chunks;
+    }
+
+    private static void requireRadius(int radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("Radius cannot be negative");
+        }
+    }
+}
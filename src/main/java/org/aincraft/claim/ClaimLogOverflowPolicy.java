@@ -0,0 +1,33 @@
+package org.aincraft.claim;
+
+/**
+ * What the asynchronous claim log does with an entry when its in-memory queue is full.
+ */
+public enum ClaimLogOverflowPolicy {
+    /**
+     * Insert the entry synchronously on the calling thread, so no audit entries are lost.
+     */
+    WRITE_THROUGH,
+
+    /**
+     * Discard the entry and report the number of dropped entries in the server log.
+     */
+    DROP;
+
+    /**
+     * Parses a policy from its config value (e.g. {@code write-through}).
+     *
+     * @param value the config value
+     * @return the policy, or null if the value is not recognised
+     */
+    public static ClaimLogOverflowPolicy fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
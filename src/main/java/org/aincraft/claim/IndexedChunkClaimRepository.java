@@ -0,0 +1,191 @@
+package org.aincraft.claim;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.aincraft.ChunkKey;
+import org.aincraft.leaderboard.GuildLeaderboard;
+import org.aincraft.leaderboard.LeaderboardMetric;
+import org.aincraft.map.ChunkClaimData;
+import org.aincraft.storage.ChunkClaimRepository;
+
+/**
+ * Write-through decorator that keeps chunk ownership in a memory-resident {@link ChunkClaimIndex}.
+ * The index is bulk-loaded from the persisted repository on construction and updated after every
+ * successful write, so ownership lookups, per-guild chunk lists and counts never reach the database.
+ * Chunk counts on the {@link GuildLeaderboard} are updated alongside the index.
+ */
+@Singleton
+public class IndexedChunkClaimRepository implements ChunkClaimRepository {
+    private final ChunkClaimRepository persistedRepository;
+    private final GuildLeaderboard leaderboard;
+    private final ChunkClaimIndex index = new ChunkClaimIndex();
+
+    @Inject
+    public IndexedChunkClaimRepository(
+            @Named("persisted") ChunkClaimRepository persistedRepository,
+            GuildLeaderboard leaderboard,
+            @Named("guilds") Logger logger) {
+        this.persistedRepository = Objects.requireNonNull(persistedRepository, "persistedRepository cannot be null");
+        this.leaderboard = Objects.requireNonNull(leaderboard, "Leaderboard cannot be null");
+        Objects.requireNonNull(logger, "Logger cannot be null");
+
+        index.putAll(persistedRepository.getAllOwners());
+        logger.info("Loaded " + index.size() + " claimed chunks into memory");
+    }
+
+    @Override
+    public boolean claim(ChunkKey chunk, UUID guildId, UUID claimedBy) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        if (index.isClaimed(chunk)) {
+            return false;
+        }
+
+        boolean claimed = persistedRepository.claim(chunk, guildId, claimedBy);
+        if (claimed) {
+            index.put(chunk, guildId);
+            updateLeaderboard(guildId);
+        }
+        return claimed;
+    }
+
+    @Override
+    public boolean unclaim(ChunkKey chunk, UUID guildId) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        if (!guildId.equals(index.getOwner(chunk))) {
+            return false;
+        }
+
+        boolean unclaimed = persistedRepository.unclaim(chunk, guildId);
+        if (unclaimed) {
+            index.remove(chunk);
+            updateLeaderboard(guildId);
+        }
+        return unclaimed;
+    }
+
+    @Override
+    public List<ChunkKey> claimChunks(Collection<ChunkKey> chunks, UUID guildId, UUID claimedBy) {
+        Objects.requireNonNull(chunks, "Chunks cannot be null");
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        List<ChunkKey> unclaimed = new ArrayList<>();
+        for (ChunkKey chunk : chunks) {
+            if (!index.isClaimed(chunk)) {
+                unclaimed.add(chunk);
+            }
+        }
+        if (unclaimed.isEmpty()) {
+            return unclaimed;
+        }
+
+        List<ChunkKey> claimed = persistedRepository.claimChunks(unclaimed, guildId, claimedBy);
+        for (ChunkKey chunk : claimed) {
+            index.put(chunk, guildId);
+        }
+        updateLeaderboard(guildId);
+        return claimed;
+    }
+
+    @Override
+    public List<ChunkKey> unclaimChunks(Collection<ChunkKey> chunks, UUID guildId) {
+        Objects.requireNonNull(chunks, "Chunks cannot be null");
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        List<ChunkKey> owned = new ArrayList<>();
+        for (ChunkKey chunk : chunks) {
+            if (guildId.equals(index.getOwner(chunk))) {
+                owned.add(chunk);
+            }
+        }
+        if (owned.isEmpty()) {
+            return owned;
+        }
+
+        List<ChunkKey> unclaimed = persistedRepository.unclaimChunks(owned, guildId);
+        for (ChunkKey chunk : unclaimed) {
+            index.remove(chunk);
+        }
+        updateLeaderboard(guildId);
+        return unclaimed;
+    }
+
+    @Override
+    public void unclaimAll(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        persistedRepository.unclaimAll(guildId);
+        index.removeGuild(guildId);
+        updateLeaderboard(guildId);
+    }
+
+    @Override
+    public Optional<UUID> getOwner(ChunkKey chunk) {
+        return Optional.ofNullable(index.getOwner(chunk));
+    }
+
+    @Override
+    public Optional<UUID> getOwner(long packedChunk) {
+        return Optional.ofNullable(index.getOwner(packedChunk));
+    }
+
+    @Override
+    public List<ChunkKey> getGuildChunks(UUID guildId) {
+        return index.getGuildChunks(guildId);
+    }
+
+    @Override
+    public int getChunkCount(UUID guildId) {
+        return index.getChunkCount(guildId);
+    }
+
+    @Override
+    public boolean hasAdjacentClaim(ChunkKey chunk, UUID guildId) {
+        return index.hasAdjacentClaim(chunk, guildId);
+    }
+
+    @Override
+    public Map<ChunkKey, ChunkClaimData> getOwnersForChunks(List<ChunkKey> chunks) {
+        Objects.requireNonNull(chunks, "Chunks cannot be null");
+
+        // Only chunks the index knows to be claimed need their claim metadata fetched
+        List<ChunkKey> claimed = new ArrayList<>();
+        for (ChunkKey chunk : chunks) {
+            if (index.isClaimed(chunk)) {
+                claimed.add(chunk);
+            }
+        }
+
+        if (claimed.isEmpty()) {
+            return new HashMap<>();
+        }
+        return persistedRepository.getOwnersForChunks(claimed);
+    }
+
+    @Override
+    public Optional<NearbyClaim> findNearestForeignClaim(ChunkKey chunk, UUID excludedGuildId, int distance) {
+        return Optional.ofNullable(index.findNearestForeignClaim(chunk, excludedGuildId, distance));
+    }
+
+    @Override
+    public Map<ChunkKey, UUID> getAllOwners() {
+        return persistedRepository.getAllOwners();
+    }
+
+    private void updateLeaderboard(UUID guildId) {
+        leaderboard.set(guildId, LeaderboardMetric.CHUNKS, index.getChunkCount(guildId));
+    }
+}
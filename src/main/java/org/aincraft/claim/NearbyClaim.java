@@ -0,0 +1,16 @@
+package org.aincraft.claim;
+
+import java.util.Objects;
+import java.util.UUID;
+import org.aincraft.ChunkKey;
+
+/**
+ * A claimed chunk found near another chunk, with its owner and Manhattan distance.
+ */
+public record NearbyClaim(ChunkKey chunk, UUID guildId, int distance) {
+
+    public NearbyClaim {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+    }
+}
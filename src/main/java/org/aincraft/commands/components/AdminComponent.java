@@ -4,6 +4,7 @@ import com.google.inject.Inject;
 import dev.mintychochip.mint.Mint;
 import org.aincraft.ChunkKey;
 import org.aincraft.Guild;
+import org.aincraft.claim.ChunkShapes;
 import org.aincraft.commands.GuildCommand;
 import org.aincraft.progression.GuildProgression;
 import org.aincraft.progression.ProgressionService;
@@ -14,6 +15,7 @@ import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -21,6 +23,8 @@ import java.util.UUID;
  * Requires guilds.admin permission.
  */
 public class AdminComponent implements GuildCommand {
+    private static final int MAX_ADMIN_CLAIM_RADIUS = 16;
+
     private final GuildLifecycleService lifecycleService;
     private final TerritoryService territoryService;
     private final ProgressionService progressionService;
@@ -119,7 +123,7 @@ public class AdminComponent implements GuildCommand {
         }
 
         if (args.length < 3) {
-            Mint.sendMessage(sender, "<error>Usage: /g admin addchunk <guild></error>");
+            Mint.sendMessage(sender, "<error>Usage: /g admin addchunk <guild> [radius]</error>");
             return false;
         }
 
@@ -133,6 +137,10 @@ public class AdminComponent implements GuildCommand {
 
         ChunkKey chunk = ChunkKey.from(player.getLocation().getChunk());
 
+        if (args.length > 3) {
+            return executeAddChunks(player, guild, chunk, args[3]);
+        }
+
         territoryService.adminClaimChunk(guild.getId(), chunk);
 
         Mint.sendMessage(player, "<success>Force claimed chunk at <primary>(" + chunk.x() + ", " + chunk.z() + ")</primary> for guild <secondary>" + guild.getName() + "</secondary>.</success>");
@@ -140,6 +148,29 @@ public class AdminComponent implements GuildCommand {
         return true;
     }
 
+    private boolean executeAddChunks(Player player, Guild guild, ChunkKey center, String radiusArg) {
+        int radius;
+        try {
+            radius = Integer.parseInt(radiusArg);
+        } catch (NumberFormatException e) {
+            Mint.sendMessage(player, "<error>Invalid radius: " + radiusArg + "</error>");
+            return true;
+        }
+
+        if (radius < 1 || radius > MAX_ADMIN_CLAIM_RADIUS) {
+            Mint.sendMessage(player, "<error>Radius must be between 1 and " + MAX_ADMIN_CLAIM_RADIUS + "</error>");
+            return true;
+        }
+
+        // Chunks already claimed by any guild are left alone
+        List<ChunkKey> claimed = territoryService.adminClaimChunks(guild.getId(), player.getUniqueId(),
+                ChunkShapes.square(center, radius));
+
+        Mint.sendMessage(player, "<success>Force claimed <primary>" + claimed.size() + "</primary> chunks around <primary>(" + center.x() + ", " + center.z() + ")</primary> for guild <secondary>" + guild.getName() + "</secondary>.</success>");
+
+        return true;
+    }
+
     private boolean executeRemoveChunk(CommandSender sender, String[] args) {
         if (!(sender instanceof Player player)) {
             Mint.sendMessage(sender, "<error>This command can only be used by players.</error>");
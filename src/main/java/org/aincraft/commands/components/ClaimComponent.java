@@ -3,6 +3,7 @@ package org.aincraft.commands.components;
 import com.google.inject.Inject;
 import org.aincraft.ChunkKey;
 import org.aincraft.Guild;
+import org.aincraft.claim.BulkClaimResult;
 import org.aincraft.commands.GuildCommand;
 import dev.mintychochip.mint.Mint;
 import org.aincraft.service.GuildMemberService;
@@ -11,9 +12,11 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
 /**
- * Component for claiming the chunk the player is standing in.
+ * Component for claiming the chunk the player is standing in, or a square or circle of chunks around it.
  */
 public class ClaimComponent implements GuildCommand {
+    private static final int MAX_BULK_RADIUS = 10;
+
     private final GuildMemberService memberService;
     private final TerritoryService territoryService;
 
@@ -35,7 +38,7 @@ public class ClaimComponent implements GuildCommand {
 
     @Override
     public String getUsage() {
-        return "/g claim";
+        return "/g claim [square|radius <radius>]";
     }
 
     @Override
@@ -58,6 +61,10 @@ public class ClaimComponent implements GuildCommand {
 
         ChunkKey chunk = ChunkKey.from(player.getLocation().getChunk());
 
+        if (args.length > 1) {
+            return executeBulk(player, guild, chunk, args);
+        }
+
         Guild existingOwner = territoryService.getChunkOwner(chunk);
         if (existingOwner != null) {
             if (existingOwner.getId().equals(guild.getId())) {
@@ -77,4 +84,42 @@ public class ClaimComponent implements GuildCommand {
 
         return true;
     }
+
+    private boolean executeBulk(Player player, Guild guild, ChunkKey center, String[] args) {
+        String shape = args[1].toLowerCase();
+        if (!shape.equals("square") && !shape.equals("radius")) {
+            Mint.sendMessage(player, "<error>Usage: " + getUsage() + "</error>");
+            return true;
+        }
+
+        if (args.length < 3) {
+            Mint.sendMessage(player, "<error>Usage: /g claim " + shape + " <radius></error>");
+            return true;
+        }
+
+        int radius;
+        try {
+            radius = Integer.parseInt(args[2]);
+        } catch (NumberFormatException e) {
+            Mint.sendMessage(player, "<error>Invalid radius: <accent>" + args[2] + "</accent></error>");
+            return true;
+        }
+
+        if (radius < 1 || radius > MAX_BULK_RADIUS) {
+            Mint.sendMessage(player, "<error>Radius must be between <accent>1</accent> and <accent>" + MAX_BULK_RADIUS + "</accent></error>");
+            return true;
+        }
+
+        BulkClaimResult result = shape.equals("square")
+                ? territoryService.claimSquare(guild.getId(), player.getUniqueId(), center, radius)
+                : territoryService.claimRadius(guild.getId(), player.getUniqueId(), center, radius);
+
+        if (result.isSuccess()) {
+            Mint.sendMessage(player, "<success>Claimed <primary>" + result.count() + "</primary> chunks around <primary>" + center.x() + "</primary>, <primary>" + center.z() + "</primary></success>");
+        } else {
+            Mint.sendMessage(player, "<error>" + result.getReason() + "</error>");
+        }
+
+        return true;
+    }
 }
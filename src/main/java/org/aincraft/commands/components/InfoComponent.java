@@ -5,7 +5,9 @@ import dev.mintychochip.mint.Mint;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -30,6 +32,8 @@ import org.bukkit.entity.Player;
  * Component for viewing guild information.
  */
 public class InfoComponent implements GuildCommand {
+    private static final int TOP_CONTRIBUTORS = 3;
+
     private final GuildLifecycleService lifecycleService;
     private final GuildMemberService memberService;
     private final TerritoryService territoryService;
@@ -204,7 +208,7 @@ public class InfoComponent implements GuildCommand {
         Mint.sendMessage(player, "  <neutral>• <neutral>Members: <primary>" +
                 guild.getMemberCount() + "<neutral>/<primary>" + guild.getMaxMembers() + "</neutral></neutral>");
 
-        int claimedChunks = territoryService.getGuildChunks(guild.getId()).size();
+        int claimedChunks = territoryService.getGuildChunkCount(guild.getId());
         int maxChunks = guild.getMaxChunks();
         Mint.sendMessage(player, "  <neutral>• <neutral>Chunks: <primary>" +
                 claimedChunks + "<neutral>/<primary>" + maxChunks + "</neutral></neutral>");
@@ -354,6 +358,54 @@ public class InfoComponent implements GuildCommand {
 
             Mint.sendMessage(player, progressBar.toString());
         }
+
+        // Recent XP, read from the progression log rollups
+        long now = System.currentTimeMillis();
+        long[] recentXp = progressionService.getXpSince(guild.getId(),
+            now - TimeUnit.DAYS.toMillis(1), now - TimeUnit.DAYS.toMillis(7));
+        long xpToday = recentXp[0];
+        long xpThisWeek = recentXp[1];
+        Mint.sendMessage(player, String.format(
+            "  <neutral>• <neutral>Recent XP: <primary>%s <neutral>(24h) / <primary>%s <neutral>(7d)</neutral>",
+            formatNumber(xpToday), formatNumber(xpThisWeek)));
+
+        displayContributors(player, guild);
+    }
+
+    /**
+     * Displays a guild's top XP contributors, and the viewer's own rank if they are a member.
+     *
+     * @param player the player to send the info to
+     * @param guild the guild to display contributors for
+     */
+    private void displayContributors(Player player, Guild guild) {
+        Map<UUID, Long> top = progressionService.getTopContributors(guild.getId(), TOP_CONTRIBUTORS);
+        if (top.isEmpty()) {
+            return;
+        }
+
+        StringBuilder line = new StringBuilder("  <neutral>• <neutral>Top Contributors: ");
+        int position = 1;
+        for (Map.Entry<UUID, Long> entry : top.entrySet()) {
+            String name = org.bukkit.Bukkit.getOfflinePlayer(entry.getKey()).getName();
+            if (position > 1) {
+                line.append("<neutral>, ");
+            }
+            line.append("<secondary>").append(position++).append(". <primary>")
+                .append(name != null ? name : "Unknown")
+                .append(" <neutral>(").append(formatNumber(entry.getValue())).append(")");
+        }
+        Mint.sendMessage(player, line.append("</neutral>").toString());
+
+        if (guild.isMember(player.getUniqueId())) {
+            int rank = progressionService.getContributionRank(guild.getId(), player.getUniqueId());
+            if (rank > 0) {
+                long contributed = progressionService.getPlayerContribution(guild.getId(), player.getUniqueId());
+                Mint.sendMessage(player, String.format(
+                    "  <neutral>• <neutral>Your Contribution: <primary>%s <neutral>(#%d of %d)</neutral>",
+                    formatNumber(contributed), rank, progressionService.getContributorCount(guild.getId())));
+            }
+        }
     }
 
     /**
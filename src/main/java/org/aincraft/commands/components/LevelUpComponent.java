@@ -18,12 +18,15 @@ import org.bukkit.entity.Player;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Command component for leveling up guilds.
  * Handles: /g upgrade [confirm]
  */
 public class LevelUpComponent implements GuildCommand {
+    private static final int RECENT_XP_DAYS = 7;
+
     private final ProgressionService progressionService;
     private final GuildMemberService memberService;
     private final PermissionService permissionService;
@@ -100,10 +103,28 @@ public class LevelUpComponent implements GuildCommand {
                 .append(Component.text("Current XP: ", NamedTextColor.GRAY))
                 .append(Component.text(String.format("%,d", currentXp), NamedTextColor.YELLOW))
                 .append(Component.newline())
+                .build();
+
+        // Recent XP history, read from the progression log rollups
+        Map<String, Long> recentXp = progressionService.getXpBySource(guild.getId(),
+                System.currentTimeMillis() - TimeUnit.DAYS.toMillis(RECENT_XP_DAYS));
+        long recentTotal = recentXp.values().stream().mapToLong(Long::longValue).sum();
+        message = message
+                .append(Component.text("XP Last " + RECENT_XP_DAYS + " Days: ", NamedTextColor.GRAY))
+                .append(Component.text(String.format("%,d", recentTotal), NamedTextColor.YELLOW))
+                .append(Component.newline());
+        for (Map.Entry<String, Long> entry : recentXp.entrySet()) {
+            message = message
+                    .append(Component.text("  • ", NamedTextColor.DARK_GRAY))
+                    .append(Component.text(formatName(entry.getKey()) + ": ", NamedTextColor.GRAY))
+                    .append(Component.text(String.format("%,d", entry.getValue()), NamedTextColor.WHITE))
+                    .append(Component.newline());
+        }
+
+        message = message
                 .append(Component.newline())
                 .append(Component.text("Material Costs:", NamedTextColor.GOLD))
-                .append(Component.newline())
-                .build();
+                .append(Component.newline());
 
         // List materials
         for (Map.Entry<Material, Integer> entry : cost.getMaterials().entrySet()) {
@@ -165,7 +186,11 @@ public class LevelUpComponent implements GuildCommand {
     }
 
     private String formatMaterialName(Material material) {
-        String name = material.name().replace("_", " ");
+        return formatName(material.name());
+    }
+
+    private String formatName(String constant) {
+        String name = constant.replace("_", " ");
         String[] words = name.split(" ");
         StringBuilder formatted = new StringBuilder();
 
@@ -0,0 +1,127 @@
+package org.aincraft.commands.components;
+
+import com.google.inject.Inject;
+import dev.mintychochip.mint.Mint;
+import java.util.Arrays;
+import java.util.List;
+import org.aincraft.Guild;
+import org.aincraft.commands.GuildCommand;
+import org.aincraft.leaderboard.LeaderboardMetric;
+import org.aincraft.leaderboard.LeaderboardService;
+import org.aincraft.service.GuildMemberService;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+/**
+ * Component for viewing the server-wide guild leaderboards.
+ */
+public class TopComponent implements GuildCommand {
+    private final LeaderboardService leaderboardService;
+    private final GuildMemberService memberService;
+    private static final int GUILDS_PER_PAGE = 10;
+
+    @Inject
+    public TopComponent(LeaderboardService leaderboardService, GuildMemberService memberService) {
+        this.leaderboardService = leaderboardService;
+        this.memberService = memberService;
+    }
+
+    @Override
+    public String getName() {
+        return "top";
+    }
+
+    @Override
+    public String getPermission() {
+        return "guilds.top";
+    }
+
+    @Override
+    public String getUsage() {
+        return "/g top <metric> [page]";
+    }
+
+    @Override
+    public boolean execute(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
+            Mint.sendMessage(sender, "<error>This command is for players only</error>");
+            return true;
+        }
+
+        if (!player.hasPermission(getPermission())) {
+            Mint.sendMessage(player, "<error>You don't have permission to use this command</error>");
+            return true;
+        }
+
+        LeaderboardMetric metric = args.length >= 2 ? LeaderboardMetric.fromString(args[1]) : null;
+        if (metric == null) {
+            Mint.sendMessage(player, "<error>Usage: " + getUsage() + "</error>");
+            Mint.sendMessage(player, "<neutral>Metrics: " + String.join(", ", getMetricKeys()) + "</neutral>");
+            return true;
+        }
+
+        int page = 1;
+        if (args.length >= 3) {
+            try {
+                page = Integer.parseInt(args[2]);
+                if (page < 1) {
+                    page = 1;
+                }
+            } catch (NumberFormatException e) {
+                Mint.sendMessage(player, "<error>Invalid page number</error>");
+                return true;
+            }
+        }
+
+        displayLeaderboard(player, metric, page);
+        return true;
+    }
+
+    /**
+     * Gets the metric names accepted by the command.
+     */
+    public static List<String> getMetricKeys() {
+        return Arrays.stream(LeaderboardMetric.values()).map(LeaderboardMetric::getKey).toList();
+    }
+
+    /**
+     * Displays one page of a leaderboard, followed by the player's own guild's rank.
+     *
+     * @param player the player to send the leaderboard to
+     * @param metric the metric ranked by
+     * @param page the page number to display
+     */
+    private void displayLeaderboard(Player player, LeaderboardMetric metric, int page) {
+        int totalPages = leaderboardService.getPageCount(GUILDS_PER_PAGE);
+        if (page > totalPages) {
+            page = totalPages;
+        }
+
+        List<LeaderboardService.Standing> standings = leaderboardService.getPage(metric, page, GUILDS_PER_PAGE);
+        if (standings.isEmpty()) {
+            Mint.sendMessage(player, "<neutral>Leaderboard is empty</neutral>");
+            return;
+        }
+
+        Mint.sendMessage(player, "<primary>=== Top Guilds: " + metric.getDisplayName() +
+                " (" + page + "/" + totalPages + ") ===</primary>");
+
+        for (LeaderboardService.Standing standing : standings) {
+            Mint.sendMessage(player, "<info>" + standing.rank() + ". <secondary>" + standing.guild().getName() +
+                    "</secondary> <neutral>- <primary>" + String.format("%,d", standing.value()) + "</primary></neutral>");
+        }
+
+        Guild playerGuild = memberService.getPlayerGuild(player.getUniqueId());
+        if (playerGuild != null) {
+            int rank = leaderboardService.getRank(playerGuild.getId(), metric);
+            if (rank > 0) {
+                Mint.sendMessage(player, "<neutral>Your guild: <secondary>#" + rank + "</secondary> with <primary>" +
+                        String.format("%,d", leaderboardService.getValue(playerGuild.getId(), metric)) + "</primary></neutral>");
+            }
+        }
+
+        if (page < totalPages) {
+            Mint.sendMessage(player, "<neutral>Use /g top " + metric.getKey() + " " + (page + 1) + " for next page</neutral>");
+        }
+    }
+}
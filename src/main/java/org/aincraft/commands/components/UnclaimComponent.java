@@ -1,10 +1,13 @@
 package org.aincraft.commands.components;
 
 import com.google.inject.Inject;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import org.aincraft.ChunkKey;
 import org.aincraft.Guild;
 import org.aincraft.GuildPermission;
+import org.aincraft.claim.ChunkShapes;
 import org.aincraft.commands.GuildCommand;
 import dev.mintychochip.mint.Mint;
 import org.aincraft.service.GuildMemberService;
@@ -16,10 +19,12 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
 /**
- * Component for unclaiming the chunk the player is standing in.
- * Blocks unclaim if subregions exist in the chunk.
+ * Component for unclaiming the chunk the player is standing in, or a square or circle of chunks around it.
+ * Blocks unclaim if subregions exist in the affected chunks.
  */
 public class UnclaimComponent implements GuildCommand {
+    private static final int MAX_BULK_RADIUS = 10;
+
     private final GuildMemberService memberService;
     private final TerritoryService territoryService;
     private final SubregionService subregionService;
@@ -45,7 +50,7 @@ public class UnclaimComponent implements GuildCommand {
 
     @Override
     public String getUsage() {
-        return "/g unclaim [all]";
+        return "/g unclaim [all|square <radius>|radius <radius>]";
     }
 
     @Override
@@ -66,6 +71,10 @@ public class UnclaimComponent implements GuildCommand {
             return true;
         }
 
+        if (args.length > 1 && ("square".equalsIgnoreCase(args[1]) || "radius".equalsIgnoreCase(args[1]))) {
+            return executeBulk(player, guild, args);
+        }
+
         // Check if "all" argument is provided
         if (args.length > 1 && "all".equalsIgnoreCase(args[1])) {
             // Check UNCLAIM_ALL permission BEFORE subregion check
@@ -125,4 +134,62 @@ public class UnclaimComponent implements GuildCommand {
 
         return true;
     }
+
+    private boolean executeBulk(Player player, Guild guild, String[] args) {
+        String shape = args[1].toLowerCase();
+        if (args.length < 3) {
+            Mint.sendMessage(player, "<error>Usage: /g unclaim " + shape + " <radius></error>");
+            return true;
+        }
+
+        int radius;
+        try {
+            radius = Integer.parseInt(args[2]);
+        } catch (NumberFormatException e) {
+            Mint.sendMessage(player, "<error>Invalid radius: <accent>" + args[2] + "</accent></error>");
+            return true;
+        }
+
+        if (radius < 1 || radius > MAX_BULK_RADIUS) {
+            Mint.sendMessage(player, "<error>Radius must be between <accent>1</accent> and <accent>" + MAX_BULK_RADIUS + "</accent></error>");
+            return true;
+        }
+
+        if (!permissionService.hasPermission(guild.getId(), player.getUniqueId(), GuildPermission.UNCLAIM_ALL)) {
+            Mint.sendMessage(player, "<error>You don't have permission to unclaim chunks</error>");
+            return true;
+        }
+
+        ChunkKey center = ChunkKey.from(player.getLocation().getChunk());
+        List<ChunkKey> chunks = shape.equals("square")
+                ? ChunkShapes.square(center, radius)
+                : ChunkShapes.circle(center, radius);
+
+        // Same rule as a single unclaim: any subregion of this guild in the area blocks the whole unclaim
+        Set<Subregion> subregions = new LinkedHashSet<>();
+        for (ChunkKey chunk : chunks) {
+            for (Subregion region : subregionService.getSubregionsInChunk(chunk)) {
+                if (region.getGuildId().equals(guild.getId())) {
+                    subregions.add(region);
+                }
+            }
+        }
+        if (!subregions.isEmpty()) {
+            Mint.sendMessage(player, "<error>Cannot unclaim these chunks - they contain <primary>" + subregions.size() + "</primary> subregion(s)</error>");
+            for (Subregion region : subregions) {
+                Mint.sendMessage(player, "<error>- <secondary>" + region.getName() + "</secondary></error>");
+            }
+            Mint.sendMessage(player, "<error>Use /g region delete <name> to remove subregions first</error>");
+            return true;
+        }
+
+        List<ChunkKey> unclaimed = territoryService.unclaimChunks(guild.getId(), player.getUniqueId(), chunks);
+        if (unclaimed.isEmpty()) {
+            Mint.sendMessage(player, "<error>None of these chunks can be unclaimed by your guild</error>");
+        } else {
+            Mint.sendMessage(player, "<success>Unclaimed <primary>" + unclaimed.size() + "</primary> chunks around <primary>" + center.x() + "</primary>, <primary>" + center.z() + "</primary></success>");
+        }
+
+        return true;
+    }
 }
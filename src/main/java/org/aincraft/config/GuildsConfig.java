@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import org.aincraft.GuildsPlugin;
+import org.aincraft.claim.ClaimLogOverflowPolicy;
 import org.aincraft.subregion.SubjectType;
 import org.bukkit.configuration.ConfigurationSection;
 
@@ -14,6 +15,10 @@ import org.bukkit.configuration.ConfigurationSection;
 public class GuildsConfig {
     private final GuildsPlugin plugin;
     private int claimBufferDistance;
+    private int claimLogBatchSize;
+    private long claimLogFlushIntervalMs;
+    private int claimLogQueueCapacity;
+    private ClaimLogOverflowPolicy claimLogOverflowPolicy;
     private final Map<SubjectType, String> defaultRoleAssignments = new HashMap<>();
 
     @Inject
@@ -34,9 +39,38 @@ public class GuildsConfig {
 
         plugin.getLogger().info("Claim buffer distance set to: " + claimBufferDistance + " chunks");
 
+        loadClaimLogSettings();
         loadDefaultRoleAssignments();
     }
 
+    private void loadClaimLogSettings() {
+        claimLogBatchSize = plugin.getConfig().getInt("claim.log.batch-size", 100);
+        if (claimLogBatchSize < 1) {
+            plugin.getLogger().warning("Invalid claim.log.batch-size: " + claimLogBatchSize + ". Using default: 100");
+            claimLogBatchSize = 100;
+        }
+
+        claimLogFlushIntervalMs = plugin.getConfig().getLong("claim.log.flush-interval-ms", 1000);
+        if (claimLogFlushIntervalMs < 1) {
+            plugin.getLogger().warning("Invalid claim.log.flush-interval-ms: " + claimLogFlushIntervalMs + ". Using default: 1000");
+            claimLogFlushIntervalMs = 1000;
+        }
+
+        claimLogQueueCapacity = plugin.getConfig().getInt("claim.log.queue-capacity", 10000);
+        if (claimLogQueueCapacity < claimLogBatchSize) {
+            plugin.getLogger().warning("Invalid claim.log.queue-capacity: " + claimLogQueueCapacity
+                    + ". Must be at least the batch size; using " + Math.max(10000, claimLogBatchSize));
+            claimLogQueueCapacity = Math.max(10000, claimLogBatchSize);
+        }
+
+        String policy = plugin.getConfig().getString("claim.log.overflow-policy", "write-through");
+        claimLogOverflowPolicy = ClaimLogOverflowPolicy.fromString(policy);
+        if (claimLogOverflowPolicy == null) {
+            plugin.getLogger().warning("Unknown claim.log.overflow-policy: " + policy + ". Using default: write-through");
+            claimLogOverflowPolicy = ClaimLogOverflowPolicy.WRITE_THROUGH;
+        }
+    }
+
     private void loadDefaultRoleAssignments() {
         defaultRoleAssignments.clear();
 
@@ -64,6 +98,22 @@ public class GuildsConfig {
         return claimBufferDistance;
     }
 
+    public int getClaimLogBatchSize() {
+        return claimLogBatchSize;
+    }
+
+    public long getClaimLogFlushIntervalMs() {
+        return claimLogFlushIntervalMs;
+    }
+
+    public int getClaimLogQueueCapacity() {
+        return claimLogQueueCapacity;
+    }
+
+    public ClaimLogOverflowPolicy getClaimLogOverflowPolicy() {
+        return claimLogOverflowPolicy;
+    }
+
     public GuildsPlugin getPlugin() {
         return plugin;
     }
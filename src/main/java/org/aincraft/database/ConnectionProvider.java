@@ -28,8 +28,31 @@ public interface ConnectionProvider extends AutoCloseable {
      */
     DatabaseType getDatabaseType();
 
+    /**
+     * Runs a unit of write work against the database and returns its result.
+     * Providers for single-writer engines override this to serialise all writes on one
+     * connection; the default simply borrows a connection for the duration of the work.
+     * The work must not close the connection it is given.
+     *
+     * @param work the work to run
+     * @return the work's result
+     */
+    default <T> T write(SqlWork<T> work) throws SQLException {
+        try (Connection conn = getConnection()) {
+            return work.execute(conn);
+        }
+    }
+
     @Override
     default void close() {
         shutdown();
     }
+
+    /**
+     * A unit of database work that may throw {@link SQLException}.
+     */
+    @FunctionalInterface
+    interface SqlWork<T> {
+        T execute(Connection conn) throws SQLException;
+    }
 }
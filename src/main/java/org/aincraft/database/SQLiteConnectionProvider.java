@@ -0,0 +1,510 @@
+package org.aincraft.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQLite connection provider that keeps its connections open for the lifetime of the plugin.
+ * <p>
+ * The database runs in WAL mode with {@code synchronous=NORMAL}, so readers never block the
+ * writer. A fixed set of read-only connections is leased out by {@link #getConnection()}; closing
+ * a leased connection returns it to the provider instead of closing the file handle. Work passed to
+ * {@link #write(SqlWork)} is queued onto a single dedicated writer thread that owns its own
+ * connection, so writes are serialised without contending for SQLite's write lock. A write issued
+ * from inside another write joins the outer one's connection and transaction: only the outermost
+ * write commits, and a nested rollback marks the outer transaction rollback-only. Connections
+ * obtained from {@link #getConnection()} inside a write join it the same way.
+ * <p>
+ * Every connection caches its prepared statements by SQL text; repositories keep using the usual
+ * {@code prepareStatement}/{@code close} pattern and transparently reuse compiled statements.
+ */
+public class SQLiteConnectionProvider implements ConnectionProvider {
+    private static final int READ_CONNECTIONS = 4;
+    private static final int STATEMENT_CACHE_SIZE = 64;
+    private static final int BUSY_TIMEOUT_MS = 5000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final DatabaseConfig config;
+    private final String jdbcUrl;
+    private final BlockingQueue<PooledConnection> readConnections = new ArrayBlockingQueue<>(READ_CONNECTIONS);
+    private final List<PooledConnection> allConnections = new ArrayList<>();
+    private PooledConnection writeConnection;
+    private ExecutorService writer;
+    private volatile Thread writerThread;
+    private final ThreadLocal<Connection> activeWrite = new ThreadLocal<>();
+
+    public SQLiteConnectionProvider(DatabaseConfig config) {
+        this.config = config;
+        this.jdbcUrl = config.buildJdbcUrl();
+    }
+
+    @Override
+    public void initialize() throws SQLException {
+        try {
+            Class.forName(config.getType().getDriverClass());
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("JDBC driver not found: " + config.getType().getDriverClass(), e);
+        }
+
+        writeConnection = open(false);
+        // journal_mode is persistent in the database file, so setting it once on the writer is enough
+        try (Statement stmt = writeConnection.connection.createStatement()) {
+            stmt.execute("PRAGMA journal_mode=WAL");
+        }
+
+        for (int i = 0; i < READ_CONNECTIONS; i++) {
+            readConnections.add(open(true));
+        }
+
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread t = new Thread(runnable, "Guilds-SQLite-Writer");
+            t.setDaemon(true);
+            writerThread = t;
+            return t;
+        });
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (writer == null) {
+            throw new SQLException("Connection provider not initialized");
+        }
+
+        // Reads issued from inside write work must see that work's uncommitted changes, and must
+        // not be able to end the write's transaction
+        if (activeWrite.get() != null) {
+            return writeConnection.join();
+        }
+
+        PooledConnection pooled;
+        try {
+            pooled = readConnections.poll(config.getConnectionTimeout(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a SQLite connection", e);
+        }
+        if (pooled == null) {
+            throw new SQLException("Timed out waiting for a SQLite connection");
+        }
+        return pooled.lease();
+    }
+
+    @Override
+    public <T> T write(SqlWork<T> work) throws SQLException {
+        if (writer == null) {
+            throw new SQLException("Connection provider not initialized");
+        }
+
+        // Nested writes run inline; queueing them behind the current task would deadlock
+        if (Thread.currentThread() == writerThread) {
+            return runWrite(work);
+        }
+
+        Future<T> result = writer.submit(() -> runWrite(work));
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a SQLite write", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SQLException("SQLite write failed", cause);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (writer != null) {
+            // Let queued writes finish before the connections go away
+            writer.shutdown();
+            try {
+                writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+
+        for (PooledConnection pooled : allConnections) {
+            pooled.closeQuietly();
+        }
+        allConnections.clear();
+        readConnections.clear();
+    }
+
+    @Override
+    public DatabaseType getDatabaseType() {
+        return config.getType();
+    }
+
+    private <T> T runWrite(SqlWork<T> work) throws SQLException {
+        if (activeWrite.get() != null) {
+            try (Connection conn = writeConnection.join()) {
+                return work.execute(conn);
+            }
+        }
+
+        try (Connection conn = writeConnection.lease()) {
+            activeWrite.set(conn);
+            return work.execute(conn);
+        } finally {
+            activeWrite.remove();
+        }
+    }
+
+    private PooledConnection open(boolean readOnly) throws SQLException {
+        Connection connection = DriverManager.getConnection(jdbcUrl);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA synchronous=NORMAL");
+            stmt.execute("PRAGMA busy_timeout=" + BUSY_TIMEOUT_MS);
+            if (readOnly) {
+                // A write that bypasses write(...) fails here instead of racing the writer thread
+                stmt.execute("PRAGMA query_only=ON");
+            }
+        }
+        PooledConnection pooled = new PooledConnection(connection);
+        allConnections.add(pooled);
+        return pooled;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * A persistent connection together with its prepared statement cache.
+     * Only ever used by one thread at a time: read connections are leased exclusively and the
+     * write connection is confined to the writer thread.
+     */
+    private final class PooledConnection {
+        private final Connection connection;
+        private final Set<PreparedStatement> inUse = new HashSet<>();
+        private boolean rollbackOnly;
+        private final Map<String, PreparedStatement> statements =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                        // Skip over statements still in use so a held statement can't pin the cache
+                        // above its limit once it has been released
+                        Iterator<PreparedStatement> it = values().iterator();
+                        while (size() > STATEMENT_CACHE_SIZE && it.hasNext()) {
+                            PreparedStatement stmt = it.next();
+                            if (!inUse.contains(stmt)) {
+                                closeQuietly(stmt);
+                                it.remove();
+                            }
+                        }
+                        return false;
+                    }
+                };
+
+        PooledConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Wraps this connection for one borrower. Closing the lease resets transaction state and
+         * releases the connection.
+         */
+        Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this, false));
+        }
+
+        /**
+         * Wraps this connection for work nested inside a write. Transaction control on the
+         * returned lease only takes effect if the nested work opened the transaction itself;
+         * otherwise commits are deferred to the outer write and rollbacks mark it rollback-only.
+         */
+        Connection join() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this, true));
+        }
+
+        PreparedStatement acquire(String sql) throws SQLException {
+            PreparedStatement stmt = statements.get(sql);
+            if (stmt == null || stmt.isClosed()) {
+                stmt = connection.prepareStatement(sql);
+                statements.put(sql, stmt);
+            } else if (inUse.contains(stmt)) {
+                // Same SQL prepared twice within one borrow; hand out an uncached statement
+                return null;
+            }
+            inUse.add(stmt);
+            return stmt;
+        }
+
+        void release(PreparedStatement stmt) {
+            inUse.remove(stmt);
+            try {
+                stmt.clearParameters();
+                stmt.clearBatch();
+            } catch (SQLException e) {
+                statements.values().remove(stmt);
+                closeQuietly(stmt);
+            }
+        }
+
+        /**
+         * Commits the open transaction unless a nested write rolled back inside it.
+         */
+        void commit() throws SQLException {
+            if (rollbackOnly) {
+                rollbackOnly = false;
+                connection.rollback();
+                throw new SQLException("Transaction rolled back: a nested write failed");
+            }
+            connection.commit();
+        }
+
+        void rollback() throws SQLException {
+            rollbackOnly = false;
+            connection.rollback();
+        }
+
+        void reset() {
+            rollbackOnly = false;
+            try {
+                if (!connection.getAutoCommit()) {
+                    // A borrower that forgot to commit must not leak its transaction to the next one
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException ignored) {
+                // Connection is unusable; the next statement on it will surface the error
+            }
+            if (this != writeConnection) {
+                readConnections.offer(this);
+            }
+        }
+
+        void closeQuietly() {
+            statements.values().forEach(this::closeQuietly);
+            statements.clear();
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // Shutting down
+            }
+        }
+
+        private void closeQuietly(Statement stmt) {
+            try {
+                stmt.close();
+            } catch (SQLException ignored) {
+                // Statement is being discarded
+            }
+        }
+    }
+
+    /**
+     * Routes calls on a leased connection to the pooled connection, serving single-argument
+     * {@code prepareStatement} calls from the statement cache and turning {@code close} into a release.
+     */
+    private static final class LeaseHandler implements InvocationHandler {
+        private final PooledConnection pooled;
+        private final boolean joined;
+        private boolean ownsTransaction;
+        private boolean closed;
+
+        LeaseHandler(PooledConnection pooled, boolean joined) {
+            this.pooled = pooled;
+            this.joined = joined;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        if (!joined) {
+                            pooled.reset();
+                        } else if (ownsTransaction && !pooled.connection.getAutoCommit()) {
+                            // A nested write that opened its own transaction and left it open
+                            pooled.rollback();
+                            pooled.connection.setAutoCommit(true);
+                        }
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return closed || pooled.connection.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "SQLiteLease[" + pooled.connection + "]";
+                }
+                default -> {
+                    // Fall through to delegation below
+                }
+            }
+
+            if (closed) {
+                throw new SQLException("Connection is closed");
+            }
+
+            if (args == null || args.length == 0 || method.getName().equals("setAutoCommit")) {
+                switch (method.getName()) {
+                    case "commit" -> {
+                        if (!joined || ownsTransaction) {
+                            pooled.commit();
+                        }
+                        return null;
+                    }
+                    case "rollback" -> {
+                        if (!joined || ownsTransaction) {
+                            pooled.rollback();
+                        } else {
+                            pooled.rollbackOnly = true;
+                        }
+                        return null;
+                    }
+                    case "setAutoCommit" -> {
+                        boolean autoCommit = (Boolean) args[0];
+                        if (joined) {
+                            return joinedSetAutoCommit(autoCommit);
+                        }
+                        if (autoCommit && !pooled.connection.getAutoCommit()) {
+                            // Switching auto-commit back on commits, so honour rollback-only first
+                            pooled.commit();
+                        }
+                    }
+                    default -> {
+                        // Fall through to delegation below
+                    }
+                }
+            }
+
+            if (method.getName().equals("prepareStatement") && args != null && args.length == 1) {
+                PreparedStatement stmt = pooled.acquire((String) args[0]);
+                if (stmt != null) {
+                    return Proxy.newProxyInstance(
+                            PreparedStatement.class.getClassLoader(),
+                            new Class<?>[]{PreparedStatement.class},
+                            new CachedStatementHandler(pooled, stmt, (Connection) proxy));
+                }
+            }
+            return SQLiteConnectionProvider.invoke(pooled.connection, method, args);
+        }
+
+        /**
+         * Lets a nested write open and close its own transaction only when the outer write is not
+         * already running one; inside an outer transaction the call is a no-op.
+         */
+        private Object joinedSetAutoCommit(boolean autoCommit) throws SQLException {
+            boolean inTransaction = !pooled.connection.getAutoCommit();
+            if (!autoCommit && !inTransaction) {
+                ownsTransaction = true;
+                pooled.connection.setAutoCommit(false);
+            } else if (autoCommit && ownsTransaction) {
+                ownsTransaction = false;
+                pooled.connection.setAutoCommit(true);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Keeps a cached prepared statement open when the borrower closes it, closing only the
+     * result set it produced.
+     */
+    private static final class CachedStatementHandler implements InvocationHandler {
+        private final PooledConnection pooled;
+        private final PreparedStatement stmt;
+        private final Connection lease;
+        private ResultSet resultSet;
+        private boolean closed;
+
+        CachedStatementHandler(PooledConnection pooled, PreparedStatement stmt, Connection lease) {
+            this.pooled = pooled;
+            this.stmt = stmt;
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        if (resultSet != null) {
+                            resultSet.close();
+                        }
+                        pooled.release(stmt);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return closed || stmt.isClosed();
+                }
+                case "getConnection" -> {
+                    return lease;
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return stmt.toString();
+                }
+                default -> {
+                    // Fall through to delegation below
+                }
+            }
+
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+
+            Object result = SQLiteConnectionProvider.invoke(stmt, method, args);
+            if (result instanceof ResultSet rs) {
+                resultSet = rs;
+            }
+            return result;
+        }
+    }
+}
@@ -4,10 +4,14 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.aincraft.MemberPermissions;
+import org.aincraft.progression.RollupGranularity;
 
 /**
  * Manages database schema initialization.
@@ -15,6 +19,8 @@ import java.util.logging.Logger;
  */
 @Singleton
 public class SchemaManager {
+    private static final int MIGRATION_BATCH_SIZE = 500;
+
     private final ConnectionProvider connectionProvider;
     private final DatabaseType dbType;
     private final Logger logger;
@@ -32,65 +38,69 @@ public class SchemaManager {
     public void initializeSchema() throws SQLException {
         logger.info("Initializing database schema for " + dbType);
 
-        try (Connection conn = connectionProvider.getConnection();
-             Statement stmt = conn.createStatement()) {
-
-            // Core tables
-            executeStatement(stmt, Sql.createGuildsTable(dbType));
-            executeStatement(stmt, Sql.createGuildMembersTable(dbType));
-            executeStatement(stmt, Sql.createPlayerGuildsTable(dbType));
-            executeStatement(stmt, Sql.createGuildRolesTable(dbType));
-            executeStatement(stmt, Sql.createMemberRolesTable(dbType));
-
-            // Chunk claims
-            executeStatement(stmt, Sql.createChunkClaimsTable(dbType));
-            executeStatement(stmt, Sql.createChunkClaimLogTable(dbType));
-
-            // Relationships and permissions
-            executeStatement(stmt, Sql.createGuildRelationshipsTable(dbType));
-            executeStatement(stmt, Sql.createGuildDefaultPermissionsTable(dbType));
-            executeStatement(stmt, Sql.createInvitesTable(dbType));
-
-            // Subregions
-            executeStatement(stmt, Sql.createSubregionsTable(dbType));
-            executeStatement(stmt, Sql.createRegionPermissionsTable(dbType));
-            executeStatement(stmt, Sql.createRegionRolesTable(dbType));
-            executeStatement(stmt, Sql.createMemberRegionRolesTable(dbType));
-            executeStatement(stmt, Sql.createRegionTypeLimitsTable(dbType));
-
-            // Vault
-            executeStatement(stmt, Sql.createVaultsTable(dbType));
-            executeStatement(stmt, Sql.createVaultTransactionsTable(dbType));
-
-            // Progression
-            executeStatement(stmt, Sql.createGuildProgressionTable(dbType));
-            executeStatement(stmt, Sql.createXpContributionsTable(dbType));
-            executeStatement(stmt, Sql.createProgressionLogTable(dbType));
-
-            // Projects
-            executeStatement(stmt, Sql.createGuildProjectsTable(dbType));
-            executeStatement(stmt, Sql.createProjectQuestProgressTable(dbType));
-            executeStatement(stmt, Sql.createProjectMaterialContributionsTable(dbType));
-            executeStatement(stmt, Sql.createProjectPoolSeedTable(dbType));
-            executeStatement(stmt, Sql.createGuildProjectPoolTable(dbType));
-            executeStatement(stmt, Sql.createActiveBuffsTable(dbType));
-
-            // LLM Project Text Cache
-            executeStatement(stmt, Sql.createGeneratedProjectTextsTable(dbType));
-
-            // Skill Tree
-            executeStatement(stmt, Sql.createGuildSkillTreesTable(dbType));
-            executeStatement(stmt, Sql.createGuildUnlockedSkillsTable(dbType));
-
-            // Indexes
-            createIndexes(stmt);
-
-            // Migrations
-            migrateGuildRolesTable(stmt);
-            migrateAddGuildCreatedAt(stmt);
-
-            logger.info("Database schema initialized successfully");
-        }
+        connectionProvider.write(conn -> {
+            try (Statement stmt = conn.createStatement()) {
+                // Core tables
+                executeStatement(stmt, Sql.createGuildsTable(dbType));
+                executeStatement(stmt, Sql.createGuildMembersTable(dbType));
+                executeStatement(stmt, Sql.createPlayerGuildsTable(dbType));
+                executeStatement(stmt, Sql.createGuildRolesTable(dbType));
+                executeStatement(stmt, Sql.createMemberRolesTable(dbType));
+
+                // Chunk claims
+                executeStatement(stmt, Sql.createChunkClaimsTable(dbType));
+                executeStatement(stmt, Sql.createChunkClaimLogTable(dbType));
+
+                // Relationships and permissions
+                executeStatement(stmt, Sql.createGuildRelationshipsTable(dbType));
+                executeStatement(stmt, Sql.createGuildDefaultPermissionsTable(dbType));
+                executeStatement(stmt, Sql.createInvitesTable(dbType));
+
+                // Subregions
+                executeStatement(stmt, Sql.createSubregionsTable(dbType));
+                executeStatement(stmt, Sql.createRegionPermissionsTable(dbType));
+                executeStatement(stmt, Sql.createRegionRolesTable(dbType));
+                executeStatement(stmt, Sql.createMemberRegionRolesTable(dbType));
+                executeStatement(stmt, Sql.createRegionTypeLimitsTable(dbType));
+
+                // Vault
+                executeStatement(stmt, Sql.createVaultsTable(dbType));
+                executeStatement(stmt, Sql.createVaultTransactionsTable(dbType));
+
+                // Progression
+                executeStatement(stmt, Sql.createGuildProgressionTable(dbType));
+                executeStatement(stmt, Sql.createXpContributionsTable(dbType));
+                executeStatement(stmt, Sql.createProgressionLogTable(dbType));
+                executeStatement(stmt, Sql.createProgressionLogRollupsTable(dbType));
+
+                // Projects
+                executeStatement(stmt, Sql.createGuildProjectsTable(dbType));
+                executeStatement(stmt, Sql.createProjectQuestProgressTable(dbType));
+                executeStatement(stmt, Sql.createProjectMaterialContributionsTable(dbType));
+                executeStatement(stmt, Sql.createProjectPoolSeedTable(dbType));
+                executeStatement(stmt, Sql.createGuildProjectPoolTable(dbType));
+                executeStatement(stmt, Sql.createActiveBuffsTable(dbType));
+
+                // LLM Project Text Cache
+                executeStatement(stmt, Sql.createGeneratedProjectTextsTable(dbType));
+
+                // Skill Tree
+                executeStatement(stmt, Sql.createGuildSkillTreesTable(dbType));
+                executeStatement(stmt, Sql.createGuildUnlockedSkillsTable(dbType));
+
+                // Indexes
+                createIndexes(stmt);
+
+                // Migrations
+                migrateGuildRolesTable(stmt);
+                migrateAddGuildCreatedAt(stmt);
+                migrateGuildMembersColumn(conn);
+                backfillProgressionLogRollups(conn);
+            }
+            return null;
+        });
+
+        logger.info("Database schema initialized successfully");
     }
 
     private void createIndexes(Statement stmt) throws SQLException {
@@ -131,6 +141,9 @@ public class SchemaManager {
         // Progression indexes
         executeStatement(stmt, Sql.createIndex(dbType, "idx_progression_log_guild", "progression_logs", "guild_id"));
         executeStatement(stmt, Sql.createIndex(dbType, "idx_progression_log_player", "progression_logs", "player_id"));
+        executeStatement(stmt, Sql.createIndex(dbType, "idx_progression_log_time", "progression_logs", "timestamp"));
+        executeStatement(stmt, Sql.createIndex(dbType, "idx_progression_log_action_time", "progression_logs", "action", "timestamp"));
+        executeStatement(stmt, Sql.createIndex(dbType, "idx_progression_rollup_time", "progression_log_rollups", "granularity", "bucket_start"));
         executeStatement(stmt, Sql.createIndex(dbType, "idx_xp_contrib_guild", "guild_xp_contributions", "guild_id"));
         executeStatement(stmt, Sql.createIndex(dbType, "idx_xp_contrib_player", "guild_xp_contributions", "player_id"));
 
@@ -208,4 +221,115 @@ public class SchemaManager {
             logger.log(Level.FINE, "guild_created_at column already exists or error adding: " + e.getMessage());
         }
     }
+
+    /**
+     * Moves membership out of the legacy comma-separated guilds.members column into
+     * guild_members and player_guilds, then empties the column so later startups skip it.
+     * Rows are streamed and inserted in batches; existing normalized rows are left untouched.
+     */
+    private void migrateGuildMembersColumn(Connection conn) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+
+        int migratedGuilds = 0;
+        try (PreparedStatement select = conn.prepareStatement(
+                 "SELECT id, owner_id, created_at, members FROM guilds WHERE members <> ''");
+             PreparedStatement insertMember = conn.prepareStatement(Sql.insertGuildMemberIfAbsent(dbType));
+             PreparedStatement insertMapping = conn.prepareStatement(Sql.insertPlayerGuildIfAbsent(dbType))) {
+
+            select.setFetchSize(MIGRATION_BATCH_SIZE);
+            int pending = 0;
+
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    String guildId = rs.getString("id");
+                    String ownerId = rs.getString("owner_id");
+                    long createdAt = rs.getLong("created_at");
+                    String[] memberIds = rs.getString("members").split(",");
+
+                    for (int i = 0; i < memberIds.length; i++) {
+                        String memberId = memberIds[i].trim();
+                        if (memberId.isEmpty()) {
+                            continue;
+                        }
+
+                        MemberPermissions permissions = memberId.equals(ownerId)
+                                ? MemberPermissions.all()
+                                : MemberPermissions.getDefault();
+                        insertMember.setString(1, guildId);
+                        insertMember.setString(2, memberId);
+                        insertMember.setInt(3, permissions.getBitfield());
+                        insertMember.setLong(4, createdAt + i); // Preserves the stored join order
+                        insertMember.addBatch();
+
+                        insertMapping.setString(1, memberId);
+                        insertMapping.setString(2, guildId);
+                        insertMapping.addBatch();
+
+                        if (++pending == MIGRATION_BATCH_SIZE) {
+                            insertMember.executeBatch();
+                            insertMapping.executeBatch();
+                            pending = 0;
+                        }
+                    }
+                    migratedGuilds++;
+                }
+            }
+
+            if (pending > 0) {
+                insertMember.executeBatch();
+                insertMapping.executeBatch();
+            }
+
+            try (Statement clear = conn.createStatement()) {
+                clear.executeUpdate("UPDATE guilds SET members = '' WHERE members <> ''");
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+
+        if (migratedGuilds > 0) {
+            logger.info("Migrated members of " + migratedGuilds + " guilds to guild_members");
+        }
+    }
+
+    /**
+     * Builds the progression log rollups from the raw XP gain entries written before rollups existed.
+     * Runs only while the rollup table is empty; afterwards rollups are maintained as entries are logged.
+     */
+    private void backfillProgressionLogRollups(Connection conn) throws SQLException {
+        try (Statement check = conn.createStatement();
+             ResultSet rs = check.executeQuery("SELECT 1 FROM progression_log_rollups LIMIT 1")) {
+            if (rs.next()) {
+                return;
+            }
+        }
+
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+
+        int rollups = 0;
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                for (RollupGranularity granularity : RollupGranularity.values()) {
+                    rollups += stmt.executeUpdate(Sql.backfillProgressionLogRollups(
+                            granularity.name(), granularity.getBucketMillis()).trim());
+                }
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+
+        if (rollups > 0) {
+            logger.info("Backfilled " + rollups + " progression log rollups");
+        }
+    }
 }
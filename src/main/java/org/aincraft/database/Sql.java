@@ -212,27 +212,28 @@ public final class Sql {
         };
     }
 
-    public static String upsertGuildMember(DatabaseType type) {
+    public static String insertGuildMemberIfAbsent(DatabaseType type) {
         return switch (type) {
             case SQLITE -> """
-                INSERT OR REPLACE INTO guild_members (guild_id, player_id, permissions, joined_at)
+                INSERT OR IGNORE INTO guild_members (guild_id, player_id, permissions, joined_at)
                 VALUES (?, ?, ?, ?)
                 """;
             case MYSQL, MARIADB -> """
-                INSERT INTO guild_members (guild_id, player_id, permissions, joined_at)
+                INSERT IGNORE INTO guild_members (guild_id, player_id, permissions, joined_at)
                 VALUES (?, ?, ?, ?)
-                ON DUPLICATE KEY UPDATE permissions = VALUES(permissions), joined_at = VALUES(joined_at)
                 """;
             case POSTGRESQL -> """
                 INSERT INTO guild_members (guild_id, player_id, permissions, joined_at)
                 VALUES (?, ?, ?, ?)
-                ON CONFLICT (guild_id, player_id) DO UPDATE SET
-                permissions = EXCLUDED.permissions, joined_at = EXCLUDED.joined_at
+                ON CONFLICT (guild_id, player_id) DO NOTHING
                 """;
             case H2 -> """
-                MERGE INTO guild_members (guild_id, player_id, permissions, joined_at)
-                KEY (guild_id, player_id)
-                VALUES (?, ?, ?, ?)
+                MERGE INTO guild_members t
+                USING (VALUES (CAST(? AS VARCHAR(36)), CAST(? AS VARCHAR(36)), CAST(? AS INT), CAST(? AS BIGINT)))
+                    s (guild_id, player_id, permissions, joined_at)
+                ON t.guild_id = s.guild_id AND t.player_id = s.player_id
+                WHEN NOT MATCHED THEN INSERT (guild_id, player_id, permissions, joined_at)
+                    VALUES (s.guild_id, s.player_id, s.permissions, s.joined_at)
                 """;
         };
     }
@@ -271,6 +272,23 @@ public final class Sql {
         };
     }
 
+    public static String insertPlayerGuildIfAbsent(DatabaseType type) {
+        return switch (type) {
+            case SQLITE -> "INSERT OR IGNORE INTO player_guilds (player_id, guild_id) VALUES (?, ?)";
+            case MYSQL, MARIADB -> "INSERT IGNORE INTO player_guilds (player_id, guild_id) VALUES (?, ?)";
+            case POSTGRESQL -> """
+                INSERT INTO player_guilds (player_id, guild_id) VALUES (?, ?)
+                ON CONFLICT (player_id) DO NOTHING
+                """;
+            case H2 -> """
+                MERGE INTO player_guilds t
+                USING (VALUES (CAST(? AS VARCHAR(36)), CAST(? AS VARCHAR(36)))) s (player_id, guild_id)
+                ON t.player_id = s.player_id
+                WHEN NOT MATCHED THEN INSERT (player_id, guild_id) VALUES (s.player_id, s.guild_id)
+                """;
+        };
+    }
+
     // ==================== GUILD ROLES ====================
 
     public static String createGuildRolesTable(DatabaseType type) {
@@ -407,6 +425,41 @@ public final class Sql {
         };
     }
 
+    /**
+     * Inserts a claim only if the chunk is unclaimed; the affected-row count is 1 on success, 0 if taken.
+     */
+    public static String insertChunkClaimIfAbsent(DatabaseType type) {
+        return switch (type) {
+            case SQLITE -> """
+                INSERT OR IGNORE INTO guild_chunks (world, chunk_x, chunk_z, guild_id, claimed_at, claimed_by)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """;
+            case MYSQL, MARIADB -> """
+                INSERT IGNORE INTO guild_chunks (world, chunk_x, chunk_z, guild_id, claimed_at, claimed_by)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """;
+            case POSTGRESQL -> """
+                INSERT INTO guild_chunks (world, chunk_x, chunk_z, guild_id, claimed_at, claimed_by)
+                VALUES (?, ?, ?, ?, ?, ?)
+                ON CONFLICT (world, chunk_x, chunk_z) DO NOTHING
+                """;
+            case H2 -> """
+                MERGE INTO guild_chunks t
+                USING (VALUES (?, ?, ?, ?, ?, ?)) AS s(world, chunk_x, chunk_z, guild_id, claimed_at, claimed_by)
+                ON t.world = s.world AND t.chunk_x = s.chunk_x AND t.chunk_z = s.chunk_z
+                WHEN NOT MATCHED THEN INSERT (world, chunk_x, chunk_z, guild_id, claimed_at, claimed_by)
+                VALUES (s.world, s.chunk_x, s.chunk_z, s.guild_id, s.claimed_at, s.claimed_by)
+                """;
+        };
+    }
+
+    /**
+     * Deletes a claim only if it is owned by the given guild.
+     */
+    public static String deleteGuildChunk() {
+        return "DELETE FROM guild_chunks WHERE world = ? AND chunk_x = ? AND chunk_z = ? AND guild_id = ?";
+    }
+
     // ==================== GUILD RELATIONSHIPS ====================
 
     public static String createGuildRelationshipsTable(DatabaseType type) {
@@ -1139,6 +1192,85 @@ public final class Sql {
         };
     }
 
+    // ==================== PROGRESSION LOG ROLLUPS ====================
+
+    public static String createProgressionLogRollupsTable(DatabaseType type) {
+        return switch (type) {
+            case SQLITE -> """
+                CREATE TABLE IF NOT EXISTS progression_log_rollups (
+                    guild_id TEXT NOT NULL,
+                    player_id TEXT NOT NULL,
+                    source TEXT NOT NULL,
+                    granularity TEXT NOT NULL,
+                    bucket_start INTEGER NOT NULL,
+                    xp BIGINT NOT NULL DEFAULT 0,
+                    PRIMARY KEY (guild_id, granularity, bucket_start, player_id, source)
+                )
+                """;
+            case MYSQL, MARIADB, POSTGRESQL, H2 -> """
+                CREATE TABLE IF NOT EXISTS progression_log_rollups (
+                    guild_id VARCHAR(36) NOT NULL,
+                    player_id VARCHAR(36) NOT NULL,
+                    source VARCHAR(64) NOT NULL,
+                    granularity VARCHAR(8) NOT NULL,
+                    bucket_start BIGINT NOT NULL,
+                    xp BIGINT NOT NULL DEFAULT 0,
+                    PRIMARY KEY (guild_id, granularity, bucket_start, player_id, source)
+                )
+                """;
+        };
+    }
+
+    public static String addToProgressionLogRollup(DatabaseType type) {
+        return switch (type) {
+            case SQLITE -> """
+                INSERT INTO progression_log_rollups (guild_id, player_id, source, granularity, bucket_start, xp)
+                VALUES (?, ?, ?, ?, ?, ?)
+                ON CONFLICT(guild_id, granularity, bucket_start, player_id, source) DO UPDATE SET
+                    xp = xp + excluded.xp
+                """;
+            case MYSQL, MARIADB -> """
+                INSERT INTO progression_log_rollups (guild_id, player_id, source, granularity, bucket_start, xp)
+                VALUES (?, ?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE
+                    xp = xp + VALUES(xp)
+                """;
+            case POSTGRESQL -> """
+                INSERT INTO progression_log_rollups (guild_id, player_id, source, granularity, bucket_start, xp)
+                VALUES (?, ?, ?, ?, ?, ?)
+                ON CONFLICT (guild_id, granularity, bucket_start, player_id, source) DO UPDATE SET
+                    xp = progression_log_rollups.xp + EXCLUDED.xp
+                """;
+            case H2 -> """
+                MERGE INTO progression_log_rollups AS t
+                USING (VALUES (CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR),
+                               CAST(? AS VARCHAR), CAST(? AS BIGINT), CAST(? AS BIGINT)))
+                    AS s(guild_id, player_id, source, granularity, bucket_start, xp)
+                ON t.guild_id = s.guild_id AND t.granularity = s.granularity AND t.bucket_start = s.bucket_start
+                    AND t.player_id = s.player_id AND t.source = s.source
+                WHEN MATCHED THEN UPDATE SET
+                    xp = t.xp + s.xp
+                WHEN NOT MATCHED THEN INSERT (guild_id, player_id, source, granularity, bucket_start, xp)
+                    VALUES (s.guild_id, s.player_id, s.source, s.granularity, s.bucket_start, s.xp)
+                """;
+        };
+    }
+
+    /**
+     * Folds raw XP gain log entries into rollup buckets of the given granularity.
+     * Only used to backfill an empty rollup table, so it inserts rather than merges.
+     */
+    public static String backfillProgressionLogRollups(String granularity, long bucketMillis) {
+        String bucket = "timestamp - (timestamp % " + bucketMillis + ")";
+        return """
+            INSERT INTO progression_log_rollups (guild_id, player_id, source, granularity, bucket_start, xp)
+            SELECT guild_id, player_id, details, '%s', %s, SUM(amount)
+            FROM progression_logs
+            WHERE action = 'XP_GAIN' AND player_id IS NOT NULL AND details IS NOT NULL
+            GROUP BY guild_id, player_id, details, %s
+            """.formatted(granularity, bucket, bucket);
+    }
+
     // ==================== GUILD PROJECTS ====================
 
     public static String createGuildProjectsTable(DatabaseType type) {
@@ -40,16 +40,20 @@ public class JdbcActiveBuffRepository implements ActiveBuffRepository {
 
         String sql = getUpsertSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, buff.id());
-            ps.setString(2, buff.guildId().toString());
-            ps.setString(3, buff.projectDefinitionId());
-            ps.setString(4, buff.categoryId());
-            ps.setDouble(5, buff.value());
-            ps.setLong(6, buff.activatedAt());
-            ps.setLong(7, buff.expiresAt());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, buff.id());
+                    ps.setString(2, buff.guildId().toString());
+                    ps.setString(3, buff.projectDefinitionId());
+                    ps.setString(4, buff.categoryId());
+                    ps.setDouble(5, buff.value());
+                    ps.setLong(6, buff.activatedAt());
+                    ps.setLong(7, buff.expiresAt());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save active buff", e);
         }
@@ -151,10 +155,14 @@ public class JdbcActiveBuffRepository implements ActiveBuffRepository {
     public void delete(String buffId) {
         Objects.requireNonNull(buffId, "Buff ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM active_buffs WHERE id = ?")) {
-            ps.setString(1, buffId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM active_buffs WHERE id = ?")) {
+                    ps.setString(1, buffId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete buff", e);
         }
@@ -164,10 +172,14 @@ public class JdbcActiveBuffRepository implements ActiveBuffRepository {
     public void deleteByGuildId(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM active_buffs WHERE guild_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM active_buffs WHERE guild_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete buffs by guild", e);
         }
@@ -175,10 +187,14 @@ public class JdbcActiveBuffRepository implements ActiveBuffRepository {
 
     @Override
     public void deleteExpired() {
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM active_buffs WHERE expires_at <= ?")) {
-            ps.setLong(1, System.currentTimeMillis());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM active_buffs WHERE expires_at <= ?")) {
+                    ps.setLong(1, System.currentTimeMillis());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete expired buffs", e);
         }
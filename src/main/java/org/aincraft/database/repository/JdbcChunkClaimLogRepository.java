@@ -41,21 +41,68 @@ public class JdbcChunkClaimLogRepository implements ChunkClaimLogRepository {
             VALUES (?, ?, ?, ?, ?, ?, ?)
             """;
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, entry.guildId().toString());
-            ps.setString(2, entry.chunk().world());
-            ps.setInt(3, entry.chunk().x());
-            ps.setInt(4, entry.chunk().z());
-            ps.setString(5, entry.playerId().toString());
-            ps.setString(6, entry.action().name());
-            ps.setLong(7, entry.timestamp());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, entry.guildId().toString());
+                    ps.setString(2, entry.chunk().world());
+                    ps.setInt(3, entry.chunk().x());
+                    ps.setInt(4, entry.chunk().z());
+                    ps.setString(5, entry.playerId().toString());
+                    ps.setString(6, entry.action().name());
+                    ps.setLong(7, entry.timestamp());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to log chunk claim action", e);
         }
     }
 
+    @Override
+    public void logAll(List<ChunkClaimLog> entries) {
+        Objects.requireNonNull(entries, "Log entries cannot be null");
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        String sql = """
+            INSERT INTO chunk_claim_logs
+            (guild_id, world, chunk_x, chunk_z, player_id, action, timestamp)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+        try {
+            connectionProvider.write(conn -> {
+                conn.setAutoCommit(false);
+
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    for (ChunkClaimLog entry : entries) {
+                        ps.setString(1, entry.guildId().toString());
+                        ps.setString(2, entry.chunk().world());
+                        ps.setInt(3, entry.chunk().x());
+                        ps.setInt(4, entry.chunk().z());
+                        ps.setString(5, entry.playerId().toString());
+                        ps.setString(6, entry.action().name());
+                        ps.setLong(7, entry.timestamp());
+                        ps.addBatch();
+                    }
+
+                    ps.executeBatch();
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to log chunk claim actions", e);
+        }
+    }
+
     @Override
     public List<ChunkClaimLog> findByGuildId(UUID guildId, int limit) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
@@ -149,10 +196,14 @@ public class JdbcChunkClaimLogRepository implements ChunkClaimLogRepository {
     public void deleteByGuildId(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM chunk_claim_logs WHERE guild_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM chunk_claim_logs WHERE guild_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete chunk claim logs", e);
         }
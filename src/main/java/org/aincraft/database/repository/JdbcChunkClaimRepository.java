@@ -7,6 +7,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,7 +15,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import org.aincraft.ChunkKey;
+import org.aincraft.PackedChunkKey;
+import org.aincraft.claim.NearbyClaim;
 import org.aincraft.database.ConnectionProvider;
+import org.aincraft.database.DatabaseType;
+import org.aincraft.database.Sql;
 import org.aincraft.map.ChunkClaimData;
 import org.aincraft.storage.ChunkClaimRepository;
 
@@ -25,10 +30,12 @@ import org.aincraft.storage.ChunkClaimRepository;
 @Singleton
 public class JdbcChunkClaimRepository implements ChunkClaimRepository {
     private final ConnectionProvider connectionProvider;
+    private final DatabaseType dbType;
 
     @Inject
     public JdbcChunkClaimRepository(ConnectionProvider connectionProvider) {
         this.connectionProvider = connectionProvider;
+        this.dbType = connectionProvider.getDatabaseType();
     }
 
     @Override
@@ -37,25 +44,19 @@ public class JdbcChunkClaimRepository implements ChunkClaimRepository {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
         Objects.requireNonNull(claimedBy, "Claimed by cannot be null");
 
-        if (getOwner(chunk).isPresent()) {
-            return false;
-        }
-
-        String sql = """
-            INSERT INTO guild_chunks (world, chunk_x, chunk_z, guild_id, claimed_at, claimed_by)
-            VALUES (?, ?, ?, ?, ?, ?)
-            """;
-
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, chunk.world());
-            ps.setInt(2, chunk.x());
-            ps.setInt(3, chunk.z());
-            ps.setString(4, guildId.toString());
-            ps.setLong(5, System.currentTimeMillis());
-            ps.setString(6, claimedBy.toString());
-            ps.executeUpdate();
-            return true;
+        // Single conditional insert: the primary key decides the race between concurrent claimers
+        try {
+            return connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(Sql.insertChunkClaimIfAbsent(dbType))) {
+                    ps.setString(1, chunk.world());
+                    ps.setInt(2, chunk.x());
+                    ps.setInt(3, chunk.z());
+                    ps.setString(4, guildId.toString());
+                    ps.setLong(5, System.currentTimeMillis());
+                    ps.setString(6, claimedBy.toString());
+                    return ps.executeUpdate() > 0;
+                }
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to claim chunk", e);
         }
@@ -66,21 +67,99 @@ public class JdbcChunkClaimRepository implements ChunkClaimRepository {
         Objects.requireNonNull(chunk, "Chunk cannot be null");
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        Optional<UUID> owner = getOwner(chunk);
-        if (owner.isEmpty() || !owner.get().equals(guildId)) {
-            return false;
+        try {
+            return connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(Sql.deleteGuildChunk())) {
+                    ps.setString(1, chunk.world());
+                    ps.setInt(2, chunk.x());
+                    ps.setInt(3, chunk.z());
+                    ps.setString(4, guildId.toString());
+                    return ps.executeUpdate() > 0;
+                }
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to unclaim chunk", e);
         }
+    }
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(
-                 "DELETE FROM guild_chunks WHERE world = ? AND chunk_x = ? AND chunk_z = ?")) {
-            ps.setString(1, chunk.world());
-            ps.setInt(2, chunk.x());
-            ps.setInt(3, chunk.z());
-            ps.executeUpdate();
-            return true;
+    @Override
+    public List<ChunkKey> claimChunks(Collection<ChunkKey> chunks, UUID guildId, UUID claimedBy) {
+        Objects.requireNonNull(chunks, "Chunks cannot be null");
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(claimedBy, "Claimed by cannot be null");
+
+        if (chunks.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        long claimedAt = System.currentTimeMillis();
+
+        try {
+            return connectionProvider.write(conn -> {
+                conn.setAutoCommit(false);
+                List<ChunkKey> claimed = new ArrayList<>();
+
+                // Per-row counts, unlike batch counts, stay exact on drivers that rewrite batches
+                try (PreparedStatement ps = conn.prepareStatement(Sql.insertChunkClaimIfAbsent(dbType))) {
+                    for (ChunkKey chunk : chunks) {
+                        ps.setString(1, chunk.world());
+                        ps.setInt(2, chunk.x());
+                        ps.setInt(3, chunk.z());
+                        ps.setString(4, guildId.toString());
+                        ps.setLong(5, claimedAt);
+                        ps.setString(6, claimedBy.toString());
+                        if (ps.executeUpdate() > 0) {
+                            claimed.add(chunk);
+                        }
+                    }
+
+                    conn.commit();
+                    return claimed;
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            });
         } catch (SQLException e) {
-            throw new RuntimeException("Failed to unclaim chunk", e);
+            throw new RuntimeException("Failed to claim chunks", e);
+        }
+    }
+
+    @Override
+    public List<ChunkKey> unclaimChunks(Collection<ChunkKey> chunks, UUID guildId) {
+        Objects.requireNonNull(chunks, "Chunks cannot be null");
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        if (chunks.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+
+        try {
+            return connectionProvider.write(conn -> {
+                conn.setAutoCommit(false);
+                List<ChunkKey> unclaimed = new ArrayList<>();
+
+                try (PreparedStatement ps = conn.prepareStatement(Sql.deleteGuildChunk())) {
+                    for (ChunkKey chunk : chunks) {
+                        ps.setString(1, chunk.world());
+                        ps.setInt(2, chunk.x());
+                        ps.setInt(3, chunk.z());
+                        ps.setString(4, guildId.toString());
+                        if (ps.executeUpdate() > 0) {
+                            unclaimed.add(chunk);
+                        }
+                    }
+
+                    conn.commit();
+                    return unclaimed;
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to unclaim chunks", e);
         }
     }
 
@@ -88,10 +167,14 @@ public class JdbcChunkClaimRepository implements ChunkClaimRepository {
     public void unclaimAll(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_chunks WHERE guild_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_chunks WHERE guild_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to unclaim all chunks", e);
         }
@@ -119,6 +202,11 @@ public class JdbcChunkClaimRepository implements ChunkClaimRepository {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<UUID> getOwner(long packedChunk) {
+        return getOwner(PackedChunkKey.toChunkKey(packedChunk));
+    }
+
     @Override
     public List<ChunkKey> getGuildChunks(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
@@ -163,6 +251,37 @@ public class JdbcChunkClaimRepository implements ChunkClaimRepository {
         return 0;
     }
 
+    @Override
+    public boolean hasAdjacentClaim(ChunkKey chunk, UUID guildId) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        String sql = """
+            SELECT 1 FROM guild_chunks
+            WHERE world = ? AND guild_id = ? AND (
+                (chunk_x = ? AND chunk_z = ?) OR (chunk_x = ? AND chunk_z = ?)
+                OR (chunk_x = ? AND chunk_z = ?) OR (chunk_x = ? AND chunk_z = ?))
+            """;
+
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, chunk.world());
+            ps.setString(2, guildId.toString());
+            ps.setInt(3, chunk.x() + 1);
+            ps.setInt(4, chunk.z());
+            ps.setInt(5, chunk.x() - 1);
+            ps.setInt(6, chunk.z());
+            ps.setInt(7, chunk.x());
+            ps.setInt(8, chunk.z() + 1);
+            ps.setInt(9, chunk.x());
+            ps.setInt(10, chunk.z() - 1);
+            ResultSet rs = ps.executeQuery();
+            return rs.next();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to check adjacent claims", e);
+        }
+    }
+
     @Override
     public Map<ChunkKey, ChunkClaimData> getOwnersForChunks(List<ChunkKey> chunks) {
         Objects.requireNonNull(chunks, "Chunks cannot be null");
@@ -214,4 +333,70 @@ public class JdbcChunkClaimRepository implements ChunkClaimRepository {
 
         return result;
     }
+
+    @Override
+    public Optional<NearbyClaim> findNearestForeignClaim(ChunkKey chunk, UUID excludedGuildId, int distance) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        Objects.requireNonNull(excludedGuildId, "Excluded guild ID cannot be null");
+
+        int radius = distance - 1;
+        if (radius < 0) {
+            return Optional.empty();
+        }
+
+        // Bounding box narrows the scan via the primary key; the diamond is checked below
+        String sql = """
+            SELECT chunk_x, chunk_z, guild_id FROM guild_chunks
+            WHERE world = ? AND chunk_x BETWEEN ? AND ? AND chunk_z BETWEEN ? AND ? AND guild_id <> ?
+            """;
+
+        NearbyClaim nearest = null;
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, chunk.world());
+            ps.setInt(2, chunk.x() - radius);
+            ps.setInt(3, chunk.x() + radius);
+            ps.setInt(4, chunk.z() - radius);
+            ps.setInt(5, chunk.z() + radius);
+            ps.setString(6, excludedGuildId.toString());
+            ResultSet rs = ps.executeQuery();
+
+            while (rs.next()) {
+                int x = rs.getInt("chunk_x");
+                int z = rs.getInt("chunk_z");
+                int manhattanDistance = Math.abs(x - chunk.x()) + Math.abs(z - chunk.z());
+                if (manhattanDistance < distance && (nearest == null || manhattanDistance < nearest.distance())) {
+                    nearest = new NearbyClaim(new ChunkKey(chunk.world(), x, z),
+                        UUID.fromString(rs.getString("guild_id")), manhattanDistance);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find nearby claims", e);
+        }
+
+        return Optional.ofNullable(nearest);
+    }
+
+    @Override
+    public Map<ChunkKey, UUID> getAllOwners() {
+        Map<ChunkKey, UUID> owners = new HashMap<>();
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                 "SELECT world, chunk_x, chunk_z, guild_id FROM guild_chunks")) {
+            ResultSet rs = ps.executeQuery();
+
+            while (rs.next()) {
+                ChunkKey key = new ChunkKey(
+                    rs.getString("world"),
+                    rs.getInt("chunk_x"),
+                    rs.getInt("chunk_z")
+                );
+                owners.put(key, UUID.fromString(rs.getString("guild_id")));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to load chunk owners", e);
+        }
+
+        return owners;
+    }
 }
@@ -41,15 +41,19 @@ public class JdbcGuildDefaultPermissionsRepository implements GuildDefaultPermis
 
         String sql = getUpsertSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, permissions.getGuildId());
-            ps.setInt(2, permissions.getAllyPermissions());
-            ps.setInt(3, permissions.getEnemyPermissions());
-            ps.setInt(4, permissions.getOutsiderPermissions());
-            ps.setLong(5, permissions.getCreatedAt());
-            ps.setLong(6, permissions.getUpdatedAt());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setObject(1, permissions.getGuildId());
+                    ps.setInt(2, permissions.getAllyPermissions());
+                    ps.setInt(3, permissions.getEnemyPermissions());
+                    ps.setInt(4, permissions.getOutsiderPermissions());
+                    ps.setLong(5, permissions.getCreatedAt());
+                    ps.setLong(6, permissions.getUpdatedAt());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save guild default permissions", e);
         }
@@ -109,11 +113,15 @@ public class JdbcGuildDefaultPermissionsRepository implements GuildDefaultPermis
     public void delete(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(
-                 "DELETE FROM guild_default_permissions WHERE guild_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(
+                         "DELETE FROM guild_default_permissions WHERE guild_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete guild default permissions", e);
         }
@@ -37,15 +37,17 @@ public class JdbcGuildDefaultRoleAssignmentRepository implements GuildDefaultRol
     public boolean save(GuildDefaultRoleAssignment assignment) {
         Objects.requireNonNull(assignment, "Assignment cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(Sql.upsertGuildDefaultRoleAssignment(dbType))) {
-
-            stmt.setString(1, assignment.getGuildId().toString());
-            stmt.setString(2, assignment.getSubjectType().name());
-            stmt.setString(3, assignment.getRoleId());
-
-            stmt.executeUpdate();
-            return true;
+        try {
+            return connectionProvider.write(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(Sql.upsertGuildDefaultRoleAssignment(dbType))) {
+                    stmt.setString(1, assignment.getGuildId().toString());
+                    stmt.setString(2, assignment.getSubjectType().name());
+                    stmt.setString(3, assignment.getRoleId());
+
+                    stmt.executeUpdate();
+                    return true;
+                }
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save default role assignment", e);
         }
@@ -102,14 +104,16 @@ public class JdbcGuildDefaultRoleAssignmentRepository implements GuildDefaultRol
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
         Objects.requireNonNull(subjectType, "Subject type cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(Sql.deleteGuildDefaultRoleAssignment(dbType))) {
+        try {
+            return connectionProvider.write(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(Sql.deleteGuildDefaultRoleAssignment(dbType))) {
+                    stmt.setString(1, guildId.toString());
+                    stmt.setString(2, subjectType.name());
 
-            stmt.setString(1, guildId.toString());
-            stmt.setString(2, subjectType.name());
-
-            stmt.executeUpdate();
-            return true;
+                    stmt.executeUpdate();
+                    return true;
+                }
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete default role assignment", e);
         }
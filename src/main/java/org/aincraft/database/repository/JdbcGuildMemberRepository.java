@@ -7,7 +7,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,36 +36,55 @@ public class JdbcGuildMemberRepository implements GuildMemberRepository {
     }
 
     @Override
-    public void addMember(UUID guildId, UUID playerId, MemberPermissions permissions) {
+    public boolean addMember(UUID guildId, UUID playerId, MemberPermissions permissions) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
         Objects.requireNonNull(playerId, "Player ID cannot be null");
         Objects.requireNonNull(permissions, "Permissions cannot be null");
 
-        String sql = Sql.upsertGuildMember(dbType);
-
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, guildId.toString());
-            ps.setString(2, playerId.toString());
-            ps.setInt(3, permissions.getBitfield());
-            ps.setLong(4, System.currentTimeMillis());
-            ps.executeUpdate();
+        long joinedAt = System.currentTimeMillis();
+
+        // Conditional insert first, so the row count tells a new member from an existing one
+        try {
+            return connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(Sql.insertGuildMemberIfAbsent(dbType))) {
+                    ps.setString(1, guildId.toString());
+                    ps.setString(2, playerId.toString());
+                    ps.setInt(3, permissions.getBitfield());
+                    ps.setLong(4, joinedAt);
+                    if (ps.executeUpdate() > 0) {
+                        return true;
+                    }
+                }
+
+                try (PreparedStatement ps = conn.prepareStatement(
+                         "UPDATE guild_members SET permissions = ?, joined_at = ? WHERE guild_id = ? AND player_id = ?")) {
+                    ps.setInt(1, permissions.getBitfield());
+                    ps.setLong(2, joinedAt);
+                    ps.setString(3, guildId.toString());
+                    ps.setString(4, playerId.toString());
+                    ps.executeUpdate();
+                }
+                return false;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to add guild member", e);
         }
     }
 
     @Override
-    public void removeMember(UUID guildId, UUID playerId) {
+    public boolean removeMember(UUID guildId, UUID playerId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
         Objects.requireNonNull(playerId, "Player ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(
-                 "DELETE FROM guild_members WHERE guild_id = ? AND player_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.setString(2, playerId.toString());
-            ps.executeUpdate();
+        try {
+            return connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(
+                         "DELETE FROM guild_members WHERE guild_id = ? AND player_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.setString(2, playerId.toString());
+                    return ps.executeUpdate() > 0;
+                }
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to remove guild member", e);
         }
@@ -73,10 +94,14 @@ public class JdbcGuildMemberRepository implements GuildMemberRepository {
     public void removeAllMembers(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_members WHERE guild_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_members WHERE guild_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to remove all guild members", e);
         }
@@ -110,13 +135,17 @@ public class JdbcGuildMemberRepository implements GuildMemberRepository {
         Objects.requireNonNull(playerId, "Player ID cannot be null");
         Objects.requireNonNull(permissions, "Permissions cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(
-                 "UPDATE guild_members SET permissions = ? WHERE guild_id = ? AND player_id = ?")) {
-            ps.setInt(1, permissions.getBitfield());
-            ps.setString(2, guildId.toString());
-            ps.setString(3, playerId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(
+                         "UPDATE guild_members SET permissions = ? WHERE guild_id = ? AND player_id = ?")) {
+                    ps.setInt(1, permissions.getBitfield());
+                    ps.setString(2, guildId.toString());
+                    ps.setString(3, playerId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to set member permissions", e);
         }
@@ -167,4 +196,23 @@ public class JdbcGuildMemberRepository implements GuildMemberRepository {
 
         return Optional.empty();
     }
+
+    @Override
+    public Map<UUID, Integer> getMemberCounts() {
+        Map<UUID, Integer> counts = new HashMap<>();
+
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                 "SELECT guild_id, COUNT(*) AS member_count FROM guild_members GROUP BY guild_id")) {
+            ResultSet rs = ps.executeQuery();
+
+            while (rs.next()) {
+                counts.put(UUID.fromString(rs.getString("guild_id")), rs.getInt("member_count"));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to get member counts", e);
+        }
+
+        return counts;
+    }
 }
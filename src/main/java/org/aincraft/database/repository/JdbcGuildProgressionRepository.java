@@ -7,7 +7,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -15,6 +19,7 @@ import java.util.UUID;
 import org.aincraft.database.ConnectionProvider;
 import org.aincraft.database.DatabaseType;
 import org.aincraft.progression.GuildProgression;
+import org.aincraft.progression.ProgressionLog;
 import org.aincraft.progression.storage.GuildProgressionRepository;
 
 /**
@@ -24,11 +29,14 @@ import org.aincraft.progression.storage.GuildProgressionRepository;
 @Singleton
 public class JdbcGuildProgressionRepository implements GuildProgressionRepository {
     private final ConnectionProvider connectionProvider;
+    private final JdbcProgressionLogRepository logRepository;
     private final DatabaseType dbType;
 
     @Inject
-    public JdbcGuildProgressionRepository(ConnectionProvider connectionProvider) {
+    public JdbcGuildProgressionRepository(ConnectionProvider connectionProvider,
+                                          JdbcProgressionLogRepository logRepository) {
         this.connectionProvider = connectionProvider;
+        this.logRepository = Objects.requireNonNull(logRepository, "Log repository cannot be null");
         this.dbType = connectionProvider.getDatabaseType();
     }
 
@@ -38,25 +46,100 @@ public class JdbcGuildProgressionRepository implements GuildProgressionRepositor
 
         String sql = getUpsertSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, progression.getGuildId());
-            ps.setInt(2, progression.getLevel());
-            ps.setLong(3, progression.getCurrentXp());
-            ps.setLong(4, progression.getTotalXpEarned());
-
-            if (progression.getLastLevelupTime() != null) {
-                ps.setLong(5, progression.getLastLevelupTime());
-            } else {
-                ps.setNull(5, Types.BIGINT);
-            }
-
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    bindProgression(ps, progression);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save guild progression", e);
         }
     }
 
+    @Override
+    public void saveAll(Collection<GuildProgression> progressions) {
+        Objects.requireNonNull(progressions, "Progressions cannot be null");
+
+        if (progressions.isEmpty()) {
+            return;
+        }
+
+        try {
+            connectionProvider.write(conn -> {
+                conn.setAutoCommit(false);
+
+                try {
+                    upsertAll(conn, progressions);
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to save guild progressions", e);
+        }
+    }
+
+    @Override
+    public void saveXpGains(Collection<GuildProgression> progressions,
+                            Map<UUID, Map<UUID, Long>> contributions,
+                            List<ProgressionLog> logs) {
+        Objects.requireNonNull(progressions, "Progressions cannot be null");
+        Objects.requireNonNull(contributions, "Contributions cannot be null");
+        Objects.requireNonNull(logs, "Log entries cannot be null");
+
+        try {
+            connectionProvider.write(conn -> {
+                conn.setAutoCommit(false);
+
+                try {
+                    upsertAll(conn, progressions);
+                    addContributions(conn, contributions);
+                    logRepository.insertAll(conn, logs);
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to save guild XP gains", e);
+        }
+    }
+
+    private void upsertAll(Connection conn, Collection<GuildProgression> progressions) throws SQLException {
+        if (progressions.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement ps = conn.prepareStatement(getUpsertSql())) {
+            for (GuildProgression progression : progressions) {
+                bindProgression(ps, progression);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void bindProgression(PreparedStatement ps, GuildProgression progression) throws SQLException {
+        ps.setObject(1, progression.getGuildId());
+        ps.setInt(2, progression.getLevel());
+        ps.setLong(3, progression.getCurrentXp());
+        ps.setLong(4, progression.getTotalXpEarned());
+
+        if (progression.getLastLevelupTime() != null) {
+            ps.setLong(5, progression.getLastLevelupTime());
+        } else {
+            ps.setNull(5, Types.BIGINT);
+        }
+    }
+
     private String getUpsertSql() {
         return switch (dbType) {
             case SQLITE -> """
@@ -103,14 +186,36 @@ public class JdbcGuildProgressionRepository implements GuildProgressionRepositor
         return Optional.empty();
     }
 
+    @Override
+    public List<GuildProgression> findAll() {
+        List<GuildProgression> progressions = new ArrayList<>();
+
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT * FROM guild_progression")) {
+            ResultSet rs = ps.executeQuery();
+
+            while (rs.next()) {
+                progressions.add(mapRowToProgression(rs));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find guild progressions", e);
+        }
+
+        return progressions;
+    }
+
     @Override
     public void delete(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_progression WHERE guild_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_progression WHERE guild_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete guild progression", e);
         }
@@ -127,18 +232,71 @@ public class JdbcGuildProgressionRepository implements GuildProgressionRepositor
 
         String sql = getRecordContributionSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, guildId.toString());
-            ps.setString(2, playerId.toString());
-            ps.setLong(3, xpAmount);
-            ps.setLong(4, System.currentTimeMillis());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, guildId.toString());
+                    ps.setString(2, playerId.toString());
+                    ps.setLong(3, xpAmount);
+                    ps.setLong(4, System.currentTimeMillis());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to record XP contribution", e);
         }
     }
 
+    @Override
+    public void recordContributions(Map<UUID, Map<UUID, Long>> contributions) {
+        Objects.requireNonNull(contributions, "Contributions cannot be null");
+
+        if (contributions.isEmpty()) {
+            return;
+        }
+
+        try {
+            connectionProvider.write(conn -> {
+                conn.setAutoCommit(false);
+
+                try {
+                    addContributions(conn, contributions);
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to record XP contributions", e);
+        }
+    }
+
+    private void addContributions(Connection conn, Map<UUID, Map<UUID, Long>> contributions) throws SQLException {
+        if (contributions.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try (PreparedStatement ps = conn.prepareStatement(getRecordContributionSql())) {
+            for (Map.Entry<UUID, Map<UUID, Long>> guild : contributions.entrySet()) {
+                for (Map.Entry<UUID, Long> player : guild.getValue().entrySet()) {
+                    if (player.getValue() <= 0) {
+                        continue;
+                    }
+                    ps.setString(1, guild.getKey().toString());
+                    ps.setString(2, player.getKey().toString());
+                    ps.setLong(3, player.getValue());
+                    ps.setLong(4, now);
+                    ps.addBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
     private String getRecordContributionSql() {
         return switch (dbType) {
             case SQLITE -> """
@@ -207,6 +365,33 @@ public class JdbcGuildProgressionRepository implements GuildProgressionRepositor
         return contributors;
     }
 
+    @Override
+    public Map<UUID, Long> getContributions(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        String sql = """
+            SELECT player_id, total_xp_contributed
+            FROM guild_xp_contributions
+            WHERE guild_id = ?
+            """;
+
+        Map<UUID, Long> contributions = new HashMap<>();
+
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, guildId.toString());
+            ResultSet rs = ps.executeQuery();
+
+            while (rs.next()) {
+                contributions.put(UUID.fromString(rs.getString("player_id")), rs.getLong("total_xp_contributed"));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to get contributions", e);
+        }
+
+        return contributions;
+    }
+
     @Override
     public long getPlayerContribution(UUID guildId, UUID playerId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
@@ -238,10 +423,14 @@ public class JdbcGuildProgressionRepository implements GuildProgressionRepositor
     public void deleteContributions(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_xp_contributions WHERE guild_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_xp_contributions WHERE guild_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete contributions", e);
         }
@@ -47,47 +47,50 @@ public class JdbcGuildProjectPoolRepository implements GuildProjectPoolRepositor
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
         Objects.requireNonNull(projects, "Projects cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection()) {
-            conn.setAutoCommit(false);
-            try {
-                // Delete old pool entries for this guild
-                try (PreparedStatement ps = conn.prepareStatement(Sql.deleteGuildProjectPool(dbType))) {
-                    ps.setString(1, guildId.toString());
-                    ps.executeUpdate();
-                }
+        try {
+            connectionProvider.write(conn -> {
+                conn.setAutoCommit(false);
+                try {
+                    // Delete old pool entries for this guild
+                    try (PreparedStatement ps = conn.prepareStatement(Sql.deleteGuildProjectPool(dbType))) {
+                        ps.setString(1, guildId.toString());
+                        ps.executeUpdate();
+                    }
 
-                // Insert new pool entries (batch insert)
-                String insertSql = Sql.insertGuildProjectPool(dbType);
-                try (PreparedStatement ps = conn.prepareStatement(insertSql)) {
-                    long createdAt = System.currentTimeMillis();
-
-                    for (ProjectDefinition project : projects) {
-                        ps.setString(1, UUID.randomUUID().toString()); // Unique ID for pool entry
-                        ps.setString(2, guildId.toString());
-                        ps.setString(3, project.id());
-                        ps.setString(4, project.name());
-                        ps.setString(5, project.description());
-                        ps.setString(6, project.buffType().name());
-                        ps.setString(7, project.buff().categoryId());
-                        ps.setDouble(8, project.buff().value());
-                        ps.setString(9, project.buff().displayName());
-                        ps.setLong(10, project.buffDurationMillis());
-                        ps.setString(11, serializeMaterials(project.materials()));
-                        ps.setInt(12, project.requiredLevel());
-                        ps.setLong(13, createdAt);
-                        ps.setLong(14, poolGenerationTime);
-
-                        ps.addBatch();
+                    // Insert new pool entries (batch insert)
+                    String insertSql = Sql.insertGuildProjectPool(dbType);
+                    try (PreparedStatement ps = conn.prepareStatement(insertSql)) {
+                        long createdAt = System.currentTimeMillis();
+
+                        for (ProjectDefinition project : projects) {
+                            ps.setString(1, UUID.randomUUID().toString()); // Unique ID for pool entry
+                            ps.setString(2, guildId.toString());
+                            ps.setString(3, project.id());
+                            ps.setString(4, project.name());
+                            ps.setString(5, project.description());
+                            ps.setString(6, project.buffType().name());
+                            ps.setString(7, project.buff().categoryId());
+                            ps.setDouble(8, project.buff().value());
+                            ps.setString(9, project.buff().displayName());
+                            ps.setLong(10, project.buffDurationMillis());
+                            ps.setString(11, serializeMaterials(project.materials()));
+                            ps.setInt(12, project.requiredLevel());
+                            ps.setLong(13, createdAt);
+                            ps.setLong(14, poolGenerationTime);
+
+                            ps.addBatch();
+                        }
+
+                        ps.executeBatch();
                     }
 
-                    ps.executeBatch();
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw new RuntimeException("Failed to save project pool for guild " + guildId, e);
                 }
-
-                conn.commit();
-            } catch (SQLException e) {
-                conn.rollback();
-                throw new RuntimeException("Failed to save project pool for guild " + guildId, e);
-            }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save project pool", e);
         }
@@ -119,10 +122,14 @@ public class JdbcGuildProjectPoolRepository implements GuildProjectPoolRepositor
     public void deletePoolByGuildId(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(Sql.deleteGuildProjectPool(dbType))) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(Sql.deleteGuildProjectPool(dbType))) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete project pool for guild " + guildId, e);
         }
@@ -156,25 +163,28 @@ public class JdbcGuildProjectPoolRepository implements GuildProjectPoolRepositor
     public void setGuildCreatedAt(UUID guildId, long timestamp) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection()) {
-            String sql = Sql.updateGuildCreatedAt(dbType);
-
-            if (dbType == DatabaseType.H2) {
-                // H2 requires special handling
-                sql = """
-                    MERGE INTO guild_project_pool_seed AS t
-                    USING (VALUES (?, ?, 0)) AS s(guild_id, guild_created_at, seed)
-                    ON t.guild_id = s.guild_id
-                    WHEN MATCHED THEN UPDATE SET guild_created_at = s.guild_created_at
-                    WHEN NOT MATCHED THEN INSERT (guild_id, guild_created_at, seed) VALUES (s.guild_id, s.guild_created_at, s.seed)
-                    """;
-            }
+        try {
+            connectionProvider.write(conn -> {
+                String sql = Sql.updateGuildCreatedAt(dbType);
+
+                if (dbType == DatabaseType.H2) {
+                    // H2 requires special handling
+                    sql = """
+                        MERGE INTO guild_project_pool_seed AS t
+                        USING (VALUES (?, ?, 0)) AS s(guild_id, guild_created_at, seed)
+                        ON t.guild_id = s.guild_id
+                        WHEN MATCHED THEN UPDATE SET guild_created_at = s.guild_created_at
+                        WHEN NOT MATCHED THEN INSERT (guild_id, guild_created_at, seed) VALUES (s.guild_id, s.guild_created_at, s.seed)
+                        """;
+                }
 
-            try (PreparedStatement ps = conn.prepareStatement(sql)) {
-                ps.setString(1, guildId.toString());
-                ps.setLong(2, timestamp);
-                ps.executeUpdate();
-            }
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, guildId.toString());
+                    ps.setLong(2, timestamp);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to set guild created_at for guild " + guildId, e);
         }
@@ -47,28 +47,31 @@ public class JdbcGuildProjectRepository implements GuildProjectRepository {
 
         String sql = getUpsertSql();
 
-        try (Connection conn = connectionProvider.getConnection()) {
-            conn.setAutoCommit(false);
-            try (PreparedStatement ps = conn.prepareStatement(sql)) {
-                ps.setString(1, project.getId());
-                ps.setObject(2, project.getGuildId());
-                ps.setString(3, project.getProjectDefinitionId());
-                ps.setString(4, project.getStatus().name());
-                ps.setLong(5, project.getStartedAt());
-
-                if (project.getCompletedAt() != null) {
-                    ps.setLong(6, project.getCompletedAt());
-                } else {
-                    ps.setNull(6, Types.BIGINT);
+        try {
+            connectionProvider.write(conn -> {
+                conn.setAutoCommit(false);
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, project.getId());
+                    ps.setObject(2, project.getGuildId());
+                    ps.setString(3, project.getProjectDefinitionId());
+                    ps.setString(4, project.getStatus().name());
+                    ps.setLong(5, project.getStartedAt());
+
+                    if (project.getCompletedAt() != null) {
+                        ps.setLong(6, project.getCompletedAt());
+                    } else {
+                        ps.setNull(6, Types.BIGINT);
+                    }
+
+                    ps.executeUpdate();
                 }
 
-                ps.executeUpdate();
-            }
-
-            saveQuestProgress(conn, project);
-            saveMaterialContributions(conn, project);
+                saveQuestProgress(conn, project);
+                saveMaterialContributions(conn, project);
 
-            conn.commit();
+                conn.commit();
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save guild project", e);
         }
@@ -211,10 +214,14 @@ public class JdbcGuildProjectRepository implements GuildProjectRepository {
     public void delete(String projectId) {
         Objects.requireNonNull(projectId, "Project ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_projects WHERE id = ?")) {
-            ps.setString(1, projectId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_projects WHERE id = ?")) {
+                    ps.setString(1, projectId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete project", e);
         }
@@ -224,10 +231,14 @@ public class JdbcGuildProjectRepository implements GuildProjectRepository {
     public void deleteByGuildId(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_projects WHERE guild_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_projects WHERE guild_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete projects by guild", e);
         }
@@ -240,12 +251,16 @@ public class JdbcGuildProjectRepository implements GuildProjectRepository {
 
         String sql = getUpsertQuestProgressSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, projectId);
-            ps.setString(2, questId);
-            ps.setLong(3, newCount);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, projectId);
+                    ps.setString(2, questId);
+                    ps.setLong(3, newCount);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to update quest progress", e);
         }
@@ -316,19 +331,43 @@ public class JdbcGuildProjectRepository implements GuildProjectRepository {
 
         String sql = "UPDATE guild_projects SET status = ?, completed_at = ? WHERE id = ?";
 
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, status.name());
+                    if (completedAt != null) {
+                        ps.setLong(2, completedAt);
+                    } else {
+                        ps.setNull(2, Types.BIGINT);
+                    }
+                    ps.setString(3, projectId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to update project status", e);
+        }
+    }
+
+    @Override
+    public Map<UUID, Integer> countCompletedByGuild() {
+        String sql = "SELECT guild_id, COUNT(*) AS completed FROM guild_projects WHERE status = ? GROUP BY guild_id";
+        Map<UUID, Integer> counts = new HashMap<>();
+
         try (Connection conn = connectionProvider.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, status.name());
-            if (completedAt != null) {
-                ps.setLong(2, completedAt);
-            } else {
-                ps.setNull(2, Types.BIGINT);
+            ps.setString(1, ProjectStatus.COMPLETED.name());
+            ResultSet rs = ps.executeQuery();
+
+            while (rs.next()) {
+                counts.put(UUID.fromString(rs.getString("guild_id")), rs.getInt("completed"));
             }
-            ps.setString(3, projectId);
-            ps.executeUpdate();
         } catch (SQLException e) {
-            throw new RuntimeException("Failed to update project status", e);
+            throw new RuntimeException("Failed to count completed projects", e);
         }
+
+        return counts;
     }
 
     @Override
@@ -357,14 +396,18 @@ public class JdbcGuildProjectRepository implements GuildProjectRepository {
         String sql = getIncrementPoolSeedSql();
         long currentTime = System.currentTimeMillis();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, guildId.toString());
-            ps.setLong(2, currentTime);
-            if (dbType == DatabaseType.H2) {
-                ps.setLong(3, currentTime);
-            }
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, guildId.toString());
+                    ps.setLong(2, currentTime);
+                    if (dbType == DatabaseType.H2) {
+                        ps.setLong(3, currentTime);
+                    }
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to increment pool seed", e);
         }
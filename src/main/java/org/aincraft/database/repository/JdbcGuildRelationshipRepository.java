@@ -39,16 +39,20 @@ public class JdbcGuildRelationshipRepository implements GuildRelationshipReposit
 
         String sql = getUpsertSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, relationship.getId());
-            ps.setString(2, relationship.getSourceGuildId().toString());
-            ps.setString(3, relationship.getTargetGuildId().toString());
-            ps.setString(4, relationship.getRelationType().name());
-            ps.setString(5, relationship.getStatus().name());
-            ps.setLong(6, relationship.getCreatedAt());
-            ps.setString(7, relationship.getCreatedBy().toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, relationship.getId());
+                    ps.setString(2, relationship.getSourceGuildId().toString());
+                    ps.setString(3, relationship.getTargetGuildId().toString());
+                    ps.setString(4, relationship.getRelationType().name());
+                    ps.setString(5, relationship.getStatus().name());
+                    ps.setLong(6, relationship.getCreatedAt());
+                    ps.setString(7, relationship.getCreatedBy().toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save guild relationship", e);
         }
@@ -87,10 +91,14 @@ public class JdbcGuildRelationshipRepository implements GuildRelationshipReposit
     public void delete(String relationshipId) {
         Objects.requireNonNull(relationshipId, "Relationship ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_relationships WHERE id = ?")) {
-            ps.setString(1, relationshipId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_relationships WHERE id = ?")) {
+                    ps.setString(1, relationshipId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete guild relationship", e);
         }
@@ -208,17 +216,47 @@ public class JdbcGuildRelationshipRepository implements GuildRelationshipReposit
         }
     }
 
+    @Override
+    public List<GuildRelationship> findAllByType(RelationType type, RelationStatus status) {
+        Objects.requireNonNull(type, "Relation type cannot be null");
+        Objects.requireNonNull(status, "Status cannot be null");
+
+        String sql = "SELECT * FROM guild_relationships WHERE relation_type = ? AND status = ?";
+
+        List<GuildRelationship> relationships = new ArrayList<>();
+
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, type.name());
+            ps.setString(2, status.name());
+
+            ResultSet rs = ps.executeQuery();
+
+            while (rs.next()) {
+                relationships.add(mapResultSet(rs));
+            }
+
+            return relationships;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find all relationships by type", e);
+        }
+    }
+
     @Override
     public void deleteAllByGuild(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
         String sql = "DELETE FROM guild_relationships WHERE source_guild_id = ? OR target_guild_id = ?";
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, guildId.toString());
-            ps.setString(2, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, guildId.toString());
+                    ps.setString(2, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete all relationships for guild", e);
         }
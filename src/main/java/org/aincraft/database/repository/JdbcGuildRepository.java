@@ -7,7 +7,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -26,6 +26,16 @@ import org.aincraft.storage.GuildRepository;
  */
 @Singleton
 public class JdbcGuildRepository implements GuildRepository {
+    private static final String SELECT_GUILD = """
+        SELECT id, name, description, owner_id, created_at, max_members,
+               spawn_world, spawn_x, spawn_y, spawn_z, spawn_yaw, spawn_pitch, color,
+               homeblock_world, homeblock_chunk_x, homeblock_chunk_z,
+               allow_explosions, allow_fire, is_public
+        FROM guilds
+        """;
+    private static final int MAX_IDS_PER_QUERY = 500;
+    private static final String LEGACY_MEMBERS = "";
+
     private final ConnectionProvider connectionProvider;
     private final DatabaseType dbType;
 
@@ -39,37 +49,39 @@ public class JdbcGuildRepository implements GuildRepository {
     public void save(Guild guild) {
         Objects.requireNonNull(guild, "Guild cannot be null");
 
-        String membersJson = serializeMembers(guild.getMembers());
         String sql = Sql.upsertGuild(dbType);
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, guild.getId().toString());
-            ps.setString(2, guild.getName());
-            ps.setString(3, guild.getDescription());
-            ps.setString(4, guild.getOwnerId().toString());
-            ps.setLong(5, guild.getCreatedAt());
-            ps.setInt(6, guild.getMaxMembers());
-            ps.setString(7, membersJson);
-            ps.setString(8, guild.getSpawnWorld());
-            ps.setObject(9, guild.getSpawnX());
-            ps.setObject(10, guild.getSpawnY());
-            ps.setObject(11, guild.getSpawnZ());
-            ps.setObject(12, guild.getSpawnYaw());
-            ps.setObject(13, guild.getSpawnPitch());
-            ps.setString(14, guild.getColor());
-
-            ChunkKey homeblock = guild.getHomeblock();
-            ps.setString(15, homeblock != null ? homeblock.world() : null);
-            ps.setObject(16, homeblock != null ? homeblock.x() : null);
-            ps.setObject(17, homeblock != null ? homeblock.z() : null);
-
-            setBoolean(ps, 18, guild.isExplosionsAllowed());
-            setBoolean(ps, 19, guild.isFireAllowed());
-            setBoolean(ps, 20, guild.isPublic());
-
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, guild.getId().toString());
+                    ps.setString(2, guild.getName());
+                    ps.setString(3, guild.getDescription());
+                    ps.setString(4, guild.getOwnerId().toString());
+                    ps.setLong(5, guild.getCreatedAt());
+                    ps.setInt(6, guild.getMaxMembers());
+                    ps.setString(7, LEGACY_MEMBERS); // Membership is stored row-per-member in guild_members
+                    ps.setString(8, guild.getSpawnWorld());
+                    ps.setObject(9, guild.getSpawnX());
+                    ps.setObject(10, guild.getSpawnY());
+                    ps.setObject(11, guild.getSpawnZ());
+                    ps.setObject(12, guild.getSpawnYaw());
+                    ps.setObject(13, guild.getSpawnPitch());
+                    ps.setString(14, guild.getColor());
+
+                    ChunkKey homeblock = guild.getHomeblock();
+                    ps.setString(15, homeblock != null ? homeblock.world() : null);
+                    ps.setObject(16, homeblock != null ? homeblock.x() : null);
+                    ps.setObject(17, homeblock != null ? homeblock.z() : null);
+
+                    setBoolean(ps, 18, guild.isExplosionsAllowed());
+                    setBoolean(ps, 19, guild.isFireAllowed());
+                    setBoolean(ps, 20, guild.isPublic());
+
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save guild", e);
         }
@@ -79,10 +91,14 @@ public class JdbcGuildRepository implements GuildRepository {
     public void delete(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guilds WHERE id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guilds WHERE id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete guild", e);
         }
@@ -93,7 +109,7 @@ public class JdbcGuildRepository implements GuildRepository {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
         try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("SELECT * FROM guilds WHERE id = ?")) {
+             PreparedStatement ps = conn.prepareStatement(SELECT_GUILD + "WHERE id = ?")) {
             ps.setString(1, guildId.toString());
             ResultSet rs = ps.executeQuery();
 
@@ -112,7 +128,7 @@ public class JdbcGuildRepository implements GuildRepository {
         Objects.requireNonNull(name, "Guild name cannot be null");
 
         try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("SELECT * FROM guilds WHERE LOWER(name) = LOWER(?)")) {
+             PreparedStatement ps = conn.prepareStatement(SELECT_GUILD + "WHERE LOWER(name) = LOWER(?)")) {
             ps.setString(1, name);
             ResultSet rs = ps.executeQuery();
 
@@ -131,7 +147,7 @@ public class JdbcGuildRepository implements GuildRepository {
         List<Guild> guilds = new ArrayList<>();
 
         try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("SELECT * FROM guilds");
+             PreparedStatement ps = conn.prepareStatement(SELECT_GUILD);
              ResultSet rs = ps.executeQuery()) {
 
             while (rs.next()) {
@@ -144,6 +160,36 @@ public class JdbcGuildRepository implements GuildRepository {
         return Collections.unmodifiableList(guilds);
     }
 
+    @Override
+    public List<Guild> findAllById(Collection<UUID> guildIds) {
+        Objects.requireNonNull(guildIds, "Guild IDs cannot be null");
+
+        List<UUID> ids = List.copyOf(guildIds);
+        List<Guild> guilds = new ArrayList<>(ids.size());
+
+        try (Connection conn = connectionProvider.getConnection()) {
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+                List<UUID> batch = ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size()));
+                String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+
+                try (PreparedStatement ps = conn.prepareStatement(SELECT_GUILD + "WHERE id IN (" + placeholders + ")")) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        ps.setString(i + 1, batch.get(i).toString());
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            guilds.add(mapRowToGuild(rs));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find guilds by ID", e);
+        }
+
+        return Collections.unmodifiableList(guilds);
+    }
+
     private Guild mapRowToGuild(ResultSet rs) throws SQLException {
         String idStr = rs.getString("id");
         String name = rs.getString("name");
@@ -151,20 +197,19 @@ public class JdbcGuildRepository implements GuildRepository {
         String ownerIdStr = rs.getString("owner_id");
         long createdAt = rs.getLong("created_at");
         int maxMembers = rs.getInt("max_members");
-        String membersJson = rs.getString("members");
         String color = rs.getString("color");
 
         try {
             UUID id = UUID.fromString(idStr);
             UUID ownerId = UUID.fromString(ownerIdStr);
 
-            java.util.Optional<Guild> guildOpt = Guild.restore(id, name, description, ownerId, createdAt, maxMembers, color);
+            java.util.Optional<Guild> guildOpt = Guild.restore(id, name, description, ownerId, createdAt, maxMembers, color,
+                () -> findMemberIds(id));
             if (guildOpt.isEmpty()) {
                 throw new SQLException("Failed to create guild from database row - validation failed");
             }
 
             Guild guild = guildOpt.get();
-            restoreMembers(guild, membersJson);
             restoreSpawn(guild, rs);
             restoreHomeblock(guild, rs);
 
@@ -178,20 +223,6 @@ public class JdbcGuildRepository implements GuildRepository {
         }
     }
 
-    private void restoreMembers(Guild guild, String membersJson) throws SQLException {
-        try {
-            List<UUID> members = deserializeMembers(membersJson);
-            var membersField = Guild.class.getDeclaredField("members");
-            membersField.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            List<UUID> guildMembers = (List<UUID>) membersField.get(guild);
-            guildMembers.clear();
-            guildMembers.addAll(members);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new SQLException("Failed to restore guild members", e);
-        }
-    }
-
     private void restoreSpawn(Guild guild, ResultSet rs) throws SQLException {
         String spawnWorld = rs.getString("spawn_world");
         if (spawnWorld != null) {
@@ -215,20 +246,23 @@ public class JdbcGuildRepository implements GuildRepository {
         }
     }
 
-    private String serializeMembers(List<UUID> members) {
-        return members.stream()
-            .map(UUID::toString)
-            .reduce((a, b) -> a + "," + b)
-            .orElse("");
-    }
+    private List<UUID> findMemberIds(UUID guildId) {
+        List<UUID> members = new ArrayList<>();
 
-    private List<UUID> deserializeMembers(String membersJson) {
-        if (membersJson == null || membersJson.isEmpty()) {
-            return new ArrayList<>();
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                 "SELECT player_id FROM guild_members WHERE guild_id = ? ORDER BY joined_at")) {
+            ps.setString(1, guildId.toString());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    members.add(UUID.fromString(rs.getString("player_id")));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to load guild members", e);
         }
-        return new ArrayList<>(Arrays.stream(membersJson.split(","))
-            .map(UUID::fromString)
-            .toList());
+
+        return members;
     }
 
     private void setBoolean(PreparedStatement ps, int index, boolean value) throws SQLException {
@@ -37,18 +37,22 @@ public class JdbcGuildRoleRepository implements GuildRoleRepository {
 
         String sql = getUpsertSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, role.getId());
-            ps.setString(2, role.getGuildId().toString());
-            ps.setString(3, role.getName());
-            ps.setInt(4, role.getPermissions());
-            ps.setInt(5, role.getPriority());
-            ps.setString(6, null); // prefix - unused for now
-            ps.setString(7, null); // color - unused for now
-            ps.setString(8, role.getCreatedBy() != null ? role.getCreatedBy().toString() : null);
-            ps.setObject(9, role.getCreatedAt()); // handles null
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, role.getId());
+                    ps.setString(2, role.getGuildId().toString());
+                    ps.setString(3, role.getName());
+                    ps.setInt(4, role.getPermissions());
+                    ps.setInt(5, role.getPriority());
+                    ps.setString(6, null); // prefix - unused for now
+                    ps.setString(7, null); // color - unused for now
+                    ps.setString(8, role.getCreatedBy() != null ? role.getCreatedBy().toString() : null);
+                    ps.setObject(9, role.getCreatedAt()); // handles null
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save guild role", e);
         }
@@ -62,10 +66,14 @@ public class JdbcGuildRoleRepository implements GuildRoleRepository {
     public void delete(String roleId) {
         Objects.requireNonNull(roleId, "Role ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_roles WHERE id = ?")) {
-            ps.setString(1, roleId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_roles WHERE id = ?")) {
+                    ps.setString(1, roleId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete guild role", e);
         }
@@ -138,10 +146,14 @@ public class JdbcGuildRoleRepository implements GuildRoleRepository {
     public void deleteAllByGuild(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_roles WHERE guild_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_roles WHERE guild_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete all guild roles", e);
         }
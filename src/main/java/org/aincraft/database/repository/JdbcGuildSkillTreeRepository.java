@@ -42,13 +42,17 @@ public class JdbcGuildSkillTreeRepository implements GuildSkillTreeRepository {
 
         String sql = Sql.upsertGuildSkillTree(dbType);
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, tree.getGuildId().toString());
-            ps.setInt(2, tree.getAvailableSp());
-            ps.setInt(3, tree.getTotalSpEarned());
-
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, tree.getGuildId().toString());
+                    ps.setInt(2, tree.getAvailableSp());
+                    ps.setInt(3, tree.getTotalSpEarned());
+
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save guild skill tree for guild: " + tree.getGuildId(), e);
         }
@@ -92,10 +96,14 @@ public class JdbcGuildSkillTreeRepository implements GuildSkillTreeRepository {
 
         String sql = "DELETE FROM guild_skill_trees WHERE guild_id = ?";
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete guild skill tree for guild: " + guildId, e);
         }
@@ -127,13 +135,17 @@ public class JdbcGuildSkillTreeRepository implements GuildSkillTreeRepository {
                 """;
         };
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, guildId.toString());
-            ps.setString(2, skillId);
-            ps.setLong(3, unlockedAt);
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, guildId.toString());
+                    ps.setString(2, skillId);
+                    ps.setLong(3, unlockedAt);
 
-            ps.executeUpdate();
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to record unlocked skill " + skillId + " for guild " + guildId, e);
         }
@@ -145,10 +157,14 @@ public class JdbcGuildSkillTreeRepository implements GuildSkillTreeRepository {
 
         String sql = "DELETE FROM guild_unlocked_skills WHERE guild_id = ?";
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to clear unlocked skills for guild: " + guildId, e);
         }
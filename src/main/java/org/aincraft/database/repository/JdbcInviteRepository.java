@@ -37,15 +37,19 @@ public class JdbcInviteRepository implements InviteRepository {
 
         String sql = getUpsertSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, invite.id());
-            ps.setString(2, invite.guildId().toString());
-            ps.setString(3, invite.inviterId().toString());
-            ps.setString(4, invite.inviteeId().toString());
-            ps.setLong(5, invite.createdAt());
-            ps.setLong(6, invite.expiresAt());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, invite.id());
+                    ps.setString(2, invite.guildId().toString());
+                    ps.setString(3, invite.inviterId().toString());
+                    ps.setString(4, invite.inviteeId().toString());
+                    ps.setLong(5, invite.createdAt());
+                    ps.setLong(6, invite.expiresAt());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save invite", e);
         }
@@ -187,10 +191,14 @@ public class JdbcInviteRepository implements InviteRepository {
     public void delete(String inviteId) {
         Objects.requireNonNull(inviteId, "Invite ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_invites WHERE id = ?")) {
-            ps.setString(1, inviteId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_invites WHERE id = ?")) {
+                    ps.setString(1, inviteId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete invite", e);
         }
@@ -198,10 +206,14 @@ public class JdbcInviteRepository implements InviteRepository {
 
     @Override
     public void deleteExpired() {
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_invites WHERE expires_at < ?")) {
-            ps.setLong(1, System.currentTimeMillis());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_invites WHERE expires_at < ?")) {
+                    ps.setLong(1, System.currentTimeMillis());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete expired invites", e);
         }
@@ -211,10 +223,14 @@ public class JdbcInviteRepository implements InviteRepository {
     public void deleteByGuildId(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_invites WHERE guild_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_invites WHERE guild_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete invites by guild ID", e);
         }
@@ -89,25 +89,28 @@ public class JdbcLLMProjectTextRepository implements LLMProjectTextRepository {
         String sql = Sql.insertGeneratedProjectText(dbType);
         long createdAt = System.currentTimeMillis();
 
-        try (Connection conn = connectionProvider.getConnection()) {
-            conn.setAutoCommit(false);
-
-            try (PreparedStatement ps = conn.prepareStatement(sql)) {
-                for (ProjectText text : texts) {
-                    ps.setString(1, UUID.randomUUID().toString());
-                    ps.setString(2, buffType.toString());
-                    ps.setString(3, text.name());
-                    ps.setString(4, text.description());
-                    ps.setLong(5, createdAt);
-                    ps.addBatch();
+        try {
+            connectionProvider.write(conn -> {
+                conn.setAutoCommit(false);
+
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    for (ProjectText text : texts) {
+                        ps.setString(1, UUID.randomUUID().toString());
+                        ps.setString(2, buffType.toString());
+                        ps.setString(3, text.name());
+                        ps.setString(4, text.description());
+                        ps.setLong(5, createdAt);
+                        ps.addBatch();
+                    }
+
+                    ps.executeBatch();
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
                 }
-
-                ps.executeBatch();
-                conn.commit();
-            } catch (SQLException e) {
-                conn.rollback();
-                throw e;
-            }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save project texts for " + buffType, e);
         }
@@ -122,12 +125,16 @@ public class JdbcLLMProjectTextRepository implements LLMProjectTextRepository {
 
         String sql = Sql.deleteOldGeneratedProjectTexts(dbType);
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, buffType.toString());
-            ps.setString(2, buffType.toString());
-            ps.setInt(3, keepCount);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, buffType.toString());
+                    ps.setString(2, buffType.toString());
+                    ps.setInt(3, keepCount);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete old entries for " + buffType, e);
         }
@@ -37,12 +37,16 @@ public class JdbcMemberRegionRoleRepository implements MemberRegionRoleRepositor
 
         String sql = getInsertIgnoreSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, regionId.toString());
-            ps.setString(2, playerId.toString());
-            ps.setString(3, roleId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, regionId.toString());
+                    ps.setString(2, playerId.toString());
+                    ps.setString(3, roleId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to assign region role", e);
         }
@@ -78,12 +82,16 @@ public class JdbcMemberRegionRoleRepository implements MemberRegionRoleRepositor
 
         String sql = "DELETE FROM member_region_roles WHERE region_id = ? AND player_id = ? AND role_id = ?";
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, regionId.toString());
-            ps.setString(2, playerId.toString());
-            ps.setString(3, roleId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, regionId.toString());
+                    ps.setString(2, playerId.toString());
+                    ps.setString(3, roleId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to unassign region role", e);
         }
@@ -162,11 +170,15 @@ public class JdbcMemberRegionRoleRepository implements MemberRegionRoleRepositor
 
         String sql = "DELETE FROM member_region_roles WHERE region_id = ? AND player_id = ?";
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, regionId.toString());
-            ps.setString(2, playerId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, regionId.toString());
+                    ps.setString(2, playerId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to remove all member region roles", e);
         }
@@ -178,10 +190,14 @@ public class JdbcMemberRegionRoleRepository implements MemberRegionRoleRepositor
 
         String sql = "DELETE FROM member_region_roles WHERE role_id = ?";
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, roleId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, roleId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to remove all assignments for role", e);
         }
@@ -193,10 +209,14 @@ public class JdbcMemberRegionRoleRepository implements MemberRegionRoleRepositor
 
         String sql = "DELETE FROM member_region_roles WHERE region_id = ?";
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, regionId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, regionId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to remove all role assignments for region", e);
         }
@@ -37,12 +37,16 @@ public class JdbcMemberRoleRepository implements MemberRoleRepository {
 
         String sql = getInsertIgnoreSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, guildId.toString());
-            ps.setString(2, playerId.toString());
-            ps.setString(3, roleId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, guildId.toString());
+                    ps.setString(2, playerId.toString());
+                    ps.setString(3, roleId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to assign role", e);
         }
@@ -66,13 +70,17 @@ public class JdbcMemberRoleRepository implements MemberRoleRepository {
         Objects.requireNonNull(playerId, "Player ID cannot be null");
         Objects.requireNonNull(roleId, "Role ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(
-                 "DELETE FROM member_roles WHERE guild_id = ? AND player_id = ? AND role_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.setString(2, playerId.toString());
-            ps.setString(3, roleId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(
+                         "DELETE FROM member_roles WHERE guild_id = ? AND player_id = ? AND role_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.setString(2, playerId.toString());
+                    ps.setString(3, roleId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to unassign role", e);
         }
@@ -144,12 +152,16 @@ public class JdbcMemberRoleRepository implements MemberRoleRepository {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
         Objects.requireNonNull(playerId, "Player ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(
-                 "DELETE FROM member_roles WHERE guild_id = ? AND player_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.setString(2, playerId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(
+                         "DELETE FROM member_roles WHERE guild_id = ? AND player_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.setString(2, playerId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to remove all member roles", e);
         }
@@ -159,10 +171,14 @@ public class JdbcMemberRoleRepository implements MemberRoleRepository {
     public void removeAllByRole(String roleId) {
         Objects.requireNonNull(roleId, "Role ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM member_roles WHERE role_id = ?")) {
-            ps.setString(1, roleId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM member_roles WHERE role_id = ?")) {
+                    ps.setString(1, roleId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to remove all by role", e);
         }
@@ -172,10 +188,14 @@ public class JdbcMemberRoleRepository implements MemberRoleRepository {
     public void removeAllByGuild(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM member_roles WHERE guild_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM member_roles WHERE guild_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to remove all by guild", e);
         }
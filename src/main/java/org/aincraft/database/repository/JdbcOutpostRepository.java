@@ -46,25 +46,27 @@ public class JdbcOutpostRepository implements OutpostRepository {
                 spawn_pitch = excluded.spawn_pitch
             """;
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, outpost.getId().toString());
-            ps.setString(2, outpost.getGuildId().toString());
-            ps.setString(3, outpost.getName());
-            ps.setString(4, outpost.getLocation().world());
-            ps.setInt(5, outpost.getLocation().x());
-            ps.setInt(6, outpost.getLocation().z());
-            ps.setDouble(7, outpost.getSpawnX());
-            ps.setDouble(8, outpost.getSpawnY());
-            ps.setDouble(9, outpost.getSpawnZ());
-            ps.setFloat(10, outpost.getSpawnYaw());
-            ps.setFloat(11, outpost.getSpawnPitch());
-            ps.setLong(12, outpost.getCreatedAt());
-            ps.setString(13, outpost.getCreatedBy().toString());
-
-            ps.executeUpdate();
-            return true;
+        try {
+            return connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, outpost.getId().toString());
+                    ps.setString(2, outpost.getGuildId().toString());
+                    ps.setString(3, outpost.getName());
+                    ps.setString(4, outpost.getLocation().world());
+                    ps.setInt(5, outpost.getLocation().x());
+                    ps.setInt(6, outpost.getLocation().z());
+                    ps.setDouble(7, outpost.getSpawnX());
+                    ps.setDouble(8, outpost.getSpawnY());
+                    ps.setDouble(9, outpost.getSpawnZ());
+                    ps.setFloat(10, outpost.getSpawnYaw());
+                    ps.setFloat(11, outpost.getSpawnPitch());
+                    ps.setLong(12, outpost.getCreatedAt());
+                    ps.setString(13, outpost.getCreatedBy().toString());
+
+                    ps.executeUpdate();
+                    return true;
+                }
+            });
         } catch (SQLException e) {
             // Log error but don't throw - allow graceful degradation
             e.printStackTrace();
@@ -78,12 +80,14 @@ public class JdbcOutpostRepository implements OutpostRepository {
 
         String sql = "DELETE FROM guild_outposts WHERE id = ?";
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, outpostId.toString());
-            int rowsAffected = ps.executeUpdate();
-            return rowsAffected > 0;
+        try {
+            return connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, outpostId.toString());
+                    int rowsAffected = ps.executeUpdate();
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
             e.printStackTrace();
             return false;
@@ -212,11 +216,13 @@ public class JdbcOutpostRepository implements OutpostRepository {
 
         String sql = "DELETE FROM guild_outposts WHERE guild_id = ?";
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, guildId.toString());
-            return ps.executeUpdate();
+        try {
+            return connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, guildId.toString());
+                    return ps.executeUpdate();
+                }
+            });
         } catch (SQLException e) {
             e.printStackTrace();
             return 0;
@@ -229,13 +235,15 @@ public class JdbcOutpostRepository implements OutpostRepository {
 
         String sql = "DELETE FROM guild_outposts WHERE world = ? AND chunk_x = ? AND chunk_z = ?";
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setString(1, chunk.world());
-            ps.setInt(2, chunk.x());
-            ps.setInt(3, chunk.z());
-            return ps.executeUpdate();
+        try {
+            return connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, chunk.world());
+                    ps.setInt(2, chunk.x());
+                    ps.setInt(3, chunk.z());
+                    return ps.executeUpdate();
+                }
+            });
         } catch (SQLException e) {
             e.printStackTrace();
             return 0;
@@ -36,11 +36,15 @@ public class JdbcPlayerGuildMapping implements PlayerGuildMapping {
 
         String sql = Sql.upsertPlayerGuild(dbType);
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, playerId.toString());
-            ps.setString(2, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, playerId.toString());
+                    ps.setString(2, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to add player to guild", e);
         }
@@ -50,10 +54,14 @@ public class JdbcPlayerGuildMapping implements PlayerGuildMapping {
     public void removePlayerFromGuild(UUID playerId) {
         Objects.requireNonNull(playerId, "Player ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM player_guilds WHERE player_id = ?")) {
-            ps.setString(1, playerId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM player_guilds WHERE player_id = ?")) {
+                    ps.setString(1, playerId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to remove player from guild", e);
         }
@@ -8,20 +8,32 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import org.aincraft.database.ConnectionProvider;
 import org.aincraft.database.DatabaseType;
+import org.aincraft.database.Sql;
 import org.aincraft.progression.ProgressionLog;
+import org.aincraft.progression.RollupGranularity;
 import org.aincraft.progression.storage.ProgressionLogRepository;
 
 /**
  * JDBC-based implementation of ProgressionLogRepository.
  * Works with all supported database types.
+ * Rollups are updated in the same transaction as the raw entries they count.
  */
 @Singleton
 public class JdbcProgressionLogRepository implements ProgressionLogRepository {
+    private static final String INSERT_LOG = """
+        INSERT INTO progression_logs
+        (guild_id, player_id, action, amount, details, timestamp)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+    static final int COMPACT_CHUNK_SIZE = 5_000;
+
     private final ConnectionProvider connectionProvider;
     private final DatabaseType dbType;
 
@@ -34,33 +46,105 @@ public class JdbcProgressionLogRepository implements ProgressionLogRepository {
     @Override
     public void log(ProgressionLog entry) {
         Objects.requireNonNull(entry, "Log entry cannot be null");
+        logAll(List.of(entry));
+    }
 
-        String sql = """
-            INSERT INTO progression_logs
-            (guild_id, player_id, action, amount, details, timestamp)
-            VALUES (?, ?, ?, ?, ?, ?)
-            """;
+    @Override
+    public void logAll(List<ProgressionLog> entries) {
+        Objects.requireNonNull(entries, "Log entries cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setObject(1, entry.guildId());
+        if (entries.isEmpty()) {
+            return;
+        }
 
-            if (entry.playerId() != null) {
-                ps.setString(2, entry.playerId().toString());
-            } else {
-                ps.setNull(2, Types.VARCHAR);
-            }
+        try {
+            connectionProvider.write(conn -> {
+                conn.setAutoCommit(false);
 
-            ps.setString(3, entry.action().name());
-            ps.setLong(4, entry.amount());
-            ps.setString(5, entry.details());
-            ps.setLong(6, entry.timestamp());
-            ps.executeUpdate();
+                try {
+                    insertAll(conn, entries);
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+                return null;
+            });
         } catch (SQLException e) {
-            throw new RuntimeException("Failed to log progression action", e);
+            throw new RuntimeException("Failed to log progression actions", e);
         }
     }
 
+    /**
+     * Inserts log entries and adds their XP gains to the rollups, within the caller's transaction.
+     *
+     * @param conn the connection of a write in progress
+     * @param entries the log entries to save
+     */
+    void insertAll(Connection conn, List<ProgressionLog> entries) throws SQLException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement ps = conn.prepareStatement(INSERT_LOG);
+             PreparedStatement rollup = conn.prepareStatement(Sql.addToProgressionLogRollup(dbType))) {
+            for (ProgressionLog entry : entries) {
+                bindEntry(ps, entry);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+
+            Map<RollupKey, Long> rollups = rollUp(entries);
+            if (!rollups.isEmpty()) {
+                for (Map.Entry<RollupKey, Long> bucket : rollups.entrySet()) {
+                    RollupKey key = bucket.getKey();
+                    rollup.setString(1, key.guildId().toString());
+                    rollup.setString(2, key.playerId().toString());
+                    rollup.setString(3, key.source());
+                    rollup.setString(4, key.granularity().name());
+                    rollup.setLong(5, key.bucketStart());
+                    rollup.setLong(6, bucket.getValue());
+                    rollup.addBatch();
+                }
+                rollup.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Sums the XP gains in a batch per rollup bucket, so each bucket is updated once.
+     */
+    private Map<RollupKey, Long> rollUp(List<ProgressionLog> entries) {
+        Map<RollupKey, Long> rollups = new HashMap<>();
+        for (ProgressionLog entry : entries) {
+            if (entry.action() != ProgressionLog.ActionType.XP_GAIN
+                    || entry.playerId() == null || entry.details() == null) {
+                continue;
+            }
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                RollupKey key = new RollupKey(entry.guildId(), entry.playerId(), entry.details(),
+                        granularity, granularity.bucketStart(entry.timestamp()));
+                rollups.merge(key, entry.amount(), Long::sum);
+            }
+        }
+        return rollups;
+    }
+
+    private void bindEntry(PreparedStatement ps, ProgressionLog entry) throws SQLException {
+        ps.setObject(1, entry.guildId());
+
+        if (entry.playerId() != null) {
+            ps.setString(2, entry.playerId().toString());
+        } else {
+            ps.setNull(2, Types.VARCHAR);
+        }
+
+        ps.setString(3, entry.action().name());
+        ps.setLong(4, entry.amount());
+        ps.setString(5, entry.details());
+        ps.setLong(6, entry.timestamp());
+    }
+
     @Override
     public List<ProgressionLog> findByGuild(UUID guildId, int limit) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
@@ -91,13 +175,151 @@ public class JdbcProgressionLogRepository implements ProgressionLogRepository {
     }
 
     @Override
-    public void deleteByGuildId(UUID guildId) {
+    public Map<String, Long> getXpBySource(UUID guildId, RollupGranularity granularity, long since) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(granularity, "Granularity cannot be null");
+
+        String sql = """
+            SELECT source, SUM(xp) AS xp
+            FROM progression_log_rollups
+            WHERE guild_id = ? AND granularity = ? AND bucket_start >= ?
+            GROUP BY source
+            """;
+
+        Map<String, Long> xpBySource = new HashMap<>();
 
         try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM progression_logs WHERE guild_id = ?")) {
+             PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+            ps.setString(2, granularity.name());
+            ps.setLong(3, granularity.bucketStart(since));
+            ResultSet rs = ps.executeQuery();
+
+            while (rs.next()) {
+                xpBySource.put(rs.getString("source"), rs.getLong("xp"));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to read progression log rollups", e);
+        }
+
+        return xpBySource;
+    }
+
+    @Override
+    public Map<Long, Long> getXpByBucket(UUID guildId, RollupGranularity granularity, long since) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(granularity, "Granularity cannot be null");
+
+        String sql = """
+            SELECT bucket_start, SUM(xp) AS xp
+            FROM progression_log_rollups
+            WHERE guild_id = ? AND granularity = ? AND bucket_start >= ?
+            GROUP BY bucket_start
+            """;
+
+        Map<Long, Long> xpByBucket = new HashMap<>();
+
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, guildId.toString());
+            ps.setString(2, granularity.name());
+            ps.setLong(3, granularity.bucketStart(since));
+            ResultSet rs = ps.executeQuery();
+
+            while (rs.next()) {
+                xpByBucket.put(rs.getLong("bucket_start"), rs.getLong("xp"));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to read progression log rollups", e);
+        }
+
+        return xpByBucket;
+    }
+
+    @Override
+    public int compact(long rawCutoff, long hourlyCutoff) {
+        try {
+            // One write per chunk, so queued writes run between chunks instead of behind the whole purge
+            int deleted = 0;
+            int chunk;
+            do {
+                chunk = connectionProvider.write(conn -> deleteRawChunk(conn, rawCutoff));
+                deleted += chunk;
+            } while (chunk >= COMPACT_CHUNK_SIZE);
+
+            connectionProvider.write(conn -> {
+                try (PreparedStatement hourly = conn.prepareStatement(
+                         "DELETE FROM progression_log_rollups WHERE granularity = ? AND bucket_start < ?")) {
+                    hourly.setString(1, RollupGranularity.HOUR.name());
+                    hourly.setLong(2, hourlyCutoff);
+                    return hourly.executeUpdate();
+                }
+            });
+            return deleted;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to compact progression logs", e);
+        }
+    }
+
+    /**
+     * Deletes up to {@link #COMPACT_CHUNK_SIZE} of the oldest raw XP gain entries before the cutoff.
+     * The chunk ends at the (timestamp, id) of its last entry, found by walking the (action, timestamp) index.
+     */
+    private int deleteRawChunk(Connection conn, long rawCutoff) throws SQLException {
+        String action = ProgressionLog.ActionType.XP_GAIN.name();
+        long lastTimestamp;
+        long lastId;
+        try (PreparedStatement ps = conn.prepareStatement("""
+                 SELECT timestamp, id FROM progression_logs
+                 WHERE action = ? AND timestamp < ?
+                 ORDER BY timestamp, id
+                 LIMIT 1 OFFSET ?
+                 """)) {
+            ps.setString(1, action);
+            ps.setLong(2, rawCutoff);
+            ps.setInt(3, COMPACT_CHUNK_SIZE - 1);
+            ResultSet rs = ps.executeQuery();
+
+            if (!rs.next()) {
+                // Less than a full chunk left
+                try (PreparedStatement rest = conn.prepareStatement(
+                         "DELETE FROM progression_logs WHERE action = ? AND timestamp < ?")) {
+                    rest.setString(1, action);
+                    rest.setLong(2, rawCutoff);
+                    return rest.executeUpdate();
+                }
+            }
+            lastTimestamp = rs.getLong("timestamp");
+            lastId = rs.getLong("id");
+        }
+
+        try (PreparedStatement ps = conn.prepareStatement("""
+                 DELETE FROM progression_logs
+                 WHERE action = ? AND (timestamp < ? OR (timestamp = ? AND id <= ?))
+                 """)) {
+            ps.setString(1, action);
+            ps.setLong(2, lastTimestamp);
+            ps.setLong(3, lastTimestamp);
+            ps.setLong(4, lastId);
+            return ps.executeUpdate();
+        }
+    }
+
+    @Override
+    public void deleteByGuildId(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement logs = conn.prepareStatement("DELETE FROM progression_logs WHERE guild_id = ?");
+                     PreparedStatement rollups = conn.prepareStatement("DELETE FROM progression_log_rollups WHERE guild_id = ?")) {
+                    logs.setString(1, guildId.toString());
+                    logs.executeUpdate();
+                    rollups.setString(1, guildId.toString());
+                    rollups.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete progression logs", e);
         }
@@ -117,4 +339,8 @@ public class JdbcProgressionLogRepository implements ProgressionLogRepository {
             rs.getLong("timestamp")
         );
     }
+
+    private record RollupKey(UUID guildId, UUID playerId, String source,
+                             RollupGranularity granularity, long bucketStart) {
+    }
 }
@@ -38,16 +38,20 @@ public class JdbcRegionPermissionRepository implements RegionPermissionRepositor
 
         String sql = getUpsertSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, permission.getId());
-            ps.setString(2, permission.getRegionId().toString());
-            ps.setString(3, permission.getSubjectId());
-            ps.setString(4, permission.getSubjectType().name());
-            ps.setInt(5, permission.getPermissions());
-            ps.setLong(6, permission.getCreatedAt());
-            ps.setString(7, permission.getCreatedBy().toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, permission.getId());
+                    ps.setString(2, permission.getRegionId().toString());
+                    ps.setString(3, permission.getSubjectId());
+                    ps.setString(4, permission.getSubjectType().name());
+                    ps.setInt(5, permission.getPermissions());
+                    ps.setLong(6, permission.getCreatedAt());
+                    ps.setString(7, permission.getCreatedBy().toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save region permission", e);
         }
@@ -84,10 +88,14 @@ public class JdbcRegionPermissionRepository implements RegionPermissionRepositor
     public void delete(String permissionId) {
         Objects.requireNonNull(permissionId, "Permission ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM region_permissions WHERE id = ?")) {
-            ps.setString(1, permissionId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM region_permissions WHERE id = ?")) {
+                    ps.setString(1, permissionId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete region permission", e);
         }
@@ -210,10 +218,14 @@ public class JdbcRegionPermissionRepository implements RegionPermissionRepositor
     public void deleteAllByRegion(UUID regionId) {
         Objects.requireNonNull(regionId, "Region ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM region_permissions WHERE region_id = ?")) {
-            ps.setString(1, regionId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM region_permissions WHERE region_id = ?")) {
+                    ps.setString(1, regionId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete all permissions for region", e);
         }
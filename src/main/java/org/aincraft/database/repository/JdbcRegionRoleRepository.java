@@ -37,15 +37,19 @@ public class JdbcRegionRoleRepository implements RegionRoleRepository {
 
         String sql = getUpsertSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, role.getId());
-            ps.setString(2, role.getRegionId().toString());
-            ps.setString(3, role.getName());
-            ps.setInt(4, role.getPermissions());
-            ps.setLong(5, role.getCreatedAt());
-            ps.setString(6, role.getCreatedBy().toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, role.getId());
+                    ps.setString(2, role.getRegionId().toString());
+                    ps.setString(3, role.getName());
+                    ps.setInt(4, role.getPermissions());
+                    ps.setLong(5, role.getCreatedAt());
+                    ps.setString(6, role.getCreatedBy().toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save region role", e);
         }
@@ -82,10 +86,14 @@ public class JdbcRegionRoleRepository implements RegionRoleRepository {
     public void delete(String roleId) {
         Objects.requireNonNull(roleId, "Role ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM region_roles WHERE id = ?")) {
-            ps.setString(1, roleId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM region_roles WHERE id = ?")) {
+                    ps.setString(1, roleId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete region role", e);
         }
@@ -156,10 +164,14 @@ public class JdbcRegionRoleRepository implements RegionRoleRepository {
     public void deleteAllByRegion(UUID regionId) {
         Objects.requireNonNull(regionId, "Region ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM region_roles WHERE region_id = ?")) {
-            ps.setString(1, regionId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM region_roles WHERE region_id = ?")) {
+                    ps.setString(1, regionId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete all roles for region", e);
         }
@@ -37,11 +37,15 @@ public class JdbcRegionTypeLimitRepository implements RegionTypeLimitRepository
 
         String sql = getUpsertSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, limit.typeId());
-            ps.setLong(2, limit.maxTotalVolume());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, limit.typeId());
+                    ps.setLong(2, limit.maxTotalVolume());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save region type limit", e);
         }
@@ -74,10 +78,14 @@ public class JdbcRegionTypeLimitRepository implements RegionTypeLimitRepository
     public void delete(String typeId) {
         Objects.requireNonNull(typeId, "Type ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM region_type_limits WHERE type_id = ?")) {
-            ps.setString(1, typeId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM region_type_limits WHERE type_id = ?")) {
+                    ps.setString(1, typeId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete region type limit", e);
         }
@@ -44,24 +44,28 @@ public class JdbcSubregionRepository implements SubregionRepository {
 
         String sql = getUpsertSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, region.getId().toString());
-            ps.setObject(2, region.getGuildId());
-            ps.setString(3, region.getName());
-            ps.setString(4, region.getWorld());
-            ps.setInt(5, region.getMinX());
-            ps.setInt(6, region.getMinY());
-            ps.setInt(7, region.getMinZ());
-            ps.setInt(8, region.getMaxX());
-            ps.setInt(9, region.getMaxY());
-            ps.setInt(10, region.getMaxZ());
-            ps.setString(11, region.getCreatedBy().toString());
-            ps.setLong(12, region.getCreatedAt());
-            ps.setString(13, serializeOwners(region.getOwners()));
-            ps.setInt(14, region.getPermissions());
-            ps.setString(15, region.getType());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, region.getId().toString());
+                    ps.setObject(2, region.getGuildId());
+                    ps.setString(3, region.getName());
+                    ps.setString(4, region.getWorld());
+                    ps.setInt(5, region.getMinX());
+                    ps.setInt(6, region.getMinY());
+                    ps.setInt(7, region.getMinZ());
+                    ps.setInt(8, region.getMaxX());
+                    ps.setInt(9, region.getMaxY());
+                    ps.setInt(10, region.getMaxZ());
+                    ps.setString(11, region.getCreatedBy().toString());
+                    ps.setLong(12, region.getCreatedAt());
+                    ps.setString(13, serializeOwners(region.getOwners()));
+                    ps.setInt(14, region.getPermissions());
+                    ps.setString(15, region.getType());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save subregion", e);
         }
@@ -108,10 +112,14 @@ public class JdbcSubregionRepository implements SubregionRepository {
     public void delete(UUID regionId) {
         Objects.requireNonNull(regionId, "Region ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM subregions WHERE id = ?")) {
-            ps.setString(1, regionId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM subregions WHERE id = ?")) {
+                    ps.setString(1, regionId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete subregion", e);
         }
@@ -121,10 +129,14 @@ public class JdbcSubregionRepository implements SubregionRepository {
     public void deleteAllByGuild(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM subregions WHERE guild_id = ?")) {
-            ps.setString(1, guildId.toString());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM subregions WHERE guild_id = ?")) {
+                    ps.setString(1, guildId.toString());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete guild subregions", e);
         }
@@ -191,9 +203,32 @@ public class JdbcSubregionRepository implements SubregionRepository {
         return regions;
     }
 
+    @Override
+    public List<Subregion> findAll() {
+        List<Subregion> regions = new ArrayList<>();
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT * FROM subregions")) {
+            ResultSet rs = ps.executeQuery();
+
+            while (rs.next()) {
+                regions.add(mapResultSet(rs));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to load subregions", e);
+        }
+
+        return regions;
+    }
+
     @Override
     public List<Subregion> findByLocation(Location loc) {
         Objects.requireNonNull(loc, "Location cannot be null");
+        return findByLocation(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    @Override
+    public List<Subregion> findByLocation(String world, int x, int y, int z) {
+        Objects.requireNonNull(world, "World cannot be null");
 
         String sql = """
             SELECT * FROM subregions
@@ -204,13 +239,10 @@ public class JdbcSubregionRepository implements SubregionRepository {
             """;
 
         List<Subregion> regions = new ArrayList<>();
-        int x = loc.getBlockX();
-        int y = loc.getBlockY();
-        int z = loc.getBlockZ();
 
         try (Connection conn = connectionProvider.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, loc.getWorld().getName());
+            ps.setString(1, world);
             ps.setInt(2, x);
             ps.setInt(3, x);
             ps.setInt(4, y);
@@ -226,9 +258,50 @@ public class JdbcSubregionRepository implements SubregionRepository {
             throw new RuntimeException("Failed to find subregions at location", e);
         }
 
+        regions.sort(Subregion.SPECIFICITY);
         return regions;
     }
 
+    @Override
+    public List<Subregion> findAncestors(Subregion region) {
+        Objects.requireNonNull(region, "Subregion cannot be null");
+
+        String sql = """
+            SELECT * FROM subregions
+            WHERE world = ? AND id <> ?
+            AND min_x <= ? AND max_x >= ?
+            AND min_y <= ? AND max_y >= ?
+            AND min_z <= ? AND max_z >= ?
+            """;
+
+        List<Subregion> ancestors = new ArrayList<>();
+
+        try (Connection conn = connectionProvider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, region.getWorld());
+            ps.setString(2, region.getId().toString());
+            ps.setInt(3, region.getMinX());
+            ps.setInt(4, region.getMaxX());
+            ps.setInt(5, region.getMinY());
+            ps.setInt(6, region.getMaxY());
+            ps.setInt(7, region.getMinZ());
+            ps.setInt(8, region.getMaxZ());
+            ResultSet rs = ps.executeQuery();
+
+            while (rs.next()) {
+                Subregion candidate = mapResultSet(rs);
+                if (Subregion.SPECIFICITY.compare(candidate, region) > 0) {
+                    ancestors.add(candidate);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find enclosing subregions", e);
+        }
+
+        ancestors.sort(Subregion.SPECIFICITY);
+        return ancestors;
+    }
+
     @Override
     public List<Subregion> findOverlappingChunks(Set<ChunkKey> chunks) {
         if (chunks == null || chunks.isEmpty()) {
@@ -38,19 +38,23 @@ public class JdbcVaultRepository implements VaultRepository {
 
         String sql = getUpsertSql();
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, vault.getId());
-            ps.setObject(2, vault.getGuildId());
-            ps.setString(3, vault.getWorld());
-            ps.setInt(4, vault.getOriginX());
-            ps.setInt(5, vault.getOriginY());
-            ps.setInt(6, vault.getOriginZ());
-            ps.setString(7, vault.getRotation().name());
-            ps.setString(8, vault.getCreatedBy().toString());
-            ps.setLong(9, vault.getCreatedAt());
-            ps.setString(10, serializeContents(vault.getContents()));
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, vault.getId());
+                    ps.setObject(2, vault.getGuildId());
+                    ps.setString(3, vault.getWorld());
+                    ps.setInt(4, vault.getOriginX());
+                    ps.setInt(5, vault.getOriginY());
+                    ps.setInt(6, vault.getOriginZ());
+                    ps.setString(7, vault.getRotation().name());
+                    ps.setString(8, vault.getCreatedBy().toString());
+                    ps.setLong(9, vault.getCreatedAt());
+                    ps.setString(10, serializeContents(vault.getContents()));
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save vault", e);
         }
@@ -91,10 +95,14 @@ public class JdbcVaultRepository implements VaultRepository {
     public void delete(String vaultId) {
         Objects.requireNonNull(vaultId, "Vault ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_vaults WHERE id = ?")) {
-            ps.setString(1, vaultId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM guild_vaults WHERE id = ?")) {
+                    ps.setString(1, vaultId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete vault", e);
         }
@@ -166,11 +174,15 @@ public class JdbcVaultRepository implements VaultRepository {
     public void updateContents(String vaultId, ItemStack[] contents) {
         Objects.requireNonNull(vaultId, "Vault ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("UPDATE guild_vaults SET storage_data = ? WHERE id = ?")) {
-            ps.setString(1, serializeContents(contents));
-            ps.setString(2, vaultId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("UPDATE guild_vaults SET storage_data = ? WHERE id = ?")) {
+                    ps.setString(1, serializeContents(contents));
+                    ps.setString(2, vaultId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to update vault contents", e);
         }
@@ -41,15 +41,19 @@ public class JdbcVaultTransactionRepository implements VaultTransactionRepositor
             VALUES (?, ?, ?, ?, ?, ?)
             """;
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, transaction.vaultId());
-            ps.setString(2, transaction.playerId().toString());
-            ps.setString(3, transaction.action().name());
-            ps.setString(4, transaction.itemType().name());
-            ps.setInt(5, transaction.amount());
-            ps.setLong(6, transaction.timestamp());
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setString(1, transaction.vaultId());
+                    ps.setString(2, transaction.playerId().toString());
+                    ps.setString(3, transaction.action().name());
+                    ps.setString(4, transaction.itemType().name());
+                    ps.setInt(5, transaction.amount());
+                    ps.setLong(6, transaction.timestamp());
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to log vault transaction", e);
         }
@@ -116,10 +120,14 @@ public class JdbcVaultTransactionRepository implements VaultTransactionRepositor
     public void deleteByVaultId(String vaultId) {
         Objects.requireNonNull(vaultId, "Vault ID cannot be null");
 
-        try (Connection conn = connectionProvider.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM vault_transactions WHERE vault_id = ?")) {
-            ps.setString(1, vaultId);
-            ps.executeUpdate();
+        try {
+            connectionProvider.write(conn -> {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM vault_transactions WHERE vault_id = ?")) {
+                    ps.setString(1, vaultId);
+                    ps.executeUpdate();
+                }
+                return null;
+            });
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete vault transactions", e);
         }
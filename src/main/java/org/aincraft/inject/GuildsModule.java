@@ -11,8 +11,8 @@ import org.aincraft.GuildDefaultPermissionsService;
 import org.aincraft.database.ConnectionProvider;
 import org.aincraft.database.DatabaseConfig;
 import org.aincraft.database.DatabaseType;
-import org.aincraft.database.DirectConnectionProvider;
 import org.aincraft.database.HikariConnectionProvider;
+import org.aincraft.database.SQLiteConnectionProvider;
 import org.aincraft.database.SchemaManager;
 import org.aincraft.database.repository.JdbcChunkClaimRepository;
 import org.aincraft.database.repository.JdbcGuildDefaultPermissionsRepository;
@@ -48,9 +48,11 @@ import org.aincraft.InviteService;
 import org.aincraft.RelationshipService;
 import org.aincraft.claim.AutoClaimListener;
 import org.aincraft.claim.AutoClaimManager;
+import org.aincraft.claim.AsyncChunkClaimLogRepository;
 import org.aincraft.claim.ChunkClaimLogRepository;
 import org.aincraft.claim.ClaimEntryNotifier;
 import org.aincraft.claim.ClaimMovementTracker;
+import org.aincraft.claim.IndexedChunkClaimRepository;
 import org.aincraft.commands.components.AcceptComponent;
 import org.aincraft.commands.components.AdminComponent;
 import org.aincraft.commands.components.AllyComponent;
@@ -69,6 +71,7 @@ import org.aincraft.commands.components.JoinComponent;
 import org.aincraft.commands.components.KickComponent;
 import org.aincraft.commands.components.LeaveComponent;
 import org.aincraft.commands.components.ListComponent;
+import org.aincraft.commands.components.TopComponent;
 import org.aincraft.commands.components.LogComponent;
 import org.aincraft.commands.components.MapComponent;
 import org.aincraft.commands.components.MemberComponent;
@@ -100,26 +103,33 @@ import org.aincraft.service.ChunkClaimService;
 import org.aincraft.service.GuildPermissionService;
 import org.aincraft.service.GuildRoleService;
 import org.aincraft.service.GuildSpawnService;
+import org.aincraft.storage.AllianceGraph;
+import org.aincraft.storage.CachedGuildRepository;
 import org.aincraft.storage.ChunkClaimRepository;
 import org.aincraft.storage.GuildDefaultPermissionsRepository;
 import org.aincraft.storage.GuildMemberRepository;
 import org.aincraft.storage.GuildRelationshipRepository;
 import org.aincraft.storage.GuildRepository;
 import org.aincraft.storage.GuildRoleRepository;
+import org.aincraft.storage.IndexedGuildRelationshipRepository;
 import org.aincraft.storage.InviteRepository;
 import org.aincraft.storage.MemberRoleRepository;
 import org.aincraft.storage.PlayerGuildMapping;
+import org.aincraft.storage.PlayerSessionCache;
+import org.aincraft.storage.SessionPlayerGuildMapping;
 import org.aincraft.subregion.MemberRegionRoleRepository;
 import org.aincraft.subregion.RegionEntryNotifier;
 import org.aincraft.subregion.RegionMovementTracker;
 import org.aincraft.subregion.RegionPermissionRepository;
 import org.aincraft.subregion.RegionPermissionService;
+import org.aincraft.subregion.RegionPermissionTables;
 import org.aincraft.subregion.RegionRoleRepository;
 import org.aincraft.subregion.RegionTypeLimitRepository;
 import org.aincraft.subregion.SelectionManager;
 import org.aincraft.subregion.SelectionVisualizer;
 import org.aincraft.subregion.SelectionVisualizerListener;
 import org.aincraft.subregion.RegionVisualizer;
+import org.aincraft.subregion.IndexedSubregionRepository;
 import org.aincraft.subregion.SubregionRepository;
 import org.aincraft.subregion.SubregionService;
 import org.aincraft.subregion.SubregionTypeRegistry;
@@ -131,6 +141,11 @@ import org.aincraft.vault.gui.SharedVaultInventoryManager;
 import org.aincraft.vault.gui.VaultGUIListener;
 import org.aincraft.progression.ProgressionConfig;
 import org.aincraft.progression.ProgressionService;
+import org.aincraft.progression.XpAccumulator;
+import org.aincraft.progression.ContributionIndex;
+import org.aincraft.leaderboard.GuildLeaderboard;
+import org.aincraft.leaderboard.LeaderboardGuildMemberRepository;
+import org.aincraft.leaderboard.LeaderboardService;
 import org.aincraft.progression.storage.GuildProgressionRepository;
 import org.aincraft.progression.storage.ProgressionLogRepository;
 import org.aincraft.progression.listeners.ProgressionXpListener;
@@ -166,18 +181,26 @@ public class GuildsModule extends AbstractModule {
         bind(Logger.class).annotatedWith(com.google.inject.name.Names.named("guilds")).toInstance(plugin.getLogger());
 
         // Database abstraction layer - repositories using JDBC
-        bind(GuildRepository.class).to(JdbcGuildRepository.class).in(Singleton.class);
-        bind(PlayerGuildMapping.class).to(JdbcPlayerGuildMapping.class).in(Singleton.class);
-        bind(GuildMemberRepository.class).to(JdbcGuildMemberRepository.class).in(Singleton.class);
+        bind(GuildRepository.class).annotatedWith(com.google.inject.name.Names.named("persisted")).to(JdbcGuildRepository.class).in(Singleton.class);
+        bind(GuildRepository.class).to(CachedGuildRepository.class).in(Singleton.class);
+        bind(PlayerGuildMapping.class).annotatedWith(com.google.inject.name.Names.named("persisted")).to(JdbcPlayerGuildMapping.class).in(Singleton.class);
+        bind(PlayerGuildMapping.class).to(SessionPlayerGuildMapping.class).in(Singleton.class);
+        bind(PlayerSessionCache.class).in(Singleton.class);
+        bind(GuildMemberRepository.class).annotatedWith(com.google.inject.name.Names.named("persisted")).to(JdbcGuildMemberRepository.class).in(Singleton.class);
+        bind(GuildMemberRepository.class).to(LeaderboardGuildMemberRepository.class).in(Singleton.class);
         bind(GuildRoleRepository.class).annotatedWith(com.google.inject.name.Names.named("persisted")).to(JdbcGuildRoleRepository.class).in(Singleton.class);
         bind(GuildRoleRepository.class).to(CompositeGuildRoleRepository.class).in(Singleton.class);
         bind(MemberRoleRepository.class).to(JdbcMemberRoleRepository.class).in(Singleton.class);
-        bind(ChunkClaimRepository.class).to(JdbcChunkClaimRepository.class).in(Singleton.class);
-        bind(GuildRelationshipRepository.class).to(JdbcGuildRelationshipRepository.class).in(Singleton.class);
+        bind(ChunkClaimRepository.class).annotatedWith(com.google.inject.name.Names.named("persisted")).to(JdbcChunkClaimRepository.class).in(Singleton.class);
+        bind(ChunkClaimRepository.class).to(IndexedChunkClaimRepository.class).in(Singleton.class);
+        bind(GuildRelationshipRepository.class).annotatedWith(com.google.inject.name.Names.named("persisted")).to(JdbcGuildRelationshipRepository.class).in(Singleton.class);
+        bind(GuildRelationshipRepository.class).to(IndexedGuildRelationshipRepository.class).in(Singleton.class);
+        bind(AllianceGraph.class).in(Singleton.class);
         bind(GuildDefaultPermissionsRepository.class).to(JdbcGuildDefaultPermissionsRepository.class).in(Singleton.class);
 
-        // Subregion bindings - using JDBC implementations
-        bind(SubregionRepository.class).to(JdbcSubregionRepository.class).in(Singleton.class);
+        // Subregion bindings - JDBC persistence behind an in-memory spatial index
+        bind(SubregionRepository.class).annotatedWith(com.google.inject.name.Names.named("persisted")).to(JdbcSubregionRepository.class).in(Singleton.class);
+        bind(SubregionRepository.class).to(IndexedSubregionRepository.class).in(Singleton.class);
         bind(SubregionTypeRegistry.class).in(Singleton.class);
         bind(SubregionService.class).in(Singleton.class);
         bind(SelectionVisualizer.class).in(Singleton.class);
@@ -188,6 +211,7 @@ public class GuildsModule extends AbstractModule {
         bind(RegionEntryNotifier.class).in(Singleton.class);
         bind(RegionPermissionRepository.class).to(JdbcRegionPermissionRepository.class).in(Singleton.class);
         bind(RegionPermissionService.class).in(Singleton.class);
+        bind(RegionPermissionTables.class).in(Singleton.class);
         bind(RegionRoleRepository.class).to(JdbcRegionRoleRepository.class).in(Singleton.class);
         bind(MemberRegionRoleRepository.class).to(JdbcMemberRegionRoleRepository.class).in(Singleton.class);
         bind(RegionTypeLimitRepository.class).to(JdbcRegionTypeLimitRepository.class).in(Singleton.class);
@@ -200,8 +224,9 @@ public class GuildsModule extends AbstractModule {
         bind(AutoClaimManager.class).in(Singleton.class);
         bind(AutoClaimListener.class).in(Singleton.class);
 
-        // Claim logging system - using JDBC implementation
-        bind(ChunkClaimLogRepository.class).to(JdbcChunkClaimLogRepository.class).in(Singleton.class);
+        // Claim logging system - JDBC storage behind an asynchronous batching writer
+        bind(ChunkClaimLogRepository.class).annotatedWith(com.google.inject.name.Names.named("persisted")).to(JdbcChunkClaimLogRepository.class).in(Singleton.class);
+        bind(ChunkClaimLogRepository.class).to(AsyncChunkClaimLogRepository.class).in(Singleton.class);
 
         // Invite system
         bind(InviteRepository.class).to(JdbcInviteRepository.class).in(Singleton.class);
@@ -215,6 +240,8 @@ public class GuildsModule extends AbstractModule {
         // Guild lifecycle service (used by progression system)
         bind(org.aincraft.service.GuildLifecycleService.class).in(Singleton.class);
         bind(org.aincraft.service.PermissionService.class).in(Singleton.class);
+        bind(org.aincraft.service.PermissionDecisionCache.class).in(Singleton.class);
+        bind(org.aincraft.service.MemberPermissionCache.class).in(Singleton.class);
         bind(org.aincraft.service.GuildMemberService.class).in(Singleton.class);
         bind(org.aincraft.service.TerritoryService.class).in(Singleton.class);
         bind(org.aincraft.service.SpawnService.class).in(Singleton.class);
@@ -258,6 +285,12 @@ public class GuildsModule extends AbstractModule {
         bind(GuildProgressionRepository.class).to(JdbcGuildProgressionRepository.class).in(Singleton.class);
         bind(ProgressionLogRepository.class).to(JdbcProgressionLogRepository.class).in(Singleton.class);
         bind(ProgressionService.class).in(Singleton.class);
+        bind(XpAccumulator.class).in(Singleton.class);
+        bind(ContributionIndex.class).in(Singleton.class);
+
+        // Server-wide guild leaderboards
+        bind(GuildLeaderboard.class).in(Singleton.class);
+        bind(LeaderboardService.class).in(Singleton.class);
         bind(ProgressionConfig.class).in(Singleton.class);
         bind(ProgressionXpListener.class).in(Singleton.class);
         bind(ProgressionPlaytimeTask.class).in(Singleton.class);
@@ -271,6 +304,7 @@ public class GuildsModule extends AbstractModule {
         bind(DisbandComponent.class).in(Singleton.class);
         bind(InfoComponent.class).in(Singleton.class);
         bind(ListComponent.class).in(Singleton.class);
+        bind(TopComponent.class).in(Singleton.class);
         bind(SpawnComponent.class).in(Singleton.class);
         bind(SetspawnComponent.class).in(Singleton.class);
         bind(ColorComponent.class).in(Singleton.class);
@@ -394,7 +428,7 @@ public class GuildsModule extends AbstractModule {
     ConnectionProvider provideConnectionProvider(DatabaseConfig config) {
         ConnectionProvider provider;
         if (config.getType() == DatabaseType.SQLITE) {
-            provider = new DirectConnectionProvider(config);
+            provider = new SQLiteConnectionProvider(config);
         } else {
             provider = new HikariConnectionProvider(config);
         }
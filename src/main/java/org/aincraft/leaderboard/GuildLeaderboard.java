@@ -0,0 +1,162 @@
+package org.aincraft.leaderboard;
+
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.aincraft.util.ScoreRanking;
+
+/**
+ * Memory-resident, server-wide rankings of guilds, one per {@link LeaderboardMetric}.
+ * <p>
+ * Each ranking is updated in place as guilds change, so a page of any leaderboard and a guild's
+ * rank are read in O(log n) without loading guilds. A guild enters every ranking, at each metric's
+ * initial value, when it gains its first member and leaves them all when its members are removed
+ * on deletion. Updates for guilds not on the leaderboard are ignored, so late writes cannot revive
+ * a deleted guild.
+ * <p>
+ * Bulk-loaded at startup by {@link LeaderboardService}.
+ * Thread-safe: lookups take a shared read lock, mutations an exclusive write lock.
+ */
+@Singleton
+public class GuildLeaderboard {
+    private final Map<LeaderboardMetric, ScoreRanking> rankings = new EnumMap<>(LeaderboardMetric.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public GuildLeaderboard() {
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            rankings.put(metric, new ScoreRanking());
+        }
+    }
+
+    /**
+     * Adds a guild to every ranking at the metric's initial value, if not already present.
+     */
+    public void addGuild(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        lock.writeLock().lock();
+        try {
+            rankings.forEach((metric, ranking) -> {
+                if (!ranking.contains(guildId)) {
+                    ranking.set(guildId, metric.getInitialValue());
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a guild from every ranking.
+     */
+    public void removeGuild(UUID guildId) {
+        lock.writeLock().lock();
+        try {
+            for (ScoreRanking ranking : rankings.values()) {
+                ranking.remove(guildId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sets a guild's value for a metric, if the guild is on the leaderboard.
+     */
+    public void set(UUID guildId, LeaderboardMetric metric, long value) {
+        lock.writeLock().lock();
+        try {
+            ScoreRanking ranking = rankings.get(metric);
+            if (ranking.contains(guildId)) {
+                ranking.set(guildId, value);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds to a guild's value for a metric, if the guild is on the leaderboard.
+     */
+    public void add(UUID guildId, LeaderboardMetric metric, long delta) {
+        lock.writeLock().lock();
+        try {
+            ScoreRanking ranking = rankings.get(metric);
+            if (ranking.contains(guildId)) {
+                ranking.add(guildId, delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets consecutive entries of a leaderboard.
+     *
+     * @param metric the metric ranked by
+     * @param offset the number of higher-ranked guilds to skip
+     * @param limit maximum number of entries
+     * @return the entries, highest first; empty if {@code offset} is past the end
+     */
+    public List<LeaderboardEntry> getEntries(LeaderboardMetric metric, int offset, int limit) {
+        Objects.requireNonNull(metric, "Metric cannot be null");
+
+        lock.readLock().lock();
+        try {
+            List<LeaderboardEntry> entries = new ArrayList<>();
+            int rank = offset;
+            for (Map.Entry<UUID, Long> entry : rankings.get(metric).range(offset, limit).entrySet()) {
+                entries.add(new LeaderboardEntry(++rank, entry.getKey(), entry.getValue()));
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a guild's rank on a leaderboard.
+     *
+     * @return the 1-based rank, or 0 if the guild is not on the leaderboard
+     */
+    public int getRank(UUID guildId, LeaderboardMetric metric) {
+        lock.readLock().lock();
+        try {
+            return rankings.get(metric).rank(guildId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a guild's value for a metric.
+     *
+     * @return the value, or 0 if the guild is not on the leaderboard
+     */
+    public long getValue(UUID guildId, LeaderboardMetric metric) {
+        lock.readLock().lock();
+        try {
+            return rankings.get(metric).get(guildId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of guilds on the leaderboard.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rankings.get(LeaderboardMetric.MEMBERS).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.aincraft.leaderboard;
+
+import java.util.UUID;
+
+/**
+ * A guild's position on a leaderboard.
+ *
+ * @param rank the 1-based rank
+ * @param guildId the guild ID
+ * @param value the guild's value for the metric
+ */
+public record LeaderboardEntry(int rank, UUID guildId, long value) {
+}
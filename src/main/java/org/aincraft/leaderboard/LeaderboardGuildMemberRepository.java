@@ -0,0 +1,82 @@
+package org.aincraft.leaderboard;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.aincraft.GuildPermission;
+import org.aincraft.MemberPermissions;
+import org.aincraft.storage.GuildMemberRepository;
+
+/**
+ * Write-through decorator that keeps member counts on the {@link GuildLeaderboard} current.
+ * A guild is added to the leaderboard with its first member and removed from it when all of its
+ * members are removed on deletion.
+ */
+@Singleton
+public class LeaderboardGuildMemberRepository implements GuildMemberRepository {
+    private final GuildMemberRepository persistedRepository;
+    private final GuildLeaderboard leaderboard;
+
+    @Inject
+    public LeaderboardGuildMemberRepository(
+            @Named("persisted") GuildMemberRepository persistedRepository,
+            GuildLeaderboard leaderboard) {
+        this.persistedRepository = Objects.requireNonNull(persistedRepository, "persistedRepository cannot be null");
+        this.leaderboard = Objects.requireNonNull(leaderboard, "Leaderboard cannot be null");
+    }
+
+    @Override
+    public boolean addMember(UUID guildId, UUID playerId, MemberPermissions permissions) {
+        boolean added = persistedRepository.addMember(guildId, playerId, permissions);
+        if (added) {
+            leaderboard.addGuild(guildId);
+            leaderboard.add(guildId, LeaderboardMetric.MEMBERS, 1);
+        }
+        return added;
+    }
+
+    @Override
+    public boolean removeMember(UUID guildId, UUID playerId) {
+        boolean removed = persistedRepository.removeMember(guildId, playerId);
+        if (removed) {
+            leaderboard.add(guildId, LeaderboardMetric.MEMBERS, -1);
+        }
+        return removed;
+    }
+
+    @Override
+    public void removeAllMembers(UUID guildId) {
+        persistedRepository.removeAllMembers(guildId);
+        leaderboard.removeGuild(guildId);
+    }
+
+    @Override
+    public Optional<MemberPermissions> getPermissions(UUID guildId, UUID playerId) {
+        return persistedRepository.getPermissions(guildId, playerId);
+    }
+
+    @Override
+    public void setPermissions(UUID guildId, UUID playerId, MemberPermissions permissions) {
+        persistedRepository.setPermissions(guildId, playerId, permissions);
+    }
+
+    @Override
+    public List<UUID> getMembersWithPermission(UUID guildId, GuildPermission permission) {
+        return persistedRepository.getMembersWithPermission(guildId, permission);
+    }
+
+    @Override
+    public Optional<Long> getMemberJoinDate(UUID guildId, UUID playerId) {
+        return persistedRepository.getMemberJoinDate(guildId, playerId);
+    }
+
+    @Override
+    public Map<UUID, Integer> getMemberCounts() {
+        return persistedRepository.getMemberCounts();
+    }
+}
@@ -0,0 +1,60 @@
+package org.aincraft.leaderboard;
+
+import org.aincraft.progression.GuildProgression;
+
+/**
+ * A statistic guilds are ranked by on the server-wide leaderboard.
+ */
+public enum LeaderboardMetric {
+    LEVEL("Level", GuildProgression.MIN_LEVEL),
+    XP("Total XP", 0),
+    CHUNKS("Claimed Chunks", 0),
+    MEMBERS("Members", 0),
+    PROJECTS("Projects Completed", 0);
+
+    private final String displayName;
+    private final long initialValue;
+
+    LeaderboardMetric(String displayName, long initialValue) {
+        this.displayName = displayName;
+        this.initialValue = initialValue;
+    }
+
+    /**
+     * Gets the name shown in leaderboard headers.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the value of a newly created guild.
+     */
+    public long getInitialValue() {
+        return initialValue;
+    }
+
+    /**
+     * Gets the name used as a command argument (e.g. {@code chunks}).
+     */
+    public String getKey() {
+        return name().toLowerCase();
+    }
+
+    /**
+     * Parses a metric from its command argument.
+     *
+     * @param value the command argument
+     * @return the metric, or null if the value is not recognised
+     */
+    public static LeaderboardMetric fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
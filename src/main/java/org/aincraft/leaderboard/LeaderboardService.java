@@ -0,0 +1,138 @@
+package org.aincraft.leaderboard;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.aincraft.Guild;
+import org.aincraft.progression.GuildProgression;
+import org.aincraft.progression.storage.GuildProgressionRepository;
+import org.aincraft.project.storage.GuildProjectRepository;
+import org.aincraft.service.GuildLifecycleService;
+import org.aincraft.storage.ChunkClaimRepository;
+import org.aincraft.storage.GuildMemberRepository;
+
+/**
+ * Serves pages of the server-wide guild leaderboards.
+ * <p>
+ * The {@link GuildLeaderboard} is bulk-loaded on construction from per-guild aggregates (member
+ * counts, claimed chunk counts, progression rows and completed project counts), never from full
+ * guild records, and is kept current by the services and repositories that change those values.
+ * A page query reads one slice of a ranking and loads only the guilds on that page.
+ */
+@Singleton
+public class LeaderboardService {
+    private final GuildLeaderboard leaderboard;
+    private final GuildLifecycleService lifecycleService;
+
+    @Inject
+    public LeaderboardService(GuildLeaderboard leaderboard,
+                              GuildLifecycleService lifecycleService,
+                              GuildMemberRepository memberRepository,
+                              ChunkClaimRepository chunkClaimRepository,
+                              GuildProgressionRepository progressionRepository,
+                              GuildProjectRepository projectRepository,
+                              @Named("guilds") Logger logger) {
+        this.leaderboard = Objects.requireNonNull(leaderboard, "Leaderboard cannot be null");
+        this.lifecycleService = Objects.requireNonNull(lifecycleService, "Lifecycle service cannot be null");
+        Objects.requireNonNull(memberRepository, "Member repository cannot be null");
+        Objects.requireNonNull(chunkClaimRepository, "Chunk claim repository cannot be null");
+        Objects.requireNonNull(progressionRepository, "Progression repository cannot be null");
+        Objects.requireNonNull(projectRepository, "Project repository cannot be null");
+        Objects.requireNonNull(logger, "Logger cannot be null");
+
+        // Only guilds with members exist; aggregates left behind by deleted guilds are skipped
+        memberRepository.getMemberCounts().forEach((guildId, members) -> {
+            leaderboard.addGuild(guildId);
+            leaderboard.set(guildId, LeaderboardMetric.MEMBERS, members);
+            // Served from the in-memory claim index
+            leaderboard.set(guildId, LeaderboardMetric.CHUNKS, chunkClaimRepository.getChunkCount(guildId));
+        });
+        for (GuildProgression progression : progressionRepository.findAll()) {
+            leaderboard.set(progression.getGuildId(), LeaderboardMetric.LEVEL, progression.getLevel());
+            leaderboard.set(progression.getGuildId(), LeaderboardMetric.XP, progression.getTotalXpEarned());
+        }
+        projectRepository.countCompletedByGuild().forEach((guildId, completed) ->
+            leaderboard.set(guildId, LeaderboardMetric.PROJECTS, completed));
+        logger.info("Loaded " + leaderboard.size() + " guilds into the leaderboards");
+    }
+
+    /**
+     * Gets one page of a leaderboard.
+     *
+     * @param metric the metric ranked by
+     * @param page the 1-based page number
+     * @param pageSize the number of guilds per page
+     * @return the page's standings, highest first; empty if the page is past the end
+     */
+    public List<Standing> getPage(LeaderboardMetric metric, int page, int pageSize) {
+        Objects.requireNonNull(metric, "Metric cannot be null");
+        if (page < 1 || pageSize < 1) {
+            throw new IllegalArgumentException("Page and page size must be positive");
+        }
+
+        List<LeaderboardEntry> entries = leaderboard.getEntries(metric, (page - 1) * pageSize, pageSize);
+        if (entries.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<UUID> guildIds = entries.stream().map(LeaderboardEntry::guildId).toList();
+        Map<UUID, Guild> guilds = lifecycleService.getGuildsById(guildIds);
+
+        List<Standing> standings = new ArrayList<>(entries.size());
+        for (LeaderboardEntry entry : entries) {
+            Guild guild = guilds.get(entry.guildId());
+            if (guild != null) {
+                standings.add(new Standing(entry.rank(), guild, entry.value()));
+            }
+        }
+        return standings;
+    }
+
+    /**
+     * Gets the number of pages in each leaderboard.
+     *
+     * @param pageSize the number of guilds per page
+     * @return the page count, at least 1
+     */
+    public int getPageCount(int pageSize) {
+        return Math.max(1, (leaderboard.size() + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Gets a guild's rank on a leaderboard.
+     *
+     * @return the 1-based rank, or 0 if the guild is not ranked
+     */
+    public int getRank(UUID guildId, LeaderboardMetric metric) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(metric, "Metric cannot be null");
+        return leaderboard.getRank(guildId, metric);
+    }
+
+    /**
+     * Gets a guild's value for a metric.
+     *
+     * @return the value, or 0 if the guild is not ranked
+     */
+    public long getValue(UUID guildId, LeaderboardMetric metric) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(metric, "Metric cannot be null");
+        return leaderboard.getValue(guildId, metric);
+    }
+
+    /**
+     * A ranked guild on a leaderboard page.
+     *
+     * @param rank the 1-based rank
+     * @param guild the guild
+     * @param value the guild's value for the metric
+     */
+    public record Standing(int rank, Guild guild, long value) {
+    }
+}
@@ -3,22 +3,25 @@ package org.aincraft.listeners;
 import com.google.inject.Inject;
 import java.util.Optional;
 import java.util.UUID;
-import org.aincraft.ChunkKey;
 import org.aincraft.Guild;
 import org.aincraft.GuildDefaultPermissionsService;
 import org.aincraft.GuildPermission;
+import org.aincraft.PackedChunkKey;
 import org.aincraft.RelationType;
 import org.aincraft.RelationshipService;
 import dev.mintychochip.mint.Mint;
 import org.aincraft.service.GuildMemberService;
+import org.aincraft.service.PermissionDecisionCache;
 import org.aincraft.service.PermissionService;
 import org.aincraft.service.TerritoryService;
 import org.aincraft.subregion.SubjectType;
 import org.aincraft.subregion.Subregion;
 import org.aincraft.subregion.SubregionService;
+import org.aincraft.util.LongHashSet;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Minecart;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -35,6 +38,7 @@ import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerInteractAtEntityEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 /**
  * Event listener for protecting guild-claimed chunks and subregions.
@@ -47,6 +51,7 @@ public class GuildProtectionListener implements Listener {
     private final SubregionService subregionService;
     private final RelationshipService relationshipService;
     private final GuildDefaultPermissionsService guildDefaultPermissionsService;
+    private final PermissionDecisionCache decisionCache;
 
     @Inject
     public GuildProtectionListener(TerritoryService territoryService,
@@ -54,13 +59,15 @@ public class GuildProtectionListener implements Listener {
                                    PermissionService permissionService,
                                    SubregionService subregionService,
                                    RelationshipService relationshipService,
-                                   GuildDefaultPermissionsService guildDefaultPermissionsService) {
+                                   GuildDefaultPermissionsService guildDefaultPermissionsService,
+                                   PermissionDecisionCache decisionCache) {
         this.territoryService = territoryService;
         this.memberService = memberService;
         this.permissionService = permissionService;
         this.subregionService = subregionService;
         this.relationshipService = relationshipService;
         this.guildDefaultPermissionsService = guildDefaultPermissionsService;
+        this.decisionCache = decisionCache;
     }
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
@@ -177,6 +184,9 @@ public class GuildProtectionListener implements Listener {
     /**
      * Checks if a player can perform an action at a location.
      * Priority: Admin bypass > Subregion permissions > Guild/relationship chunk permissions
+     * <p>
+     * Decisions are cached per player, owning guild or subregion, and permission; only the chunk
+     * owner and the subregion at the location are resolved on every call.
      */
     private boolean canPerformAction(Player player, Location loc, GuildPermission permission) {
         // Check for admin bypass permission
@@ -185,55 +195,58 @@ public class GuildProtectionListener implements Listener {
         }
 
         // Check if location is in a claimed chunk
-        ChunkKey chunk = ChunkKey.from(loc.getChunk());
-        Guild chunkOwner = territoryService.getChunkOwner(chunk);
+        UUID chunkOwnerId = territoryService.getChunkOwnerIdAt(
+                loc.getWorld().getName(), loc.getBlockX(), loc.getBlockZ());
 
         // Not claimed - allow action
-        if (chunkOwner == null) {
+        if (chunkOwnerId == null) {
             return true;
         }
 
-        // Check if player is in the owning guild
-        Guild playerGuild = memberService.getPlayerGuild(player.getUniqueId());
-
-        // Same guild - check subregion first
-        if (playerGuild != null && playerGuild.getId().equals(chunkOwner.getId())) {
-            // Check subregion permission first
-            Optional<Subregion> subregionOpt = subregionService.getSubregionAt(loc);
-            if (subregionOpt.isPresent()) {
-                return subregionService.hasSubregionPermission(
-                        subregionOpt.get(), player.getUniqueId(), permission);
-            }
+        Optional<Subregion> subregionOpt = subregionService.getSubregionAt(loc);
+        UUID regionId = subregionOpt.map(Subregion::getId).orElse(null);
+        UUID playerId = player.getUniqueId();
 
-            // No subregion - check guild permission
-            return permissionService.hasPermission(chunkOwner.getId(), player.getUniqueId(), permission);
+        Boolean cached = decisionCache.get(playerId, chunkOwnerId, regionId, permission);
+        if (cached != null) {
+            return cached;
         }
 
-        // Different guild or no guild - check relationship permissions
-        return checkRelationshipPermissions(player, loc, permission, chunkOwner, playerGuild);
+        long generation = decisionCache.generation();
+        boolean allowed = decide(playerId, chunkOwnerId, subregionOpt, permission);
+        decisionCache.put(playerId, chunkOwnerId, regionId, permission, allowed, generation);
+        return allowed;
     }
 
     /**
-     * Checks if a player from a different guild has permission based on guild relationships.
+     * Computes whether a player may act in a guild's territory, ignoring the cache.
      */
-    private boolean checkRelationshipPermissions(Player player, Location loc, GuildPermission permission,
-                                                  Guild chunkOwner, Guild playerGuild) {
-        // Check subregion first (allows region-specific permission overrides)
-        Optional<Subregion> subregionOpt = subregionService.getSubregionAt(loc);
+    private boolean decide(UUID playerId, UUID chunkOwnerId, Optional<Subregion> subregionOpt,
+                           GuildPermission permission) {
+        // Subregion permissions apply to members and outsiders alike (region-specific overrides)
         if (subregionOpt.isPresent()) {
-            return subregionService.hasSubregionPermission(
-                    subregionOpt.get(), player.getUniqueId(), permission);
+            return subregionService.hasSubregionPermission(subregionOpt.get(), playerId, permission);
         }
 
-        // No subregion - check guild default relationship permissions
-        // Determine relationship type
-        SubjectType subjectType = mapRelationToSubjectType(chunkOwner.getId(), playerGuild);
+        // Check if player is in the owning guild
+        Guild playerGuild = memberService.getPlayerGuild(playerId);
 
-        // Get relationship-based permissions
-        int permissions = guildDefaultPermissionsService.getPermissions(chunkOwner.getId(), subjectType);
+        // Same guild - check guild permission
+        if (playerGuild != null && playerGuild.getId().equals(chunkOwnerId)) {
+            return permissionService.hasPermission(chunkOwnerId, playerId, permission);
+        }
+
+        // Different guild or no guild - check guild default relationship permissions
+        SubjectType subjectType = mapRelationToSubjectType(chunkOwnerId, playerGuild);
+        int permissions = guildDefaultPermissionsService.getPermissions(chunkOwnerId, subjectType);
         return (permissions & permission.getBit()) != 0;
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        decisionCache.invalidatePlayer(event.getPlayer().getUniqueId());
+    }
+
     /**
      * Maps a guild relationship to a SubjectType for permission checking.
      */
@@ -256,21 +269,28 @@ public class GuildProtectionListener implements Listener {
             return;
         }
 
-        // Check if any blocks are in protected guild territory
+        // Explosions touch hundreds of blocks but only a handful of chunks,
+        // so resolve the protection decision once per chunk and filter in one pass
+        int worldId = PackedChunkKey.worldId(event.blockList().get(0).getWorld().getName());
+        LongHashSet checkedChunks = new LongHashSet();
+        LongHashSet protectedChunks = new LongHashSet();
         event.blockList().removeIf(block -> {
-            ChunkKey chunk = ChunkKey.from(block.getChunk());
-            Guild owner = territoryService.getChunkOwner(chunk);
-
-            // Not claimed - allow
-            if (owner == null) {
-                return false;
+            long chunk = PackedChunkKey.ofBlock(worldId, block.getX(), block.getZ());
+            if (checkedChunks.add(chunk) && isExplosionProtected(chunk)) {
+                protectedChunks.add(chunk);
             }
-
-            // Check if explosions are disabled for this guild
-            return !owner.isExplosionsAllowed();
+            return protectedChunks.contains(chunk);
         });
     }
 
+    /**
+     * Checks whether a chunk is claimed by a guild that has explosions disabled.
+     */
+    private boolean isExplosionProtected(long packedChunk) {
+        Guild owner = territoryService.getChunkOwner(packedChunk);
+        return owner != null && !owner.isExplosionsAllowed();
+    }
+
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
         // Only check for explosive entity damage (TNT, Creeper, Wither, etc.)
@@ -279,8 +299,7 @@ public class GuildProtectionListener implements Listener {
         }
 
         // Check if damaged entity is in a guild-claimed chunk
-        ChunkKey chunk = ChunkKey.from(event.getEntity().getLocation().getChunk());
-        Guild owner = territoryService.getChunkOwner(chunk);
+        Guild owner = getOwnerAt(event.getEntity().getLocation());
 
         // Not claimed - allow
         if (owner == null) {
@@ -307,9 +326,7 @@ public class GuildProtectionListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onBlockIgnite(BlockIgniteEvent event) {
-        Location loc = event.getBlock().getLocation();
-        ChunkKey chunk = ChunkKey.from(loc.getChunk());
-        Guild owner = territoryService.getChunkOwner(chunk);
+        Guild owner = getOwnerAt(event.getBlock());
 
         // Not claimed - allow
         if (owner == null) {
@@ -324,9 +341,7 @@ public class GuildProtectionListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onBlockBurn(BlockBurnEvent event) {
-        Location loc = event.getBlock().getLocation();
-        ChunkKey chunk = ChunkKey.from(loc.getChunk());
-        Guild owner = territoryService.getChunkOwner(chunk);
+        Guild owner = getOwnerAt(event.getBlock());
 
         // Not claimed - allow
         if (owner == null) {
@@ -346,9 +361,7 @@ public class GuildProtectionListener implements Listener {
             return;
         }
 
-        Location loc = event.getBlock().getLocation();
-        ChunkKey chunk = ChunkKey.from(loc.getChunk());
-        Guild owner = territoryService.getChunkOwner(chunk);
+        Guild owner = getOwnerAt(event.getBlock());
 
         // Not claimed - allow
         if (owner == null) {
@@ -363,30 +376,31 @@ public class GuildProtectionListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onPistonExtend(BlockPistonExtendEvent event) {
-        ChunkKey pistonChunk = ChunkKey.from(event.getBlock().getChunk());
+        Block piston = event.getBlock();
+        BlockFace direction = event.getDirection();
+        int worldId = PackedChunkKey.worldId(piston.getWorld().getName());
+        long pistonChunk = PackedChunkKey.ofBlock(worldId, piston.getX(), piston.getZ());
         Guild pistonOwner = territoryService.getChunkOwner(pistonChunk);
 
-        for (Block block : event.getBlocks()) {
-            // Check the destination where block will be pushed to
-            Block destination = block.getRelative(event.getDirection());
-            ChunkKey destChunk = ChunkKey.from(destination.getChunk());
-            Guild destOwner = territoryService.getChunkOwner(destChunk);
+        // Check each distinct chunk once: the piston head plus every destination a block is pushed to.
+        // The piston's own chunk trivially matches and is skipped.
+        LongHashSet checkedChunks = new LongHashSet();
+        checkedChunks.add(pistonChunk);
+
+        int dx = direction.getModX();
+        int dz = direction.getModZ();
+        if (!isSameOwner(pistonOwner, worldId, piston.getX() + dx, piston.getZ() + dz, checkedChunks)) {
+            event.setCancelled(true);
+            return;
+        }
 
+        for (Block block : event.getBlocks()) {
             // Cancel if pushing into a different claim (or into claimed from unclaimed)
-            if (!isSameOwner(pistonOwner, destOwner)) {
+            if (!isSameOwner(pistonOwner, worldId, block.getX() + dx, block.getZ() + dz, checkedChunks)) {
                 event.setCancelled(true);
                 return;
             }
         }
-
-        // Also check if piston head extends into different claim
-        Block pistonHead = event.getBlock().getRelative(event.getDirection());
-        ChunkKey headChunk = ChunkKey.from(pistonHead.getChunk());
-        Guild headOwner = territoryService.getChunkOwner(headChunk);
-
-        if (!isSameOwner(pistonOwner, headOwner)) {
-            event.setCancelled(true);
-        }
     }
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
@@ -395,21 +409,50 @@ public class GuildProtectionListener implements Listener {
             return; // Non-sticky pistons don't pull blocks
         }
 
-        ChunkKey pistonChunk = ChunkKey.from(event.getBlock().getChunk());
+        Block piston = event.getBlock();
+        int worldId = PackedChunkKey.worldId(piston.getWorld().getName());
+        long pistonChunk = PackedChunkKey.ofBlock(worldId, piston.getX(), piston.getZ());
         Guild pistonOwner = territoryService.getChunkOwner(pistonChunk);
 
-        for (Block block : event.getBlocks()) {
-            ChunkKey blockChunk = ChunkKey.from(block.getChunk());
-            Guild blockOwner = territoryService.getChunkOwner(blockChunk);
+        LongHashSet checkedChunks = new LongHashSet();
+        checkedChunks.add(pistonChunk);
 
+        for (Block block : event.getBlocks()) {
             // Cancel if pulling from a different claim
-            if (!isSameOwner(pistonOwner, blockOwner)) {
+            if (!isSameOwner(pistonOwner, worldId, block.getX(), block.getZ(), checkedChunks)) {
                 event.setCancelled(true);
                 return;
             }
         }
     }
 
+    /**
+     * Checks whether the chunk containing a block has the given owner, skipping chunks
+     * already verified during this event.
+     */
+    private boolean isSameOwner(Guild owner, int worldId, int blockX, int blockZ, LongHashSet checkedChunks) {
+        long chunk = PackedChunkKey.ofBlock(worldId, blockX, blockZ);
+        if (!checkedChunks.add(chunk)) {
+            return true;
+        }
+        return isSameOwner(owner, territoryService.getChunkOwner(chunk));
+    }
+
+    /**
+     * Gets the guild owning the chunk containing a block, using block coordinates so
+     * the chunk itself is never loaded or wrapped in a ChunkKey.
+     */
+    private Guild getOwnerAt(Block block) {
+        return territoryService.getChunkOwnerAt(block.getWorld().getName(), block.getX(), block.getZ());
+    }
+
+    /**
+     * Gets the guild owning the chunk containing a location.
+     */
+    private Guild getOwnerAt(Location loc) {
+        return territoryService.getChunkOwnerAt(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockZ());
+    }
+
     /**
      * Checks if two guild owners are the same (including both being null/unclaimed).
      */
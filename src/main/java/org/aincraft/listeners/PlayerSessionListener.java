@@ -0,0 +1,95 @@
+package org.aincraft.listeners;
+
+import com.google.inject.Inject;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.aincraft.GuildService;
+import org.aincraft.service.MemberPermissionCache;
+import org.aincraft.service.PermissionDecisionCache;
+import org.aincraft.storage.PlayerSessionCache;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Opens a player's session while they log in and closes it when they leave.
+ * The session, the cached guild and the member's effective permissions are all loaded on the
+ * async pre-login thread, so nothing the player does afterwards waits on the database.
+ */
+public class PlayerSessionListener implements Listener {
+    // Far longer than the login phase; a session still pending after this lost its connection
+    private static final long LOGIN_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final PlayerSessionCache sessionCache;
+    private final MemberPermissionCache permissionCache;
+    private final PermissionDecisionCache decisionCache;
+    private final GuildService guildService;
+
+    @Inject
+    public PlayerSessionListener(PlayerSessionCache sessionCache, MemberPermissionCache permissionCache,
+                                 PermissionDecisionCache decisionCache, GuildService guildService) {
+        this.sessionCache = Objects.requireNonNull(sessionCache, "Session cache cannot be null");
+        this.permissionCache = Objects.requireNonNull(permissionCache, "Permission cache cannot be null");
+        this.decisionCache = Objects.requireNonNull(decisionCache, "Decision cache cannot be null");
+        this.guildService = Objects.requireNonNull(guildService, "Guild service cannot be null");
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+
+        UUID playerId = event.getUniqueId();
+        sessionCache.open(playerId);
+
+        // Warm the role and permission cache while still off the main thread
+        UUID guildId = sessionCache.get(playerId).guildId();
+        if (guildId != null) {
+            guildService.getEffectivePermissions(guildId, playerId);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent event) {
+        // Another plugin refused the login after pre-login opened the session
+        UUID playerId = event.getPlayer().getUniqueId();
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED && sessionCache.abandon(playerId)) {
+            invalidate(playerId);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        if (!sessionCache.join(playerId)) {
+            // No pre-login session survived; load it here rather than leave the player without one
+            sessionCache.open(playerId);
+            sessionCache.join(playerId);
+        }
+
+        // Connections dropped between pre-login and login fire no event to close their sessions
+        for (UUID abandoned : sessionCache.closeAbandoned(System.currentTimeMillis() - LOGIN_TIMEOUT_MILLIS)) {
+            invalidate(abandoned);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        // A connection displaced by a duplicate login quits after the new one opened its session
+        UUID playerId = event.getPlayer().getUniqueId();
+        if (sessionCache.leave(playerId)) {
+            invalidate(playerId);
+        }
+    }
+
+    private void invalidate(UUID playerId) {
+        permissionCache.invalidatePlayer(playerId);
+        decisionCache.invalidatePlayer(playerId);
+    }
+}
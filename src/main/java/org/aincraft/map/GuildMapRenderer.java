@@ -5,8 +5,10 @@ import dev.mintychochip.mint.Mint;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
@@ -76,6 +78,11 @@ public class GuildMapRenderer {
         // Batch query all chunk ownership data
         Map<ChunkKey, ChunkClaimData> claimData = chunkClaimRepository.getOwnersForChunks(chunksToQuery);
 
+        // Resolve every owning guild at once instead of once per chunk
+        Set<UUID> ownerIds = new HashSet<>();
+        claimData.values().forEach(data -> ownerIds.add(data.guildId()));
+        Map<UUID, Guild> owners = lifecycleService.getGuildsById(ownerIds);
+
         // Send header
         sendHeader(player, playerChunkX, playerChunkZ);
 
@@ -97,7 +104,7 @@ public class GuildMapRenderer {
             // Build chunk row
             for (int x = -radius; x <= radius; x++) {
                 ChunkKey chunk = new ChunkKey(player.getWorld().getName(), playerChunkX + x, playerChunkZ + z);
-                Component chunkComponent = buildChunkComponent(chunk, claimData, playerGuild, x == 0 && z == 0);
+                Component chunkComponent = buildChunkComponent(chunk, claimData, owners, playerGuild, x == 0 && z == 0);
                 rowBuilder.append(chunkComponent);
             }
 
@@ -200,7 +207,7 @@ public class GuildMapRenderer {
      * Builds a single chunk component with appropriate symbol, color, and hover tooltip.
      */
     private Component buildChunkComponent(ChunkKey chunk, Map<ChunkKey, ChunkClaimData> claimData,
-                                         Guild playerGuild, boolean isPlayerLocation) {
+                                         Map<UUID, Guild> owners, Guild playerGuild, boolean isPlayerLocation) {
         if (isPlayerLocation) {
             // Player location: aqua @ symbol
             return Component.text(MapSymbols.PLAYER + " ")
@@ -214,7 +221,7 @@ public class GuildMapRenderer {
                 .color(NamedTextColor.DARK_GRAY);
         }
 
-        Guild owner = lifecycleService.getGuildById(data.guildId());
+        Guild owner = owners.get(data.guildId());
         if (owner == null) {
             return Component.text(MapSymbols.UNKNOWN + " ").color(NamedTextColor.DARK_GRAY);
         }
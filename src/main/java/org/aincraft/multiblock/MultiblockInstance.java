@@ -41,11 +41,19 @@ public record MultiblockInstance(
         if (loc == null || loc.getWorld() == null) {
             return false;
         }
-        String worldName = loc.getWorld().getName();
-        int x = loc.getBlockX();
-        int y = loc.getBlockY();
-        int z = loc.getBlockZ();
+        return containsBlock(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
 
+    /**
+     * Checks if a block position is part of this multiblock.
+     *
+     * @param worldName the world name
+     * @param x the block x coordinate
+     * @param y the block y coordinate
+     * @param z the block z coordinate
+     * @return true if the position is part of this multiblock
+     */
+    public boolean containsBlock(String worldName, int x, int y, int z) {
         return blockLocations.stream().anyMatch(l ->
                 l.getWorld() != null &&
                         l.getWorld().getName().equals(worldName) &&
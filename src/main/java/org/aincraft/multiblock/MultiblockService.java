@@ -8,9 +8,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import org.aincraft.ChunkKey;
+import org.aincraft.PackedChunkKey;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -21,16 +20,14 @@ import org.bukkit.block.Block;
  */
 @Singleton
 public class MultiblockService {
-    private static final int CHUNK_SHIFT = 4; // Block coordinates to chunk coordinates (right shift 4 = divide by 16)
-
     private final MultiblockRegistry registry;
     private final MultiblockDetector detector;
 
     // Active instances: patternId -> (instanceId -> instance)
     private final Map<String, Map<String, MultiblockInstance>> activeInstances = new ConcurrentHashMap<>();
 
-    // Spatial index for fast lookup: chunk -> instance IDs
-    private final Map<ChunkKey, Set<String>> chunkIndex = new ConcurrentHashMap<>();
+    // Spatial index for fast lookup: packed chunk -> (instanceId -> instance)
+    private final Map<Long, Map<String, MultiblockInstance>> chunkIndex = new ConcurrentHashMap<>();
 
     @Inject
     public MultiblockService(MultiblockRegistry registry) {
@@ -66,14 +63,20 @@ public class MultiblockService {
      * @return list of multiblocks that will be broken
      */
     public List<MultiblockInstance> checkBreaking(Block block) {
-        Location loc = block.getLocation();
-        List<MultiblockInstance> breaking = new ArrayList<>();
+        String world = block.getWorld().getName();
+        int x = block.getX();
+        int y = block.getY();
+        int z = block.getZ();
+
+        Map<String, MultiblockInstance> candidates = chunkIndex.get(PackedChunkKey.ofBlock(world, x, z));
+        if (candidates == null) {
+            return new ArrayList<>();
+        }
 
-        for (Map<String, MultiblockInstance> instances : activeInstances.values()) {
-            for (MultiblockInstance instance : instances.values()) {
-                if (instance.containsBlock(loc)) {
-                    breaking.add(instance);
-                }
+        List<MultiblockInstance> breaking = new ArrayList<>();
+        for (MultiblockInstance instance : candidates.values()) {
+            if (instance.containsBlock(world, x, y, z)) {
+                breaking.add(instance);
             }
         }
         return breaking;
@@ -92,13 +95,9 @@ public class MultiblockService {
         // Update chunk index
         for (Location loc : instance.blockLocations()) {
             if (loc.getWorld() != null) {
-                ChunkKey chunk = new ChunkKey(
-                        loc.getWorld().getName(),
-                        loc.getBlockX() >> CHUNK_SHIFT,
-                        loc.getBlockZ() >> CHUNK_SHIFT
-                );
-                chunkIndex.computeIfAbsent(chunk, k -> ConcurrentHashMap.newKeySet())
-                        .add(instance.instanceId());
+                long chunk = PackedChunkKey.ofBlock(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockZ());
+                chunkIndex.computeIfAbsent(chunk, k -> new ConcurrentHashMap<>())
+                        .put(instance.instanceId(), instance);
             }
         }
     }
@@ -116,15 +115,12 @@ public class MultiblockService {
 
         for (Location loc : instance.blockLocations()) {
             if (loc.getWorld() != null) {
-                ChunkKey chunk = new ChunkKey(
-                        loc.getWorld().getName(),
-                        loc.getBlockX() >> CHUNK_SHIFT,
-                        loc.getBlockZ() >> CHUNK_SHIFT
-                );
-                Set<String> chunkInstances = chunkIndex.get(chunk);
-                if (chunkInstances != null) {
+                long chunk = PackedChunkKey.ofBlock(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockZ());
+                // Drop emptied chunk entries so the index does not grow with every broken multiblock
+                chunkIndex.computeIfPresent(chunk, (k, chunkInstances) -> {
                     chunkInstances.remove(instance.instanceId());
-                }
+                    return chunkInstances.isEmpty() ? null : chunkInstances;
+                });
             }
         }
     }
@@ -136,11 +132,30 @@ public class MultiblockService {
      * @return the instance, or empty if none found
      */
     public Optional<MultiblockInstance> getInstanceAt(Location loc) {
-        for (Map<String, MultiblockInstance> instances : activeInstances.values()) {
-            for (MultiblockInstance instance : instances.values()) {
-                if (instance.containsBlock(loc)) {
-                    return Optional.of(instance);
-                }
+        if (loc == null || loc.getWorld() == null) {
+            return Optional.empty();
+        }
+        return getInstanceAt(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    /**
+     * Gets a multiblock instance at the given block position, if any.
+     * Only instances indexed under the position's chunk are examined.
+     *
+     * @param world the world name
+     * @param x the block x coordinate
+     * @param y the block y coordinate
+     * @param z the block z coordinate
+     * @return the instance, or empty if none found
+     */
+    public Optional<MultiblockInstance> getInstanceAt(String world, int x, int y, int z) {
+        Map<String, MultiblockInstance> candidates = chunkIndex.get(PackedChunkKey.ofBlock(world, x, z));
+        if (candidates == null) {
+            return Optional.empty();
+        }
+        for (MultiblockInstance instance : candidates.values()) {
+            if (instance.containsBlock(world, x, y, z)) {
+                return Optional.of(instance);
             }
         }
         return Optional.empty();
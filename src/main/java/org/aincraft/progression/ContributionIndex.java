@@ -0,0 +1,145 @@
+package org.aincraft.progression;
+
+import com.google.inject.Singleton;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.aincraft.util.ScoreRanking;
+
+/**
+ * Memory-resident ranking of each guild's XP contributors, so contributor lists and a player's
+ * rank are served without querying guild_xp_contributions.
+ * <p>
+ * A guild's ranking is loaded on first access by {@link XpAccumulator#loadContributions(UUID)},
+ * which then keeps it current as XP is awarded. Guilds that are not loaded ignore updates.
+ * <p>
+ * Thread-safe: lookups take a shared read lock, mutations an exclusive write lock.
+ */
+@Singleton
+public class ContributionIndex {
+    private final Map<UUID, ScoreRanking> rankings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Checks whether a guild's contributions are loaded.
+     */
+    public boolean isLoaded(UUID guildId) {
+        lock.readLock().lock();
+        try {
+            return rankings.containsKey(guildId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces a guild's ranking with the given contributions.
+     *
+     * @param guildId the guild ID
+     * @param contributions map of player UUID to total XP contributed
+     */
+    public void load(UUID guildId, Map<UUID, Long> contributions) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(contributions, "Contributions cannot be null");
+
+        ScoreRanking ranking = new ScoreRanking();
+        contributions.forEach(ranking::add);
+
+        lock.writeLock().lock();
+        try {
+            rankings.put(guildId, ranking);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds XP to a player's contribution, if the guild is loaded.
+     */
+    public void add(UUID guildId, UUID playerId, long xp) {
+        lock.writeLock().lock();
+        try {
+            ScoreRanking ranking = rankings.get(guildId);
+            if (ranking != null) {
+                ranking.add(playerId, xp);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a guild's ranking.
+     */
+    public void removeGuild(UUID guildId) {
+        lock.writeLock().lock();
+        try {
+            rankings.remove(guildId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a guild's top contributors.
+     *
+     * @return map of player UUID to XP contributed, highest first; empty if the guild is not loaded
+     */
+    public Map<UUID, Long> getTopContributors(UUID guildId, int limit) {
+        lock.readLock().lock();
+        try {
+            ScoreRanking ranking = rankings.get(guildId);
+            return ranking != null ? ranking.top(limit) : new HashMap<>();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a player's total contribution to a guild.
+     *
+     * @return the XP contributed, or 0 if none or the guild is not loaded
+     */
+    public long getContribution(UUID guildId, UUID playerId) {
+        lock.readLock().lock();
+        try {
+            ScoreRanking ranking = rankings.get(guildId);
+            return ranking != null ? ranking.get(playerId) : 0L;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a player's contributor rank within a guild.
+     *
+     * @return the 1-based rank, or 0 if the player has not contributed or the guild is not loaded
+     */
+    public int getRank(UUID guildId, UUID playerId) {
+        lock.readLock().lock();
+        try {
+            ScoreRanking ranking = rankings.get(guildId);
+            return ranking != null ? ranking.rank(playerId) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of players who have contributed to a guild.
+     *
+     * @return the contributor count, or 0 if the guild is not loaded
+     */
+    public int getContributorCount(UUID guildId) {
+        lock.readLock().lock();
+        try {
+            ScoreRanking ranking = rankings.get(guildId);
+            return ranking != null ? ranking.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -9,7 +9,7 @@ import java.util.UUID;
  * Single Responsibility: Guild progression state management.
  */
 public final class GuildProgression {
-    private static final int MIN_LEVEL = 1;
+    public static final int MIN_LEVEL = 1;
 
     private final UUID guildId;
     private int level;
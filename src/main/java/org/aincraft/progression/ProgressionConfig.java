@@ -35,6 +35,9 @@ public class ProgressionConfig {
     private boolean playtimeEnabled;
     private long playtimeXpPerMinute;
     private int playtimeCheckInterval;
+    private long xpFlushIntervalMs;
+    private int logRetentionDays;
+    private int hourlyRollupRetentionDays;
 
     // Rewards
     private int membersPerLevel;
@@ -95,6 +98,24 @@ public class ProgressionConfig {
             playtimeCheckInterval = 60;
         }
 
+        xpFlushIntervalMs = plugin.getConfig().getLong("progression.xp-flush-interval-ms", 5000L);
+        if (xpFlushIntervalMs < 1) {
+            plugin.getLogger().warning("Invalid progression.xp-flush-interval-ms: " + xpFlushIntervalMs + ". Using default: 5000");
+            xpFlushIntervalMs = 5000L;
+        }
+
+        // Log retention - raw XP gain entries are compacted into rollups after this window
+        logRetentionDays = plugin.getConfig().getInt("progression.log.retention-days", 7);
+        if (logRetentionDays < 1) {
+            plugin.getLogger().warning("Invalid progression.log.retention-days: " + logRetentionDays + ". Using default: 7");
+            logRetentionDays = 7;
+        }
+        hourlyRollupRetentionDays = plugin.getConfig().getInt("progression.log.hourly-rollup-retention-days", 30);
+        if (hourlyRollupRetentionDays < 1) {
+            plugin.getLogger().warning("Invalid progression.log.hourly-rollup-retention-days: " + hourlyRollupRetentionDays + ". Using default: 30");
+            hourlyRollupRetentionDays = 30;
+        }
+
         // Rewards
         ConfigurationSection rewardsSection = plugin.getConfig().getConfigurationSection("progression.rewards");
         if (rewardsSection != null) {
@@ -198,6 +219,18 @@ public class ProgressionConfig {
         return playtimeCheckInterval;
     }
 
+    public long getXpFlushIntervalMs() {
+        return xpFlushIntervalMs;
+    }
+
+    public int getLogRetentionDays() {
+        return logRetentionDays;
+    }
+
+    public int getHourlyRollupRetentionDays() {
+        return hourlyRollupRetentionDays;
+    }
+
     public int getMembersPerLevel() {
         return membersPerLevel;
     }
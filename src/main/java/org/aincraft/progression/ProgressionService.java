@@ -16,6 +16,7 @@ import org.bukkit.inventory.ItemStack;
 
 import java.util.*;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service layer for guild progression operations.
@@ -32,6 +33,8 @@ public class ProgressionService {
     private final ProceduralCostGenerator costGenerator;
     private final SkillTreeService skillTreeService;
     private final SkillTreeRegistry skillTreeRegistry;
+    private final XpAccumulator xpAccumulator;
+    private final ContributionIndex contributionIndex;
     private final Map<String, LevelUpCost> costCache = new java.util.concurrent.ConcurrentHashMap<>();
 
     @Inject
@@ -42,7 +45,9 @@ public class ProgressionService {
                               ProgressionConfig config,
                               ProceduralCostGenerator costGenerator,
                               SkillTreeService skillTreeService,
-                              SkillTreeRegistry skillTreeRegistry) {
+                              SkillTreeRegistry skillTreeRegistry,
+                              XpAccumulator xpAccumulator,
+                              ContributionIndex contributionIndex) {
         this.progressionRepository = Objects.requireNonNull(progressionRepository, "Progression repository cannot be null");
         this.logRepository = Objects.requireNonNull(logRepository, "Log repository cannot be null");
         this.lifecycleService = Objects.requireNonNull(lifecycleService, "Lifecycle service cannot be null");
@@ -51,10 +56,13 @@ public class ProgressionService {
         this.costGenerator = Objects.requireNonNull(costGenerator, "Cost generator cannot be null");
         this.skillTreeService = Objects.requireNonNull(skillTreeService, "Skill tree service cannot be null");
         this.skillTreeRegistry = Objects.requireNonNull(skillTreeRegistry, "Skill tree registry cannot be null");
+        this.xpAccumulator = Objects.requireNonNull(xpAccumulator, "XP accumulator cannot be null");
+        this.contributionIndex = Objects.requireNonNull(contributionIndex, "Contribution index cannot be null");
     }
 
     /**
      * Awards XP to a guild and records player contribution.
+     * The XP is accumulated in memory and written in batches by the {@link XpAccumulator}.
      *
      * @param guildId the guild ID
      * @param playerId the player UUID earning the XP
@@ -70,38 +78,47 @@ public class ProgressionService {
             return;
         }
 
-        // Get or create progression
-        GuildProgression progression = getOrCreateProgression(guildId);
-
-        // Check if at max level
-        if (progression.getLevel() >= config.getMaxLevel()) {
-            return; // No XP gain at max level
-        }
+        // Contribution and log record only the amount actually added
+        xpAccumulator.award(guildId, playerId, source, progression -> cappedXp(progression, baseAmount));
+    }
 
-        // Calculate XP cap for current level
-        long xpRequired = calculateXpRequired(progression.getLevel() + 1);
-        long currentXp = progression.getCurrentXp();
-        long xpToAdd = Math.min(baseAmount, xpRequired - currentXp);
+    /**
+     * Awards the same base amount of XP to several players of one guild in a single update.
+     * Safe to call off the main thread: awards, level-ups and admin changes all go through the
+     * {@link XpAccumulator}'s per-guild atomic update, so none of them can overwrite another.
+     *
+     * @param guildId the guild ID
+     * @param playerIds the players earning the XP
+     * @param source the source of the XP
+     * @param baseAmount the base amount of XP per player before multipliers
+     */
+    public void awardXp(UUID guildId, Collection<UUID> playerIds, XpSource source, long baseAmount) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(playerIds, "Player IDs cannot be null");
+        Objects.requireNonNull(source, "XP source cannot be null");
 
-        // Add XP (capped to not exceed requirement)
-        if (xpToAdd > 0) {
-            progression.addXp(xpToAdd);
+        if (baseAmount <= 0) {
+            return;
         }
 
-        // Save progression
-        progressionRepository.save(progression);
+        xpAccumulator.awardAll(guildId, playerIds, source, progression -> cappedXp(progression, baseAmount));
+    }
 
-        // Record contribution (only the amount actually added)
-        progressionRepository.recordContribution(guildId, playerId, xpToAdd);
+    /**
+     * Caps an XP award so it does not exceed the requirement for the next level.
+     *
+     * @param progression the guild's current progression
+     * @param baseAmount the XP to award
+     * @return the XP that can be added, zero or less if none
+     */
+    private long cappedXp(GuildProgression progression, long baseAmount) {
+        // No XP gain at max level
+        if (progression.getLevel() >= config.getMaxLevel()) {
+            return 0L;
+        }
 
-        // Log XP gain (only the amount actually added)
-        logRepository.log(new ProgressionLog(
-            guildId,
-            playerId,
-            ProgressionLog.ActionType.XP_GAIN,
-            xpToAdd,
-            source.name()
-        ));
+        long xpRequired = calculateXpRequired(progression.getLevel() + 1);
+        return Math.min(baseAmount, xpRequired - progression.getCurrentXp());
     }
 
     /**
@@ -202,9 +219,9 @@ public class ProgressionService {
         vault.setContents(contents);
         vaultService.updateVaultContents(vault.getId(), contents);
 
-        // Level up
-        progression.levelUp(xpRequired);
-        progressionRepository.save(progression);
+        // Level up. Concurrent awards only add XP up to the requirement, so it still suffices
+        progression = xpAccumulator.update(guildId, current -> current.levelUp(xpRequired));
+        xpAccumulator.flush(guildId);
 
         // Update guild capacities
         int newMaxMembers = calculateMaxMembers(progression.getLevel());
@@ -277,15 +294,15 @@ public class ProgressionService {
     }
 
     /**
-     * Gets or creates a guild's progression state.
+     * Gets or creates a guild's progression state, including XP not yet written.
      *
      * @param guildId the guild ID
-     * @return the progression
+     * @return a copy of the progression
      */
     public GuildProgression getOrCreateProgression(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
 
-        return progressionRepository.findByGuildId(guildId)
+        return xpAccumulator.getProgression(guildId)
                 .orElseGet(() -> {
                     GuildProgression newProgression = new GuildProgression(guildId);
                     progressionRepository.save(newProgression);
@@ -294,26 +311,27 @@ public class ProgressionService {
     }
 
     /**
-     * Gets the progression for a guild.
+     * Gets the progression for a guild, including XP not yet written.
      *
      * @param guildId the guild ID
      * @return optional progression
      */
     public Optional<GuildProgression> getProgression(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
-        return progressionRepository.findByGuildId(guildId);
+        return xpAccumulator.getProgression(guildId);
     }
 
     /**
-     * Gets the top XP contributors for a guild.
+     * Gets the top XP contributors for a guild, from the in-memory contribution ranking.
      *
      * @param guildId the guild ID
      * @param limit maximum number of contributors
-     * @return map of player UUID to XP contributed
+     * @return map of player UUID to XP contributed, highest first
      */
     public Map<UUID, Long> getTopContributors(UUID guildId, int limit) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
-        return progressionRepository.getTopContributors(guildId, limit);
+        xpAccumulator.loadContributions(guildId);
+        return contributionIndex.getTopContributors(guildId, limit);
     }
 
     /**
@@ -326,7 +344,111 @@ public class ProgressionService {
     public long getPlayerContribution(UUID guildId, UUID playerId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
         Objects.requireNonNull(playerId, "Player ID cannot be null");
-        return progressionRepository.getPlayerContribution(guildId, playerId);
+        xpAccumulator.loadContributions(guildId);
+        return contributionIndex.getContribution(guildId, playerId);
+    }
+
+    /**
+     * Gets a player's contributor rank within their guild.
+     *
+     * @param guildId the guild ID
+     * @param playerId the player UUID
+     * @return the 1-based rank, or 0 if the player has not contributed
+     */
+    public int getContributionRank(UUID guildId, UUID playerId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(playerId, "Player ID cannot be null");
+        xpAccumulator.loadContributions(guildId);
+        return contributionIndex.getRank(guildId, playerId);
+    }
+
+    /**
+     * Gets the number of players who have contributed XP to a guild.
+     *
+     * @param guildId the guild ID
+     * @return the contributor count
+     */
+    public int getContributorCount(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        xpAccumulator.loadContributions(guildId);
+        return contributionIndex.getContributorCount(guildId);
+    }
+
+    /**
+     * Gets the XP a guild has earned per source since a point in time, from the log rollups plus
+     * the XP not yet written. Uses hourly rollups while they are retained for the whole period,
+     * daily rollups otherwise.
+     *
+     * @param guildId the guild ID
+     * @param since the start of the period in epoch milliseconds
+     * @return map of XP source name to XP earned
+     */
+    public Map<String, Long> getXpBySource(UUID guildId, long since) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        RollupGranularity granularity = rollupGranularityFor(since);
+        Map<String, Long> xpBySource = new HashMap<>(logRepository.getXpBySource(guildId, granularity, since));
+        // Unwritten XP was earned just now, so it falls inside any period
+        xpAccumulator.getPendingXpBySource(guildId).forEach((source, xp) -> xpBySource.merge(source.name(), xp, Long::sum));
+        return xpBySource;
+    }
+
+    /**
+     * Gets the XP a guild has earned since each of several points in time, from a single read of
+     * the log rollups plus the XP not yet written. Each period covers whole buckets, as in
+     * {@link #getXpBySource(UUID, long)}, at the granularity the longest period allows.
+     *
+     * @param guildId the guild ID
+     * @param since the start of each period in epoch milliseconds
+     * @return the XP earned in each period, in the order given
+     */
+    public long[] getXpSince(UUID guildId, long... since) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        long[] totals = new long[since.length];
+        if (since.length == 0) {
+            return totals;
+        }
+
+        long earliest = Arrays.stream(since).min().getAsLong();
+        RollupGranularity granularity = rollupGranularityFor(earliest);
+        Map<Long, Long> xpByBucket = logRepository.getXpByBucket(guildId, granularity, earliest);
+        long pendingXp = xpAccumulator.getPendingXpBySource(guildId).values().stream().mapToLong(Long::longValue).sum();
+
+        for (int i = 0; i < since.length; i++) {
+            long bucketStart = granularity.bucketStart(since[i]);
+            long total = pendingXp;
+            for (Map.Entry<Long, Long> bucket : xpByBucket.entrySet()) {
+                if (bucket.getKey() >= bucketStart) {
+                    total += bucket.getValue();
+                }
+            }
+            totals[i] = total;
+        }
+        return totals;
+    }
+
+    /**
+     * Picks hourly rollups while they are retained for a whole period starting at {@code since},
+     * daily rollups otherwise.
+     */
+    private RollupGranularity rollupGranularityFor(long since) {
+        long hourlyRetained = System.currentTimeMillis()
+            - TimeUnit.DAYS.toMillis(config.getHourlyRollupRetentionDays());
+        return since >= hourlyRetained ? RollupGranularity.HOUR : RollupGranularity.DAY;
+    }
+
+    /**
+     * Applies the progression log retention policy.
+     * Raw XP gain entries past the retention window are dropped, as the rollups already count them.
+     *
+     * @return the number of raw log entries deleted
+     */
+    public int compactLogs() {
+        long now = System.currentTimeMillis();
+        long rawCutoff = now - TimeUnit.DAYS.toMillis(config.getLogRetentionDays());
+        long hourlyCutoff = now - TimeUnit.DAYS.toMillis(config.getHourlyRollupRetentionDays());
+        return logRepository.compact(rawCutoff, hourlyCutoff);
     }
 
     /**
@@ -336,6 +458,7 @@ public class ProgressionService {
      */
     public void deleteProgression(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        xpAccumulator.discard(guildId);
         progressionRepository.delete(guildId);
         progressionRepository.deleteContributions(guildId);
     }
@@ -360,10 +483,11 @@ public class ProgressionService {
             throw new IllegalArgumentException("Level cannot exceed max level: " + config.getMaxLevel());
         }
 
-        GuildProgression progression = getOrCreateProgression(guildId);
-        progression.setLevel(level);
-        progression.setCurrentXp(0L); // Reset XP when setting level
-        progressionRepository.save(progression);
+        xpAccumulator.update(guildId, progression -> {
+            progression.setLevel(level);
+            progression.setCurrentXp(0L); // Reset XP when setting level
+        });
+        xpAccumulator.flush(guildId);
 
         // Update guild capacities
         int newMaxMembers = calculateMaxMembers(level);
@@ -397,13 +521,15 @@ public class ProgressionService {
             throw new IllegalArgumentException("Amount must be positive");
         }
 
-        GuildProgression progression = getOrCreateProgression(guildId);
-        progression.addXp(amount);
+        int[] levelsGained = new int[1];
+        GuildProgression progression = xpAccumulator.update(guildId, current -> {
+            current.addXp(amount);
+            levelsGained[0] = applyAutoLevelUps(current);
+        });
+        xpAccumulator.flush(guildId);
 
         // Process automatic level-ups
-        processAutoLevelUps(guildId, progression);
-
-        progressionRepository.save(progression);
+        grantLevelUps(guildId, progression.getLevel(), levelsGained[0]);
 
         // Log admin action
         logRepository.log(new ProgressionLog(
@@ -432,13 +558,15 @@ public class ProgressionService {
             throw new IllegalArgumentException("XP cannot be negative");
         }
 
-        GuildProgression progression = getOrCreateProgression(guildId);
-        progression.setCurrentXp(xp);
+        int[] levelsGained = new int[1];
+        GuildProgression progression = xpAccumulator.update(guildId, current -> {
+            current.setCurrentXp(xp);
+            levelsGained[0] = applyAutoLevelUps(current);
+        });
+        xpAccumulator.flush(guildId);
 
         // Process automatic level-ups
-        processAutoLevelUps(guildId, progression);
-
-        progressionRepository.save(progression);
+        grantLevelUps(guildId, progression.getLevel(), levelsGained[0]);
 
         // Log admin action
         logRepository.log(new ProgressionLog(
@@ -451,32 +579,44 @@ public class ProgressionService {
     }
 
     /**
-     * Processes automatic level-ups when XP exceeds requirements.
-     * Continues leveling up until XP is below the next level requirement or max level is reached.
+     * Levels a progression up while its XP meets the next level's requirement, up to the max level.
+     * Only changes the progression, so it can run inside the accumulator's atomic update.
      *
-     * @param guildId the guild ID
      * @param progression the guild progression
+     * @return the number of levels gained
      */
-    private void processAutoLevelUps(UUID guildId, GuildProgression progression) {
+    private int applyAutoLevelUps(GuildProgression progression) {
+        int levelsGained = 0;
         while (progression.getLevel() < config.getMaxLevel()) {
             long xpRequired = calculateXpRequired(progression.getLevel() + 1);
 
             if (progression.getCurrentXp() >= xpRequired) {
-                // Level up
                 progression.levelUp(xpRequired);
-
-                // Update guild capacities
-                int newMaxMembers = calculateMaxMembers(progression.getLevel());
-                int newMaxChunks = calculateMaxChunks(progression.getLevel());
-                lifecycleService.updateGuildCapacities(guildId, newMaxMembers, newMaxChunks);
-
-                // Award skill points
-                int spToAward = skillTreeRegistry.getSpPerLevel();
-                skillTreeService.awardSkillPoints(guildId, spToAward);
+                levelsGained++;
             } else {
                 break;
             }
         }
+        return levelsGained;
+    }
+
+    /**
+     * Grants what automatic level-ups bring: the new level's capacities and skill points per level.
+     *
+     * @param guildId the guild ID
+     * @param level the guild's level after the level-ups
+     * @param levelsGained the number of levels gained
+     */
+    private void grantLevelUps(UUID guildId, int level, int levelsGained) {
+        if (levelsGained <= 0) {
+            return;
+        }
+
+        // Update guild capacities
+        lifecycleService.updateGuildCapacities(guildId, calculateMaxMembers(level), calculateMaxChunks(level));
+
+        // Award skill points
+        skillTreeService.awardSkillPoints(guildId, skillTreeRegistry.getSpPerLevel() * levelsGained);
     }
 
     /**
@@ -0,0 +1,35 @@
+package org.aincraft.progression;
+
+/**
+ * Time bucket size of a progression log rollup.
+ * Buckets are aligned to the epoch, so daily buckets start at midnight UTC.
+ */
+public enum RollupGranularity {
+    HOUR(3_600_000L),
+    DAY(86_400_000L);
+
+    private final long bucketMillis;
+
+    RollupGranularity(long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+    }
+
+    /**
+     * Gets the length of one bucket.
+     *
+     * @return the bucket length in milliseconds
+     */
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    /**
+     * Gets the start of the bucket containing a timestamp.
+     *
+     * @param timestamp the timestamp in epoch milliseconds
+     * @return the bucket start in epoch milliseconds
+     */
+    public long bucketStart(long timestamp) {
+        return timestamp - Math.floorMod(timestamp, bucketMillis);
+    }
+}
@@ -0,0 +1,449 @@
+package org.aincraft.progression;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.aincraft.leaderboard.GuildLeaderboard;
+import org.aincraft.leaderboard.LeaderboardMetric;
+import org.aincraft.progression.storage.GuildProgressionRepository;
+
+/**
+ * Write-behind accumulator for gameplay XP.
+ * Each guild earning XP keeps its progression in memory, together with the XP gained per player
+ * and source since the last write. A background thread writes every guild's accumulated gains
+ * every {@code flushIntervalMs} in one transaction: a batched progression upsert, a batched
+ * contribution upsert and one XP log entry per player and source, instead of three writes per award.
+ * <p>
+ * A guild stays in memory until a write of its gains has committed, and a failed write puts the
+ * gains back to be retried, so XP is never lost to a failed write and a guild is never reloaded
+ * from a row that is still being written. Guilds that earned nothing since the last write are then
+ * dropped from memory. Reads go through {@link #getProgression(UUID)} and
+ * {@link #getPendingXpBySource(UUID)}, which combine the in-memory state with the stored one.
+ * Level-ups and admin changes go through {@link #update(UUID, Consumer)}, the same per-guild
+ * atomic update as awards, so an award from another thread can neither overwrite them nor be
+ * lost to them. {@link #shutdown()} writes everything still pending before the plugin disables.
+ * <p>
+ * Awards also keep the {@link ContributionIndex} current for guilds loaded into it, and the
+ * guild's total XP on the {@link GuildLeaderboard}.
+ */
+@Singleton
+public class XpAccumulator {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final GuildProgressionRepository progressionRepository;
+    private final ContributionIndex contributionIndex;
+    private final GuildLeaderboard leaderboard;
+    private final Logger logger;
+    private final ConcurrentMap<UUID, PendingXp> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService writer;
+    private final Object flushLock = new Object();
+
+    @Inject
+    public XpAccumulator(GuildProgressionRepository progressionRepository,
+                         ContributionIndex contributionIndex,
+                         GuildLeaderboard leaderboard,
+                         ProgressionConfig config,
+                         @Named("guilds") Logger logger) {
+        this(progressionRepository, contributionIndex, leaderboard, logger, config.getXpFlushIntervalMs());
+    }
+
+    public XpAccumulator(GuildProgressionRepository progressionRepository,
+                         ContributionIndex contributionIndex,
+                         GuildLeaderboard leaderboard,
+                         Logger logger,
+                         long flushIntervalMs) {
+        this.progressionRepository = Objects.requireNonNull(progressionRepository, "Progression repository cannot be null");
+        this.contributionIndex = Objects.requireNonNull(contributionIndex, "Contribution index cannot be null");
+        this.leaderboard = Objects.requireNonNull(leaderboard, "Leaderboard cannot be null");
+        this.logger = Objects.requireNonNull(logger, "Logger cannot be null");
+        if (flushIntervalMs < 1) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread t = new Thread(runnable, "Guilds-Xp-Writer");
+            t.setDaemon(true);
+            return t;
+        });
+        writer.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds XP to a guild's in-memory progression and records it against the player and source.
+     * The guild's progression is loaded, or created, the first time it earns XP.
+     *
+     * @param guildId the guild ID
+     * @param playerId the player earning the XP
+     * @param source the source of the XP
+     * @param xpToAdd computes how much XP to add from the guild's current progression;
+     *                results of zero or less add nothing
+     * @return the XP actually added
+     */
+    public long award(UUID guildId, UUID playerId, XpSource source, ToLongFunction<GuildProgression> xpToAdd) {
+        Objects.requireNonNull(playerId, "Player ID cannot be null");
+        return awardAll(guildId, List.of(playerId), source, xpToAdd);
+    }
+
+    /**
+     * Adds XP for several players of the same guild in one update of the guild's in-memory
+     * progression. Each player's award is computed after the previous one has been applied.
+     *
+     * @param guildId the guild ID
+     * @param playerIds the players earning the XP
+     * @param source the source of the XP
+     * @param xpToAdd computes how much XP to add for each player from the guild's current
+     *                progression; results of zero or less add nothing
+     * @return the total XP actually added
+     */
+    public long awardAll(UUID guildId, Collection<UUID> playerIds, XpSource source,
+                         ToLongFunction<GuildProgression> xpToAdd) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(playerIds, "Player IDs cannot be null");
+        Objects.requireNonNull(source, "XP source cannot be null");
+        Objects.requireNonNull(xpToAdd, "XP function cannot be null");
+
+        if (playerIds.isEmpty()) {
+            return 0;
+        }
+
+        long[] added = new long[1];
+        pending.compute(guildId, (id, entry) -> {
+            PendingXp target = entry != null ? entry : new PendingXp(load(id));
+            for (UUID playerId : playerIds) {
+                long xp = target.add(playerId, source, xpToAdd.applyAsLong(target.progression));
+                if (xp > 0) {
+                    contributionIndex.add(id, playerId, xp);
+                    added[0] += xp;
+                }
+            }
+            if (added[0] > 0) {
+                leaderboard.set(id, LeaderboardMetric.XP, target.progression.getTotalXpEarned());
+            }
+            return target;
+        });
+        return added[0];
+    }
+
+    /**
+     * Changes a guild's in-memory progression directly, for level-ups and admin commands, and
+     * marks it for writing. The guild's progression is loaded, or created, if not held in memory.
+     * The change runs inside the guild's atomic update, so it must not block or call back into
+     * this accumulator.
+     *
+     * @param guildId the guild ID
+     * @param change the change to apply
+     * @return a copy of the progression after the change
+     */
+    public GuildProgression update(UUID guildId, Consumer<GuildProgression> change) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(change, "Change cannot be null");
+
+        GuildProgression[] updated = new GuildProgression[1];
+        pending.compute(guildId, (id, entry) -> {
+            PendingXp target = entry != null ? entry : new PendingXp(load(id));
+            change.accept(target.progression);
+            target.markChanged();
+            leaderboard.set(id, LeaderboardMetric.LEVEL, target.progression.getLevel());
+            leaderboard.set(id, LeaderboardMetric.XP, target.progression.getTotalXpEarned());
+            updated[0] = target.copyProgression();
+            return target;
+        });
+        return updated[0];
+    }
+
+    /**
+     * Writes every guild's pending XP on the calling thread, waiting for any write already in flight.
+     * Guilds with nothing left to write afterwards are dropped from memory.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<PendingWrite> writes = new ArrayList<>();
+            for (UUID guildId : pending.keySet()) {
+                pending.computeIfPresent(guildId, (id, entry) -> {
+                    PendingWrite write = entry.drain();
+                    if (write != null) {
+                        writes.add(write);
+                    }
+                    return entry;
+                });
+            }
+            write(writes);
+            for (UUID guildId : pending.keySet()) {
+                pending.computeIfPresent(guildId, (id, entry) -> entry.isDirty() ? entry : null);
+            }
+        }
+    }
+
+    /**
+     * Writes a guild's pending XP and progression changes now, on the calling thread. The guild
+     * stays in memory.
+     *
+     * @param guildId the guild ID
+     */
+    public void flush(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        synchronized (flushLock) {
+            List<PendingWrite> writes = new ArrayList<>(1);
+            pending.computeIfPresent(guildId, (id, entry) -> {
+                PendingWrite write = entry.drain();
+                if (write != null) {
+                    writes.add(write);
+                }
+                return entry;
+            });
+            write(writes);
+        }
+    }
+
+    /**
+     * Gets a guild's progression including XP not yet written, without touching the database if
+     * the guild is held in memory.
+     *
+     * @param guildId the guild ID
+     * @return a copy of the progression, or empty if the guild has none
+     */
+    public Optional<GuildProgression> getProgression(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        GuildProgression[] copy = new GuildProgression[1];
+        pending.computeIfPresent(guildId, (id, entry) -> {
+            copy[0] = entry.copyProgression();
+            return entry;
+        });
+        return copy[0] != null ? Optional.of(copy[0]) : progressionRepository.findByGuildId(guildId);
+    }
+
+    /**
+     * Gets the XP a guild has earned per source that is not yet counted in the stored rollups.
+     *
+     * @param guildId the guild ID
+     * @return map of XP source to XP earned, empty if nothing is pending
+     */
+    public Map<XpSource, Long> getPendingXpBySource(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        Map<XpSource, Long> bySource = new EnumMap<>(XpSource.class);
+        pending.computeIfPresent(guildId, (id, entry) -> {
+            entry.forEachUnwritten((playerId, source, xp) -> bySource.merge(source, xp, Long::sum));
+            return entry;
+        });
+        return bySource;
+    }
+
+    /**
+     * Loads a guild's contributions into the {@link ContributionIndex}, if not already loaded.
+     * The persisted totals are combined with XP not yet written, while no write is in flight,
+     * so the ranking neither misses nor double-counts an award.
+     *
+     * @param guildId the guild ID
+     */
+    public void loadContributions(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        if (contributionIndex.isLoaded(guildId)) {
+            return;
+        }
+        synchronized (flushLock) {
+            if (contributionIndex.isLoaded(guildId)) {
+                return;
+            }
+            Map<UUID, Long> contributions = new HashMap<>(progressionRepository.getContributions(guildId));
+            // Loading inside the guild's atomic update orders it against concurrent awards
+            pending.compute(guildId, (id, entry) -> {
+                if (entry != null) {
+                    entry.forEachUnwritten((playerId, source, xp) -> contributions.merge(playerId, xp, Long::sum));
+                }
+                contributionIndex.load(id, contributions);
+                return entry;
+            });
+        }
+    }
+
+    /**
+     * Drops a guild's pending XP without writing it, for guilds whose progression is being deleted.
+     *
+     * @param guildId the guild ID
+     */
+    public void discard(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        // Waits for a write in flight, so it cannot land after the deletion
+        synchronized (flushLock) {
+            pending.remove(guildId);
+            contributionIndex.removeGuild(guildId);
+        }
+    }
+
+    /**
+     * Stops the background writer and writes everything still pending.
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    /**
+     * Gets the number of guilds held in memory.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private GuildProgression load(UUID guildId) {
+        return progressionRepository.findByGuildId(guildId).orElseGet(() -> new GuildProgression(guildId));
+    }
+
+    /**
+     * Writes drained gains in one transaction. Once it commits the gains are released; if it
+     * fails they are merged back into their guilds' pending gains for the next flush.
+     */
+    private void write(List<PendingWrite> writes) {
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        List<GuildProgression> progressions = new ArrayList<>(writes.size());
+        Map<UUID, Map<UUID, Long>> contributions = new HashMap<>();
+        List<ProgressionLog> logs = new ArrayList<>();
+        for (PendingWrite write : writes) {
+            UUID guildId = write.progression().getGuildId();
+            progressions.add(write.progression());
+
+            Map<UUID, Long> guildContributions = new HashMap<>();
+            write.gains().forEach((playerId, sources) -> sources.forEach((source, xp) -> {
+                guildContributions.merge(playerId, xp, Long::sum);
+                logs.add(new ProgressionLog(guildId, playerId, ProgressionLog.ActionType.XP_GAIN, xp, source.name()));
+            }));
+            contributions.put(guildId, guildContributions);
+        }
+
+        boolean committed = false;
+        try {
+            progressionRepository.saveXpGains(progressions, contributions, logs);
+            committed = true;
+        } finally {
+            for (PendingWrite write : writes) {
+                boolean restore = !committed;
+                pending.computeIfPresent(write.progression().getGuildId(), (id, entry) -> {
+                    entry.release(restore);
+                    return entry;
+                });
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        // An exception escaping a scheduled task would cancel all future flushes
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to write guild XP", e);
+        }
+    }
+
+    /**
+     * A snapshot of one guild's progression and the gains since its last write.
+     */
+    private record PendingWrite(GuildProgression progression, Map<UUID, Map<XpSource, Long>> gains) {
+    }
+
+    /**
+     * Receives one unwritten gain of a guild's pending XP.
+     */
+    @FunctionalInterface
+    private interface GainConsumer {
+        void accept(UUID playerId, XpSource source, long xp);
+    }
+
+    /**
+     * A guild's in-memory progression and the XP gained per player and source since the last write.
+     * Gains drained for a write stay here until the write commits, or are merged back if it fails.
+     * Only accessed inside the owning map's atomic operations for the guild.
+     */
+    private static final class PendingXp {
+        private final GuildProgression progression;
+        private Map<UUID, Map<XpSource, Long>> gains = new HashMap<>();
+        private Map<UUID, Map<XpSource, Long>> writing;
+        private boolean dirty;
+
+        private PendingXp(GuildProgression progression) {
+            this.progression = progression;
+        }
+
+        private long add(UUID playerId, XpSource source, long xp) {
+            if (xp <= 0) {
+                return 0;
+            }
+            progression.addXp(xp);
+            gains.computeIfAbsent(playerId, id -> new EnumMap<>(XpSource.class)).merge(source, xp, Long::sum);
+            dirty = true;
+            return xp;
+        }
+
+        private void markChanged() {
+            dirty = true;
+        }
+
+        private boolean isDirty() {
+            return dirty;
+        }
+
+        private GuildProgression copyProgression() {
+            return new GuildProgression(progression.getGuildId(), progression.getLevel(), progression.getCurrentXp(),
+                progression.getTotalXpEarned(), progression.getLastLevelupTime());
+        }
+
+        private void forEachUnwritten(GainConsumer consumer) {
+            for (Map<UUID, Map<XpSource, Long>> batch : writing != null ? List.of(gains, writing) : List.of(gains)) {
+                batch.forEach((playerId, sources) -> sources.forEach((source, xp) -> consumer.accept(playerId, source, xp)));
+            }
+        }
+
+        private PendingWrite drain() {
+            if (!dirty) {
+                return null;
+            }
+            PendingWrite write = new PendingWrite(copyProgression(), gains);
+            writing = gains;
+            gains = new HashMap<>();
+            dirty = false;
+            return write;
+        }
+
+        /**
+         * Ends a write of the drained gains, merging them back if it did not commit.
+         */
+        private void release(boolean restore) {
+            if (restore && writing != null) {
+                writing.forEach((playerId, sources) -> sources.forEach((source, xp) ->
+                    gains.computeIfAbsent(playerId, id -> new EnumMap<>(XpSource.class)).merge(source, xp, Long::sum)));
+                dirty = true;
+            }
+            writing = null;
+        }
+    }
+}
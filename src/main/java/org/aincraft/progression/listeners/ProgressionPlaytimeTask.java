@@ -1,34 +1,48 @@
 package org.aincraft.progression.listeners;
 
 import com.google.inject.Inject;
-import org.aincraft.ChunkKey;
-import org.aincraft.Guild;
+import org.aincraft.GuildsPlugin;
+import org.aincraft.PackedChunkKey;
 import org.aincraft.progression.ProgressionConfig;
 import org.aincraft.progression.ProgressionService;
 import org.aincraft.progression.XpSource;
 import org.aincraft.service.GuildMemberService;
 import org.aincraft.service.TerritoryService;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 
 /**
  * Periodic task that awards XP to players for being online in their guild's territory.
  * Runs every check-interval-seconds (default: 60 seconds).
+ * <p>
+ * The main thread only records which chunk each online player is standing in. Membership and
+ * ownership are resolved, and XP awarded one guild at a time, on an asynchronous task; the awards
+ * are written in batches by the {@link org.aincraft.progression.XpAccumulator}.
  */
 public class ProgressionPlaytimeTask extends BukkitRunnable {
+    private final GuildsPlugin plugin;
     private final ProgressionService progressionService;
     private final GuildMemberService memberService;
     private final TerritoryService territoryService;
     private final ProgressionConfig config;
 
     @Inject
-    public ProgressionPlaytimeTask(ProgressionService progressionService,
+    public ProgressionPlaytimeTask(GuildsPlugin plugin,
+                                    ProgressionService progressionService,
                                     GuildMemberService memberService,
                                     TerritoryService territoryService,
                                     ProgressionConfig config) {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null");
         this.progressionService = Objects.requireNonNull(progressionService, "Progression service cannot be null");
         this.memberService = Objects.requireNonNull(memberService, "Member service cannot be null");
         this.territoryService = Objects.requireNonNull(territoryService, "Territory service cannot be null");
@@ -51,22 +65,45 @@ public class ProgressionPlaytimeTask extends BukkitRunnable {
             return;
         }
 
-        // Award XP to all online players in their guild's territory
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            // Check if player is in a guild
-            Guild guild = memberService.getPlayerGuild(player.getUniqueId());
-            if (guild == null) {
-                continue;
-            }
+        Collection<? extends Player> players = Bukkit.getOnlinePlayers();
+        if (players.isEmpty()) {
+            return;
+        }
 
-            // Check if player is in their guild's territory
-            ChunkKey chunkKey = ChunkKey.from(player.getLocation().getChunk());
-            Guild chunkOwner = territoryService.getChunkOwner(chunkKey);
+        // Snapshot positions on the main thread; nothing here touches storage
+        List<PlayerPosition> positions = new ArrayList<>(players.size());
+        for (Player player : players) {
+            Location location = player.getLocation();
+            positions.add(new PlayerPosition(player.getUniqueId(),
+                    PackedChunkKey.ofBlock(location.getWorld().getName(), location.getBlockX(), location.getBlockZ())));
+        }
 
-            if (chunkOwner != null && chunkOwner.getId().equals(guild.getId())) {
-                // Player is in their guild's territory
-                progressionService.awardXp(guild.getId(), player.getUniqueId(), XpSource.PLAYTIME, xpForInterval);
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> award(positions, xpForInterval));
+    }
+
+    /**
+     * Awards XP to every player standing in their own guild's territory.
+     * Runs off the main thread.
+     *
+     * @param positions the players' positions when the sweep started
+     * @param xpForInterval the XP each qualifying player earns
+     */
+    private void award(List<PlayerPosition> positions, long xpForInterval) {
+        Map<UUID, List<UUID>> playersByGuild = new HashMap<>();
+        for (PlayerPosition position : positions) {
+            UUID guildId = memberService.getPlayerGuildId(position.playerId());
+            if (guildId != null && guildId.equals(territoryService.getChunkOwnerId(position.packedChunk()))) {
+                playersByGuild.computeIfAbsent(guildId, id -> new ArrayList<>()).add(position.playerId());
             }
         }
+
+        playersByGuild.forEach((guildId, playerIds) ->
+            progressionService.awardXp(guildId, playerIds, XpSource.PLAYTIME, xpForInterval));
+    }
+
+    /**
+     * An online player's chunk, encoded with {@link PackedChunkKey}.
+     */
+    private record PlayerPosition(UUID playerId, long packedChunk) {
     }
 }
@@ -1,13 +1,14 @@
 package org.aincraft.progression.listeners;
 
 import com.google.inject.Inject;
-import org.aincraft.ChunkKey;
 import org.aincraft.Guild;
 import org.aincraft.progression.ProgressionConfig;
 import org.aincraft.progression.ProgressionService;
 import org.aincraft.progression.XpSource;
 import org.aincraft.service.GuildMemberService;
 import org.aincraft.service.TerritoryService;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -60,8 +61,8 @@ public class ProgressionXpListener implements Listener {
         }
 
         // Check if kill location is in guild's territory
-        ChunkKey chunkKey = ChunkKey.from(event.getEntity().getLocation().getChunk());
-        Guild chunkOwner = territoryService.getChunkOwner(chunkKey);
+        Location loc = event.getEntity().getLocation();
+        Guild chunkOwner = territoryService.getChunkOwnerAt(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockZ());
 
         if (chunkOwner == null || !chunkOwner.getId().equals(guild.getId())) {
             return; // Not in guild territory
@@ -96,8 +97,8 @@ public class ProgressionXpListener implements Listener {
         }
 
         // Check if mining location is in guild's territory
-        ChunkKey chunkKey = ChunkKey.from(event.getBlock().getChunk());
-        Guild chunkOwner = territoryService.getChunkOwner(chunkKey);
+        Block block = event.getBlock();
+        Guild chunkOwner = territoryService.getChunkOwnerAt(block.getWorld().getName(), block.getX(), block.getZ());
 
         if (chunkOwner == null || !chunkOwner.getId().equals(guild.getId())) {
             return; // Not in guild territory
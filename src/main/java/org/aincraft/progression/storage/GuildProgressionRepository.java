@@ -1,7 +1,10 @@
 package org.aincraft.progression.storage;
 
 import org.aincraft.progression.GuildProgression;
+import org.aincraft.progression.ProgressionLog;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +22,25 @@ public interface GuildProgressionRepository {
      */
     void save(GuildProgression progression);
 
+    /**
+     * Saves or updates many guilds' progression states in a single batched write.
+     *
+     * @param progressions the progressions to save
+     */
+    void saveAll(Collection<GuildProgression> progressions);
+
+    /**
+     * Saves progressions, adds XP contributions and logs the XP gains behind them in a single
+     * transaction, so a failed write leaves none of them applied.
+     *
+     * @param progressions the progressions to save
+     * @param contributions map of guild ID to a map of player UUID to XP contributed
+     * @param logs the XP gain log entries
+     */
+    void saveXpGains(Collection<GuildProgression> progressions,
+                     Map<UUID, Map<UUID, Long>> contributions,
+                     List<ProgressionLog> logs);
+
     /**
      * Finds a guild's progression by guild ID.
      *
@@ -27,6 +49,14 @@ public interface GuildProgressionRepository {
      */
     Optional<GuildProgression> findByGuildId(UUID guildId);
 
+    /**
+     * Finds every guild's progression.
+     * Used to bulk-load in-memory indexes at startup.
+     *
+     * @return all stored progressions
+     */
+    List<GuildProgression> findAll();
+
     /**
      * Deletes a guild's progression data.
      *
@@ -43,6 +73,13 @@ public interface GuildProgressionRepository {
      */
     void recordContribution(UUID guildId, UUID playerId, long xpAmount);
 
+    /**
+     * Records many XP contributions in a single batched write.
+     *
+     * @param contributions map of guild ID to a map of player UUID to XP contributed
+     */
+    void recordContributions(Map<UUID, Map<UUID, Long>> contributions);
+
     /**
      * Gets the top XP contributors for a guild.
      *
@@ -52,6 +89,14 @@ public interface GuildProgressionRepository {
      */
     Map<UUID, Long> getTopContributors(UUID guildId, int limit);
 
+    /**
+     * Gets every player's total XP contribution to a guild.
+     *
+     * @param guildId the guild ID
+     * @return map of player UUID to total XP contributed
+     */
+    Map<UUID, Long> getContributions(UUID guildId);
+
     /**
      * Gets the total XP contributed by a specific player to their guild.
      *
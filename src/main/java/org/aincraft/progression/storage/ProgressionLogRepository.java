@@ -1,12 +1,16 @@
 package org.aincraft.progression.storage;
 
 import org.aincraft.progression.ProgressionLog;
+import org.aincraft.progression.RollupGranularity;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Repository for managing progression log entries.
+ * XP gains are also summed into hourly and daily rollups per guild, player and source as they are
+ * logged, so raw XP gain entries can be compacted away once they age out of the retention window.
  */
 public interface ProgressionLogRepository {
     /**
@@ -16,6 +20,13 @@ public interface ProgressionLogRepository {
      */
     void log(ProgressionLog entry);
 
+    /**
+     * Logs many progression events in a single batched insert.
+     *
+     * @param entries the log entries to save
+     */
+    void logAll(List<ProgressionLog> entries);
+
     /**
      * Finds recent progression log entries for a guild.
      *
@@ -26,7 +37,40 @@ public interface ProgressionLogRepository {
     List<ProgressionLog> findByGuild(UUID guildId, int limit);
 
     /**
-     * Deletes all log entries for a guild.
+     * Sums a guild's rolled-up XP gains per source since a point in time.
+     * The result covers whole buckets, starting with the one containing {@code since}.
+     *
+     * @param guildId the guild ID
+     * @param granularity the rollup granularity to read
+     * @param since the earliest timestamp to include, in epoch milliseconds
+     * @return map of XP source name to XP gained
+     */
+    Map<String, Long> getXpBySource(UUID guildId, RollupGranularity granularity, long since);
+
+    /**
+     * Sums a guild's rolled-up XP gains per bucket since a point in time.
+     * The result covers whole buckets, starting with the one containing {@code since}.
+     *
+     * @param guildId the guild ID
+     * @param granularity the rollup granularity to read
+     * @param since the earliest timestamp to include, in epoch milliseconds
+     * @return map of bucket start to XP gained in that bucket
+     */
+    Map<Long, Long> getXpByBucket(UUID guildId, RollupGranularity granularity, long since);
+
+    /**
+     * Applies the retention policy. Raw XP gain entries older than the raw cutoff are deleted,
+     * as they are already counted in the rollups, and so are hourly rollups older than the
+     * hourly cutoff. Level-ups and admin actions are kept.
+     *
+     * @param rawCutoff delete raw XP gain entries logged before this timestamp
+     * @param hourlyCutoff delete hourly rollups whose bucket starts before this timestamp
+     * @return the number of raw entries deleted
+     */
+    int compact(long rawCutoff, long hourlyCutoff);
+
+    /**
+     * Deletes all log entries and rollups for a guild.
      * Called when a guild is deleted.
      *
      * @param guildId the guild ID
@@ -4,6 +4,8 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import org.aincraft.Guild;
 import org.aincraft.GuildPermission;
+import org.aincraft.leaderboard.GuildLeaderboard;
+import org.aincraft.leaderboard.LeaderboardMetric;
 import org.aincraft.service.GuildLifecycleService;
 import org.aincraft.service.PermissionService;
 import org.aincraft.project.storage.ActiveBuffRepository;
@@ -29,6 +31,7 @@ public class ProjectService {
     private final PermissionService permissionService;
     private final VaultRepository vaultRepository;
     private final VaultTransactionRepository vaultTransactionRepository;
+    private final GuildLeaderboard leaderboard;
 
     @Inject
     public ProjectService(
@@ -39,7 +42,8 @@ public class ProjectService {
             GuildLifecycleService lifecycleService,
             PermissionService permissionService,
             VaultRepository vaultRepository,
-            VaultTransactionRepository vaultTransactionRepository
+            VaultTransactionRepository vaultTransactionRepository,
+            GuildLeaderboard leaderboard
     ) {
         this.projectRepository = Objects.requireNonNull(projectRepository);
         this.buffRepository = Objects.requireNonNull(buffRepository);
@@ -49,6 +53,7 @@ public class ProjectService {
         this.permissionService = Objects.requireNonNull(permissionService);
         this.vaultRepository = Objects.requireNonNull(vaultRepository);
         this.vaultTransactionRepository = Objects.requireNonNull(vaultTransactionRepository);
+        this.leaderboard = Objects.requireNonNull(leaderboard);
     }
 
     public ProjectStartResult startProject(UUID guildId, UUID requesterId, String projectDefId) {
@@ -430,6 +435,7 @@ public class ProjectService {
         project.setStatus(ProjectStatus.COMPLETED);
         project.setCompletedAt(now);
         projectRepository.updateStatus(project.getId(), ProjectStatus.COMPLETED, now);
+        leaderboard.add(guildId, LeaderboardMetric.PROJECTS, 1);
 
         return ProjectCompletionResult.success(buff);
     }
@@ -5,6 +5,7 @@ import org.aincraft.project.ProjectStatus;
 import org.bukkit.Material;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,6 +35,14 @@ public interface GuildProjectRepository {
 
     void updateStatus(String projectId, ProjectStatus status, Long completedAt);
 
+    /**
+     * Counts the completed projects of every guild with at least one.
+     * Used to bulk-load in-memory indexes at startup.
+     *
+     * @return map of guild ID to completed project count
+     */
+    Map<UUID, Integer> countCompletedByGuild();
+
     int getPoolSeed(UUID guildId);
 
     void incrementPoolSeed(UUID guildId);
@@ -318,6 +318,27 @@ public class SQLiteGuildProjectRepository implements GuildProjectRepository {
         }
     }
 
+    @Override
+    public Map<UUID, Integer> countCompletedByGuild() {
+        String sql = "SELECT guild_id, COUNT(*) AS completed FROM guild_projects WHERE status = ? GROUP BY guild_id";
+        Map<UUID, Integer> counts = new HashMap<>();
+
+        try (Connection conn = DriverManager.getConnection(connectionString);
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, ProjectStatus.COMPLETED.name());
+            ResultSet rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                counts.put(UUID.fromString(rs.getString("guild_id")), rs.getInt("completed"));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count completed projects", e);
+        }
+
+        return counts;
+    }
+
     @Override
     public int getPoolSeed(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
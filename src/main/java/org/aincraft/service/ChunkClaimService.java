@@ -1,15 +1,25 @@
 package org.aincraft.service;
 
 import com.google.inject.Inject;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.aincraft.ChunkKey;
 import org.aincraft.ClaimResult;
 import org.aincraft.Guild;
+import org.aincraft.claim.BulkClaimResult;
 import org.aincraft.claim.ChunkClaimLog;
 import org.aincraft.claim.ChunkClaimLogRepository;
+import org.aincraft.claim.ChunkShapes;
+import org.aincraft.claim.NearbyClaim;
 import org.aincraft.config.GuildsConfig;
 import org.aincraft.storage.ChunkClaimRepository;
 import org.aincraft.storage.GuildRepository;
@@ -19,24 +29,22 @@ import org.aincraft.storage.GuildRepository;
  * Single Responsibility: Chunk claiming and unclaiming operations.
  */
 public class ChunkClaimService {
-    private static final int CHUNK_SIZE = 16;
-    private static final int CHUNK_CENTER_OFFSET = 8;
-    private static final double BLOCK_CENTER_OFFSET = 0.5;
-    private static final int HEAD_BLOCK_OFFSET = 1;
-
     private final ChunkClaimRepository chunkClaimRepository;
     private final ChunkClaimLogRepository claimLogRepository;
     private final GuildRepository guildRepository;
+    private final GuildSpawnService spawnService;
     private final GuildsConfig config;
 
     @Inject
     public ChunkClaimService(ChunkClaimRepository chunkClaimRepository,
                              ChunkClaimLogRepository claimLogRepository,
                              GuildRepository guildRepository,
+                             GuildSpawnService spawnService,
                              GuildsConfig config) {
         this.chunkClaimRepository = Objects.requireNonNull(chunkClaimRepository, "ChunkClaimRepository cannot be null");
         this.claimLogRepository = Objects.requireNonNull(claimLogRepository, "ClaimLogRepository cannot be null");
         this.guildRepository = Objects.requireNonNull(guildRepository, "GuildRepository cannot be null");
+        this.spawnService = Objects.requireNonNull(spawnService, "GuildSpawnService cannot be null");
         this.config = Objects.requireNonNull(config, "GuildsConfig cannot be null");
     }
 
@@ -58,36 +66,22 @@ public class ChunkClaimService {
             return ClaimResult.noPermission();
         }
 
-        // Check if already claimed by this guild
-        Guild chunkOwner = getChunkOwner(chunk);
-        if (chunkOwner != null && chunkOwner.getId().equals(guildId)) {
-            return ClaimResult.alreadyOwned();
-        }
-
-        // Check if already claimed by another guild
-        if (chunkOwner != null) {
-            return ClaimResult.alreadyClaimed(chunkOwner.getName());
-        }
-
-        // Check buffer distance to other guilds
-        ClaimResult bufferCheck = checkBufferDistance(chunk, guildId);
-        if (!bufferCheck.isSuccess()) {
-            return bufferCheck;
+        ClaimResult claimable = checkClaimable(chunk, guildId);
+        if (!claimable.isSuccess()) {
+            return claimable;
         }
 
         // Validate chunk is adjacent to existing claims or is first claim
-        List<ChunkKey> guildChunks = chunkClaimRepository.getGuildChunks(guildId);
-        if (!guildChunks.isEmpty() && !isAdjacentToGuild(chunk, guildChunks)) {
+        int claimedChunks = chunkClaimRepository.getChunkCount(guildId);
+        if (claimedChunks > 0 && !chunkClaimRepository.hasAdjacentClaim(chunk, guildId)) {
             return ClaimResult.notAdjacent();
         }
 
         // Check if guild has reached claim limit
         Optional<Guild> guildOpt = guildRepository.findById(guildId);
-        if (guildOpt.isPresent()) {
-            Guild guild = guildOpt.get();
-            if (guildChunks.size() >= guild.getMaxChunks()) {
-                return ClaimResult.limitExceeded(guild.getMaxChunks());
-            }
+        ClaimResult limitCheck = checkClaimLimit(guildOpt, claimedChunks, 1);
+        if (!limitCheck.isSuccess()) {
+            return limitCheck;
         }
 
         boolean claimed = chunkClaimRepository.claim(chunk, guildId, playerId);
@@ -98,16 +92,136 @@ public class ChunkClaimService {
         // Log the claim action
         claimLogRepository.log(new ChunkClaimLog(guildId, chunk, playerId, ChunkClaimLog.ActionType.CLAIM));
 
-        // Auto-set homeblock if this is first claim
-        if (guildOpt.isPresent()) {
-            Guild guild = guildOpt.get();
-            if (!guild.hasHomeblock()) {
-                guild.setHomeblock(chunk);
-                guildRepository.save(guild);
+        guildOpt.ifPresent(guild -> applyFirstClaim(guild, chunk));
+
+        return ClaimResult.success();
+    }
+
+    /**
+     * Claims a set of chunks for a guild in one operation.
+     * Each chunk goes through the same ownership and buffer checks as {@link #claimChunk}: chunks already
+     * owned by the guild are skipped, and the request fails without claiming anything if any chunk is
+     * owned by another guild, violates the buffer distance, would exceed the claim limit, or is not
+     * connected to the guild's territory through the set itself. Accepted chunks are written in one
+     * transaction, and a first claim sets the homeblock and spawn exactly as a single claim does.
+     *
+     * @param guildId the guild ID
+     * @param playerId the player claiming the chunks
+     * @param chunks the chunks to claim
+     * @param hasClaimPermission whether the player has CLAIM permission
+     * @return BulkClaimResult with the claimed chunks, or the first validation failure
+     */
+    public BulkClaimResult claimChunks(UUID guildId, UUID playerId, Collection<ChunkKey> chunks, boolean hasClaimPermission) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(playerId, "Player ID cannot be null");
+        Objects.requireNonNull(chunks, "Chunks cannot be null");
+
+        if (!hasClaimPermission) {
+            return BulkClaimResult.failure(ClaimResult.noPermission());
+        }
+
+        // Drop chunks the guild already owns; any other single-claim failure rejects the whole set
+        Set<ChunkKey> toClaim = new LinkedHashSet<>();
+        for (ChunkKey chunk : chunks) {
+            ClaimResult claimable = checkClaimable(chunk, guildId);
+            if (claimable.isSuccess()) {
+                toClaim.add(chunk);
+            } else if (claimable.getStatus() != ClaimResult.Status.ALREADY_OWNED) {
+                return BulkClaimResult.failure(claimable);
             }
         }
 
-        return ClaimResult.success();
+        if (toClaim.isEmpty()) {
+            return BulkClaimResult.failure(ClaimResult.alreadyOwned());
+        }
+
+        int claimedChunks = chunkClaimRepository.getChunkCount(guildId);
+        if (!isConnected(toClaim, guildId, claimedChunks > 0)) {
+            return BulkClaimResult.failure(ClaimResult.notAdjacent());
+        }
+
+        Optional<Guild> guildOpt = guildRepository.findById(guildId);
+        ClaimResult limitCheck = checkClaimLimit(guildOpt, claimedChunks, toClaim.size());
+        if (!limitCheck.isSuccess()) {
+            return BulkClaimResult.failure(limitCheck);
+        }
+
+        List<ChunkKey> claimed = chunkClaimRepository.claimChunks(toClaim, guildId, playerId);
+        if (claimed.isEmpty()) {
+            return BulkClaimResult.failure(ClaimResult.failure("Failed to claim chunks"));
+        }
+
+        logAll(guildId, claimed, playerId, ChunkClaimLog.ActionType.CLAIM);
+
+        guildOpt.ifPresent(guild -> applyFirstClaim(guild, claimed.get(0)));
+
+        return BulkClaimResult.success(claimed);
+    }
+
+    /**
+     * Claims a square of chunks centred on a chunk.
+     *
+     * @see #claimChunks(UUID, UUID, Collection, boolean)
+     */
+    public BulkClaimResult claimSquare(UUID guildId, UUID playerId, ChunkKey center, int radius, boolean hasClaimPermission) {
+        return claimChunks(guildId, playerId, ChunkShapes.square(center, radius), hasClaimPermission);
+    }
+
+    /**
+     * Claims a circle of chunks centred on a chunk.
+     *
+     * @see #claimChunks(UUID, UUID, Collection, boolean)
+     */
+    public BulkClaimResult claimRadius(UUID guildId, UUID playerId, ChunkKey center, int radius, boolean hasClaimPermission) {
+        return claimChunks(guildId, playerId, ChunkShapes.circle(center, radius), hasClaimPermission);
+    }
+
+    /**
+     * Claims a set of chunks for a guild, bypassing adjacency, buffer and limit validation.
+     * Chunks that are already claimed by any guild are skipped.
+     *
+     * @param guildId the guild ID
+     * @param adminId the admin performing the claim
+     * @param chunks the chunks to claim
+     * @return the chunks that were claimed
+     */
+    public List<ChunkKey> adminClaimChunks(UUID guildId, UUID adminId, Collection<ChunkKey> chunks) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(adminId, "Admin ID cannot be null");
+        Objects.requireNonNull(chunks, "Chunks cannot be null");
+
+        List<ChunkKey> claimed = chunkClaimRepository.claimChunks(chunks, guildId, adminId);
+        logAll(guildId, claimed, adminId, ChunkClaimLog.ActionType.CLAIM);
+        return claimed;
+    }
+
+    /**
+     * Unclaims a set of chunks from a guild in one transaction.
+     * The homeblock and chunks not owned by the guild are skipped.
+     *
+     * @param guildId the guild ID
+     * @param playerId the player unclaiming
+     * @param chunks the chunks to unclaim
+     * @param hasUnclaimPermission whether the player has UNCLAIM permission
+     * @return the chunks that were unclaimed
+     */
+    public List<ChunkKey> unclaimChunks(UUID guildId, UUID playerId, Collection<ChunkKey> chunks, boolean hasUnclaimPermission) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(playerId, "Player ID cannot be null");
+        Objects.requireNonNull(chunks, "Chunks cannot be null");
+
+        if (!hasUnclaimPermission) {
+            return List.of();
+        }
+
+        Set<ChunkKey> toUnclaim = new LinkedHashSet<>(chunks);
+        guildRepository.findById(guildId)
+                .filter(Guild::hasHomeblock)
+                .ifPresent(guild -> toUnclaim.remove(guild.getHomeblock()));
+
+        List<ChunkKey> unclaimed = chunkClaimRepository.unclaimChunks(toUnclaim, guildId);
+        logAll(guildId, unclaimed, playerId, ChunkClaimLog.ActionType.UNCLAIM);
+        return unclaimed;
     }
 
     /**
@@ -163,10 +277,7 @@ public class ChunkClaimService {
 
         List<ChunkKey> chunks = chunkClaimRepository.getGuildChunks(guildId);
         chunkClaimRepository.unclaimAll(guildId);
-
-        for (ChunkKey chunk : chunks) {
-            claimLogRepository.log(new ChunkClaimLog(guildId, chunk, playerId, ChunkClaimLog.ActionType.UNCLAIM));
-        }
+        logAll(guildId, chunks, playerId, ChunkClaimLog.ActionType.UNCLAIM);
 
         return true;
     }
@@ -218,53 +329,103 @@ public class ChunkClaimService {
         return chunkClaimRepository.getChunkCount(guildId);
     }
 
-    private boolean isAdjacentToGuild(ChunkKey chunk, List<ChunkKey> guildChunks) {
-        for (ChunkKey existing : guildChunks) {
-            if (!chunk.world().equals(existing.world())) {
-                continue;
+    /**
+     * Checks that a chunk is unowned and outside other guilds' buffer distance.
+     * Shared by single and bulk claims so both paths reject chunks for the same reasons.
+     */
+    private ClaimResult checkClaimable(ChunkKey chunk, UUID guildId) {
+        Optional<UUID> owner = chunkClaimRepository.getOwner(chunk);
+        if (owner.isPresent()) {
+            if (owner.get().equals(guildId)) {
+                return ClaimResult.alreadyOwned();
             }
+            String ownerName = guildRepository.findById(owner.get()).map(Guild::getName).orElse("another guild");
+            return ClaimResult.alreadyClaimed(ownerName);
+        }
 
-            int dx = Math.abs(chunk.x() - existing.x());
-            int dz = Math.abs(chunk.z() - existing.z());
+        return checkBufferDistance(chunk, guildId);
+    }
 
-            if ((dx == 1 && dz == 0) || (dx == 0 && dz == 1)) {
-                return true;
-            }
+    private ClaimResult checkClaimLimit(Optional<Guild> guildOpt, int claimedChunks, int newChunks) {
+        if (guildOpt.isPresent() && claimedChunks + newChunks > guildOpt.get().getMaxChunks()) {
+            return ClaimResult.limitExceeded(guildOpt.get().getMaxChunks());
         }
-        return false;
+        return ClaimResult.success();
     }
 
-    private ClaimResult checkBufferDistance(ChunkKey chunk, UUID guildId) {
-        int bufferDistance = config.getClaimBufferDistance();
-
-        if (bufferDistance == 0) {
-            return ClaimResult.success();
+    /**
+     * Auto-sets the homeblock, and the spawn at its centre, if this is the guild's first claim.
+     */
+    private void applyFirstClaim(Guild guild, ChunkKey chunk) {
+        if (guild.hasHomeblock()) {
+            return;
         }
 
-        List<Guild> allGuilds = guildRepository.findAll();
+        guild.setHomeblock(chunk);
+        guildRepository.save(guild);
+        spawnService.autoSetSpawnAtHomeblock(guild, chunk);
+    }
 
-        for (Guild otherGuild : allGuilds) {
-            if (otherGuild.getId().equals(guildId)) {
-                continue;
+    /**
+     * Checks that every chunk in the set is reachable, through edge-adjacent chunks of the set,
+     * from the guild's existing territory (or from the first chunk for a guild's first claim).
+     */
+    private boolean isConnected(Set<ChunkKey> chunks, UUID guildId, boolean hasTerritory) {
+        Deque<ChunkKey> frontier = new ArrayDeque<>();
+        Set<ChunkKey> reached = new HashSet<>();
+
+        if (hasTerritory) {
+            for (ChunkKey chunk : chunks) {
+                if (chunkClaimRepository.hasAdjacentClaim(chunk, guildId)) {
+                    frontier.add(chunk);
+                    reached.add(chunk);
+                }
             }
+        } else {
+            ChunkKey first = chunks.iterator().next();
+            frontier.add(first);
+            reached.add(first);
+        }
 
-            List<ChunkKey> otherChunks = chunkClaimRepository.getGuildChunks(otherGuild.getId());
-
-            for (ChunkKey otherChunk : otherChunks) {
-                if (!chunk.world().equals(otherChunk.world())) {
-                    continue;
+        while (!frontier.isEmpty()) {
+            ChunkKey chunk = frontier.poll();
+            for (ChunkKey neighbor : List.of(
+                    new ChunkKey(chunk.world(), chunk.x() + 1, chunk.z()),
+                    new ChunkKey(chunk.world(), chunk.x() - 1, chunk.z()),
+                    new ChunkKey(chunk.world(), chunk.x(), chunk.z() + 1),
+                    new ChunkKey(chunk.world(), chunk.x(), chunk.z() - 1))) {
+                if (chunks.contains(neighbor) && reached.add(neighbor)) {
+                    frontier.add(neighbor);
                 }
+            }
+        }
 
-                int dx = Math.abs(chunk.x() - otherChunk.x());
-                int dz = Math.abs(chunk.z() - otherChunk.z());
-                int manhattanDistance = dx + dz;
+        return reached.size() == chunks.size();
+    }
 
-                if (manhattanDistance < bufferDistance) {
-                    return ClaimResult.tooCloseToGuild(otherGuild.getName(), bufferDistance, manhattanDistance);
-                }
-            }
+    private void logAll(UUID guildId, List<ChunkKey> chunks, UUID playerId, ChunkClaimLog.ActionType action) {
+        List<ChunkClaimLog> entries = new ArrayList<>(chunks.size());
+        for (ChunkKey chunk : chunks) {
+            entries.add(new ChunkClaimLog(guildId, chunk, playerId, action));
         }
+        claimLogRepository.logAll(entries);
+    }
 
-        return ClaimResult.success();
+    private ClaimResult checkBufferDistance(ChunkKey chunk, UUID guildId) {
+        int bufferDistance = config.getClaimBufferDistance();
+
+        if (bufferDistance == 0) {
+            return ClaimResult.success();
+        }
+
+        Optional<NearbyClaim> nearby = chunkClaimRepository.findNearestForeignClaim(chunk, guildId, bufferDistance);
+        if (nearby.isEmpty()) {
+            return ClaimResult.success();
+        }
+
+        String otherGuildName = guildRepository.findById(nearby.get().guildId())
+                .map(Guild::getName)
+                .orElse("another guild");
+        return ClaimResult.tooCloseToGuild(otherGuildName, bufferDistance, nearby.get().distance());
     }
 }
@@ -10,10 +10,13 @@ import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import dev.mintychochip.mint.Mint;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing guild lifecycle operations (creation, deletion, queries).
@@ -29,6 +32,8 @@ public class GuildLifecycleService {
     private final GuildRelationshipRepository relationshipRepository;
     private final InviteRepository inviteRepository;
     private final GuildProjectPoolRepository poolRepository;
+    private final PermissionDecisionCache decisionCache;
+    private final MemberPermissionCache permissionCache;
 
     @Inject
     public GuildLifecycleService(GuildRepository guildRepository,
@@ -39,7 +44,9 @@ public class GuildLifecycleService {
                                  ChunkClaimRepository chunkClaimRepository,
                                  GuildRelationshipRepository relationshipRepository,
                                  InviteRepository inviteRepository,
-                                 GuildProjectPoolRepository poolRepository) {
+                                 GuildProjectPoolRepository poolRepository,
+                                 PermissionDecisionCache decisionCache,
+                                 MemberPermissionCache permissionCache) {
         this.guildRepository = Objects.requireNonNull(guildRepository);
         this.playerGuildMapping = Objects.requireNonNull(playerGuildMapping);
         this.memberRepository = Objects.requireNonNull(memberRepository);
@@ -49,6 +56,8 @@ public class GuildLifecycleService {
         this.relationshipRepository = Objects.requireNonNull(relationshipRepository);
         this.inviteRepository = Objects.requireNonNull(inviteRepository);
         this.poolRepository = Objects.requireNonNull(poolRepository);
+        this.decisionCache = Objects.requireNonNull(decisionCache);
+        this.permissionCache = Objects.requireNonNull(permissionCache);
     }
 
     /**
@@ -90,6 +99,8 @@ public class GuildLifecycleService {
         // Initialize guild creation timestamp for project pool 24h refresh cycle
         poolRepository.setGuildCreatedAt(guild.getId(), System.currentTimeMillis());
 
+        decisionCache.invalidatePlayer(ownerId);
+        permissionCache.invalidatePlayer(ownerId);
         return guild;
     }
 
@@ -129,6 +140,10 @@ public class GuildLifecycleService {
         inviteRepository.deleteByGuildId(guildId);
 
         guildRepository.delete(guildId);
+
+        // Members lose their guild everywhere and other guilds lose a relationship; too broad to track
+        decisionCache.invalidateAll();
+        permissionCache.invalidateGuild(guildId);
         return true;
     }
 
@@ -168,6 +183,18 @@ public class GuildLifecycleService {
         return guildRepository.findById(guildId).orElse(null);
     }
 
+    /**
+     * Gets several guilds by ID in one lookup.
+     *
+     * @param guildIds the guild IDs
+     * @return the found guilds keyed by ID; unknown IDs are absent
+     */
+    public Map<UUID, Guild> getGuildsById(Collection<UUID> guildIds) {
+        Objects.requireNonNull(guildIds, "Guild IDs cannot be null");
+        return guildRepository.findAllById(guildIds).stream()
+                .collect(Collectors.toMap(Guild::getId, guild -> guild));
+    }
+
     /**
      * Gets a guild by its name (case-insensitive).
      *
@@ -209,5 +236,8 @@ public class GuildLifecycleService {
     public void save(Guild guild) {
         Objects.requireNonNull(guild, "Guild cannot be null");
         guildRepository.save(guild);
+        // Callers save after changing ownership, which grants or revokes every permission
+        decisionCache.invalidateGuild(guild.getId());
+        permissionCache.invalidateGuild(guild.getId());
     }
 }
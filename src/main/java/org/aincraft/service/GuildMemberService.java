@@ -33,6 +33,16 @@ public class GuildMemberService {
         return guildService.getPlayerGuild(playerId);
     }
 
+    /**
+     * Gets the ID of the guild a player belongs to, without loading the guild.
+     *
+     * @param playerId the player UUID
+     * @return the guild ID, or null if not in a guild
+     */
+    public UUID getPlayerGuildId(UUID playerId) {
+        return guildService.getPlayerGuildId(playerId);
+    }
+
     /**
      * Adds a player to a guild.
      *
@@ -1,19 +1,15 @@
 package org.aincraft.service;
 
 import com.google.inject.Inject;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import org.aincraft.Guild;
 import org.aincraft.GuildPermission;
-import org.aincraft.GuildRole;
 import org.aincraft.MemberPermissions;
-import org.aincraft.role.CompositeGuildRoleRepository;
+import org.aincraft.service.MemberPermissionCache.MemberAuthority;
 import org.aincraft.storage.GuildMemberRepository;
 import org.aincraft.storage.GuildRepository;
-import org.aincraft.storage.GuildRoleRepository;
-import org.aincraft.storage.MemberRoleRepository;
 
 /**
  * Service for checking and managing permissions.
@@ -22,18 +18,18 @@ import org.aincraft.storage.MemberRoleRepository;
 public class GuildPermissionService {
     private final GuildRepository guildRepository;
     private final GuildMemberRepository memberRepository;
-    private final GuildRoleRepository roleRepository;
-    private final MemberRoleRepository memberRoleRepository;
+    private final MemberPermissionCache permissionCache;
+    private final MemberAuthorityLoader authorityLoader;
 
     @Inject
     public GuildPermissionService(GuildRepository guildRepository,
                                   GuildMemberRepository memberRepository,
-                                  GuildRoleRepository roleRepository,
-                                  MemberRoleRepository memberRoleRepository) {
+                                  MemberPermissionCache permissionCache,
+                                  MemberAuthorityLoader authorityLoader) {
         this.guildRepository = Objects.requireNonNull(guildRepository, "GuildRepository cannot be null");
         this.memberRepository = Objects.requireNonNull(memberRepository, "MemberRepository cannot be null");
-        this.roleRepository = Objects.requireNonNull(roleRepository, "RoleRepository cannot be null");
-        this.memberRoleRepository = Objects.requireNonNull(memberRoleRepository, "MemberRoleRepository cannot be null");
+        this.permissionCache = Objects.requireNonNull(permissionCache, "PermissionCache cannot be null");
+        this.authorityLoader = Objects.requireNonNull(authorityLoader, "AuthorityLoader cannot be null");
     }
 
     /**
@@ -51,24 +47,7 @@ public class GuildPermissionService {
         Objects.requireNonNull(playerId, "Player ID cannot be null");
         Objects.requireNonNull(permission, "Permission cannot be null");
 
-        Optional<Guild> guildOpt = guildRepository.findById(guildId);
-        if (guildOpt.isEmpty()) {
-            return false;
-        }
-
-        Guild guild = guildOpt.get();
-        if (guild.isOwner(playerId)) {
-            return true;
-        }
-
-        int effectivePermissions = computeEffectivePermissions(guildId, playerId);
-
-        // ADMIN permission grants all permissions
-        if ((effectivePermissions & GuildPermission.ADMIN.getBit()) != 0) {
-            return true;
-        }
-
-        return (effectivePermissions & permission.getBit()) != 0;
+        return getAuthority(guildId, playerId).hasPermission(permission);
     }
 
     /**
@@ -163,55 +142,27 @@ public class GuildPermissionService {
         }
 
         // For KICK permission, check role hierarchy
-        Optional<GuildRole> kickerRoleOpt = getHighestPriorityRole(guild.getId(), kickerId);
-        Optional<GuildRole> targetRoleOpt = getHighestPriorityRole(guild.getId(), targetId);
+        Integer kickerPriority = getAuthority(guild.getId(), kickerId).highestPriority();
+        Integer targetPriority = getAuthority(guild.getId(), targetId).highestPriority();
 
         // If target has no role, kicker can kick
-        if (targetRoleOpt.isEmpty()) {
+        if (targetPriority == null) {
             return true;
         }
 
         // If kicker has no role but target does, cannot kick
-        if (kickerRoleOpt.isEmpty()) {
+        if (kickerPriority == null) {
             return false;
         }
 
         // Compare priorities: kicker must have higher priority
-        return kickerRoleOpt.get().hasHigherPriorityThan(targetRoleOpt.get());
-    }
-
-    /**
-     * Computes effective permissions by OR-ing all assigned role permissions.
-     */
-    private int computeEffectivePermissions(UUID guildId, UUID playerId) {
-        List<String> roleIds = memberRoleRepository.getMemberRoleIds(guildId, playerId);
-        int permissions = 0;
-        for (String roleId : roleIds) {
-            Optional<GuildRole> role = ((CompositeGuildRoleRepository) roleRepository).findByIdAndGuild(roleId, guildId);
-            if (role.isPresent()) {
-                permissions |= role.get().getPermissions();
-            }
-        }
-        return permissions;
+        return kickerPriority > targetPriority;
     }
 
     /**
-     * Gets the highest priority role for a member.
+     * Gets a member's cached authority, resolving it from storage on a miss.
      */
-    private Optional<GuildRole> getHighestPriorityRole(UUID guildId, UUID playerId) {
-        List<String> roleIds = memberRoleRepository.getMemberRoleIds(guildId, playerId);
-        GuildRole highestRole = null;
-
-        for (String roleId : roleIds) {
-            Optional<GuildRole> roleOpt = ((CompositeGuildRoleRepository) roleRepository).findByIdAndGuild(roleId, guildId);
-            if (roleOpt.isPresent()) {
-                GuildRole role = roleOpt.get();
-                if (highestRole == null || role.getPriority() > highestRole.getPriority()) {
-                    highestRole = role;
-                }
-            }
-        }
-
-        return Optional.ofNullable(highestRole);
+    private MemberAuthority getAuthority(UUID guildId, UUID playerId) {
+        return permissionCache.get(guildId, playerId, authorityLoader::load);
     }
 }
@@ -11,6 +11,7 @@ import org.aincraft.GuildPermission;
 import org.aincraft.GuildRole;
 import org.aincraft.GuildService;
 import org.aincraft.MemberPermissions;
+import org.aincraft.service.MemberPermissionCache.MemberAuthority;
 import org.aincraft.storage.GuildRepository;
 import org.aincraft.storage.GuildRoleRepository;
 import org.aincraft.storage.MemberRoleRepository;
@@ -24,16 +25,25 @@ public class GuildRoleService {
     private final MemberRoleRepository memberRoleRepository;
     private final GuildRepository guildRepository;
     private final GuildService guildService;
+    private final PermissionDecisionCache decisionCache;
+    private final MemberPermissionCache permissionCache;
+    private final MemberAuthorityLoader authorityLoader;
 
     @Inject
     public GuildRoleService(GuildRoleRepository roleRepository,
                             MemberRoleRepository memberRoleRepository,
                             GuildRepository guildRepository,
-                            GuildService guildService) {
+                            GuildService guildService,
+                            PermissionDecisionCache decisionCache,
+                            MemberPermissionCache permissionCache,
+                            MemberAuthorityLoader authorityLoader) {
         this.roleRepository = Objects.requireNonNull(roleRepository, "RoleRepository cannot be null");
         this.memberRoleRepository = Objects.requireNonNull(memberRoleRepository, "MemberRoleRepository cannot be null");
         this.guildRepository = Objects.requireNonNull(guildRepository, "GuildRepository cannot be null");
         this.guildService = Objects.requireNonNull(guildService, "GuildService cannot be null");
+        this.decisionCache = Objects.requireNonNull(decisionCache, "Decision cache cannot be null");
+        this.permissionCache = Objects.requireNonNull(permissionCache, "Permission cache cannot be null");
+        this.authorityLoader = Objects.requireNonNull(authorityLoader, "Authority loader cannot be null");
     }
 
     /**
@@ -99,6 +109,8 @@ public class GuildRoleService {
 
         memberRoleRepository.removeAllByRole(roleId);
         roleRepository.delete(roleId);
+        decisionCache.invalidateGuild(guildId);
+        permissionCache.invalidateGuild(guildId);
         return true;
     }
 
@@ -127,6 +139,8 @@ public class GuildRoleService {
         GuildRole role = roleOpt.get();
         role.setPermissions(permissions);
         roleRepository.save(role);
+        decisionCache.invalidateGuild(guildId);
+        permissionCache.invalidateGuild(guildId);
         return true;
     }
 
@@ -138,6 +152,8 @@ public class GuildRoleService {
     public void saveRole(GuildRole role) {
         Objects.requireNonNull(role, "Role cannot be null");
         roleRepository.save(role);
+        decisionCache.invalidateGuild(role.getGuildId());
+        permissionCache.invalidateGuild(role.getGuildId());
     }
 
     /**
@@ -273,6 +289,8 @@ public class GuildRoleService {
         }
 
         memberRoleRepository.assignRole(guildId, targetId, roleId);
+        decisionCache.invalidatePlayer(targetId);
+        permissionCache.invalidateMember(guildId, targetId);
         return true;
     }
 
@@ -295,6 +313,8 @@ public class GuildRoleService {
         }
 
         memberRoleRepository.unassignRole(guildId, targetId, roleId);
+        decisionCache.invalidatePlayer(targetId);
+        permissionCache.invalidateMember(guildId, targetId);
         return true;
     }
 
@@ -343,21 +363,14 @@ public class GuildRoleService {
 
     /**
      * Computes effective permissions by OR-ing all assigned role permissions.
+     * Served from the member permission cache.
      *
      * @param guildId the guild ID
      * @param playerId the player UUID
      * @return the effective permissions bitfield
      */
     public int computeEffectivePermissions(UUID guildId, UUID playerId) {
-        List<String> roleIds = memberRoleRepository.getMemberRoleIds(guildId, playerId);
-        int permissions = 0;
-        for (String roleId : roleIds) {
-            Optional<GuildRole> role = findRoleByIdAndGuild(roleId, guildId);
-            if (role.isPresent()) {
-                permissions |= role.get().getPermissions();
-            }
-        }
-        return permissions;
+        return permissionCache.get(guildId, playerId, authorityLoader::load).permissions();
     }
 
     /**
@@ -371,12 +384,7 @@ public class GuildRoleService {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
         Objects.requireNonNull(playerId, "Player ID cannot be null");
 
-        Optional<Guild> guildOpt = guildRepository.findById(guildId);
-        if (guildOpt.isPresent() && guildOpt.get().isOwner(playerId)) {
-            return MemberPermissions.all();
-        }
-
-        return MemberPermissions.fromBitfield(computeEffectivePermissions(guildId, playerId));
+        return MemberPermissions.fromBitfield(permissionCache.get(guildId, playerId, authorityLoader::load).permissions());
     }
 
     /**
@@ -388,6 +396,8 @@ public class GuildRoleService {
     public void assignDefaultRole(UUID guildId, UUID playerId) {
         roleRepository.findByGuildAndName(guildId, GuildRole.DEFAULT_ROLE_NAME)
                 .ifPresent(role -> memberRoleRepository.assignRole(guildId, playerId, role.getId()));
+        decisionCache.invalidatePlayer(playerId);
+        permissionCache.invalidateMember(guildId, playerId);
     }
 
     /**
@@ -409,6 +419,8 @@ public class GuildRoleService {
      */
     public void removeAllMemberRoles(UUID guildId, UUID playerId) {
         memberRoleRepository.removeAllMemberRoles(guildId, playerId);
+        decisionCache.invalidatePlayer(playerId);
+        permissionCache.invalidateMember(guildId, playerId);
     }
 
     /**
@@ -419,6 +431,8 @@ public class GuildRoleService {
     public void deleteAllGuildRoles(UUID guildId) {
         memberRoleRepository.removeAllByGuild(guildId);
         roleRepository.deleteAllByGuild(guildId);
+        decisionCache.invalidateGuild(guildId);
+        permissionCache.invalidateGuild(guildId);
     }
 
     // === UUID-based wrapper methods that check permissions ===
@@ -0,0 +1,76 @@
+package org.aincraft.service;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.aincraft.Guild;
+import org.aincraft.GuildRole;
+import org.aincraft.role.CompositeGuildRoleRepository;
+import org.aincraft.service.MemberPermissionCache.MemberAuthority;
+import org.aincraft.storage.GuildRepository;
+import org.aincraft.storage.GuildRoleRepository;
+import org.aincraft.storage.MemberRoleRepository;
+
+/**
+ * Resolves a member's {@link MemberAuthority} from storage on a {@link MemberPermissionCache} miss.
+ * Every service reading the cache loads through this, so they all derive the same authority.
+ */
+@Singleton
+public class MemberAuthorityLoader {
+    private final GuildRepository guildRepository;
+    private final MemberRoleRepository memberRoleRepository;
+    private final GuildRoleRepository roleRepository;
+
+    @Inject
+    public MemberAuthorityLoader(GuildRepository guildRepository,
+                                 MemberRoleRepository memberRoleRepository,
+                                 GuildRoleRepository roleRepository) {
+        this.guildRepository = Objects.requireNonNull(guildRepository, "Guild repository cannot be null");
+        this.memberRoleRepository = Objects.requireNonNull(memberRoleRepository, "Member role repository cannot be null");
+        this.roleRepository = Objects.requireNonNull(roleRepository, "Role repository cannot be null");
+    }
+
+    /**
+     * Resolves ownership, effective permissions (OR of all assigned role permissions)
+     * and the highest assigned role priority.
+     *
+     * @param guildId the guild ID
+     * @param playerId the player UUID
+     * @return the member's authority, or {@link MemberAuthority#NONE} if the guild does not exist
+     */
+    public MemberAuthority load(UUID guildId, UUID playerId) {
+        Optional<Guild> guildOpt = guildRepository.findById(guildId);
+        if (guildOpt.isEmpty()) {
+            return MemberAuthority.NONE;
+        }
+        if (guildOpt.get().isOwner(playerId)) {
+            return MemberAuthority.OWNER;
+        }
+
+        List<String> roleIds = memberRoleRepository.getMemberRoleIds(guildId, playerId);
+        int permissions = 0;
+        Integer highestPriority = null;
+        for (String roleId : roleIds) {
+            Optional<GuildRole> roleOpt = findRole(roleId, guildId);
+            if (roleOpt.isPresent()) {
+                GuildRole role = roleOpt.get();
+                permissions |= role.getPermissions();
+                if (highestPriority == null || role.getPriority() > highestPriority) {
+                    highestPriority = role.getPriority();
+                }
+            }
+        }
+        return new MemberAuthority(false, permissions, highestPriority, roleIds);
+    }
+
+    private Optional<GuildRole> findRole(String roleId, UUID guildId) {
+        // Default roles are flyweights that can only be resolved with their guild
+        if (roleRepository instanceof CompositeGuildRoleRepository composite) {
+            return composite.findByIdAndGuild(roleId, guildId);
+        }
+        return roleRepository.findById(roleId);
+    }
+}
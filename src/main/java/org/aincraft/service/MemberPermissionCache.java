@@ -0,0 +1,136 @@
+package org.aincraft.service;
+
+import com.google.inject.Singleton;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import org.aincraft.GuildPermission;
+
+/**
+ * Caches each guild member's effective permission bitmask and highest role priority.
+ * <p>
+ * An entry is derived from guild ownership, the member's role assignments and the permissions and
+ * priorities of those roles, so the services changing any of them must invalidate it:
+ * <ul>
+ *   <li>{@link #invalidateMember(UUID, UUID)} - roles were assigned to or removed from the member</li>
+ *   <li>{@link #invalidatePlayer(UUID)} - the player joined, left or was removed from a guild</li>
+ *   <li>{@link #invalidateGuild(UUID)} - role permissions or priorities changed, a role was deleted,
+ *       ownership was transferred or the guild was deleted</li>
+ * </ul>
+ * Every invalidation bumps a generation counter before removing entries. A load records the
+ * generation before reading storage and drops its own result if the generation moved while it ran,
+ * so a load that raced a role or permission change can never install stale authority.
+ */
+@Singleton
+public class MemberPermissionCache {
+    private final Map<MemberKey, MemberAuthority> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * A member's resolved standing in a guild.
+     *
+     * @param owner whether the member owns the guild
+     * @param permissions OR of the permissions of every assigned role, or every permission for the owner
+     * @param highestPriority priority of the member's highest role, or null if no role is assigned
+     *                        or the member is the owner
+     * @param roleIds IDs of the guild roles assigned to the member; empty for the owner, whose
+     *                authority does not depend on roles
+     */
+    public record MemberAuthority(boolean owner, int permissions, Integer highestPriority, List<String> roleIds) {
+        /**
+         * Standing of a player in a guild that does not exist.
+         */
+        public static final MemberAuthority NONE = new MemberAuthority(false, 0, null);
+
+        /**
+         * Standing of the guild owner, who holds every permission regardless of roles.
+         */
+        public static final MemberAuthority OWNER = new MemberAuthority(true, GuildPermission.all(), null);
+
+        public MemberAuthority {
+            roleIds = List.copyOf(roleIds);
+        }
+
+        public MemberAuthority(boolean owner, int permissions, Integer highestPriority) {
+            this(owner, permissions, highestPriority, List.of());
+        }
+
+        /**
+         * Checks a permission, treating owners and ADMIN holders as having every permission.
+         */
+        public boolean hasPermission(GuildPermission permission) {
+            return owner
+                || (permissions & GuildPermission.ADMIN.getBit()) != 0
+                || (permissions & permission.getBit()) != 0;
+        }
+    }
+
+    /**
+     * Gets a member's authority, loading it if none is cached.
+     *
+     * @param guildId the guild ID
+     * @param playerId the player UUID
+     * @param loader resolves the authority from storage given the guild and player IDs
+     * @return the member's authority
+     */
+    public MemberAuthority get(UUID guildId, UUID playerId, BiFunction<UUID, UUID, MemberAuthority> loader) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(playerId, "Player ID cannot be null");
+        MemberKey key = new MemberKey(guildId, playerId);
+        MemberAuthority cached = entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadGeneration = generation.get();
+        MemberAuthority loaded = loader.apply(guildId, playerId);
+        MemberAuthority existing = entries.putIfAbsent(key, loaded);
+        if (existing != null) {
+            return existing;
+        }
+
+        // An invalidation that ran during the load bumped the generation; one that runs after the put removes the entry
+        if (generation.get() != loadGeneration) {
+            entries.remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops one member's entry.
+     */
+    public void invalidateMember(UUID guildId, UUID playerId) {
+        generation.incrementAndGet();
+        entries.remove(new MemberKey(guildId, playerId));
+    }
+
+    /**
+     * Drops a player's entries in every guild.
+     */
+    public void invalidatePlayer(UUID playerId) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> key.playerId().equals(playerId));
+    }
+
+    /**
+     * Drops the entries of every member of a guild.
+     */
+    public void invalidateGuild(UUID guildId) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> key.guildId().equals(guildId));
+    }
+
+    /**
+     * Gets the number of cached entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private record MemberKey(UUID guildId, UUID playerId) {
+    }
+}
@@ -0,0 +1,129 @@
+package org.aincraft.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.aincraft.GuildPermission;
+
+/**
+ * Caches final allow/deny protection decisions per player, territory scope and permission.
+ * <p>
+ * A scope is the guild owning the claimed chunk, narrowed to a subregion when the location lies
+ * inside one. Which guild owns a chunk is resolved by the caller on every check, so claiming and
+ * unclaiming never make a cached decision wrong; everything else a decision depends on must
+ * invalidate it through the services that change it:
+ * <ul>
+ *   <li>{@link #invalidatePlayer(UUID)} - the player's membership or roles changed</li>
+ *   <li>{@link #invalidateGuild(UUID)} - role permissions, default permissions, ownership or
+ *       relationships of the guild changed</li>
+ *   <li>{@link #invalidateRegion(UUID)} - permissions, roles or owners of the subregion changed</li>
+ * </ul>
+ * <p>
+ * Decisions computed while an invalidation runs are never stored: callers take a
+ * {@link #generation()} before computing and pass it to {@link #put}.
+ * <p>
+ * The cache is bounded in size and drops decisions that go unused; a player's decisions are
+ * also dropped when they quit.
+ */
+@Singleton
+public class PermissionDecisionCache {
+    private static final long MAXIMUM_SIZE = 100_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
+    private final Cache<DecisionKey, Boolean> decisions = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Gets a cached decision.
+     *
+     * @param playerId the acting player
+     * @param guildId the guild owning the territory
+     * @param regionId the subregion at the location, or null outside subregions
+     * @param permission the permission being checked
+     * @return the cached decision, or null if none is cached
+     */
+    public Boolean get(UUID playerId, UUID guildId, UUID regionId, GuildPermission permission) {
+        return decisions.getIfPresent(new DecisionKey(playerId, guildId, regionId, permission));
+    }
+
+    /**
+     * Gets the current invalidation generation, to be passed to {@link #put} once the decision is computed.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a decision unless an invalidation happened since {@code generation} was taken.
+     *
+     * @param playerId the acting player
+     * @param guildId the guild owning the territory
+     * @param regionId the subregion at the location, or null outside subregions
+     * @param permission the permission that was checked
+     * @param allowed the decision
+     * @param generation the value of {@link #generation()} taken before computing the decision
+     */
+    public void put(UUID playerId, UUID guildId, UUID regionId, GuildPermission permission,
+                    boolean allowed, long generation) {
+        Objects.requireNonNull(playerId, "Player ID cannot be null");
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(permission, "Permission cannot be null");
+
+        DecisionKey key = new DecisionKey(playerId, guildId, regionId, permission);
+        decisions.put(key, allowed);
+
+        // An invalidation that ran before this put bumped the generation; one that runs after it removes the entry
+        if (this.generation.get() != generation) {
+            decisions.invalidate(key);
+        }
+    }
+
+    /**
+     * Drops every decision made for a player.
+     */
+    public void invalidatePlayer(UUID playerId) {
+        generation.incrementAndGet();
+        decisions.asMap().keySet().removeIf(key -> key.playerId().equals(playerId));
+    }
+
+    /**
+     * Drops every decision made inside a guild's territory, including its subregions.
+     */
+    public void invalidateGuild(UUID guildId) {
+        generation.incrementAndGet();
+        decisions.asMap().keySet().removeIf(key -> key.guildId().equals(guildId));
+    }
+
+    /**
+     * Drops every decision made inside a subregion.
+     */
+    public void invalidateRegion(UUID regionId) {
+        generation.incrementAndGet();
+        decisions.asMap().keySet().removeIf(key -> regionId.equals(key.regionId()));
+    }
+
+    /**
+     * Drops every cached decision.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        decisions.invalidateAll();
+    }
+
+    /**
+     * Gets the number of cached decisions.
+     */
+    public int size() {
+        return decisions.asMap().size();
+    }
+
+    private record DecisionKey(UUID playerId, UUID guildId, UUID regionId, GuildPermission permission) {
+    }
+}
@@ -6,6 +6,7 @@ import org.aincraft.Guild;
 import org.aincraft.GuildPermission;
 import org.aincraft.GuildService;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -33,4 +34,15 @@ public class PermissionService {
     public boolean hasPermission(UUID guildId, UUID playerId, GuildPermission permission) {
         return guildService.hasPermission(guildId, playerId, permission);
     }
+
+    /**
+     * Gets the IDs of the guild roles assigned to a member.
+     *
+     * @param guildId the guild ID
+     * @param playerId the player UUID
+     * @return the assigned role IDs; empty for the guild owner
+     */
+    public List<String> getMemberRoleIds(UUID guildId, UUID playerId) {
+        return guildService.getMemberRoleIds(guildId, playerId);
+    }
 }
@@ -5,24 +5,30 @@ import com.google.inject.Singleton;
 import org.aincraft.ChunkKey;
 import org.aincraft.ClaimResult;
 import org.aincraft.Guild;
+import org.aincraft.GuildPermission;
 import org.aincraft.GuildService;
+import org.aincraft.claim.BulkClaimResult;
 import org.aincraft.claim.ChunkClaimLog;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Facade service for territory/chunk operations.
- * Delegates to GuildService for all operations.
+ * Claims go through ChunkClaimService so single and bulk claims share validation and first-claim handling;
+ * other operations delegate to GuildService.
  */
 @Singleton
 public class TerritoryService {
     private final GuildService guildService;
+    private final ChunkClaimService chunkClaimService;
 
     @Inject
-    public TerritoryService(GuildService guildService) {
+    public TerritoryService(GuildService guildService, ChunkClaimService chunkClaimService) {
         this.guildService = Objects.requireNonNull(guildService);
+        this.chunkClaimService = Objects.requireNonNull(chunkClaimService);
     }
 
     /**
@@ -34,7 +40,8 @@ public class TerritoryService {
      * @return the claim result
      */
     public ClaimResult claimChunk(UUID guildId, UUID playerId, ChunkKey chunk) {
-        return guildService.claimChunk(guildId, playerId, chunk);
+        return chunkClaimService.claimChunk(guildId, playerId, chunk,
+                guildService.hasPermission(guildId, playerId, GuildPermission.CLAIM));
     }
 
     /**
@@ -47,6 +54,72 @@ public class TerritoryService {
         guildService.adminClaimChunk(guildId, chunk);
     }
 
+    /**
+     * Claims a set of chunks for a guild in one validated, transactional operation.
+     *
+     * @param guildId the guild ID
+     * @param playerId the player UUID
+     * @param chunks the chunks to claim
+     * @return the bulk claim result
+     */
+    public BulkClaimResult claimChunks(UUID guildId, UUID playerId, Collection<ChunkKey> chunks) {
+        return chunkClaimService.claimChunks(guildId, playerId, chunks,
+                guildService.hasPermission(guildId, playerId, GuildPermission.CLAIM));
+    }
+
+    /**
+     * Claims a square of chunks centred on a chunk.
+     *
+     * @param guildId the guild ID
+     * @param playerId the player UUID
+     * @param center the centre chunk
+     * @param radius the number of chunks on each side of the centre
+     * @return the bulk claim result
+     */
+    public BulkClaimResult claimSquare(UUID guildId, UUID playerId, ChunkKey center, int radius) {
+        return chunkClaimService.claimSquare(guildId, playerId, center, radius,
+                guildService.hasPermission(guildId, playerId, GuildPermission.CLAIM));
+    }
+
+    /**
+     * Claims a circle of chunks centred on a chunk.
+     *
+     * @param guildId the guild ID
+     * @param playerId the player UUID
+     * @param center the centre chunk
+     * @param radius the circle radius in chunks
+     * @return the bulk claim result
+     */
+    public BulkClaimResult claimRadius(UUID guildId, UUID playerId, ChunkKey center, int radius) {
+        return chunkClaimService.claimRadius(guildId, playerId, center, radius,
+                guildService.hasPermission(guildId, playerId, GuildPermission.CLAIM));
+    }
+
+    /**
+     * Admin claims a set of chunks for a guild (bypasses permission and territory checks).
+     *
+     * @param guildId the guild ID
+     * @param adminId the admin UUID
+     * @param chunks the chunks to claim
+     * @return the chunks that were claimed
+     */
+    public List<ChunkKey> adminClaimChunks(UUID guildId, UUID adminId, Collection<ChunkKey> chunks) {
+        return chunkClaimService.adminClaimChunks(guildId, adminId, chunks);
+    }
+
+    /**
+     * Unclaims a set of chunks in one transaction.
+     *
+     * @param guildId the guild ID
+     * @param playerId the player UUID
+     * @param chunks the chunks to unclaim
+     * @return the chunks that were unclaimed
+     */
+    public List<ChunkKey> unclaimChunks(UUID guildId, UUID playerId, Collection<ChunkKey> chunks) {
+        return chunkClaimService.unclaimChunks(guildId, playerId, chunks,
+                guildService.hasPermission(guildId, playerId, GuildPermission.UNCLAIM_ALL));
+    }
+
     /**
      * Unclaims a chunk.
      *
@@ -83,6 +156,50 @@ public class TerritoryService {
         return guildService.getChunkOwner(chunk);
     }
 
+    /**
+     * Gets the guild that owns the chunk containing a block.
+     *
+     * @param world the world name
+     * @param blockX the block x coordinate
+     * @param blockZ the block z coordinate
+     * @return the guild owner, or null if unclaimed
+     */
+    public Guild getChunkOwnerAt(String world, int blockX, int blockZ) {
+        return guildService.getChunkOwnerAt(world, blockX, blockZ);
+    }
+
+    /**
+     * Gets the guild that owns a chunk.
+     *
+     * @param packedChunk the chunk, encoded with {@link org.aincraft.PackedChunkKey}
+     * @return the guild owner, or null if unclaimed
+     */
+    public Guild getChunkOwner(long packedChunk) {
+        return guildService.getChunkOwner(packedChunk);
+    }
+
+    /**
+     * Gets the ID of the guild that owns a chunk, without loading the guild.
+     *
+     * @param packedChunk the chunk, encoded with {@link org.aincraft.PackedChunkKey}
+     * @return the owning guild ID, or null if unclaimed
+     */
+    public UUID getChunkOwnerId(long packedChunk) {
+        return guildService.getChunkOwnerId(packedChunk);
+    }
+
+    /**
+     * Gets the ID of the guild that owns the chunk containing a block, without loading the guild.
+     *
+     * @param world the world name
+     * @param blockX the block x coordinate
+     * @param blockZ the block z coordinate
+     * @return the owning guild ID, or null if unclaimed
+     */
+    public UUID getChunkOwnerIdAt(String world, int blockX, int blockZ) {
+        return guildService.getChunkOwnerIdAt(world, blockX, blockZ);
+    }
+
     /**
      * Gets all chunks claimed by a guild.
      *
@@ -93,6 +210,16 @@ public class TerritoryService {
         return guildService.getGuildChunks(guildId);
     }
 
+    /**
+     * Gets the number of chunks claimed by a guild.
+     *
+     * @param guildId the guild ID
+     * @return the chunk count
+     */
+    public int getGuildChunkCount(UUID guildId) {
+        return guildService.getGuildChunkCount(guildId);
+    }
+
     /**
      * Gets the claim log entries for a guild.
      *
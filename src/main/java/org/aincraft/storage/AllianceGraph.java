@@ -0,0 +1,224 @@
+package org.aincraft.storage;
+
+import com.google.inject.Singleton;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.aincraft.GuildRelationship;
+
+/**
+ * Memory-resident graph of active alliances, partitioned into alliance blocs: the sets of guilds
+ * connected through any chain of alliances.
+ * <p>
+ * Blocs are kept as a disjoint-set with union by size. Every guild points straight at its bloc's
+ * representative, so "same bloc?" is two hash lookups. Forming an alliance merges the smaller bloc
+ * into the larger one. Breaking an alliance may split a bloc, so only that bloc is rebuilt, by a
+ * traversal of its remaining alliances.
+ * <p>
+ * Guilds without allies are not stored; each is its own bloc.
+ * <p>
+ * Thread-safe: lookups take a shared read lock, mutations an exclusive write lock.
+ */
+@Singleton
+public final class AllianceGraph {
+    private final Map<UUID, Set<UUID>> alliances = new HashMap<>();
+    private final Map<UUID, UUID> blocOf = new HashMap<>();
+    private final Map<UUID, Set<UUID>> blocMembers = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Replaces the graph with the given active alliances.
+     */
+    public void load(Collection<GuildRelationship> activeAlliances) {
+        Objects.requireNonNull(activeAlliances, "Alliances cannot be null");
+
+        lock.writeLock().lock();
+        try {
+            alliances.clear();
+            blocOf.clear();
+            blocMembers.clear();
+            for (GuildRelationship alliance : activeAlliances) {
+                addAlliance(alliance.getSourceGuildId(), alliance.getTargetGuildId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Records an active alliance between two guilds. Does nothing if it is already recorded.
+     */
+    public void link(UUID guildId1, UUID guildId2) {
+        Objects.requireNonNull(guildId1, "Guild ID 1 cannot be null");
+        Objects.requireNonNull(guildId2, "Guild ID 2 cannot be null");
+
+        lock.writeLock().lock();
+        try {
+            addAlliance(guildId1, guildId2);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the alliance between two guilds, splitting their bloc if nothing else connects them.
+     */
+    public void unlink(UUID guildId1, UUID guildId2) {
+        Objects.requireNonNull(guildId1, "Guild ID 1 cannot be null");
+        Objects.requireNonNull(guildId2, "Guild ID 2 cannot be null");
+
+        lock.writeLock().lock();
+        try {
+            if (removeEdge(guildId1, guildId2) | removeEdge(guildId2, guildId1)) {
+                rebuildBloc(blocOf.get(guildId1));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a guild and all of its alliances.
+     */
+    public void removeGuild(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        lock.writeLock().lock();
+        try {
+            Set<UUID> allies = alliances.remove(guildId);
+            if (allies == null) {
+                return;
+            }
+            for (UUID ally : allies) {
+                removeEdge(ally, guildId);
+            }
+            rebuildBloc(blocOf.get(guildId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether two guilds belong to the same alliance bloc. A guild is always in its own bloc.
+     */
+    public boolean isSameBloc(UUID guildId1, UUID guildId2) {
+        if (guildId1.equals(guildId2)) {
+            return true;
+        }
+
+        lock.readLock().lock();
+        try {
+            UUID bloc = blocOf.get(guildId1);
+            return bloc != null && bloc.equals(blocOf.get(guildId2));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets every guild in a guild's alliance bloc, including the guild itself.
+     *
+     * @return a snapshot of the bloc's guild IDs
+     */
+    public Set<UUID> getBloc(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        lock.readLock().lock();
+        try {
+            UUID bloc = blocOf.get(guildId);
+            return bloc == null ? Set.of(guildId) : Set.copyOf(blocMembers.get(bloc));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addAlliance(UUID guildId1, UUID guildId2) {
+        if (guildId1.equals(guildId2)) {
+            return;
+        }
+        alliances.computeIfAbsent(guildId1, id -> new HashSet<>()).add(guildId2);
+        alliances.computeIfAbsent(guildId2, id -> new HashSet<>()).add(guildId1);
+        union(guildId1, guildId2);
+    }
+
+    private void union(UUID guildId1, UUID guildId2) {
+        UUID bloc1 = blocOf.computeIfAbsent(guildId1, this::singletonBloc);
+        UUID bloc2 = blocOf.computeIfAbsent(guildId2, this::singletonBloc);
+        if (bloc1.equals(bloc2)) {
+            return;
+        }
+
+        Set<UUID> members1 = blocMembers.get(bloc1);
+        Set<UUID> members2 = blocMembers.get(bloc2);
+        UUID larger = members1.size() >= members2.size() ? bloc1 : bloc2;
+        UUID smaller = larger.equals(bloc1) ? bloc2 : bloc1;
+
+        Set<UUID> absorbed = blocMembers.remove(smaller);
+        for (UUID member : absorbed) {
+            blocOf.put(member, larger);
+        }
+        blocMembers.get(larger).addAll(absorbed);
+    }
+
+    private UUID singletonBloc(UUID guildId) {
+        Set<UUID> members = new HashSet<>();
+        members.add(guildId);
+        blocMembers.put(guildId, members);
+        return guildId;
+    }
+
+    private boolean removeEdge(UUID from, UUID to) {
+        Set<UUID> allies = alliances.get(from);
+        if (allies == null || !allies.remove(to)) {
+            return false;
+        }
+        if (allies.isEmpty()) {
+            alliances.remove(from);
+        }
+        return true;
+    }
+
+    /**
+     * Recomputes the blocs formed by the members of a bloc after it lost an alliance.
+     */
+    private void rebuildBloc(UUID bloc) {
+        Set<UUID> members = bloc == null ? null : blocMembers.remove(bloc);
+        if (members == null) {
+            return;
+        }
+        for (UUID member : members) {
+            blocOf.remove(member);
+        }
+
+        for (UUID start : members) {
+            if (blocOf.containsKey(start) || !alliances.containsKey(start)) {
+                continue; // Already placed, or left without allies
+            }
+
+            Set<UUID> component = new HashSet<>();
+            Queue<UUID> queue = new ArrayDeque<>();
+            queue.add(start);
+            component.add(start);
+            while (!queue.isEmpty()) {
+                for (UUID ally : alliances.getOrDefault(queue.poll(), Set.of())) {
+                    if (component.add(ally)) {
+                        queue.add(ally);
+                    }
+                }
+            }
+
+            for (UUID member : component) {
+                blocOf.put(member, start);
+            }
+            blocMembers.put(start, component);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.aincraft.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aincraft.Guild;
+
+/**
+ * Write-through decorator that keeps loaded guild aggregates in a bounded Caffeine cache.
+ * Every lookup resolves to the cached instance, so there is a single {@link Guild} per ID while
+ * it stays cached; callers that mutate it must {@link #save} it. The instance is shared across
+ * threads, which {@link Guild} supports through volatile fields and copy-on-write members.
+ * <p>
+ * Guilds with online members are pinned by {@link PlayerSessionCache}: they are held outside the
+ * Caffeine cache until their last member leaves, so neither access expiry nor size eviction can
+ * send a lookup for them back to the database.
+ */
+@Singleton
+public class CachedGuildRepository implements GuildRepository {
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+
+    private final GuildRepository persistedRepository;
+    private final Cache<UUID, Guild> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+    private final Set<UUID> pinnedIds = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Guild> pinned = new ConcurrentHashMap<>();
+
+    @Inject
+    public CachedGuildRepository(@Named("persisted") GuildRepository persistedRepository) {
+        this.persistedRepository = Objects.requireNonNull(persistedRepository, "persistedRepository cannot be null");
+    }
+
+    @Override
+    public void save(Guild guild) {
+        Objects.requireNonNull(guild, "Guild cannot be null");
+
+        persistedRepository.save(guild);
+        cache.put(guild.getId(), guild);
+        if (pinnedIds.contains(guild.getId())) {
+            pinned.put(guild.getId(), guild);
+        }
+    }
+
+    @Override
+    public void delete(UUID guildId) {
+        persistedRepository.delete(guildId);
+        pinned.remove(guildId);
+        cache.invalidate(guildId);
+    }
+
+    @Override
+    public Optional<Guild> findById(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        Guild resident = pinned.get(guildId);
+        if (resident != null) {
+            return Optional.of(resident);
+        }
+        Guild guild = cache.get(guildId, id -> persistedRepository.findById(id).orElse(null));
+        return Optional.ofNullable(guild).map(this::pinIfNeeded);
+    }
+
+    @Override
+    public Optional<Guild> findByName(String name) {
+        return persistedRepository.findByName(name).map(this::intern);
+    }
+
+    @Override
+    public List<Guild> findAll() {
+        return persistedRepository.findAll().stream()
+            .map(this::intern)
+            .toList();
+    }
+
+    @Override
+    public List<Guild> findAllById(Collection<UUID> guildIds) {
+        Objects.requireNonNull(guildIds, "Guild IDs cannot be null");
+
+        List<Guild> result = new ArrayList<>();
+        List<UUID> notPinned = new ArrayList<>();
+        for (UUID guildId : guildIds) {
+            Guild resident = pinned.get(guildId);
+            if (resident != null) {
+                result.add(resident);
+            } else {
+                notPinned.add(guildId);
+            }
+        }
+
+        Map<UUID, Guild> found = cache.getAll(notPinned, missing -> {
+            Map<UUID, Guild> loaded = new HashMap<>();
+            for (Guild guild : persistedRepository.findAllById(toList(missing))) {
+                loaded.put(guild.getId(), guild);
+            }
+            return loaded;
+        });
+        for (Guild guild : found.values()) {
+            result.add(pinIfNeeded(guild));
+        }
+        return result;
+    }
+
+    /**
+     * Pins a guild that has online members. Only the cached instance is captured, so this never
+     * reads the database; a guild that is not cached yet is pinned on its next lookup.
+     */
+    @Override
+    public void pin(UUID guildId) {
+        pinnedIds.add(guildId);
+        Guild cached = cache.getIfPresent(guildId);
+        if (cached != null) {
+            pinned.putIfAbsent(guildId, cached);
+        }
+    }
+
+    /**
+     * Hands a guild whose last online member left back to the bounded cache.
+     */
+    @Override
+    public void unpin(UUID guildId) {
+        pinnedIds.remove(guildId);
+        Guild guild = pinned.remove(guildId);
+        if (guild != null) {
+            cache.asMap().putIfAbsent(guildId, guild);
+        }
+    }
+
+    /**
+     * Returns the resident instance of a freshly read guild, caching it if absent.
+     */
+    private Guild intern(Guild guild) {
+        Guild resident = pinned.get(guild.getId());
+        if (resident != null) {
+            return resident;
+        }
+        return pinIfNeeded(cache.asMap().computeIfAbsent(guild.getId(), id -> guild));
+    }
+
+    private Guild pinIfNeeded(Guild guild) {
+        if (!pinnedIds.contains(guild.getId())) {
+            return guild;
+        }
+        Guild resident = pinned.putIfAbsent(guild.getId(), guild);
+        return resident != null ? resident : guild;
+    }
+
+    private static List<UUID> toList(Iterable<? extends UUID> ids) {
+        List<UUID> list = new ArrayList<>();
+        ids.forEach(list::add);
+        return list;
+    }
+}
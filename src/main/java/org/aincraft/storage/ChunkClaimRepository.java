@@ -1,10 +1,12 @@
 package org.aincraft.storage;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.aincraft.ChunkKey;
+import org.aincraft.claim.NearbyClaim;
 import org.aincraft.map.ChunkClaimData;
 
 /**
@@ -30,6 +32,27 @@ public interface ChunkClaimRepository {
      */
     boolean unclaim(ChunkKey chunk, UUID guildId);
 
+    /**
+     * Claims many chunks for a guild in a single transaction.
+     * Chunks that are already claimed are skipped.
+     *
+     * @param chunks the chunks to claim
+     * @param guildId the guild claiming the chunks
+     * @param claimedBy the player who claimed them
+     * @return the chunks that were actually claimed
+     */
+    List<ChunkKey> claimChunks(Collection<ChunkKey> chunks, UUID guildId, UUID claimedBy);
+
+    /**
+     * Unclaims many chunks from a guild in a single transaction.
+     * Chunks not owned by the guild are skipped.
+     *
+     * @param chunks the chunks to unclaim
+     * @param guildId the guild that owns the chunks
+     * @return the chunks that were actually unclaimed
+     */
+    List<ChunkKey> unclaimChunks(Collection<ChunkKey> chunks, UUID guildId);
+
     /**
      * Unclaims all chunks owned by a guild.
      */
@@ -43,6 +66,14 @@ public interface ChunkClaimRepository {
      */
     Optional<UUID> getOwner(ChunkKey chunk);
 
+    /**
+     * Gets the guild that owns a chunk.
+     *
+     * @param packedChunk the chunk, encoded with {@link org.aincraft.PackedChunkKey}
+     * @return the guild ID if claimed, empty otherwise
+     */
+    Optional<UUID> getOwner(long packedChunk);
+
     /**
      * Gets all chunks owned by a guild.
      *
@@ -59,6 +90,15 @@ public interface ChunkClaimRepository {
      */
     int getChunkCount(UUID guildId);
 
+    /**
+     * Checks whether a guild owns a chunk sharing an edge (not a corner) with the given chunk.
+     *
+     * @param chunk the chunk to check around
+     * @param guildId the guild ID
+     * @return true if at least one edge-adjacent chunk is owned by the guild
+     */
+    boolean hasAdjacentClaim(ChunkKey chunk, UUID guildId);
+
     /**
      * Gets ownership data for multiple chunks in a single query.
      *
@@ -66,4 +106,22 @@ public interface ChunkClaimRepository {
      * @return map of chunk to claim data (excludes unclaimed chunks)
      */
     Map<ChunkKey, ChunkClaimData> getOwnersForChunks(List<ChunkKey> chunks);
+
+    /**
+     * Finds the closest chunk claimed by another guild within a Manhattan distance.
+     *
+     * @param chunk the chunk to search around
+     * @param excludedGuildId the guild whose claims are ignored
+     * @param distance the exclusive Manhattan distance bound
+     * @return the closest foreign claim closer than {@code distance}, empty if none
+     */
+    Optional<NearbyClaim> findNearestForeignClaim(ChunkKey chunk, UUID excludedGuildId, int distance);
+
+    /**
+     * Gets the owner of every claimed chunk.
+     * Used to bulk-load in-memory indexes at startup.
+     *
+     * @return map of chunk to owning guild ID
+     */
+    Map<ChunkKey, UUID> getAllOwners();
 }
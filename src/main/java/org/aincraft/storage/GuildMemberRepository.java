@@ -1,6 +1,7 @@
 package org.aincraft.storage;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.aincraft.GuildPermission;
@@ -13,13 +14,18 @@ import org.aincraft.MemberPermissions;
 public interface GuildMemberRepository {
     /**
      * Adds a member to a guild with the specified permissions.
+     * An existing member's permissions and join date are overwritten.
+     *
+     * @return true if the player was not already a member
      */
-    void addMember(UUID guildId, UUID playerId, MemberPermissions permissions);
+    boolean addMember(UUID guildId, UUID playerId, MemberPermissions permissions);
 
     /**
      * Removes a member from a guild.
+     *
+     * @return true if the player was a member
      */
-    void removeMember(UUID guildId, UUID playerId);
+    boolean removeMember(UUID guildId, UUID playerId);
 
     /**
      * Removes all members from a guild (for guild deletion).
@@ -49,4 +55,12 @@ public interface GuildMemberRepository {
      * @return Optional containing the join timestamp, or empty if member not found or timestamp not set
      */
     Optional<Long> getMemberJoinDate(UUID guildId, UUID playerId);
+
+    /**
+     * Gets the number of members in every guild with at least one member.
+     * Used to bulk-load in-memory indexes at startup.
+     *
+     * @return map of guild ID to member count
+     */
+    Map<UUID, Integer> getMemberCounts();
 }
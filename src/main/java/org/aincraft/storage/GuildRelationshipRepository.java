@@ -62,6 +62,15 @@ public interface GuildRelationshipRepository {
      */
     List<GuildRelationship> findByType(UUID guildId, RelationType type, RelationStatus status);
 
+    /**
+     * Finds all relationships of a specific type and status across every guild.
+     *
+     * @param type the relation type
+     * @param status the relation status
+     * @return list of matching relationships
+     */
+    List<GuildRelationship> findAllByType(RelationType type, RelationStatus status);
+
     /**
      * Deletes all relationships involving a guild.
      *
@@ -1,5 +1,6 @@
 package org.aincraft.storage;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,4 +16,23 @@ public interface GuildRepository {
     Optional<Guild> findById(UUID guildId);
     Optional<Guild> findByName(String name);
     List<Guild> findAll();
+
+    /**
+     * Finds every existing guild among the given IDs in as few round trips as possible.
+     * Unknown IDs are skipped, and the result is in no particular order.
+     */
+    List<Guild> findAllById(Collection<UUID> guildIds);
+
+    /**
+     * Keeps a guild resident in memory while it has online members, however long it goes unused.
+     * Repositories without an in-memory cache ignore this.
+     */
+    default void pin(UUID guildId) {
+    }
+
+    /**
+     * Releases a guild pinned by {@link #pin(UUID)} once its last online member leaves.
+     */
+    default void unpin(UUID guildId) {
+    }
 }
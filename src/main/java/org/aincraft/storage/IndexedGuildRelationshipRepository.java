@@ -0,0 +1,138 @@
+package org.aincraft.storage;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.aincraft.GuildRelationship;
+import org.aincraft.RelationStatus;
+import org.aincraft.RelationType;
+
+/**
+ * Write-through decorator that serves the live (active and pending) relationships from a
+ * memory-resident {@link RelationshipIndex}, and keeps the {@link AllianceGraph} in step with every
+ * write. Both are bulk-loaded from the persisted repository on construction, so relationship
+ * lookups from protection checks and map rendering never reach the database. Lookups of rejected
+ * or cancelled relationships, and full per-guild histories, are delegated.
+ * <p>
+ * Reads return copies of the indexed relationships; a status change only takes effect once the
+ * caller {@link #save}s it.
+ */
+@Singleton
+public class IndexedGuildRelationshipRepository implements GuildRelationshipRepository {
+    private final GuildRelationshipRepository persistedRepository;
+    private final AllianceGraph allianceGraph;
+    private final RelationshipIndex index = new RelationshipIndex();
+
+    @Inject
+    public IndexedGuildRelationshipRepository(
+            @Named("persisted") GuildRelationshipRepository persistedRepository,
+            AllianceGraph allianceGraph,
+            @Named("guilds") Logger logger) {
+        this.persistedRepository = Objects.requireNonNull(persistedRepository, "persistedRepository cannot be null");
+        this.allianceGraph = Objects.requireNonNull(allianceGraph, "Alliance graph cannot be null");
+        Objects.requireNonNull(logger, "Logger cannot be null");
+
+        for (RelationType type : RelationType.values()) {
+            index.putAll(persistedRepository.findAllByType(type, RelationStatus.ACTIVE));
+            index.putAll(persistedRepository.findAllByType(type, RelationStatus.PENDING));
+        }
+        allianceGraph.load(index.findAllByType(RelationType.ALLY, RelationStatus.ACTIVE));
+        logger.info("Loaded " + index.size() + " guild relationships into memory");
+    }
+
+    @Override
+    public void save(GuildRelationship relationship) {
+        Objects.requireNonNull(relationship, "Relationship cannot be null");
+
+        persistedRepository.save(relationship);
+        index.put(relationship);
+        if (relationship.getRelationType() != RelationType.ALLY) {
+            return;
+        }
+        if (relationship.getStatus() == RelationStatus.ACTIVE) {
+            allianceGraph.link(relationship.getSourceGuildId(), relationship.getTargetGuildId());
+        } else {
+            refreshAlliance(relationship.getSourceGuildId(), relationship.getTargetGuildId());
+        }
+    }
+
+    @Override
+    public void delete(String relationshipId) {
+        Objects.requireNonNull(relationshipId, "Relationship ID cannot be null");
+
+        persistedRepository.delete(relationshipId);
+        GuildRelationship removed = index.remove(relationshipId);
+        if (removed != null && removed.getRelationType() == RelationType.ALLY) {
+            refreshAlliance(removed.getSourceGuildId(), removed.getTargetGuildId());
+        }
+    }
+
+    @Override
+    public Optional<GuildRelationship> findById(String id) {
+        Objects.requireNonNull(id, "ID cannot be null");
+
+        GuildRelationship relationship = index.get(id);
+        return relationship != null ? Optional.of(relationship) : persistedRepository.findById(id);
+    }
+
+    @Override
+    public Optional<GuildRelationship> findRelationship(UUID guildId1, UUID guildId2) {
+        Objects.requireNonNull(guildId1, "Guild ID 1 cannot be null");
+        Objects.requireNonNull(guildId2, "Guild ID 2 cannot be null");
+        return index.findRelationship(guildId1, guildId2);
+    }
+
+    @Override
+    public List<GuildRelationship> findAllByGuild(UUID guildId) {
+        return persistedRepository.findAllByGuild(guildId);
+    }
+
+    @Override
+    public List<GuildRelationship> findByType(UUID guildId, RelationType type, RelationStatus status) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(type, "Relation type cannot be null");
+        Objects.requireNonNull(status, "Status cannot be null");
+
+        return RelationshipIndex.isLive(status)
+            ? index.findByType(guildId, type, status)
+            : persistedRepository.findByType(guildId, type, status);
+    }
+
+    @Override
+    public List<GuildRelationship> findAllByType(RelationType type, RelationStatus status) {
+        Objects.requireNonNull(type, "Relation type cannot be null");
+        Objects.requireNonNull(status, "Status cannot be null");
+
+        return RelationshipIndex.isLive(status)
+            ? index.findAllByType(type, status)
+            : persistedRepository.findAllByType(type, status);
+    }
+
+    @Override
+    public void deleteAllByGuild(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        persistedRepository.deleteAllByGuild(guildId);
+        index.removeGuild(guildId);
+        allianceGraph.removeGuild(guildId);
+    }
+
+    /**
+     * Re-checks whether two guilds are still allied after one of their alliance records changed.
+     * Alliances are stored in both directions, so one record going away does not end the alliance.
+     */
+    private void refreshAlliance(UUID guildId1, UUID guildId2) {
+        boolean allied = index.findByType(guildId1, RelationType.ALLY, RelationStatus.ACTIVE).stream()
+            .anyMatch(r -> r.involves(guildId2));
+        if (allied) {
+            allianceGraph.link(guildId1, guildId2);
+        } else {
+            allianceGraph.unlink(guildId1, guildId2);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package org.aincraft.storage;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Guild membership of online players, and the reverse index of online players per guild.
+ * <p>
+ * A session is opened while the player logs in, off the main thread, and closed when they quit,
+ * so membership lookups for online players never reach the database. Opening a session also loads
+ * the player's guild into the {@link GuildRepository} cache, and a guild stays pinned there for as
+ * long as any of its members is online. {@link SessionPlayerGuildMapping} keeps sessions current as
+ * memberships change.
+ * <p>
+ * A session opened at pre-login is pending until the player joins. A quit only closes a joined
+ * session, so the quit of a connection displaced by a duplicate login leaves the newer connection's
+ * pending session alone; pending sessions whose connection dropped before joining are reaped by
+ * {@link #closeAbandoned}.
+ */
+@Singleton
+public class PlayerSessionCache {
+    private final PlayerGuildMapping persistedMapping;
+    private final GuildRepository guildRepository;
+    private final Map<UUID, PlayerSession> sessions = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> onlineMembers = new ConcurrentHashMap<>();
+
+    /**
+     * An online player's membership.
+     *
+     * @param guildId the player's guild, or null if they are not in one
+     * @param openedAt when the session was opened, in epoch millis
+     * @param joined whether the connection that opened the session has joined
+     */
+    public record PlayerSession(UUID guildId, long openedAt, boolean joined) {
+    }
+
+    @Inject
+    public PlayerSessionCache(@Named("persisted") PlayerGuildMapping persistedMapping,
+                              GuildRepository guildRepository) {
+        this.persistedMapping = Objects.requireNonNull(persistedMapping, "Player guild mapping cannot be null");
+        this.guildRepository = Objects.requireNonNull(guildRepository, "Guild repository cannot be null");
+    }
+
+    /**
+     * Loads a player's membership and guild into a pending session, replacing any session the
+     * player already has. Blocks on the database; call from a login thread.
+     *
+     * @param playerId the player UUID
+     */
+    public void open(UUID playerId) {
+        Objects.requireNonNull(playerId, "Player ID cannot be null");
+
+        UUID guildId = persistedMapping.getPlayerGuildId(playerId).orElse(null);
+        PlayerSession opened = new PlayerSession(guildId, System.currentTimeMillis(), false);
+        sessions.compute(playerId, (id, previous) -> move(id, previous, opened));
+        if (guildId != null) {
+            // Loaded after the move so the guild is already pinned when it arrives
+            guildRepository.findById(guildId);
+        }
+    }
+
+    /**
+     * Marks a player's pending session as joined.
+     *
+     * @param playerId the player UUID
+     * @return false if the player has no session to join
+     */
+    public boolean join(UUID playerId) {
+        return sessions.computeIfPresent(playerId, (id, session) -> session.joined()
+                ? session
+                : new PlayerSession(session.guildId(), session.openedAt(), true)) != null;
+    }
+
+    /**
+     * Drops a player's session if it has joined, as when the player quits.
+     *
+     * @param playerId the player UUID
+     * @return true if a session was dropped
+     */
+    public boolean leave(UUID playerId) {
+        return closeIf(playerId, PlayerSession::joined);
+    }
+
+    /**
+     * Drops a player's session if it is still pending, as when their login is refused.
+     *
+     * @param playerId the player UUID
+     * @return true if a session was dropped
+     */
+    public boolean abandon(UUID playerId) {
+        return closeIf(playerId, session -> !session.joined());
+    }
+
+    /**
+     * Drops pending sessions opened before a cutoff, whose connections dropped between pre-login
+     * and login without any event to close them.
+     *
+     * @param openedBefore the cutoff, in epoch millis
+     * @return the players whose sessions were dropped
+     */
+    public List<UUID> closeAbandoned(long openedBefore) {
+        Predicate<PlayerSession> abandoned = session -> !session.joined() && session.openedAt() < openedBefore;
+        List<UUID> closed = new ArrayList<>();
+        for (Map.Entry<UUID, PlayerSession> entry : sessions.entrySet()) {
+            if (abandoned.test(entry.getValue()) && closeIf(entry.getKey(), abandoned)) {
+                closed.add(entry.getKey());
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * Drops a player's session.
+     *
+     * @param playerId the player UUID
+     */
+    public void close(UUID playerId) {
+        closeIf(playerId, session -> true);
+    }
+
+    /**
+     * Gets an online player's session.
+     *
+     * @return the session, or null if the player has none
+     */
+    public PlayerSession get(UUID playerId) {
+        return sessions.get(playerId);
+    }
+
+    /**
+     * Records a membership change for a player, if they have a session.
+     *
+     * @param playerId the player UUID
+     * @param guildId the new guild, or null if the player left their guild
+     */
+    public void setGuildId(UUID playerId, UUID guildId) {
+        sessions.computeIfPresent(playerId, (id, previous) ->
+                move(id, previous, new PlayerSession(guildId, previous.openedAt(), previous.joined())));
+    }
+
+    /**
+     * Gets the players with an open session in a guild.
+     *
+     * @param guildId the guild ID
+     * @return a read-only live view of the members' UUIDs, empty if none is online
+     */
+    public Set<UUID> getOnlineMembers(UUID guildId) {
+        Set<UUID> members = onlineMembers.get(guildId);
+        return members == null ? Set.of() : Collections.unmodifiableSet(members);
+    }
+
+    /**
+     * Gets the number of open sessions.
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    private boolean closeIf(UUID playerId, Predicate<PlayerSession> condition) {
+        boolean[] closed = new boolean[1];
+        sessions.computeIfPresent(playerId, (id, previous) -> {
+            if (!condition.test(previous)) {
+                return previous;
+            }
+            unindex(id, previous.guildId());
+            closed[0] = true;
+            return null;
+        });
+        return closed[0];
+    }
+
+    private PlayerSession move(UUID playerId, PlayerSession previous, PlayerSession session) {
+        if (previous != null) {
+            unindex(playerId, previous.guildId());
+        }
+        UUID guildId = session.guildId();
+        if (guildId != null) {
+            onlineMembers.compute(guildId, (id, members) -> {
+                Set<UUID> updated = members;
+                if (updated == null) {
+                    updated = ConcurrentHashMap.newKeySet();
+                    guildRepository.pin(guildId);
+                }
+                updated.add(playerId);
+                return updated;
+            });
+        }
+        return session;
+    }
+
+    private void unindex(UUID playerId, UUID guildId) {
+        if (guildId != null) {
+            onlineMembers.computeIfPresent(guildId, (id, members) -> {
+                members.remove(playerId);
+                if (!members.isEmpty()) {
+                    return members;
+                }
+                guildRepository.unpin(guildId);
+                return null;
+            });
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package org.aincraft.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.aincraft.GuildRelationship;
+import org.aincraft.RelationStatus;
+import org.aincraft.RelationType;
+
+/**
+ * Memory-resident index of the live guild relationships: those that are active or still pending.
+ * Every relationship is listed under both of its guilds, so the relationship between two guilds
+ * is found by scanning only the first guild's handful of relationships.
+ * <p>
+ * Rejected and cancelled relationships are history and are left to the database.
+ * <p>
+ * Thread-safe: lookups take a shared read lock, mutations an exclusive write lock. Relationships
+ * are copied on the way in and out, so a caller changing the status of one it looked up cannot
+ * alter the index outside the lock; the change takes effect when the relationship is put back.
+ */
+public final class RelationshipIndex {
+    private final Map<String, GuildRelationship> relationships = new HashMap<>();
+    private final Map<UUID, Map<String, GuildRelationship>> guildRelationships = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Checks whether a relationship in this status belongs in the index.
+     */
+    public static boolean isLive(RelationStatus status) {
+        return status == RelationStatus.ACTIVE || status == RelationStatus.PENDING;
+    }
+
+    /**
+     * Adds or replaces a relationship, or removes it if it is no longer live.
+     */
+    public void put(GuildRelationship relationship) {
+        Objects.requireNonNull(relationship, "Relationship cannot be null");
+
+        lock.writeLock().lock();
+        try {
+            unlink(relationships.remove(relationship.getId()));
+            if (isLive(relationship.getStatus())) {
+                GuildRelationship indexed = copyOf(relationship);
+                relationships.put(indexed.getId(), indexed);
+                link(indexed.getSourceGuildId(), indexed);
+                link(indexed.getTargetGuildId(), indexed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds all live relationships from the given collection.
+     */
+    public void putAll(Collection<GuildRelationship> relationships) {
+        for (GuildRelationship relationship : relationships) {
+            put(relationship);
+        }
+    }
+
+    /**
+     * Removes a relationship.
+     *
+     * @return the removed relationship, or null if it was not indexed
+     */
+    public GuildRelationship remove(String relationshipId) {
+        lock.writeLock().lock();
+        try {
+            GuildRelationship removed = relationships.remove(relationshipId);
+            unlink(removed);
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every relationship involving a guild.
+     */
+    public void removeGuild(UUID guildId) {
+        lock.writeLock().lock();
+        try {
+            Map<String, GuildRelationship> owned = guildRelationships.get(guildId);
+            if (owned == null) {
+                return;
+            }
+            for (GuildRelationship relationship : List.copyOf(owned.values())) {
+                relationships.remove(relationship.getId());
+                unlink(relationship);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a relationship by ID.
+     *
+     * @return the relationship, or null if it is not indexed
+     */
+    public GuildRelationship get(String relationshipId) {
+        lock.readLock().lock();
+        try {
+            GuildRelationship relationship = relationships.get(relationshipId);
+            return relationship != null ? copyOf(relationship) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds an active relationship between two guilds, in either direction.
+     */
+    public Optional<GuildRelationship> findRelationship(UUID guildId1, UUID guildId2) {
+        lock.readLock().lock();
+        try {
+            for (GuildRelationship relationship : guildRelationships.getOrDefault(guildId1, Map.of()).values()) {
+                if (relationship.getStatus() == RelationStatus.ACTIVE && relationship.involves(guildId2)) {
+                    return Optional.of(copyOf(relationship));
+                }
+            }
+            return Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds a guild's relationships of a specific type and live status.
+     */
+    public List<GuildRelationship> findByType(UUID guildId, RelationType type, RelationStatus status) {
+        lock.readLock().lock();
+        try {
+            List<GuildRelationship> matches = new ArrayList<>();
+            for (GuildRelationship relationship : guildRelationships.getOrDefault(guildId, Map.of()).values()) {
+                if (relationship.getRelationType() == type && relationship.getStatus() == status) {
+                    matches.add(copyOf(relationship));
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds every relationship of a specific type and live status.
+     */
+    public List<GuildRelationship> findAllByType(RelationType type, RelationStatus status) {
+        lock.readLock().lock();
+        try {
+            List<GuildRelationship> matches = new ArrayList<>();
+            for (GuildRelationship relationship : relationships.values()) {
+                if (relationship.getRelationType() == type && relationship.getStatus() == status) {
+                    matches.add(copyOf(relationship));
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of indexed relationships.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return relationships.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static GuildRelationship copyOf(GuildRelationship relationship) {
+        return new GuildRelationship(relationship.getId(), relationship.getSourceGuildId(),
+                relationship.getTargetGuildId(), relationship.getRelationType(), relationship.getStatus(),
+                relationship.getCreatedAt(), relationship.getCreatedBy());
+    }
+
+    private void link(UUID guildId, GuildRelationship relationship) {
+        guildRelationships.computeIfAbsent(guildId, id -> new LinkedHashMap<>())
+                .put(relationship.getId(), relationship);
+    }
+
+    private void unlink(GuildRelationship relationship) {
+        if (relationship == null) {
+            return;
+        }
+        for (UUID guildId : List.of(relationship.getSourceGuildId(), relationship.getTargetGuildId())) {
+            Map<String, GuildRelationship> owned = guildRelationships.get(guildId);
+            if (owned != null) {
+                owned.remove(relationship.getId());
+                if (owned.isEmpty()) {
+                    guildRelationships.remove(guildId);
+                }
+            }
+        }
+    }
+}
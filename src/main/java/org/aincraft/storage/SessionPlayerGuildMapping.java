@@ -0,0 +1,53 @@
+package org.aincraft.storage;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Write-through decorator that answers membership lookups for online players from their
+ * {@link PlayerSessionCache} session. Offline players are looked up in the persisted mapping.
+ */
+@Singleton
+public class SessionPlayerGuildMapping implements PlayerGuildMapping {
+    private final PlayerGuildMapping persistedMapping;
+    private final PlayerSessionCache sessionCache;
+
+    @Inject
+    public SessionPlayerGuildMapping(@Named("persisted") PlayerGuildMapping persistedMapping,
+                                     PlayerSessionCache sessionCache) {
+        this.persistedMapping = Objects.requireNonNull(persistedMapping, "persistedMapping cannot be null");
+        this.sessionCache = Objects.requireNonNull(sessionCache, "Session cache cannot be null");
+    }
+
+    @Override
+    public void addPlayerToGuild(UUID playerId, UUID guildId) {
+        persistedMapping.addPlayerToGuild(playerId, guildId);
+        sessionCache.setGuildId(playerId, guildId);
+    }
+
+    @Override
+    public void removePlayerFromGuild(UUID playerId) {
+        persistedMapping.removePlayerFromGuild(playerId);
+        sessionCache.setGuildId(playerId, null);
+    }
+
+    @Override
+    public Optional<UUID> getPlayerGuildId(UUID playerId) {
+        Objects.requireNonNull(playerId, "Player ID cannot be null");
+
+        PlayerSessionCache.PlayerSession session = sessionCache.get(playerId);
+        if (session != null) {
+            return Optional.ofNullable(session.guildId());
+        }
+        return persistedMapping.getPlayerGuildId(playerId);
+    }
+
+    @Override
+    public boolean isPlayerInGuild(UUID playerId) {
+        return getPlayerGuildId(playerId).isPresent();
+    }
+}
@@ -0,0 +1,131 @@
+package org.aincraft.subregion;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.aincraft.ChunkKey;
+import org.bukkit.Location;
+
+/**
+ * Write-through decorator that serves every subregion read from a memory-resident {@link SubregionIndex}.
+ * The index is bulk-loaded from the persisted repository on construction and updated after every
+ * successful write, so protection checks and movement tracking never reach the database.
+ * <p>
+ * Reads return copies of the indexed regions; a change to a region only takes effect once the
+ * caller {@link #save}s it.
+ */
+@Singleton
+public class IndexedSubregionRepository implements SubregionRepository {
+    private final SubregionRepository persistedRepository;
+    private final SubregionIndex index = new SubregionIndex();
+
+    @Inject
+    public IndexedSubregionRepository(
+            @Named("persisted") SubregionRepository persistedRepository,
+            @Named("guilds") Logger logger) {
+        this.persistedRepository = Objects.requireNonNull(persistedRepository, "persistedRepository cannot be null");
+        Objects.requireNonNull(logger, "Logger cannot be null");
+
+        index.putAll(persistedRepository.findAll());
+        logger.info("Loaded " + index.size() + " subregions into memory");
+    }
+
+    @Override
+    public void save(Subregion region) {
+        Objects.requireNonNull(region, "Subregion cannot be null");
+
+        persistedRepository.save(region);
+        index.put(region);
+    }
+
+    @Override
+    public void delete(UUID regionId) {
+        Objects.requireNonNull(regionId, "Region ID cannot be null");
+
+        persistedRepository.delete(regionId);
+        index.remove(regionId);
+    }
+
+    @Override
+    public void deleteAllByGuild(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+
+        persistedRepository.deleteAllByGuild(guildId);
+        index.removeGuild(guildId);
+    }
+
+    @Override
+    public Optional<Subregion> findById(UUID regionId) {
+        Objects.requireNonNull(regionId, "Region ID cannot be null");
+        return Optional.ofNullable(index.get(regionId));
+    }
+
+    @Override
+    public Optional<Subregion> findByGuildAndName(UUID guildId, String name) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        Objects.requireNonNull(name, "Name cannot be null");
+        return Optional.ofNullable(index.getByName(guildId, name));
+    }
+
+    @Override
+    public List<Subregion> findByGuild(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        return index.getGuildRegions(guildId);
+    }
+
+    @Override
+    public List<Subregion> findAll() {
+        return persistedRepository.findAll();
+    }
+
+    @Override
+    public List<Subregion> findByLocation(Location loc) {
+        Objects.requireNonNull(loc, "Location cannot be null");
+        return index.getAt(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    @Override
+    public List<Subregion> findByLocation(String world, int x, int y, int z) {
+        Objects.requireNonNull(world, "World cannot be null");
+        return index.getAt(world, x, y, z);
+    }
+
+    @Override
+    public List<Subregion> findAncestors(Subregion region) {
+        Objects.requireNonNull(region, "Subregion cannot be null");
+        return index.getAncestors(region);
+    }
+
+    @Override
+    public List<Subregion> findOverlappingChunks(Set<ChunkKey> chunks) {
+        if (chunks == null || chunks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return index.getOverlapping(chunks);
+    }
+
+    @Override
+    public List<Subregion> findOverlappingChunk(ChunkKey chunk) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        return index.getOverlapping(chunk);
+    }
+
+    @Override
+    public int getCountByGuild(UUID guildId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        return index.getCount(guildId);
+    }
+
+    @Override
+    public long getTotalVolumeByGuildAndType(UUID guildId, String typeId) {
+        Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        return index.getTotalVolume(guildId, typeId);
+    }
+}
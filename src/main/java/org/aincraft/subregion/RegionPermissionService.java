@@ -1,7 +1,10 @@
 package org.aincraft.subregion;
 
 import com.google.inject.Inject;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,8 +15,8 @@ import org.aincraft.RelationType;
 import org.aincraft.RelationshipService;
 import org.aincraft.service.GuildLifecycleService;
 import org.aincraft.service.GuildMemberService;
+import org.aincraft.service.PermissionDecisionCache;
 import org.aincraft.service.PermissionService;
-import org.aincraft.storage.MemberRoleRepository;
 
 /**
  * Service layer for region-specific permission operations.
@@ -27,11 +30,12 @@ public class RegionPermissionService {
     private final GuildLifecycleService lifecycleService;
     private final GuildMemberService memberService;
     private final PermissionService guildPermissionService;
-    private final MemberRoleRepository memberRoleRepository;
     private final RegionRoleRepository regionRoleRepository;
     private final MemberRegionRoleRepository memberRegionRoleRepository;
     private final RelationshipService relationshipService;
     private final GuildDefaultPermissionsService guildDefaultPermissionsService;
+    private final PermissionDecisionCache decisionCache;
+    private final RegionPermissionTables permissionTables;
 
     @Inject
     public RegionPermissionService(RegionPermissionRepository permissionRepository,
@@ -39,21 +43,23 @@ public class RegionPermissionService {
                                  GuildLifecycleService lifecycleService,
                                  GuildMemberService memberService,
                                  PermissionService guildPermissionService,
-                                 MemberRoleRepository memberRoleRepository,
                                  RegionRoleRepository regionRoleRepository,
                                  MemberRegionRoleRepository memberRegionRoleRepository,
                                  RelationshipService relationshipService,
-                                 GuildDefaultPermissionsService guildDefaultPermissionsService) {
+                                 GuildDefaultPermissionsService guildDefaultPermissionsService,
+                                 PermissionDecisionCache decisionCache,
+                                 RegionPermissionTables permissionTables) {
         this.permissionRepository = Objects.requireNonNull(permissionRepository);
         this.subregionRepository = Objects.requireNonNull(subregionRepository);
         this.lifecycleService = Objects.requireNonNull(lifecycleService);
         this.memberService = Objects.requireNonNull(memberService);
         this.guildPermissionService = Objects.requireNonNull(guildPermissionService);
-        this.memberRoleRepository = Objects.requireNonNull(memberRoleRepository);
         this.regionRoleRepository = Objects.requireNonNull(regionRoleRepository);
         this.memberRegionRoleRepository = Objects.requireNonNull(memberRegionRoleRepository);
         this.relationshipService = Objects.requireNonNull(relationshipService);
         this.guildDefaultPermissionsService = Objects.requireNonNull(guildDefaultPermissionsService);
+        this.decisionCache = Objects.requireNonNull(decisionCache);
+        this.permissionTables = Objects.requireNonNull(permissionTables);
     }
 
     /**
@@ -85,6 +91,7 @@ public class RegionPermissionService {
         }
 
         permissionRepository.save(permission);
+        invalidate(regionId);
         return permission;
     }
 
@@ -117,6 +124,7 @@ public class RegionPermissionService {
         }
 
         permissionRepository.save(permission);
+        invalidate(regionId);
         return permission;
     }
 
@@ -137,6 +145,7 @@ public class RegionPermissionService {
 
         if (permission.isPresent()) {
             permissionRepository.delete(permission.get().getId());
+            invalidate(regionId);
             return true;
         }
         return false;
@@ -159,6 +168,7 @@ public class RegionPermissionService {
 
         if (permission.isPresent()) {
             permissionRepository.delete(permission.get().getId());
+            invalidate(regionId);
             return true;
         }
         return false;
@@ -199,6 +209,7 @@ public class RegionPermissionService {
 
     /**
      * Checks if a player has a specific permission in a region.
+     * Region rows are read from the region's compiled {@link RegionPermissionTable}.
      * Permission hierarchy:
      * 1. Guild owner - always allowed
      * 2. Region owner - always allowed
@@ -220,8 +231,8 @@ public class RegionPermissionService {
         Objects.requireNonNull(permission, "Permission cannot be null");
 
         // 1. Guild owner always has permission
-        if (lifecycleService.getGuildById(region.getGuildId()) != null &&
-            lifecycleService.getGuildById(region.getGuildId()).isOwner(playerId)) {
+        Guild guild = lifecycleService.getGuildById(region.getGuildId());
+        if (guild != null && guild.isOwner(playerId)) {
             return true;
         }
 
@@ -235,58 +246,44 @@ public class RegionPermissionService {
             return true;
         }
 
+        RegionPermissionTable table = permissionTables.get(region.getId(), id -> compileTable(region));
+        int bit = permission.getBit();
+
         // 4. Check player-specific permissions (applies to anyone)
-        Optional<RegionPermission> playerPerm = permissionRepository.findByRegionAndSubject(
-            region.getId(), playerId.toString(), SubjectType.PLAYER
-        );
-        if (playerPerm.isPresent()) {
-            return playerPerm.get().hasPermission(permission.getBit());
+        Integer playerOverride = table.getPlayerOverride(playerId);
+        if (playerOverride != null) {
+            return (playerOverride & bit) != 0;
         }
 
         // Check if player is in the guild
-        var playerGuild = memberService.getPlayerGuild(playerId);
-        boolean isMember = playerGuild != null && playerGuild.getId().toString().equals(region.getGuildId());
+        Guild playerGuild = memberService.getPlayerGuild(playerId);
+        boolean isMember = playerGuild != null && playerGuild.getId().equals(region.getGuildId());
 
         // 4. Check relationship-specific permissions (for non-members)
         if (!isMember) {
-            if (checkRelationshipPermission(region.getGuildId(), playerGuild, permission.getBit())) {
-                return true;
-            }
+            SubjectType subjectType = mapRelationToSubjectType(region.getGuildId(), playerGuild);
+            return (table.getRelationshipMask(subjectType) & bit) != 0;
         }
 
-        // 5-8: Only apply member-specific checks for guild members
-        if (isMember) {
-            // 5. Check guild role-based permissions (SUPER - higher priority)
-            List<String> guildRoles = memberRoleRepository.getMemberRoleIds(region.getGuildId(), playerId);
-            for (String roleId : guildRoles) {
-                Optional<RegionPermission> rolePerm = permissionRepository.findByRegionAndSubject(
-                    region.getId(), roleId, SubjectType.ROLE
-                );
-                if (rolePerm.isPresent() && rolePerm.get().hasPermission(permission.getBit())) {
-                    return true;
-                }
-            }
-
-            // 6. Check region role-based permissions
-            List<String> regionRoleIds = memberRegionRoleRepository.getMemberRoleIds(region.getId(), playerId);
-            for (String roleId : regionRoleIds) {
-                Optional<RegionRole> regionRole = regionRoleRepository.findById(roleId);
-                if (regionRole.isPresent() && regionRole.get().hasPermission(permission.getBit())) {
-                    return true;
-                }
-            }
+        // 5. Check guild role-based permissions (SUPER - higher priority)
+        List<String> guildRoles = guildPermissionService.getMemberRoleIds(region.getGuildId(), playerId);
+        if ((table.getRoleMask(guildRoles) & bit) != 0) {
+            return true;
+        }
 
-            // 7. Check region default permissions (set on Subregion itself)
-            int regionPerms = region.getPermissions();
-            if (regionPerms != 0) {
-                return (regionPerms & permission.getBit()) != 0;
-            }
+        // 6. Check region role-based permissions
+        if ((table.getRegionRoleMask(playerId) & bit) != 0) {
+            return true;
+        }
 
-            // 8. Fall back to guild permissions
-            return guildPermissionService.hasPermission(region.getGuildId(), playerId, permission);
+        // 7. Check region default permissions (set on Subregion itself)
+        int regionPerms = region.getPermissions();
+        if (regionPerms != 0) {
+            return (regionPerms & bit) != 0;
         }
 
-        return false;
+        // 8. Fall back to guild permissions
+        return guildPermissionService.hasPermission(region.getGuildId(), playerId, permission);
     }
 
     /**
@@ -300,6 +297,7 @@ public class RegionPermissionService {
         // Also clear region roles and their assignments
         memberRegionRoleRepository.removeAllByRegion(regionId);
         regionRoleRepository.deleteAllByRegion(regionId);
+        invalidate(regionId);
     }
 
     // ==================== Region Role Management ====================
@@ -347,6 +345,7 @@ public class RegionPermissionService {
         RegionRole role = roleOpt.get();
         memberRegionRoleRepository.removeAllByRole(role.getId());
         regionRoleRepository.delete(role.getId());
+        invalidate(regionId);
         return true;
     }
 
@@ -393,6 +392,7 @@ public class RegionPermissionService {
         }
 
         memberRegionRoleRepository.assignRole(regionId, playerId, roleOpt.get().getId());
+        invalidate(regionId);
         return true;
     }
 
@@ -415,6 +415,7 @@ public class RegionPermissionService {
         }
 
         memberRegionRoleRepository.unassignRole(regionId, playerId, roleOpt.get().getId());
+        invalidate(regionId);
         return true;
     }
 
@@ -457,6 +458,7 @@ public class RegionPermissionService {
         RegionRole role = roleOpt.get();
         role.setPermissions(permissions);
         regionRoleRepository.save(role);
+        invalidate(regionId);
         return true;
     }
 
@@ -487,28 +489,51 @@ public class RegionPermissionService {
         return guildPermissionService.hasPermission(region.getGuildId(), playerId, GuildPermission.MANAGE_REGIONS);
     }
 
-    // ==================== Relationship Permission Helpers ====================
+    // ==================== Permission Table Helpers ====================
 
     /**
-     * Checks if a player has a relationship-based permission.
-     * First checks region-specific relationship overrides, then falls back to guild defaults.
+     * Compiles a region's permission rows, region roles and relationship defaults into a table.
      *
-     * @param guildId the guild ID (region owner)
-     * @param playerGuild the player's guild (null if unguilded)
-     * @param permissionBit the permission bit to check
-     * @return true if the player has the permission
+     * @param region the region
+     * @return the compiled table
      */
-    private boolean checkRelationshipPermission(UUID guildId, Guild playerGuild, int permissionBit) {
-        // Determine relationship type
-        SubjectType subjectType = mapRelationToSubjectType(guildId, playerGuild);
+    private RegionPermissionTable compileTable(Subregion region) {
+        Map<UUID, Integer> playerOverrides = new HashMap<>();
+        Map<String, Integer> roleGrants = new HashMap<>();
+        Map<SubjectType, Integer> relationshipMasks = new EnumMap<>(SubjectType.class);
+
+        // Guild defaults first, so region-specific relationship rows replace them
+        for (SubjectType type : List.of(SubjectType.GUILD_ALLY, SubjectType.GUILD_ENEMY, SubjectType.GUILD_OUTSIDER)) {
+            relationshipMasks.put(type, guildDefaultPermissionsService.getPermissions(region.getGuildId(), type));
+        }
+
+        for (RegionPermission row : permissionRepository.findByRegion(region.getId())) {
+            switch (row.getSubjectType()) {
+                case PLAYER -> playerOverrides.put(UUID.fromString(row.getSubjectId()), row.getPermissions());
+                case ROLE -> roleGrants.put(row.getSubjectId(), row.getPermissions());
+                default -> relationshipMasks.put(row.getSubjectType(), row.getPermissions());
+            }
+        }
+
+        Map<UUID, Integer> regionRoleMasks = new HashMap<>();
+        for (RegionRole role : regionRoleRepository.findByRegion(region.getId())) {
+            for (UUID memberId : memberRegionRoleRepository.getMembersWithRole(role.getId())) {
+                regionRoleMasks.merge(memberId, role.getPermissions(), (a, b) -> a | b);
+            }
+        }
 
-        // Check region-specific relationship override first
-        // (would need to pass region ID - but this is called from hasPermission which has it)
-        // For now, skip region override and use guild defaults
+        return new RegionPermissionTable(region.getId(), region.getGuildId(),
+            playerOverrides, roleGrants, regionRoleMasks, relationshipMasks);
+    }
 
-        // Fall back to guild default relationship permissions
-        int permissions = guildDefaultPermissionsService.getPermissions(guildId, subjectType);
-        return (permissions & permissionBit) != 0;
+    /**
+     * Drops the compiled table and cached decisions of a region after its rows changed.
+     *
+     * @param regionId the region ID
+     */
+    private void invalidate(UUID regionId) {
+        permissionTables.invalidate(regionId);
+        decisionCache.invalidateRegion(regionId);
     }
 
     /**
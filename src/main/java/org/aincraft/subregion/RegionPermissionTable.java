@@ -0,0 +1,91 @@
+package org.aincraft.subregion;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Immutable, compiled view of every permission row attached to one region.
+ * Player overrides, guild role grants, region role assignments and relationship masks are
+ * flattened into hash maps of bitfields, so a permission check resolves with map lookups and
+ * bit operations instead of one query per row.
+ * <p>
+ * Relationship masks already have the guild defaults applied, with region-specific
+ * relationship rows taking precedence.
+ */
+public final class RegionPermissionTable {
+    private final UUID regionId;
+    private final UUID guildId;
+    private final Map<UUID, Integer> playerOverrides;
+    private final Map<String, Integer> roleGrants;
+    private final Map<UUID, Integer> regionRoleMasks;
+    private final Map<SubjectType, Integer> relationshipMasks;
+
+    /**
+     * Creates a compiled table.
+     *
+     * @param regionId the region ID
+     * @param guildId the guild owning the region
+     * @param playerOverrides permission bitfield per player with a region override
+     * @param roleGrants permission bitfield per guild role ID
+     * @param regionRoleMasks OR of every region role assigned to each player
+     * @param relationshipMasks permission bitfield per relationship subject type
+     */
+    public RegionPermissionTable(UUID regionId, UUID guildId,
+                                 Map<UUID, Integer> playerOverrides,
+                                 Map<String, Integer> roleGrants,
+                                 Map<UUID, Integer> regionRoleMasks,
+                                 Map<SubjectType, Integer> relationshipMasks) {
+        this.regionId = Objects.requireNonNull(regionId, "Region ID cannot be null");
+        this.guildId = Objects.requireNonNull(guildId, "Guild ID cannot be null");
+        this.playerOverrides = Map.copyOf(playerOverrides);
+        this.roleGrants = Map.copyOf(roleGrants);
+        this.regionRoleMasks = Map.copyOf(regionRoleMasks);
+        this.relationshipMasks = new EnumMap<>(SubjectType.class);
+        this.relationshipMasks.putAll(relationshipMasks);
+    }
+
+    public UUID getRegionId() {
+        return regionId;
+    }
+
+    public UUID getGuildId() {
+        return guildId;
+    }
+
+    /**
+     * Gets a player's region override.
+     *
+     * @return the overriding bitfield, or null if the player has no override
+     */
+    public Integer getPlayerOverride(UUID playerId) {
+        return playerOverrides.get(playerId);
+    }
+
+    /**
+     * Gets the combined region grants of a member's guild roles.
+     */
+    public int getRoleMask(List<String> roleIds) {
+        int mask = 0;
+        for (String roleId : roleIds) {
+            mask |= roleGrants.getOrDefault(roleId, 0);
+        }
+        return mask;
+    }
+
+    /**
+     * Gets the combined permissions of the region roles assigned to a player.
+     */
+    public int getRegionRoleMask(UUID playerId) {
+        return regionRoleMasks.getOrDefault(playerId, 0);
+    }
+
+    /**
+     * Gets the permissions granted to a relationship subject type.
+     */
+    public int getRelationshipMask(SubjectType subjectType) {
+        return relationshipMasks.getOrDefault(subjectType, 0);
+    }
+}
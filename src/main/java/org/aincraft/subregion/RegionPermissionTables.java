@@ -0,0 +1,79 @@
+package org.aincraft.subregion;
+
+import com.google.inject.Singleton;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Holds the compiled {@link RegionPermissionTable} of each region.
+ * Tables are compiled on first use and dropped whenever a row they were built from changes;
+ * the next check recompiles only that region:
+ * <ul>
+ *   <li>{@link #invalidate(UUID)} - player, role or relationship rows, region roles or
+ *       region role assignments of the region changed</li>
+ *   <li>{@link #invalidateGuild(UUID)} - the owning guild's default relationship permissions changed</li>
+ * </ul>
+ * Every invalidation bumps a generation counter before removing tables. A compile records the
+ * generation before reading storage and drops its own table if the generation moved while it ran,
+ * so a compile that raced a permission change never leaves a stale table behind.
+ */
+@Singleton
+public class RegionPermissionTables {
+    private final Map<UUID, RegionPermissionTable> tables = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Gets a region's table, compiling it if none is held.
+     *
+     * @param regionId the region ID
+     * @param compiler builds the table from storage
+     * @return the compiled table
+     */
+    public RegionPermissionTable get(UUID regionId, Function<UUID, RegionPermissionTable> compiler) {
+        Objects.requireNonNull(regionId, "Region ID cannot be null");
+        RegionPermissionTable cached = tables.get(regionId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long compileGeneration = generation.get();
+        RegionPermissionTable compiled = compiler.apply(regionId);
+        RegionPermissionTable existing = tables.putIfAbsent(regionId, compiled);
+        if (existing != null) {
+            return existing;
+        }
+
+        // An invalidation that ran during the compile bumped the generation; one that runs after the put removes the table
+        if (generation.get() != compileGeneration) {
+            tables.remove(regionId, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Drops the table of one region.
+     */
+    public void invalidate(UUID regionId) {
+        generation.incrementAndGet();
+        tables.remove(regionId);
+    }
+
+    /**
+     * Drops the tables of every region owned by a guild.
+     */
+    public void invalidateGuild(UUID guildId) {
+        generation.incrementAndGet();
+        tables.values().removeIf(table -> table.getGuildId().equals(guildId));
+    }
+
+    /**
+     * Gets the number of compiled tables.
+     */
+    public int size() {
+        return tables.size();
+    }
+}
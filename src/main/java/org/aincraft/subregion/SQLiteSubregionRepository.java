@@ -211,9 +211,34 @@ public class SQLiteSubregionRepository implements SubregionRepository {
         return regions;
     }
 
+    @Override
+    public List<Subregion> findAll() {
+        String selectSQL = "SELECT * FROM subregions";
+        List<Subregion> regions = new ArrayList<>();
+
+        try (Connection conn = DriverManager.getConnection(connectionString);
+             PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            ResultSet rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                regions.add(mapResultSet(rs));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to load subregions", e);
+        }
+
+        return regions;
+    }
+
     @Override
     public List<Subregion> findByLocation(Location loc) {
         Objects.requireNonNull(loc, "Location cannot be null");
+        return findByLocation(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    @Override
+    public List<Subregion> findByLocation(String world, int x, int y, int z) {
+        Objects.requireNonNull(world, "World cannot be null");
 
         String selectSQL = """
             SELECT * FROM subregions
@@ -224,13 +249,10 @@ public class SQLiteSubregionRepository implements SubregionRepository {
             """;
 
         List<Subregion> regions = new ArrayList<>();
-        int x = loc.getBlockX();
-        int y = loc.getBlockY();
-        int z = loc.getBlockZ();
 
         try (Connection conn = DriverManager.getConnection(connectionString);
              PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
-            pstmt.setString(1, loc.getWorld().getName());
+            pstmt.setString(1, world);
             pstmt.setInt(2, x);
             pstmt.setInt(3, x);
             pstmt.setInt(4, y);
@@ -246,9 +268,50 @@ public class SQLiteSubregionRepository implements SubregionRepository {
             throw new RuntimeException("Failed to find subregions at location", e);
         }
 
+        regions.sort(Subregion.SPECIFICITY);
         return regions;
     }
 
+    @Override
+    public List<Subregion> findAncestors(Subregion region) {
+        Objects.requireNonNull(region, "Subregion cannot be null");
+
+        String selectSQL = """
+            SELECT * FROM subregions
+            WHERE world = ? AND id <> ?
+            AND min_x <= ? AND max_x >= ?
+            AND min_y <= ? AND max_y >= ?
+            AND min_z <= ? AND max_z >= ?
+            """;
+
+        List<Subregion> ancestors = new ArrayList<>();
+
+        try (Connection conn = DriverManager.getConnection(connectionString);
+             PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            pstmt.setString(1, region.getWorld());
+            pstmt.setString(2, region.getId().toString());
+            pstmt.setInt(3, region.getMinX());
+            pstmt.setInt(4, region.getMaxX());
+            pstmt.setInt(5, region.getMinY());
+            pstmt.setInt(6, region.getMaxY());
+            pstmt.setInt(7, region.getMinZ());
+            pstmt.setInt(8, region.getMaxZ());
+            ResultSet rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                Subregion candidate = mapResultSet(rs);
+                if (Subregion.SPECIFICITY.compare(candidate, region) > 0) {
+                    ancestors.add(candidate);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find enclosing subregions", e);
+        }
+
+        ancestors.sort(Subregion.SPECIFICITY);
+        return ancestors;
+    }
+
     @Override
     public List<Subregion> findOverlappingChunks(Set<ChunkKey> chunks) {
         if (chunks == null || chunks.isEmpty()) {
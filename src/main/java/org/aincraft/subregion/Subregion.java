@@ -1,6 +1,7 @@
 package org.aincraft.subregion;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -12,6 +13,16 @@ import org.bukkit.Location;
  * Subregions allow fine-grained permission control over specific areas.
  */
 public final class Subregion {
+    /**
+     * Orders regions from most to least specific: smallest volume first, then most recently created.
+     * Where regions overlap, the first one in this order is the effective region, and every region
+     * after it that encloses it is one of its ancestors. Ties fall back to the ID so the order is total.
+     */
+    public static final Comparator<Subregion> SPECIFICITY = Comparator
+            .comparingLong(Subregion::getVolume)
+            .thenComparing(Comparator.comparingLong(Subregion::getCreatedAt).reversed())
+            .thenComparing(Subregion::getId);
+
     private final UUID id;
     private final UUID guildId;
     private String name;
@@ -114,17 +125,32 @@ public final class Subregion {
      * Checks if a location is within this subregion.
      */
     public boolean contains(Location loc) {
-        if (loc == null || !loc.getWorld().getName().equals(world)) {
+        if (loc == null) {
             return false;
         }
-        int x = loc.getBlockX();
-        int y = loc.getBlockY();
-        int z = loc.getBlockZ();
-        return x >= minX && x <= maxX &&
+        return contains(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    /**
+     * Checks if a block position is within this subregion.
+     */
+    public boolean contains(String blockWorld, int x, int y, int z) {
+        return world.equals(blockWorld) &&
+               x >= minX && x <= maxX &&
                y >= minY && y <= maxY &&
                z >= minZ && z <= maxZ;
     }
 
+    /**
+     * Checks if another subregion lies entirely within this one.
+     */
+    public boolean encloses(Subregion other) {
+        return world.equals(other.world) &&
+               minX <= other.minX && maxX >= other.maxX &&
+               minY <= other.minY && maxY >= other.maxY &&
+               minZ <= other.minZ && maxZ >= other.maxZ;
+    }
+
     /**
      * Checks if this subregion intersects with a chunk.
      */
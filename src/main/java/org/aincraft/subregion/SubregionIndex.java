@@ -0,0 +1,365 @@
+package org.aincraft.subregion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.aincraft.ChunkKey;
+import org.aincraft.PackedChunkKey;
+
+/**
+ * Memory-resident spatial index of subregions.
+ * Every region is listed in a bucket for each chunk its footprint overlaps, keyed by
+ * {@link PackedChunkKey}, so a point lookup hashes one long and tests only the handful of regions
+ * sharing that chunk. Regions are also kept by ID and per guild for the management queries.
+ * <p>
+ * Buckets are kept sorted by {@link Subregion#SPECIFICITY}, so regions are placed by binary search
+ * and every lookup returns matches innermost-first. The first region containing a point is the
+ * effective one however the regions were loaded, and the regions ranked after a region that enclose
+ * it form its ancestor chain.
+ * <p>
+ * Thread-safe: lookups take a shared read lock, mutations an exclusive write lock. Regions are
+ * copied on the way in and out, so a caller renaming or re-permissioning one it looked up cannot
+ * alter the index outside the lock; the change takes effect when the region is put back.
+ */
+public final class SubregionIndex {
+    private final Map<UUID, Subregion> regions = new LinkedHashMap<>();
+    private final Map<UUID, Map<UUID, Subregion>> guildRegions = new HashMap<>();
+    private final Map<Long, List<Subregion>> chunkBuckets = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds a region, or replaces the region with the same ID.
+     */
+    public void put(Subregion subregion) {
+        Objects.requireNonNull(subregion, "Subregion cannot be null");
+        Subregion region = copyOf(subregion);
+
+        lock.writeLock().lock();
+        try {
+            Subregion previous = regions.put(region.getId(), region);
+            guildRegions.computeIfAbsent(region.getGuildId(), id -> new LinkedHashMap<>())
+                    .put(region.getId(), region);
+
+            if (previous != null && sameBounds(previous, region)
+                    && Subregion.SPECIFICITY.compare(previous, region) == 0) {
+                // Metadata-only update: the rank is unchanged, so swap the instance in place
+                for (long chunk : footprint(region)) {
+                    List<Subregion> bucket = chunkBuckets.get(chunk);
+                    bucket.set(Collections.binarySearch(bucket, previous, Subregion.SPECIFICITY), region);
+                }
+                return;
+            }
+
+            if (previous != null) {
+                unlinkBuckets(previous);
+            }
+            for (long chunk : footprint(region)) {
+                List<Subregion> bucket = chunkBuckets.computeIfAbsent(chunk, c -> new ArrayList<>(2));
+                int slot = Collections.binarySearch(bucket, region, Subregion.SPECIFICITY);
+                bucket.add(slot < 0 ? -slot - 1 : slot, region);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds all regions.
+     */
+    public void putAll(Collection<Subregion> toAdd) {
+        for (Subregion region : toAdd) {
+            put(region);
+        }
+    }
+
+    /**
+     * Removes a region by ID.
+     */
+    public void remove(UUID regionId) {
+        lock.writeLock().lock();
+        try {
+            Subregion removed = regions.remove(regionId);
+            if (removed == null) {
+                return;
+            }
+            Map<UUID, Subregion> owned = guildRegions.get(removed.getGuildId());
+            if (owned != null) {
+                owned.remove(regionId);
+                if (owned.isEmpty()) {
+                    guildRegions.remove(removed.getGuildId());
+                }
+            }
+            unlinkBuckets(removed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every region belonging to a guild.
+     */
+    public void removeGuild(UUID guildId) {
+        lock.writeLock().lock();
+        try {
+            Map<UUID, Subregion> owned = guildRegions.remove(guildId);
+            if (owned == null) {
+                return;
+            }
+            for (Subregion region : owned.values()) {
+                regions.remove(region.getId());
+                unlinkBuckets(region);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a region by ID.
+     *
+     * @return the region, or null if not indexed
+     */
+    public Subregion get(UUID regionId) {
+        lock.readLock().lock();
+        try {
+            Subregion region = regions.get(regionId);
+            return region != null ? copyOf(region) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a guild's region by name, ignoring case.
+     *
+     * @return the region, or null if the guild has none by that name
+     */
+    public Subregion getByName(UUID guildId, String name) {
+        lock.readLock().lock();
+        try {
+            Map<UUID, Subregion> owned = guildRegions.get(guildId);
+            if (owned == null) {
+                return null;
+            }
+            for (Subregion region : owned.values()) {
+                if (region.getName().equalsIgnoreCase(name)) {
+                    return copyOf(region);
+                }
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets all regions belonging to a guild.
+     */
+    public List<Subregion> getGuildRegions(UUID guildId) {
+        lock.readLock().lock();
+        try {
+            Map<UUID, Subregion> owned = guildRegions.get(guildId);
+            return owned == null ? new ArrayList<>() : copyAll(owned.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the regions containing a block position, innermost first.
+     */
+    public List<Subregion> getAt(String world, int x, int y, int z) {
+        long chunk = PackedChunkKey.ofBlock(world, x, z);
+
+        lock.readLock().lock();
+        try {
+            List<Subregion> bucket = chunkBuckets.get(chunk);
+            if (bucket == null) {
+                return new ArrayList<>();
+            }
+            List<Subregion> result = new ArrayList<>(1);
+            for (Subregion region : bucket) {
+                if (region.contains(world, x, y, z)) {
+                    result.add(copyOf(region));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the regions that enclose a region, from its immediate parent outwards.
+     * Any enclosing region shares the region's chunks, so one bucket holds the whole chain.
+     */
+    public List<Subregion> getAncestors(Subregion region) {
+        Objects.requireNonNull(region, "Subregion cannot be null");
+        long chunk = PackedChunkKey.ofBlock(region.getWorld(), region.getMinX(), region.getMinZ());
+
+        lock.readLock().lock();
+        try {
+            List<Subregion> bucket = chunkBuckets.get(chunk);
+            if (bucket == null) {
+                return new ArrayList<>();
+            }
+            int slot = Collections.binarySearch(bucket, region, Subregion.SPECIFICITY);
+            List<Subregion> ancestors = new ArrayList<>();
+            for (int i = slot < 0 ? -slot - 1 : slot + 1; i < bucket.size(); i++) {
+                Subregion candidate = bucket.get(i);
+                if (candidate.encloses(region)) {
+                    ancestors.add(copyOf(candidate));
+                }
+            }
+            return ancestors;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the regions whose footprint intersects a chunk.
+     */
+    public List<Subregion> getOverlapping(ChunkKey chunk) {
+        long packed = PackedChunkKey.of(chunk);
+
+        lock.readLock().lock();
+        try {
+            List<Subregion> bucket = chunkBuckets.get(packed);
+            return bucket == null ? new ArrayList<>() : copyAll(bucket);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the regions whose footprint intersects any of the chunks, without duplicates.
+     */
+    public List<Subregion> getOverlapping(Collection<ChunkKey> chunks) {
+        Set<Subregion> result = new LinkedHashSet<>();
+
+        lock.readLock().lock();
+        try {
+            for (ChunkKey chunk : chunks) {
+                List<Subregion> bucket = chunkBuckets.get(PackedChunkKey.of(chunk));
+                if (bucket != null) {
+                    result.addAll(bucket);
+                }
+            }
+            return copyAll(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of regions belonging to a guild.
+     */
+    public int getCount(UUID guildId) {
+        lock.readLock().lock();
+        try {
+            Map<UUID, Subregion> owned = guildRegions.get(guildId);
+            return owned == null ? 0 : owned.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the total volume of a guild's regions of one type.
+     */
+    public long getTotalVolume(UUID guildId, String typeId) {
+        lock.readLock().lock();
+        try {
+            Map<UUID, Subregion> owned = guildRegions.get(guildId);
+            if (owned == null) {
+                return 0;
+            }
+            long total = 0;
+            for (Subregion region : owned.values()) {
+                if (Objects.equals(region.getType(), typeId)) {
+                    total += region.getVolume();
+                }
+            }
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of indexed regions.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return regions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Subregion copyOf(Subregion region) {
+        return new Subregion(region.getId(), region.getGuildId(), region.getName(), region.getWorld(),
+                region.getMinX(), region.getMinY(), region.getMinZ(),
+                region.getMaxX(), region.getMaxY(), region.getMaxZ(),
+                region.getCreatedBy(), region.getCreatedAt(),
+                region.getOwners(), region.getPermissions(), region.getType());
+    }
+
+    private static List<Subregion> copyAll(Collection<Subregion> indexed) {
+        List<Subregion> copies = new ArrayList<>(indexed.size());
+        for (Subregion region : indexed) {
+            copies.add(copyOf(region));
+        }
+        return copies;
+    }
+
+    private void unlinkBuckets(Subregion region) {
+        for (long chunk : footprint(region)) {
+            List<Subregion> bucket = chunkBuckets.get(chunk);
+            if (bucket != null) {
+                int slot = Collections.binarySearch(bucket, region, Subregion.SPECIFICITY);
+                if (slot >= 0) {
+                    bucket.remove(slot);
+                }
+                if (bucket.isEmpty()) {
+                    chunkBuckets.remove(chunk);
+                }
+            }
+        }
+    }
+
+    private static long[] footprint(Subregion region) {
+        int minChunkX = region.getMinX() >> 4;
+        int maxChunkX = region.getMaxX() >> 4;
+        int minChunkZ = region.getMinZ() >> 4;
+        int maxChunkZ = region.getMaxZ() >> 4;
+        int worldId = PackedChunkKey.worldId(region.getWorld());
+
+        long[] chunks = new long[(maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1)];
+        int i = 0;
+        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                chunks[i++] = PackedChunkKey.pack(worldId, cx, cz);
+            }
+        }
+        return chunks;
+    }
+
+    private static boolean sameBounds(Subregion a, Subregion b) {
+        return a.getWorld().equals(b.getWorld())
+                && a.getMinX() == b.getMinX() && a.getMinY() == b.getMinY() && a.getMinZ() == b.getMinZ()
+                && a.getMaxX() == b.getMaxX() && a.getMaxY() == b.getMaxY() && a.getMaxZ() == b.getMaxZ();
+    }
+}
@@ -43,10 +43,28 @@ public interface SubregionRepository {
     List<Subregion> findByGuild(UUID guildId);
 
     /**
-     * Finds all subregions that contain a specific location.
+     * Finds every subregion, in all worlds and guilds.
+     */
+    List<Subregion> findAll();
+
+    /**
+     * Finds all subregions that contain a specific location, innermost first
+     * (ordered by {@link Subregion#SPECIFICITY}).
      */
     List<Subregion> findByLocation(Location loc);
 
+    /**
+     * Finds all subregions that contain a specific block position, innermost first
+     * (ordered by {@link Subregion#SPECIFICITY}).
+     */
+    List<Subregion> findByLocation(String world, int x, int y, int z);
+
+    /**
+     * Finds the subregions that enclose a subregion, from its immediate parent outwards.
+     * A region of identical bounds counts as an ancestor only if it is less specific.
+     */
+    List<Subregion> findAncestors(Subregion region);
+
     /**
      * Finds all subregions that intersect with any of the given chunks.
      */
@@ -12,6 +12,7 @@ import java.util.UUID;
 import org.aincraft.ChunkKey;
 import org.aincraft.Guild;
 import org.aincraft.GuildPermission;
+import org.aincraft.service.PermissionDecisionCache;
 import org.aincraft.service.PermissionService;
 import org.aincraft.service.TerritoryService;
 import org.bukkit.Location;
@@ -28,18 +29,21 @@ public class SubregionService {
     private final SubregionTypeRegistry typeRegistry;
     private final RegionPermissionService regionPermissionService;
     private final RegionTypeLimitRepository limitRepository;
+    private final PermissionDecisionCache decisionCache;
     private long maxVolume = DEFAULT_MAX_VOLUME;
 
     @Inject
     public SubregionService(SubregionRepository subregionRepository, TerritoryService territoryService,
                             PermissionService permissionService, SubregionTypeRegistry typeRegistry,
-                            RegionPermissionService regionPermissionService, RegionTypeLimitRepository limitRepository) {
+                            RegionPermissionService regionPermissionService, RegionTypeLimitRepository limitRepository,
+                            PermissionDecisionCache decisionCache) {
         this.subregionRepository = Objects.requireNonNull(subregionRepository);
         this.territoryService = Objects.requireNonNull(territoryService);
         this.permissionService = Objects.requireNonNull(permissionService);
         this.typeRegistry = Objects.requireNonNull(typeRegistry);
         this.regionPermissionService = Objects.requireNonNull(regionPermissionService);
         this.limitRepository = Objects.requireNonNull(limitRepository);
+        this.decisionCache = Objects.requireNonNull(decisionCache);
     }
 
     /**
@@ -195,7 +199,8 @@ public class SubregionService {
     }
 
     /**
-     * Gets a subregion at a specific location.
+     * Gets the innermost subregion at a specific location.
+     * Where regions nest, the smallest one wins, then the most recently created.
      */
     public Optional<Subregion> getSubregionAt(Location loc) {
         Objects.requireNonNull(loc, "Location cannot be null");
@@ -205,13 +210,32 @@ public class SubregionService {
     }
 
     /**
-     * Gets all subregions at a location (for handling overlaps).
+     * Gets the innermost subregion at a block position, without requiring a Location.
+     */
+    public Optional<Subregion> getSubregionAt(String world, int x, int y, int z) {
+        Objects.requireNonNull(world, "World cannot be null");
+
+        List<Subregion> regions = subregionRepository.findByLocation(world, x, y, z);
+        return regions.isEmpty() ? Optional.empty() : Optional.of(regions.get(0));
+    }
+
+    /**
+     * Gets all subregions at a location (for handling overlaps), innermost first.
      */
     public List<Subregion> getAllSubregionsAt(Location loc) {
         Objects.requireNonNull(loc, "Location cannot be null");
         return subregionRepository.findByLocation(loc);
     }
 
+    /**
+     * Gets the subregions enclosing a subregion, from its immediate parent outwards,
+     * for inheriting settings down a nested hierarchy.
+     */
+    public List<Subregion> getAncestors(Subregion region) {
+        Objects.requireNonNull(region, "Subregion cannot be null");
+        return subregionRepository.findAncestors(region);
+    }
+
     /**
      * Gets all subregions for a guild.
      */
@@ -248,6 +272,7 @@ public class SubregionService {
 
         region.addOwner(targetId);
         subregionRepository.save(region);
+        decisionCache.invalidateRegion(region.getId());
         return true;
     }
 
@@ -275,6 +300,7 @@ public class SubregionService {
         }
 
         subregionRepository.save(region);
+        decisionCache.invalidateRegion(region.getId());
         return true;
     }
 
@@ -299,6 +325,7 @@ public class SubregionService {
 
         region.setPermissions(permissions);
         subregionRepository.save(region);
+        decisionCache.invalidateRegion(region.getId());
         return true;
     }
 
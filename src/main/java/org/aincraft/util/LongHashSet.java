@@ -0,0 +1,175 @@
+package org.aincraft.util;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Open-addressing hash set of primitive {@code long} values.
+ * Avoids boxing when tracking large numbers of packed coordinates.
+ * <p>
+ * Not thread-safe; callers are responsible for external synchronization.
+ */
+public final class LongHashSet {
+    private static final int DEFAULT_CAPACITY = 16;
+    // 0 marks an empty slot; membership of the value 0 itself is tracked separately
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    private boolean containsEmptyKey;
+
+    public LongHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongHashSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity >> 1 < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Checks whether a value is present.
+     */
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsEmptyKey;
+        }
+        int slot = slot(value);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @return true if the value was not already present
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsEmptyKey) {
+                return false;
+            }
+            containsEmptyKey = true;
+            size++;
+            return true;
+        }
+
+        int slot = slot(value);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Removes a value.
+     *
+     * @return true if the value was present
+     */
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            if (!containsEmptyKey) {
+                return false;
+            }
+            containsEmptyKey = false;
+            size--;
+            return true;
+        }
+
+        int slot = slot(value);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == value) {
+                shiftBack(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Visits every value in the set. The set must not be modified during iteration.
+     */
+    public void forEach(LongConsumer consumer) {
+        if (containsEmptyKey) {
+            consumer.accept(EMPTY);
+        }
+        for (long key : keys) {
+            if (key != EMPTY) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Backward-shift deletion: closes the gap left at {@code slot} so probe chains stay intact
+     * without tombstones.
+     */
+    private void shiftBack(int slot) {
+        int gap = slot;
+        int current = (slot + 1) & mask;
+        while (keys[current] != EMPTY) {
+            int home = slot(keys[current]);
+            if (((current - home) & mask) >= ((current - gap) & mask)) {
+                keys[gap] = keys[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+    }
+
+    private int slot(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        allocate(newCapacity);
+        for (long key : oldKeys) {
+            if (key != EMPTY) {
+                int slot = slot(key);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = capacity >> 1;
+    }
+}
@@ -0,0 +1,196 @@
+package org.aincraft.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to positive {@code int} values.
+ * Avoids boxing on hot lookup paths such as chunk ownership checks.
+ * <p>
+ * A value of {@code 0} is reserved as the "absent" marker, so only positive values may be stored.
+ * Not thread-safe; callers are responsible for external synchronization.
+ */
+public final class LongIntHashMap {
+    /** Value returned by {@link #get(long)} when the key is not present. */
+    public static final int NO_VALUE = 0;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public LongIntHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Gets the value mapped to a key.
+     *
+     * @param key the key
+     * @return the value, or {@link #NO_VALUE} if absent
+     */
+    public int get(long key) {
+        int slot = slot(key);
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Checks whether a key is present.
+     */
+    public boolean containsKey(long key) {
+        return get(key) != NO_VALUE;
+    }
+
+    /**
+     * Maps a key to a value, replacing any previous mapping.
+     *
+     * @param key the key
+     * @param value the value (must be positive)
+     * @return the previous value, or {@link #NO_VALUE} if absent
+     */
+    public int put(long key, int value) {
+        if (value <= NO_VALUE) {
+            throw new IllegalArgumentException("Value must be positive");
+        }
+
+        int slot = slot(key);
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Removes the mapping for a key.
+     *
+     * @param key the key
+     * @return the removed value, or {@link #NO_VALUE} if absent
+     */
+    public int remove(long key) {
+        int slot = slot(key);
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                shiftBack(slot);
+                size--;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Visits every entry in the map. The map must not be modified during iteration.
+     */
+    public void forEach(EntryVisitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != NO_VALUE) {
+                visitor.visit(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, NO_VALUE);
+        size = 0;
+    }
+
+    /**
+     * Callback for {@link #forEach(EntryVisitor)}.
+     */
+    @FunctionalInterface
+    public interface EntryVisitor {
+        void visit(long key, int value);
+    }
+
+    /**
+     * Backward-shift deletion: closes the gap left at {@code slot} so probe chains stay intact
+     * without tombstones.
+     */
+    private void shiftBack(int slot) {
+        int gap = slot;
+        int current = (slot + 1) & mask;
+        while (values[current] != NO_VALUE) {
+            int home = slot(keys[current]);
+            // Move the entry into the gap if its home slot is not between the gap and its position
+            if (((current - home) & mask) >= ((current - gap) & mask)) {
+                keys[gap] = keys[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        values[gap] = NO_VALUE;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != NO_VALUE) {
+                int slot = slot(oldKeys[i]);
+                while (values[slot] != NO_VALUE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = capacity >> 1;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity >> 1 < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
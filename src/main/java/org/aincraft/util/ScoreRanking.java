@@ -0,0 +1,278 @@
+package org.aincraft.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ranking of IDs by score, highest score first.
+ * <p>
+ * Entries are kept in a treap (a randomly balanced binary search tree) ordered by score,
+ * descending, then ID. Every node records the size of its subtree, so an entry's rank is found on
+ * a single root-to-node path, and so is the entry at any position. Updating a score, looking up a
+ * rank and reading N entries from any position all take O(log n), plus N for the entries returned.
+ * <p>
+ * Not thread-safe; callers are responsible for external synchronization.
+ */
+public final class ScoreRanking {
+    private final Map<UUID, Long> scores = new HashMap<>();
+    private Node root;
+
+    /**
+     * Adds to an entry's score, inserting the entry if absent.
+     *
+     * @param id the entry ID
+     * @param delta the amount to add
+     */
+    public void add(UUID id, long delta) {
+        Objects.requireNonNull(id, "ID cannot be null");
+
+        Long previous = scores.get(id);
+        set(id, (previous != null ? previous : 0L) + delta);
+    }
+
+    /**
+     * Sets an entry's score, inserting the entry if absent.
+     *
+     * @param id the entry ID
+     * @param score the new score
+     */
+    public void set(UUID id, long score) {
+        Objects.requireNonNull(id, "ID cannot be null");
+
+        Long previous = scores.put(id, score);
+        if (previous != null) {
+            if (previous == score) {
+                return;
+            }
+            root = remove(root, id, previous);
+        }
+        root = insert(root, new Node(id, score));
+    }
+
+    /**
+     * Removes an entry.
+     *
+     * @param id the entry ID
+     * @return true if the entry was present
+     */
+    public boolean remove(UUID id) {
+        Long previous = scores.remove(id);
+        if (previous == null) {
+            return false;
+        }
+        root = remove(root, id, previous);
+        return true;
+    }
+
+    /**
+     * Checks whether an entry is ranked.
+     */
+    public boolean contains(UUID id) {
+        return scores.containsKey(id);
+    }
+
+    /**
+     * Gets an entry's score.
+     *
+     * @param id the entry ID
+     * @return the score, or 0 if the entry is absent
+     */
+    public long get(UUID id) {
+        return scores.getOrDefault(id, 0L);
+    }
+
+    /**
+     * Gets an entry's position in the ranking.
+     *
+     * @param id the entry ID
+     * @return the 1-based rank, or 0 if the entry is absent
+     */
+    public int rank(UUID id) {
+        Long score = scores.get(id);
+        if (score == null) {
+            return 0;
+        }
+
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(id, score, node);
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                if (cmp == 0) {
+                    return rank;
+                }
+                node = node.right;
+            }
+        }
+        throw new IllegalStateException("Score missing from ranking: " + id);
+    }
+
+    /**
+     * Gets the highest-scoring entries.
+     *
+     * @param limit maximum number of entries
+     * @return map of ID to score, highest first
+     */
+    public Map<UUID, Long> top(int limit) {
+        return range(0, limit);
+    }
+
+    /**
+     * Gets consecutive entries starting at a position in the ranking.
+     *
+     * @param offset the number of higher-ranked entries to skip
+     * @param limit maximum number of entries
+     * @return map of ID to score, highest first; empty if {@code offset} is past the end
+     */
+    public Map<UUID, Long> range(int offset, int limit) {
+        Map<UUID, Long> range = new LinkedHashMap<>();
+        if (offset < 0 || limit < 1) {
+            return range;
+        }
+
+        // Descend to the entry at the offset, stacking the ancestors still to be visited after it
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int skip = offset;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (skip < leftSize) {
+                path.push(node);
+                node = node.left;
+            } else if (skip == leftSize) {
+                path.push(node);
+                node = null;
+            } else {
+                skip -= leftSize + 1;
+                node = node.right;
+            }
+        }
+
+        while (range.size() < limit && !path.isEmpty()) {
+            node = path.pop();
+            range.put(node.id, node.score);
+            for (Node next = node.right; next != null; next = next.left) {
+                path.push(next);
+            }
+        }
+        return range;
+    }
+
+    /**
+     * Gets the number of ranked entries.
+     */
+    public int size() {
+        return scores.size();
+    }
+
+    /**
+     * Orders a key against a node: higher scores first, then by ID.
+     */
+    private static int compare(UUID id, long score, Node node) {
+        int cmp = Long.compare(node.score, score);
+        return cmp != 0 ? cmp : id.compareTo(node.id);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            Node[] halves = split(node, inserted.id, inserted.score);
+            inserted.left = halves[0];
+            inserted.right = halves[1];
+            return inserted.update();
+        }
+        if (compare(inserted.id, inserted.score, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return node.update();
+    }
+
+    private static Node remove(Node node, UUID id, long score) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(id, score, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, id, score);
+        } else {
+            node.right = remove(node.right, id, score);
+        }
+        return node.update();
+    }
+
+    /**
+     * Splits a subtree into the nodes ordered before a key and those ordered after it.
+     */
+    private static Node[] split(Node node, UUID id, long score) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (compare(id, score, node) < 0) {
+            Node[] halves = split(node.left, id, score);
+            node.left = halves[1];
+            halves[1] = node.update();
+            return halves;
+        }
+        Node[] halves = split(node.right, id, score);
+        node.right = halves[0];
+        halves[0] = node.update();
+        return halves;
+    }
+
+    /**
+     * Joins two subtrees where every node of the first is ordered before every node of the second.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        }
+        right.left = merge(left, right.left);
+        return right.update();
+    }
+
+    private static final class Node {
+        private final UUID id;
+        private final long score;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(UUID id, long score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        private Node update() {
+            size = size(left) + size(right) + 1;
+            return this;
+        }
+    }
+}
@@ -81,4 +81,16 @@ class ChunkKeyTest {
         assertThat(key.x()).isEqualTo(-100);
         assertThat(key.z()).isEqualTo(-200);
     }
+
+    @Test
+    @DisplayName("should round-trip packed coordinates")
+    void shouldRoundTripPackedCoordinates() {
+        ChunkKey key = new ChunkKey("world", -100, 200);
+
+        long packed = key.packed();
+
+        assertThat(ChunkKey.unpackX(packed)).isEqualTo(-100);
+        assertThat(ChunkKey.unpackZ(packed)).isEqualTo(200);
+        assertThat(ChunkKey.pack(-100, 201)).isNotEqualTo(packed);
+    }
 }
@@ -0,0 +1,93 @@
+package org.aincraft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for lazy member loading and member snapshots on restored guilds.
+ */
+@DisplayName("Guild member loading")
+class GuildMemberLoadingTest {
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID memberId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Guild restore() {
+        return Guild.restore(UUID.randomUUID(), "Restored", null, ownerId, 0L, 100, null, () -> {
+            loads.incrementAndGet();
+            return List.of(ownerId, memberId);
+        }).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("should not load members until first needed")
+    void shouldLoadLazily() {
+        restore();
+
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("should call the member loader exactly once")
+    void shouldLoadOnce() {
+        Guild guild = restore();
+
+        assertThat(guild.isMember(memberId)).isTrue();
+        assertThat(guild.getMemberCount()).isEqualTo(2);
+        guild.joinGuild(UUID.randomUUID());
+        guild.getMembers();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should keep stored join order")
+    void shouldKeepJoinOrder() {
+        Guild guild = restore();
+
+        assertThat(guild.getMembers()).containsExactly(ownerId, memberId);
+    }
+
+    @Test
+    @DisplayName("should hand out member snapshots unaffected by later changes")
+    void shouldReturnStableSnapshots() {
+        Guild guild = restore();
+        UUID joinerId = UUID.randomUUID();
+        Set<UUID> before = guild.getMemberSet();
+
+        guild.joinGuild(joinerId);
+        guild.leaveGuild(memberId);
+
+        assertThat(before).containsExactly(ownerId, memberId);
+        assertThat(guild.getMemberSet()).containsExactly(ownerId, joinerId);
+    }
+
+    @Test
+    @DisplayName("should allow iterating members while another thread changes them")
+    void shouldIterateWhileMutating() throws InterruptedException {
+        Guild guild = restore();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 50; i++) {
+                UUID joinerId = UUID.randomUUID();
+                guild.joinGuild(joinerId);
+                guild.leaveGuild(joinerId);
+            }
+        });
+
+        writer.start();
+        for (int i = 0; i < 1_000; i++) {
+            for (UUID id : guild.getMemberSet()) {
+                assertThat(id).isNotNull();
+            }
+        }
+        writer.join();
+
+        assertThat(guild.getMembers()).containsExactly(ownerId, memberId);
+    }
+}
@@ -17,6 +17,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.aincraft.config.GuildsConfig;
+import org.aincraft.service.ChunkClaimService;
+import org.aincraft.service.GuildSpawnService;
+import org.aincraft.service.MemberAuthorityLoader;
+import org.aincraft.service.MemberPermissionCache;
+import org.aincraft.service.PermissionDecisionCache;
 import org.aincraft.storage.ChunkClaimRepository;
 import org.aincraft.storage.GuildMemberRepository;
 import org.aincraft.storage.GuildRelationshipRepository;
@@ -70,7 +75,12 @@ class GuildServiceTest {
                 chunkClaimLogRepository,
                 inviteRepository,
                 poolRepository,
-                config
+                config,
+                new PermissionDecisionCache(),
+                new MemberPermissionCache(),
+                new ChunkClaimService(chunkClaimRepository, chunkClaimLogRepository, guildRepository,
+                        new GuildSpawnService(guildRepository), config),
+                new MemberAuthorityLoader(guildRepository, memberRoleRepository, roleRepository)
         );
         ownerId = UUID.randomUUID();
         memberId = UUID.randomUUID();
@@ -208,7 +218,7 @@ class GuildServiceTest {
             assertThat(result).isTrue();
             verify(playerGuildMapping).addPlayerToGuild(memberId, guild.getId());
             verify(memberRepository).addMember(eq(guild.getId()), eq(memberId), any(MemberPermissions.class));
-            verify(guildRepository).save(guild);
+            verify(guildRepository, never()).save(any());
         }
 
         @Test
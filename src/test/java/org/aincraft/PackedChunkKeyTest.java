@@ -0,0 +1,55 @@
+package org.aincraft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for PackedChunkKey encoding.
+ */
+@DisplayName("PackedChunkKey")
+class PackedChunkKeyTest {
+
+    @Test
+    @DisplayName("should round-trip negative and extreme coordinates")
+    void shouldRoundTripCoordinates() {
+        int[][] coords = {{0, 0}, {-1, -1}, {5, -3}, {-1875000, 1874999}, {1874999, -1875000}};
+
+        for (int[] c : coords) {
+            long packed = PackedChunkKey.of("world", c[0], c[1]);
+
+            assertThat(PackedChunkKey.chunkX(packed)).isEqualTo(c[0]);
+            assertThat(PackedChunkKey.chunkZ(packed)).isEqualTo(c[1]);
+            assertThat(PackedChunkKey.toChunkKey(packed)).isEqualTo(new ChunkKey("world", c[0], c[1]));
+        }
+    }
+
+    @Test
+    @DisplayName("should map block coordinates to their chunk")
+    void shouldMapBlockCoordinatesToChunk() {
+        assertThat(PackedChunkKey.ofBlock("world", -1, 16))
+                .isEqualTo(PackedChunkKey.of("world", -1, 1));
+        assertThat(PackedChunkKey.ofBlock("world", 15, -16))
+                .isEqualTo(PackedChunkKey.of("world", 0, -1));
+    }
+
+    @Test
+    @DisplayName("should distinguish worlds")
+    void shouldDistinguishWorlds() {
+        long overworld = PackedChunkKey.of("world", 3, 4);
+        long nether = PackedChunkKey.of("world_nether", 3, 4);
+
+        assertThat(overworld).isNotEqualTo(nether);
+        assertThat(PackedChunkKey.world(nether)).isEqualTo("world_nether");
+        assertThat(PackedChunkKey.of(new ChunkKey("world", 3, 4))).isEqualTo(overworld);
+    }
+
+    @Test
+    @DisplayName("should reject coordinates outside the encodable range")
+    void shouldRejectOutOfRangeCoordinates() {
+        assertThatThrownBy(() -> PackedChunkKey.of("world", 1 << 21, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
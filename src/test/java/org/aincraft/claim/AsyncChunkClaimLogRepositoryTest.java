@@ -0,0 +1,161 @@
+package org.aincraft.claim;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.aincraft.ChunkKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AsyncChunkClaimLogRepository.
+ */
+@DisplayName("AsyncChunkClaimLogRepository")
+class AsyncChunkClaimLogRepositoryTest {
+    private static final long NEVER_MS = 60_000;
+
+    private final ChunkClaimLogRepository persisted = mock(ChunkClaimLogRepository.class);
+    private final Logger logger = Logger.getLogger("AsyncChunkClaimLogRepositoryTest");
+    private AsyncChunkClaimLogRepository repository;
+
+    @AfterEach
+    void tearDown() {
+        if (repository != null) {
+            repository.shutdown();
+        }
+    }
+
+    private static ChunkClaimLog entry(int x) {
+        return new ChunkClaimLog(UUID.randomUUID(), new ChunkKey("world", x, 0), UUID.randomUUID(),
+                ChunkClaimLog.ActionType.CLAIM);
+    }
+
+    private static List<ChunkClaimLog> entries(int count) {
+        List<ChunkClaimLog> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(entry(i));
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("should queue entries without writing synchronously")
+    void shouldQueueEntries() {
+        repository = new AsyncChunkClaimLogRepository(persisted, logger, 10, NEVER_MS, 100,
+                ClaimLogOverflowPolicy.WRITE_THROUGH);
+
+        repository.log(entry(1));
+
+        assertThat(repository.getPendingCount()).isEqualTo(1);
+        verify(persisted, never()).logAll(anyList());
+        verify(persisted, never()).log(any());
+    }
+
+    @Test
+    @DisplayName("should write a batch once batch size is reached")
+    void shouldWriteWhenBatchSizeReached() {
+        repository = new AsyncChunkClaimLogRepository(persisted, logger, 3, NEVER_MS, 100,
+                ClaimLogOverflowPolicy.WRITE_THROUGH);
+        List<ChunkClaimLog> logs = entries(3);
+
+        logs.forEach(repository::log);
+
+        verify(persisted, timeout(2000)).logAll(logs);
+    }
+
+    @Test
+    @DisplayName("should write pending entries after the flush interval")
+    void shouldWriteAfterFlushInterval() {
+        repository = new AsyncChunkClaimLogRepository(persisted, logger, 100, 20, 100,
+                ClaimLogOverflowPolicy.WRITE_THROUGH);
+        ChunkClaimLog log = entry(1);
+
+        repository.log(log);
+
+        verify(persisted, timeout(2000)).logAll(List.of(log));
+    }
+
+    @Test
+    @DisplayName("should flush pending entries before queries")
+    void shouldFlushBeforeQueries() {
+        repository = new AsyncChunkClaimLogRepository(persisted, logger, 100, NEVER_MS, 100,
+                ClaimLogOverflowPolicy.WRITE_THROUGH);
+        ChunkClaimLog log = entry(1);
+        repository.log(log);
+
+        repository.findByGuildId(log.guildId(), 10);
+
+        verify(persisted).logAll(List.of(log));
+        assertThat(repository.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should write through on overflow")
+    void shouldWriteThroughOnOverflow() {
+        repository = new AsyncChunkClaimLogRepository(persisted, logger, 100, NEVER_MS, 2,
+                ClaimLogOverflowPolicy.WRITE_THROUGH);
+        List<ChunkClaimLog> logs = entries(3);
+
+        repository.logAll(logs);
+
+        verify(persisted).logAll(List.of(logs.get(2)));
+        assertThat(repository.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should drop entries on overflow with drop policy")
+    void shouldDropOnOverflow() {
+        repository = new AsyncChunkClaimLogRepository(persisted, logger, 100, NEVER_MS, 2,
+                ClaimLogOverflowPolicy.DROP);
+
+        repository.logAll(entries(3));
+
+        verify(persisted, never()).logAll(anyList());
+        assertThat(repository.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should flush remaining entries on shutdown")
+    void shouldFlushOnShutdown() {
+        repository = new AsyncChunkClaimLogRepository(persisted, logger, 100, NEVER_MS, 100,
+                ClaimLogOverflowPolicy.WRITE_THROUGH);
+        List<ChunkClaimLog> logs = entries(2);
+        repository.logAll(logs);
+
+        repository.shutdown();
+
+        verify(persisted).logAll(logs);
+        assertThat(repository.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should keep a failed batch and retry it on the next flush")
+    void shouldRetryFailedBatch() {
+        repository = new AsyncChunkClaimLogRepository(persisted, logger, 100, NEVER_MS, 100,
+                ClaimLogOverflowPolicy.WRITE_THROUGH);
+        List<ChunkClaimLog> logs = entries(2);
+        repository.logAll(logs);
+        doThrow(new RuntimeException("database unavailable")).doNothing().when(persisted).logAll(logs);
+
+        assertThatThrownBy(repository::flush).hasMessage("database unavailable");
+        assertThat(repository.getPendingCount()).isEqualTo(2);
+
+        repository.flush();
+
+        verify(persisted, times(2)).logAll(logs);
+        assertThat(repository.getPendingCount()).isZero();
+    }
+}
@@ -0,0 +1,138 @@
+package org.aincraft.claim;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.UUID;
+import org.aincraft.ChunkKey;
+import org.aincraft.PackedChunkKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ChunkClaimIndex.
+ */
+@DisplayName("ChunkClaimIndex")
+class ChunkClaimIndexTest {
+
+    private ChunkClaimIndex index;
+    private UUID guildA;
+    private UUID guildB;
+
+    @BeforeEach
+    void setUp() {
+        index = new ChunkClaimIndex();
+        guildA = UUID.randomUUID();
+        guildB = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("should return owner of indexed chunk")
+    void shouldReturnOwnerOfIndexedChunk() {
+        index.put(new ChunkKey("world", 3, -7), guildA);
+
+        assertThat(index.getOwner("world", 3, -7)).isEqualTo(guildA);
+        assertThat(index.getOwner("world", -7, 3)).isNull();
+        assertThat(index.getOwner("world_nether", 3, -7)).isNull();
+    }
+
+    @Test
+    @DisplayName("should remove single chunk")
+    void shouldRemoveSingleChunk() {
+        ChunkKey chunk = new ChunkKey("world", 0, 0);
+        index.put(chunk, guildA);
+
+        assertThat(index.remove(chunk)).isEqualTo(guildA);
+        assertThat(index.isClaimed(chunk)).isFalse();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should remove only the given guild's chunks")
+    void shouldRemoveOnlyGivenGuildsChunks() {
+        for (int x = 0; x < 100; x++) {
+            index.put(new ChunkKey("world", x, 0), guildA);
+            index.put(new ChunkKey("world", x, 1), guildB);
+        }
+
+        assertThat(index.removeGuild(guildA)).isEqualTo(100);
+
+        assertThat(index.size()).isEqualTo(100);
+        for (int x = 0; x < 100; x++) {
+            assertThat(index.getOwner("world", x, 0)).isNull();
+            assertThat(index.getOwner("world", x, 1)).isEqualTo(guildB);
+        }
+    }
+
+    @Test
+    @DisplayName("should bulk load owners")
+    void shouldBulkLoadOwners() {
+        index.putAll(Map.of(
+                new ChunkKey("world", 1, 1), guildA,
+                new ChunkKey("world_nether", 1, 1), guildB
+        ));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.getOwner("world", 1, 1)).isEqualTo(guildA);
+        assertThat(index.getOwner("world_nether", 1, 1)).isEqualTo(guildB);
+    }
+
+    @Test
+    @DisplayName("should find nearest foreign claim within distance")
+    void shouldFindNearestForeignClaimWithinDistance() {
+        index.put(new ChunkKey("world", 0, 0), guildA);
+        index.put(new ChunkKey("world", 17, 0), guildB);
+        index.put(new ChunkKey("world", 15, 2), guildB);
+
+        NearbyClaim nearby = index.findNearestForeignClaim(new ChunkKey("world", 16, 0), guildA, 4);
+
+        assertThat(nearby).isNotNull();
+        assertThat(nearby.chunk()).isEqualTo(new ChunkKey("world", 17, 0));
+        assertThat(nearby.guildId()).isEqualTo(guildB);
+        assertThat(nearby.distance()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should ignore own and out-of-range claims")
+    void shouldIgnoreOwnAndOutOfRangeClaims() {
+        index.put(new ChunkKey("world", 1, 0), guildA);
+        index.put(new ChunkKey("world", 2, 2), guildB);
+        index.put(new ChunkKey("world_nether", 0, 1), guildB);
+
+        assertThat(index.findNearestForeignClaim(new ChunkKey("world", 0, 0), guildA, 4)).isNull();
+        assertThat(index.findNearestForeignClaim(new ChunkKey("world", 0, 0), guildA, 5)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should track per-guild counts and adjacency")
+    void shouldTrackPerGuildCountsAndAdjacency() {
+        index.put(new ChunkKey("world", 0, 0), guildA);
+        index.put(new ChunkKey("world", 1, 0), guildA);
+        index.put(new ChunkKey("world", 5, 5), guildB);
+
+        assertThat(index.getChunkCount(guildA)).isEqualTo(2);
+        assertThat(index.getGuildChunks(guildA)).containsExactlyInAnyOrder(
+                new ChunkKey("world", 0, 0), new ChunkKey("world", 1, 0));
+        assertThat(index.hasAdjacentClaim(new ChunkKey("world", 2, 0), guildA)).isTrue();
+        assertThat(index.hasAdjacentClaim(new ChunkKey("world", 2, 1), guildA)).isFalse();
+        assertThat(index.hasAdjacentClaim(new ChunkKey("world_nether", 2, 0), guildA)).isFalse();
+
+        index.remove(new ChunkKey("world", 1, 0));
+
+        assertThat(index.getChunkCount(guildA)).isEqualTo(1);
+        assertThat(index.hasAdjacentClaim(new ChunkKey("world", 2, 0), guildA)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should look up packed chunk keys without converting them")
+    void shouldLookUpPackedChunkKeys() {
+        index.put(new ChunkKey("world", -3, 7), guildA);
+        index.put(new ChunkKey("world_nether", -3, 7), guildB);
+
+        assertThat(index.getOwner(PackedChunkKey.of("world", -3, 7))).isEqualTo(guildA);
+        assertThat(index.getOwner(PackedChunkKey.of("world_nether", -3, 7))).isEqualTo(guildB);
+        assertThat(index.getOwner(PackedChunkKey.of("world", 7, -3))).isNull();
+        assertThat(index.getOwner(PackedChunkKey.of("world_the_end", -3, 7))).isNull();
+    }
+}
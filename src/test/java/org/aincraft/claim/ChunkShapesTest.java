@@ -0,0 +1,45 @@
+package org.aincraft.claim;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.aincraft.ChunkKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ChunkShapes.
+ */
+@DisplayName("ChunkShapes")
+class ChunkShapesTest {
+
+    private final ChunkKey center = new ChunkKey("world", 10, -4);
+
+    @Test
+    @DisplayName("should build square starting at the centre")
+    void shouldBuildSquareStartingAtCentre() {
+        List<ChunkKey> chunks = ChunkShapes.square(center, 2);
+
+        assertThat(chunks).hasSize(25).doesNotHaveDuplicates();
+        assertThat(chunks.get(0)).isEqualTo(center);
+        assertThat(chunks).contains(new ChunkKey("world", 12, -6), new ChunkKey("world", 8, -2));
+    }
+
+    @Test
+    @DisplayName("should build circle within radius")
+    void shouldBuildCircleWithinRadius() {
+        List<ChunkKey> chunks = ChunkShapes.circle(center, 2);
+
+        assertThat(chunks).hasSize(13);
+        assertThat(chunks).contains(new ChunkKey("world", 12, -4));
+        assertThat(chunks).doesNotContain(new ChunkKey("world", 12, -6));
+    }
+
+    @Test
+    @DisplayName("should reject negative radius")
+    void shouldRejectNegativeRadius() {
+        assertThatThrownBy(() -> ChunkShapes.square(center, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,259 @@
+package org.aincraft.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for SQLiteConnectionProvider's writer queue, nested transactions and statement cache,
+ * against a SQLite file in a temporary directory.
+ */
+@DisplayName("SQLiteConnectionProvider")
+class SQLiteConnectionProviderTest {
+    private static final String INSERT = "INSERT INTO entries (value) VALUES (?)";
+
+    @TempDir
+    Path tempDir;
+
+    private DatabaseConfig config;
+    private SQLiteConnectionProvider provider;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        config = new DatabaseConfig.Builder(DatabaseType.SQLITE)
+                .filePath(tempDir.resolve("guilds.db").toString())
+                .build();
+        provider = new SQLiteConnectionProvider(config);
+        provider.initialize();
+        provider.write(conn -> {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE entries (value INTEGER NOT NULL)");
+            }
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        provider.shutdown();
+    }
+
+    @Test
+    @DisplayName("should defer a nested write's commit to the outer transaction")
+    void shouldJoinOuterTransaction() throws SQLException {
+        provider.write(conn -> {
+            conn.setAutoCommit(false);
+            insert(conn, 1);
+            provider.write(nested -> {
+                nested.setAutoCommit(false);
+                insert(nested, 2);
+                nested.commit();
+                nested.setAutoCommit(true);
+                return null;
+            });
+            conn.rollback();
+            conn.setAutoCommit(true);
+            return null;
+        });
+
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should roll back the outer transaction when a nested write rolls back")
+    void shouldPropagateRollbackOnly() throws SQLException {
+        assertThatThrownBy(() -> provider.write(conn -> {
+            conn.setAutoCommit(false);
+            insert(conn, 1);
+            provider.write(nested -> {
+                nested.setAutoCommit(false);
+                insert(nested, 2);
+                nested.rollback();
+                return null;
+            });
+            conn.commit();
+            return null;
+        })).isInstanceOf(SQLException.class)
+                .hasMessageContaining("nested write failed");
+
+        assertThat(count()).isZero();
+
+        // The write connection is usable again afterwards
+        provider.write(conn -> {
+            insert(conn, 3);
+            return null;
+        });
+        assertThat(count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should let reads inside a write see its uncommitted work without ending it")
+    void shouldReadUncommittedWorkOnWriterThread() throws SQLException {
+        long seen = provider.write(conn -> {
+            conn.setAutoCommit(false);
+            insert(conn, 1);
+            long inside;
+            try (Connection read = provider.getConnection()) {
+                inside = count(read);
+                // Transaction control from nested reads must not touch the outer transaction
+                read.commit();
+                read.setAutoCommit(true);
+            }
+            conn.rollback();
+            conn.setAutoCommit(true);
+            return inside;
+        });
+
+        assertThat(seen).isEqualTo(1);
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject writes that bypass the writer queue")
+    void shouldRejectWritesOnReadConnections() throws SQLException {
+        try (Connection conn = provider.getConnection()) {
+            assertThatThrownBy(() -> insert(conn, 1)).isInstanceOf(SQLException.class);
+        }
+
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should evict the least recently used statement but not one in use")
+    void shouldEvictCachedStatements() throws SQLException {
+        try (Connection conn = provider.getConnection()) {
+            PreparedStatement first = conn.prepareStatement("SELECT 0");
+            Statement firstRaw = first.unwrap(Statement.class);
+            first.close();
+
+            PreparedStatement held = conn.prepareStatement("SELECT -1");
+            Statement heldRaw = held.unwrap(Statement.class);
+
+            // Enough distinct statements to push both out of a 64-entry cache
+            Statement secondRaw = null;
+            for (int i = 1; i <= 80; i++) {
+                try (PreparedStatement ps = conn.prepareStatement("SELECT " + i)) {
+                    ps.executeQuery();
+                    if (i == 1) {
+                        secondRaw = ps.unwrap(Statement.class);
+                    }
+                }
+            }
+
+            assertThat(firstRaw.isClosed()).isTrue();
+            // Eviction skips over the held statement rather than stopping at it
+            assertThat(secondRaw.isClosed()).isTrue();
+            assertThat(heldRaw.isClosed()).isFalse();
+            try (ResultSet rs = held.executeQuery()) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getInt(1)).isEqualTo(-1);
+            }
+            held.close();
+
+            // An evicted statement is simply prepared again
+            try (PreparedStatement ps = conn.prepareStatement("SELECT 0");
+                 ResultSet rs = ps.executeQuery()) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getInt(1)).isZero();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should finish queued writes before closing")
+    void shouldDrainQueueOnClose() throws Exception {
+        int queued = 20;
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch submitting = new CountDownLatch(queued);
+        ExecutorService callers = Executors.newFixedThreadPool(queued + 1);
+        try {
+            Future<?> blocker = callers.submit(() -> provider.write(conn -> {
+                running.countDown();
+                awaitQuietly(release);
+                insert(conn, 0);
+                return null;
+            }));
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<?>> writes = new ArrayList<>();
+            for (int i = 1; i <= queued; i++) {
+                int value = i;
+                writes.add(callers.submit(() -> {
+                    submitting.countDown();
+                    return provider.write(conn -> {
+                        insert(conn, value);
+                        return null;
+                    });
+                }));
+            }
+            assertThat(submitting.await(5, TimeUnit.SECONDS)).isTrue();
+            // Give the callers time to land in the writer queue behind the blocked write
+            Thread.sleep(200);
+
+            Thread closer = new Thread(provider::close);
+            closer.start();
+            release.countDown();
+            closer.join(TimeUnit.SECONDS.toMillis(15));
+            assertThat(closer.isAlive()).isFalse();
+
+            blocker.get(5, TimeUnit.SECONDS);
+            for (Future<?> write : writes) {
+                write.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        provider = new SQLiteConnectionProvider(config);
+        provider.initialize();
+        assertThat(count()).isEqualTo(queued + 1);
+    }
+
+    private static void insert(Connection conn, int value) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(INSERT)) {
+            ps.setInt(1, value);
+            ps.executeUpdate();
+        }
+    }
+
+    private long count() throws SQLException {
+        try (Connection conn = provider.getConnection()) {
+            return count(conn);
+        }
+    }
+
+    private static long count(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT COUNT(*) FROM entries");
+             ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
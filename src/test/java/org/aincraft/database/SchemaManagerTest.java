@@ -0,0 +1,187 @@
+package org.aincraft.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.aincraft.MemberPermissions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for SchemaManager's migration of the legacy guilds.members column, against in-memory H2.
+ */
+@DisplayName("SchemaManager")
+class SchemaManagerTest {
+    private static final long CREATED_AT = 1_000L;
+
+    private final String guildId = UUID.randomUUID().toString();
+    private final String ownerId = UUID.randomUUID().toString();
+    private final String firstMemberId = UUID.randomUUID().toString();
+    private final String secondMemberId = UUID.randomUUID().toString();
+
+    private ConnectionProvider provider;
+    private SchemaManager schemaManager;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DatabaseConfig config = new DatabaseConfig.Builder(DatabaseType.H2)
+                .filePath("mem:schema_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1")
+                .build();
+        provider = new DirectConnectionProvider(config);
+        provider.initialize();
+        schemaManager = new SchemaManager(provider, Logger.getLogger("SchemaManagerTest"));
+        schemaManager.initializeSchema();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Connection conn = provider.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        provider.shutdown();
+    }
+
+    @Test
+    @DisplayName("should migrate legacy members in stored order")
+    void shouldMigrateInStoredOrder() throws SQLException {
+        insertLegacyGuild(guildId, ownerId + "," + firstMemberId + "," + secondMemberId);
+
+        schemaManager.initializeSchema();
+
+        assertThat(memberIds(guildId)).containsExactly(ownerId, firstMemberId, secondMemberId);
+        assertThat(joinedAt(guildId)).containsExactly(CREATED_AT, CREATED_AT + 1, CREATED_AT + 2);
+        assertThat(permissions(guildId, ownerId)).isEqualTo(MemberPermissions.all().getBitfield());
+        assertThat(permissions(guildId, firstMemberId)).isEqualTo(MemberPermissions.getDefault().getBitfield());
+        assertThat(mappedGuild(secondMemberId)).isEqualTo(guildId);
+        assertThat(legacyMembers(guildId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should leave existing rows untouched when re-run")
+    void shouldBeIdempotent() throws SQLException {
+        insertLegacyGuild(guildId, ownerId + "," + firstMemberId);
+        schemaManager.initializeSchema();
+        execute("UPDATE guild_members SET permissions = 0, joined_at = 5 WHERE player_id = '" + firstMemberId + "'");
+
+        // A crash before the column was cleared leaves the CSV in place for the next startup
+        execute("UPDATE guilds SET members = '" + ownerId + "," + firstMemberId + "' WHERE id = '" + guildId + "'");
+        schemaManager.initializeSchema();
+        schemaManager.initializeSchema();
+
+        assertThat(memberIds(guildId)).containsExactlyInAnyOrder(ownerId, firstMemberId);
+        assertThat(permissions(guildId, firstMemberId)).isZero();
+        assertThat(legacyMembers(guildId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should skip empty and blank member entries")
+    void shouldSkipBlankEntries() throws SQLException {
+        String emptyGuildId = UUID.randomUUID().toString();
+        String blankGuildId = UUID.randomUUID().toString();
+        insertLegacyGuild(emptyGuildId, "");
+        insertLegacyGuild(blankGuildId, " , ,");
+        insertLegacyGuild(guildId, ownerId + ", ," + firstMemberId + " ");
+
+        schemaManager.initializeSchema();
+
+        assertThat(memberIds(emptyGuildId)).isEmpty();
+        assertThat(memberIds(blankGuildId)).isEmpty();
+        assertThat(legacyMembers(blankGuildId)).isEmpty();
+        assertThat(memberIds(guildId)).containsExactly(ownerId, firstMemberId);
+    }
+
+    private void insertLegacyGuild(String id, String members) throws SQLException {
+        try (Connection conn = provider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "INSERT INTO guilds (id, name, owner_id, created_at, max_members, members) VALUES (?, ?, ?, ?, 100, ?)")) {
+            ps.setString(1, id);
+            ps.setString(2, "guild-" + id);
+            ps.setString(3, ownerId);
+            ps.setLong(4, CREATED_AT);
+            ps.setString(5, members);
+            ps.executeUpdate();
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection conn = provider.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(sql);
+        }
+    }
+
+    private List<String> memberIds(String id) throws SQLException {
+        List<String> ids = new ArrayList<>();
+        try (Connection conn = provider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "SELECT player_id FROM guild_members WHERE guild_id = ? ORDER BY joined_at")) {
+            ps.setString(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getString(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private List<Long> joinedAt(String id) throws SQLException {
+        List<Long> times = new ArrayList<>();
+        try (Connection conn = provider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "SELECT joined_at FROM guild_members WHERE guild_id = ? ORDER BY joined_at")) {
+            ps.setString(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    times.add(rs.getLong(1));
+                }
+            }
+        }
+        return times;
+    }
+
+    private int permissions(String id, String playerId) throws SQLException {
+        try (Connection conn = provider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "SELECT permissions FROM guild_members WHERE guild_id = ? AND player_id = ?")) {
+            ps.setString(1, id);
+            ps.setString(2, playerId);
+            try (ResultSet rs = ps.executeQuery()) {
+                assertThat(rs.next()).isTrue();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private String mappedGuild(String playerId) throws SQLException {
+        try (Connection conn = provider.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT guild_id FROM player_guilds WHERE player_id = ?")) {
+            ps.setString(1, playerId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    private String legacyMembers(String id) throws SQLException {
+        try (Connection conn = provider.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT members FROM guilds WHERE id = ?")) {
+            ps.setString(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                assertThat(rs.next()).isTrue();
+                return rs.getString(1);
+            }
+        }
+    }
+}
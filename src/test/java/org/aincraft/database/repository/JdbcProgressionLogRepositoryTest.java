@@ -0,0 +1,231 @@
+package org.aincraft.database.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.aincraft.database.ConnectionProvider;
+import org.aincraft.database.DatabaseConfig;
+import org.aincraft.database.DatabaseType;
+import org.aincraft.database.DirectConnectionProvider;
+import org.aincraft.database.SchemaManager;
+import org.aincraft.progression.ProgressionLog;
+import org.aincraft.progression.RollupGranularity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for JdbcProgressionLogRepository's rollups and retention, against in-memory H2.
+ */
+@DisplayName("JdbcProgressionLogRepository")
+class JdbcProgressionLogRepositoryTest {
+    private static final long HOUR = RollupGranularity.HOUR.getBucketMillis();
+    private static final long DAY = RollupGranularity.DAY.getBucketMillis();
+    // Midnight UTC, 2023-11-14
+    private static final long DAY_START = 19_675 * DAY;
+
+    private final UUID guildId = UUID.randomUUID();
+    private final UUID playerId = UUID.randomUUID();
+
+    private ConnectionProvider provider;
+    private SchemaManager schemaManager;
+    private JdbcProgressionLogRepository repository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DatabaseConfig config = new DatabaseConfig.Builder(DatabaseType.H2)
+                .filePath("mem:progression_logs_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1")
+                .build();
+        provider = new DirectConnectionProvider(config);
+        provider.initialize();
+        schemaManager = new SchemaManager(provider, Logger.getLogger("JdbcProgressionLogRepositoryTest"));
+        schemaManager.initializeSchema();
+        repository = new JdbcProgressionLogRepository(provider);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Connection conn = provider.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        provider.shutdown();
+    }
+
+    @Test
+    @DisplayName("should split hourly buckets on the hour")
+    void shouldSplitHourlyBuckets() {
+        repository.logAll(List.of(
+                xpGain("MOB_KILL", 10, DAY_START + HOUR - 1),
+                xpGain("MOB_KILL", 5, DAY_START + HOUR)));
+
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.HOUR, DAY_START + HOUR))
+                .containsOnly(entry("MOB_KILL", 5L));
+        // A period starting mid-bucket covers the whole bucket
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.HOUR, DAY_START + HOUR - 1))
+                .containsOnly(entry("MOB_KILL", 15L));
+        assertThat(repository.getXpByBucket(guildId, RollupGranularity.HOUR, DAY_START))
+                .containsOnly(entry(DAY_START, 10L), entry(DAY_START + HOUR, 5L));
+    }
+
+    @Test
+    @DisplayName("should split daily buckets at midnight UTC")
+    void shouldSplitDailyBuckets() {
+        repository.logAll(List.of(
+                xpGain("BLOCK_MINING", 7, DAY_START + DAY - 1),
+                xpGain("BLOCK_MINING", 3, DAY_START + DAY),
+                xpGain("PLAYTIME", 4, DAY_START)));
+
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.DAY, DAY_START + DAY))
+                .containsOnly(entry("BLOCK_MINING", 3L));
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.DAY, DAY_START + DAY - 1))
+                .containsOnly(entry("BLOCK_MINING", 10L), entry("PLAYTIME", 4L));
+    }
+
+    @Test
+    @DisplayName("should add later batches to existing buckets")
+    void shouldMergeIntoExistingBuckets() throws SQLException {
+        repository.logAll(List.of(xpGain("MOB_KILL", 10, DAY_START + 1)));
+        repository.log(xpGain("MOB_KILL", 15, DAY_START + 2));
+
+        assertThat(count("SELECT COUNT(*) FROM progression_log_rollups WHERE granularity = 'HOUR'")).isEqualTo(1);
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.HOUR, DAY_START))
+                .containsOnly(entry("MOB_KILL", 25L));
+    }
+
+    @Test
+    @DisplayName("should only roll up XP gains")
+    void shouldIgnoreOtherActions() {
+        repository.logAll(List.of(
+                new ProgressionLog(0, guildId, playerId, ProgressionLog.ActionType.LEVEL_UP, 2, "+5 members", DAY_START),
+                new ProgressionLog(0, guildId, null, ProgressionLog.ActionType.XP_GAIN, 9, "MOB_KILL", DAY_START)));
+
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.DAY, DAY_START)).isEmpty();
+        assertThat(repository.findByGuild(guildId, 10)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should roll back the raw entries when a rollup update fails")
+    void shouldUpdateRollupsInTransaction() throws SQLException {
+        repository.logAll(List.of(xpGain("MOB_KILL", 10, DAY_START)));
+
+        // Fits the raw details column, but not the rollup source column
+        String tooLongSource = "X".repeat(65);
+        assertThatThrownBy(() -> repository.logAll(List.of(
+                xpGain("MOB_KILL", 5, DAY_START),
+                xpGain(tooLongSource, 1, DAY_START))))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(count("SELECT COUNT(*) FROM progression_logs")).isEqualTo(1);
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.HOUR, DAY_START))
+                .containsOnly(entry("MOB_KILL", 10L));
+    }
+
+    @Test
+    @DisplayName("should compact raw gains and hourly rollups past their cutoffs")
+    void shouldCompact() {
+        long rawCutoff = DAY_START + 2 * HOUR;
+        long hourlyCutoff = DAY_START + HOUR;
+        repository.logAll(List.of(
+                xpGain("MOB_KILL", 1, DAY_START),
+                xpGain("MOB_KILL", 2, rawCutoff - 1),
+                xpGain("MOB_KILL", 4, rawCutoff),
+                new ProgressionLog(0, guildId, playerId, ProgressionLog.ActionType.LEVEL_UP, 2, null, DAY_START)));
+
+        int deleted = repository.compact(rawCutoff, hourlyCutoff);
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(repository.findByGuild(guildId, 10))
+                .extracting(ProgressionLog::action, ProgressionLog::timestamp)
+                .containsExactlyInAnyOrder(
+                        tuple(ProgressionLog.ActionType.XP_GAIN, rawCutoff),
+                        tuple(ProgressionLog.ActionType.LEVEL_UP, DAY_START));
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.HOUR, DAY_START))
+                .containsOnly(entry("MOB_KILL", 6L));
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.DAY, DAY_START))
+                .containsOnly(entry("MOB_KILL", 7L));
+    }
+
+    @Test
+    @DisplayName("should compact more raw gains than fit in one chunk")
+    void shouldCompactInChunks() throws SQLException {
+        long rawCutoff = DAY_START + DAY;
+        int stale = 2 * JdbcProgressionLogRepository.COMPACT_CHUNK_SIZE + 1;
+        List<ProgressionLog> logs = new ArrayList<>();
+        for (int i = 0; i < stale; i++) {
+            // Shared timestamps, so chunk boundaries fall inside runs of equal timestamps
+            logs.add(xpGain("MOB_KILL", 1, DAY_START + i / 3));
+        }
+        logs.add(xpGain("MOB_KILL", 1, rawCutoff));
+        repository.logAll(logs);
+
+        assertThat(repository.compact(rawCutoff, DAY_START)).isEqualTo(stale);
+        assertThat(count("SELECT COUNT(*) FROM progression_logs")).isEqualTo(1);
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.DAY, DAY_START))
+                .containsOnly(entry("MOB_KILL", stale + 1L));
+    }
+
+    @Test
+    @DisplayName("should backfill rollups from raw gains into an empty rollup table")
+    void shouldBackfillRollups() throws SQLException {
+        insertRawLog(guildId, playerId, "XP_GAIN", 10, "MOB_KILL", DAY_START + HOUR - 1);
+        insertRawLog(guildId, playerId, "XP_GAIN", 5, "MOB_KILL", DAY_START + HOUR);
+        insertRawLog(guildId, playerId, "XP_GAIN", 3, "PLAYTIME", DAY_START + DAY);
+        insertRawLog(guildId, playerId, "LEVEL_UP", 2, null, DAY_START);
+
+        schemaManager.initializeSchema();
+
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.HOUR, DAY_START + HOUR))
+                .containsOnly(entry("MOB_KILL", 5L), entry("PLAYTIME", 3L));
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.DAY, DAY_START))
+                .containsOnly(entry("MOB_KILL", 15L), entry("PLAYTIME", 3L));
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.DAY, DAY_START + DAY))
+                .containsOnly(entry("PLAYTIME", 3L));
+
+        // Rollups already exist, so a second startup must not count the raw entries again
+        schemaManager.initializeSchema();
+        assertThat(repository.getXpBySource(guildId, RollupGranularity.DAY, DAY_START))
+                .containsOnly(entry("MOB_KILL", 15L), entry("PLAYTIME", 3L));
+    }
+
+    private ProgressionLog xpGain(String source, long amount, long timestamp) {
+        return new ProgressionLog(0, guildId, playerId, ProgressionLog.ActionType.XP_GAIN, amount, source, timestamp);
+    }
+
+    private void insertRawLog(UUID guild, UUID player, String action, long amount, String details, long timestamp)
+            throws SQLException {
+        try (Connection conn = provider.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "INSERT INTO progression_logs (guild_id, player_id, action, amount, details, timestamp) "
+                             + "VALUES (?, ?, ?, ?, ?, ?)")) {
+            ps.setString(1, guild.toString());
+            ps.setString(2, player.toString());
+            ps.setString(3, action);
+            ps.setLong(4, amount);
+            ps.setString(5, details);
+            ps.setLong(6, timestamp);
+            ps.executeUpdate();
+        }
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Connection conn = provider.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            assertThat(rs.next()).isTrue();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.aincraft.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.aincraft.progression.GuildProgression;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for GuildLeaderboard rankings and membership.
+ */
+@DisplayName("GuildLeaderboard")
+class GuildLeaderboardTest {
+    private final GuildLeaderboard leaderboard = new GuildLeaderboard();
+    private final UUID guildId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("should enter a guild into every ranking at the initial values")
+    void shouldAddGuildAtInitialValues() {
+        leaderboard.addGuild(guildId);
+        leaderboard.set(guildId, LeaderboardMetric.XP, 500);
+        leaderboard.addGuild(guildId);
+
+        assertThat(leaderboard.size()).isEqualTo(1);
+        assertThat(leaderboard.getValue(guildId, LeaderboardMetric.LEVEL)).isEqualTo(GuildProgression.MIN_LEVEL);
+        // Adding again keeps the values it already has
+        assertThat(leaderboard.getValue(guildId, LeaderboardMetric.XP)).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("should ignore updates for guilds not on the leaderboard")
+    void shouldIgnoreUpdatesForRemovedGuilds() {
+        leaderboard.addGuild(guildId);
+        leaderboard.removeGuild(guildId);
+
+        leaderboard.set(guildId, LeaderboardMetric.XP, 500);
+        leaderboard.add(guildId, LeaderboardMetric.MEMBERS, 1);
+
+        assertThat(leaderboard.size()).isZero();
+        assertThat(leaderboard.getRank(guildId, LeaderboardMetric.XP)).isZero();
+        assertThat(leaderboard.getEntries(LeaderboardMetric.XP, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should number entries by rank from the offset")
+    void shouldRankEntriesFromOffset() {
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        leaderboard.addGuild(guildId);
+        leaderboard.addGuild(second);
+        leaderboard.addGuild(third);
+        leaderboard.set(guildId, LeaderboardMetric.CHUNKS, 30);
+        leaderboard.set(second, LeaderboardMetric.CHUNKS, 20);
+        leaderboard.add(third, LeaderboardMetric.CHUNKS, 10);
+
+        assertThat(leaderboard.getEntries(LeaderboardMetric.CHUNKS, 1, 5)).containsExactly(
+                new LeaderboardEntry(2, second, 20),
+                new LeaderboardEntry(3, third, 10));
+        assertThat(leaderboard.getEntries(LeaderboardMetric.CHUNKS, 3, 5)).isEmpty();
+        assertThat(leaderboard.getRank(third, LeaderboardMetric.CHUNKS)).isEqualTo(3);
+    }
+}
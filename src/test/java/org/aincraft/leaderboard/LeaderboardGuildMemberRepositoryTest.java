@@ -0,0 +1,82 @@
+package org.aincraft.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.aincraft.MemberPermissions;
+import org.aincraft.storage.GuildMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for LeaderboardGuildMemberRepository's member-count upkeep.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaderboardGuildMemberRepository")
+class LeaderboardGuildMemberRepositoryTest {
+
+    @Mock private GuildMemberRepository persistedRepository;
+
+    private final GuildLeaderboard leaderboard = new GuildLeaderboard();
+    private final UUID guildId = UUID.randomUUID();
+    private final UUID playerId = UUID.randomUUID();
+    private LeaderboardGuildMemberRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new LeaderboardGuildMemberRepository(persistedRepository, leaderboard);
+    }
+
+    @Test
+    @DisplayName("should enter a guild with its first member and count only new members")
+    void shouldCountAddedMembers() {
+        MemberPermissions permissions = MemberPermissions.getDefault();
+        when(persistedRepository.addMember(guildId, playerId, permissions)).thenReturn(true, false);
+
+        assertThat(repository.addMember(guildId, playerId, permissions)).isTrue();
+        assertThat(repository.addMember(guildId, playerId, permissions)).isFalse();
+
+        assertThat(leaderboard.getValue(guildId, LeaderboardMetric.MEMBERS)).isEqualTo(1);
+        // The affected-row count decides, so membership is never looked up
+        verify(persistedRepository, never()).getPermissions(guildId, playerId);
+    }
+
+    @Test
+    @DisplayName("should only subtract members that were removed")
+    void shouldCountRemovedMembers() {
+        UUID otherId = UUID.randomUUID();
+        MemberPermissions permissions = MemberPermissions.getDefault();
+        when(persistedRepository.addMember(guildId, playerId, permissions)).thenReturn(true);
+        when(persistedRepository.addMember(guildId, otherId, permissions)).thenReturn(true);
+        when(persistedRepository.removeMember(guildId, playerId)).thenReturn(true, false);
+        repository.addMember(guildId, playerId, permissions);
+        repository.addMember(guildId, otherId, permissions);
+
+        assertThat(repository.removeMember(guildId, playerId)).isTrue();
+        assertThat(repository.removeMember(guildId, playerId)).isFalse();
+
+        assertThat(leaderboard.getValue(guildId, LeaderboardMetric.MEMBERS)).isEqualTo(1);
+        verify(persistedRepository, never()).getPermissions(guildId, playerId);
+    }
+
+    @Test
+    @DisplayName("should drop a guild from the leaderboard when all members are removed")
+    void shouldRemoveGuildWithAllMembers() {
+        MemberPermissions permissions = MemberPermissions.getDefault();
+        when(persistedRepository.addMember(guildId, playerId, permissions)).thenReturn(true);
+        repository.addMember(guildId, playerId, permissions);
+
+        repository.removeAllMembers(guildId);
+
+        verify(persistedRepository).removeAllMembers(guildId);
+        assertThat(leaderboard.size()).isZero();
+        assertThat(leaderboard.getRank(guildId, LeaderboardMetric.MEMBERS)).isZero();
+    }
+}
@@ -0,0 +1,119 @@
+package org.aincraft.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import org.aincraft.Guild;
+import org.aincraft.progression.GuildProgression;
+import org.aincraft.progression.storage.GuildProgressionRepository;
+import org.aincraft.project.storage.GuildProjectRepository;
+import org.aincraft.service.GuildLifecycleService;
+import org.aincraft.storage.ChunkClaimRepository;
+import org.aincraft.storage.GuildMemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for LeaderboardService's bulk load and paging.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaderboardService")
+class LeaderboardServiceTest {
+    private static final Logger LOGGER = Logger.getLogger("LeaderboardServiceTest");
+
+    @Mock private GuildLifecycleService lifecycleService;
+    @Mock private GuildMemberRepository memberRepository;
+    @Mock private ChunkClaimRepository chunkClaimRepository;
+    @Mock private GuildProgressionRepository progressionRepository;
+    @Mock private GuildProjectRepository projectRepository;
+
+    private final GuildLeaderboard leaderboard = new GuildLeaderboard();
+
+    private LeaderboardService createService() {
+        return new LeaderboardService(leaderboard, lifecycleService, memberRepository, chunkClaimRepository,
+                progressionRepository, projectRepository, LOGGER);
+    }
+
+    @Test
+    @DisplayName("should load aggregates only for guilds that still have members")
+    void shouldSkipAggregatesOfDeletedGuilds() {
+        UUID guildId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        when(memberRepository.getMemberCounts()).thenReturn(Map.of(guildId, 3));
+        when(chunkClaimRepository.getChunkCount(guildId)).thenReturn(12);
+        when(progressionRepository.findAll()).thenReturn(List.of(
+                new GuildProgression(guildId, 4, 10, 900, null),
+                new GuildProgression(deletedId, 9, 0, 5000, null)));
+        when(projectRepository.countCompletedByGuild()).thenReturn(Map.of(guildId, 2, deletedId, 7));
+
+        LeaderboardService service = createService();
+
+        assertThat(leaderboard.size()).isEqualTo(1);
+        assertThat(service.getValue(guildId, LeaderboardMetric.MEMBERS)).isEqualTo(3);
+        assertThat(service.getValue(guildId, LeaderboardMetric.CHUNKS)).isEqualTo(12);
+        assertThat(service.getValue(guildId, LeaderboardMetric.LEVEL)).isEqualTo(4);
+        assertThat(service.getValue(guildId, LeaderboardMetric.XP)).isEqualTo(900);
+        assertThat(service.getValue(guildId, LeaderboardMetric.PROJECTS)).isEqualTo(2);
+        assertThat(service.getRank(deletedId, LeaderboardMetric.XP)).isZero();
+        assertThat(service.getValue(deletedId, LeaderboardMetric.PROJECTS)).isZero();
+    }
+
+    @Test
+    @DisplayName("should page through a leaderboard and stop past the last page")
+    void shouldPageThroughLeaderboard() {
+        List<Guild> guilds = List.of(guild("Alpha"), guild("Bravo"), guild("Charlie"));
+        Map<UUID, Integer> memberCounts = Map.of(
+                guilds.get(0).getId(), 5, guilds.get(1).getId(), 3, guilds.get(2).getId(), 1);
+        when(memberRepository.getMemberCounts()).thenReturn(memberCounts);
+        when(progressionRepository.findAll()).thenReturn(List.of());
+        when(projectRepository.countCompletedByGuild()).thenReturn(Map.of());
+        Map<UUID, Guild> byId = guilds.stream().collect(Collectors.toMap(Guild::getId, Function.identity()));
+        when(lifecycleService.getGuildsById(any())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().collect(Collectors.toMap(Function.identity(), byId::get));
+        });
+
+        LeaderboardService service = createService();
+
+        assertThat(service.getPageCount(2)).isEqualTo(2);
+        assertThat(service.getPage(LeaderboardMetric.MEMBERS, 1, 2))
+                .extracting(LeaderboardService.Standing::rank, standing -> standing.guild().getName())
+                .containsExactly(tuple(1, "Alpha"), tuple(2, "Bravo"));
+        assertThat(service.getPage(LeaderboardMetric.MEMBERS, 2, 2))
+                .extracting(LeaderboardService.Standing::rank, LeaderboardService.Standing::value)
+                .containsExactly(tuple(3, 1L));
+        assertThat(service.getPage(LeaderboardMetric.MEMBERS, 3, 2)).isEmpty();
+        assertThatThrownBy(() -> service.getPage(LeaderboardMetric.MEMBERS, 0, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should report one page for an empty leaderboard")
+    void shouldClampPageCountOfEmptyLeaderboard() {
+        when(memberRepository.getMemberCounts()).thenReturn(Map.of());
+        when(progressionRepository.findAll()).thenReturn(List.of());
+        when(projectRepository.countCompletedByGuild()).thenReturn(Map.of());
+
+        LeaderboardService service = createService();
+
+        assertThat(service.getPageCount(10)).isEqualTo(1);
+        assertThat(service.getPage(LeaderboardMetric.LEVEL, 1, 10)).isEmpty();
+    }
+
+    private static Guild guild(String name) {
+        return Guild.create(name, "", UUID.randomUUID()).orElseThrow();
+    }
+}
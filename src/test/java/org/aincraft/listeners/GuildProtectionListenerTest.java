@@ -3,25 +3,31 @@ package org.aincraft.listeners;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import org.aincraft.ChunkKey;
 import org.aincraft.Guild;
 import org.aincraft.GuildDefaultPermissionsService;
 import org.aincraft.GuildPermission;
+import org.aincraft.PackedChunkKey;
 import org.aincraft.RelationshipService;
 import org.aincraft.service.TerritoryService;
 import org.aincraft.service.GuildMemberService;
+import org.aincraft.service.PermissionDecisionCache;
 import org.aincraft.service.PermissionService;
 import org.aincraft.subregion.Subregion;
 import org.aincraft.subregion.SubregionService;
-import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
@@ -29,6 +35,7 @@ import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.junit.jupiter.api.BeforeEach;
@@ -59,33 +66,30 @@ class GuildProtectionListenerTest {
     @Mock private Player player;
     @Mock private Block block;
     @Mock private Location location;
-    @Mock private Chunk chunk;
     @Mock private World world;
 
     private GuildProtectionListener listener;
+    private PermissionDecisionCache decisionCache;
     private UUID playerId;
     private UUID ownerId;
 
     @BeforeEach
     void setUp() {
-        listener = new GuildProtectionListener(territoryService, memberService, permissionService, subregionService, relationshipService, guildDefaultPermissionsService);
+        decisionCache = new PermissionDecisionCache();
+        listener = new GuildProtectionListener(territoryService, memberService, permissionService, subregionService,
+                relationshipService, guildDefaultPermissionsService, decisionCache);
         playerId = UUID.randomUUID();
         ownerId = UUID.randomUUID();
 
         // Default mock behavior
         when(block.getLocation()).thenReturn(location);
-        when(location.getChunk()).thenReturn(chunk);
-        when(chunk.getWorld()).thenReturn(world);
+        when(location.getWorld()).thenReturn(world);
         when(world.getName()).thenReturn("world");
-        when(chunk.getX()).thenReturn(0);
-        when(chunk.getZ()).thenReturn(0);
+        when(location.getBlockX()).thenReturn(0);
+        when(location.getBlockZ()).thenReturn(0);
         when(player.getUniqueId()).thenReturn(playerId);
     }
 
-    private ChunkKey createChunkKey() {
-        return new ChunkKey("world", 0, 0);
-    }
-
     @Nested
     @DisplayName("onBlockBreak")
     class OnBlockBreak {
@@ -93,7 +97,7 @@ class GuildProtectionListenerTest {
         @Test
         @DisplayName("should allow breaking in unclaimed chunks")
         void shouldAllowBreakingInUnclaimedChunks() {
-            when(territoryService.getChunkOwner(any(ChunkKey.class))).thenReturn(null);
+            when(territoryService.getChunkOwnerIdAt(anyString(), anyInt(), anyInt())).thenReturn(null);
 
             BlockBreakEvent event = new BlockBreakEvent(block, player);
             listener.onBlockBreak(event);
@@ -105,7 +109,7 @@ class GuildProtectionListenerTest {
         @DisplayName("should deny non-guild member in claimed chunk")
         void shouldDenyNonGuildMemberInClaimedChunk() {
             Guild ownerGuild = new Guild("OwnerGuild", null, ownerId);
-            when(territoryService.getChunkOwner(any(ChunkKey.class))).thenReturn(ownerGuild);
+            when(territoryService.getChunkOwnerIdAt(anyString(), anyInt(), anyInt())).thenReturn(ownerGuild.getId());
             when(memberService.getPlayerGuild(playerId)).thenReturn(null);
 
             BlockBreakEvent event = new BlockBreakEvent(block, player);
@@ -121,7 +125,7 @@ class GuildProtectionListenerTest {
             Guild guild = new Guild("TestGuild", null, ownerId);
             guild.joinGuild(playerId);
 
-            when(territoryService.getChunkOwner(any(ChunkKey.class))).thenReturn(guild);
+            when(territoryService.getChunkOwnerIdAt(anyString(), anyInt(), anyInt())).thenReturn(guild.getId());
             when(memberService.getPlayerGuild(playerId)).thenReturn(guild);
             when(subregionService.getSubregionAt(location)).thenReturn(Optional.empty());
             when(permissionService.hasPermission(guild.getId(), playerId, GuildPermission.DESTROY))
@@ -139,7 +143,7 @@ class GuildProtectionListenerTest {
             Guild guild = new Guild("TestGuild", null, ownerId);
             guild.joinGuild(playerId);
 
-            when(territoryService.getChunkOwner(any(ChunkKey.class))).thenReturn(guild);
+            when(territoryService.getChunkOwnerIdAt(anyString(), anyInt(), anyInt())).thenReturn(guild.getId());
             when(memberService.getPlayerGuild(playerId)).thenReturn(guild);
             when(subregionService.getSubregionAt(location)).thenReturn(Optional.empty());
             when(permissionService.hasPermission(guild.getId(), playerId, GuildPermission.DESTROY))
@@ -158,7 +162,7 @@ class GuildProtectionListenerTest {
             guild.joinGuild(playerId);
             Subregion subregion = mock(Subregion.class);
 
-            when(territoryService.getChunkOwner(any(ChunkKey.class))).thenReturn(guild);
+            when(territoryService.getChunkOwnerIdAt(anyString(), anyInt(), anyInt())).thenReturn(guild.getId());
             when(memberService.getPlayerGuild(playerId)).thenReturn(guild);
             when(subregionService.getSubregionAt(location)).thenReturn(Optional.of(subregion));
             when(subregionService.hasSubregionPermission(subregion, playerId, GuildPermission.DESTROY))
@@ -182,7 +186,7 @@ class GuildProtectionListenerTest {
         @Test
         @DisplayName("should allow placing in unclaimed chunks")
         void shouldAllowPlacingInUnclaimedChunks() {
-            when(territoryService.getChunkOwner(any(ChunkKey.class))).thenReturn(null);
+            when(territoryService.getChunkOwnerIdAt(anyString(), anyInt(), anyInt())).thenReturn(null);
 
             BlockPlaceEvent event = new BlockPlaceEvent(block, blockState, block, itemStack, player, true, EquipmentSlot.HAND);
             listener.onBlockPlace(event);
@@ -196,7 +200,7 @@ class GuildProtectionListenerTest {
             Guild guild = new Guild("TestGuild", null, ownerId);
             guild.joinGuild(playerId);
 
-            when(territoryService.getChunkOwner(any(ChunkKey.class))).thenReturn(guild);
+            when(territoryService.getChunkOwnerIdAt(anyString(), anyInt(), anyInt())).thenReturn(guild.getId());
             when(memberService.getPlayerGuild(playerId)).thenReturn(guild);
             when(subregionService.getSubregionAt(location)).thenReturn(Optional.empty());
             when(permissionService.hasPermission(guild.getId(), playerId, GuildPermission.BUILD))
@@ -219,7 +223,7 @@ class GuildProtectionListenerTest {
             when(block.getType()).thenReturn(Material.CHEST);
 
             Guild guild = new Guild("TestGuild", null, ownerId);
-            when(territoryService.getChunkOwner(any(ChunkKey.class))).thenReturn(guild);
+            when(territoryService.getChunkOwnerIdAt(anyString(), anyInt(), anyInt())).thenReturn(guild.getId());
             when(memberService.getPlayerGuild(playerId)).thenReturn(null);
 
             PlayerInteractEvent event = mock(PlayerInteractEvent.class);
@@ -263,7 +267,7 @@ class GuildProtectionListenerTest {
             Guild guild = new Guild("TestGuild", null, ownerId);
             guild.joinGuild(playerId);
 
-            when(territoryService.getChunkOwner(any(ChunkKey.class))).thenReturn(guild);
+            when(territoryService.getChunkOwnerIdAt(anyString(), anyInt(), anyInt())).thenReturn(guild.getId());
             when(memberService.getPlayerGuild(playerId)).thenReturn(guild);
             when(subregionService.getSubregionAt(location)).thenReturn(Optional.empty());
             when(permissionService.hasPermission(guild.getId(), playerId, GuildPermission.INTERACT))
@@ -278,4 +282,100 @@ class GuildProtectionListenerTest {
             verify(event, never()).setCancelled(true);
         }
     }
+
+    @Nested
+    @DisplayName("decision cache")
+    class DecisionCache {
+
+        @Test
+        @DisplayName("should reuse a decision for repeated actions in the same territory")
+        void shouldReuseDecision() {
+            Guild guild = new Guild("TestGuild", null, ownerId);
+            guild.joinGuild(playerId);
+            when(territoryService.getChunkOwnerIdAt(anyString(), anyInt(), anyInt())).thenReturn(guild.getId());
+            when(memberService.getPlayerGuild(playerId)).thenReturn(guild);
+            when(subregionService.getSubregionAt(location)).thenReturn(Optional.empty());
+            when(permissionService.hasPermission(guild.getId(), playerId, GuildPermission.DESTROY))
+                    .thenReturn(true);
+
+            for (int i = 0; i < 3; i++) {
+                BlockBreakEvent event = new BlockBreakEvent(block, player);
+                listener.onBlockBreak(event);
+                assertThat(event.isCancelled()).isFalse();
+            }
+
+            verify(memberService, times(1)).getPlayerGuild(playerId);
+            verify(permissionService, times(1)).hasPermission(guild.getId(), playerId, GuildPermission.DESTROY);
+        }
+
+        @Test
+        @DisplayName("should recompute after the player is invalidated")
+        void shouldRecomputeAfterInvalidation() {
+            Guild guild = new Guild("TestGuild", null, ownerId);
+            guild.joinGuild(playerId);
+            when(territoryService.getChunkOwnerIdAt(anyString(), anyInt(), anyInt())).thenReturn(guild.getId());
+            when(memberService.getPlayerGuild(playerId)).thenReturn(guild);
+            when(subregionService.getSubregionAt(location)).thenReturn(Optional.empty());
+            when(permissionService.hasPermission(guild.getId(), playerId, GuildPermission.DESTROY))
+                    .thenReturn(true, false);
+
+            listener.onBlockBreak(new BlockBreakEvent(block, player));
+            decisionCache.invalidatePlayer(playerId);
+            BlockBreakEvent event = new BlockBreakEvent(block, player);
+            listener.onBlockBreak(event);
+
+            assertThat(event.isCancelled()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("onEntityExplode")
+    class OnEntityExplode {
+
+        private Block blockAt(int x, int z) {
+            Block b = mock(Block.class);
+            when(b.getWorld()).thenReturn(world);
+            when(b.getX()).thenReturn(x);
+            when(b.getZ()).thenReturn(z);
+            return b;
+        }
+
+        @Test
+        @DisplayName("should resolve ownership once per chunk")
+        void shouldResolveOwnershipOncePerChunk() {
+            Guild guild = new Guild("TestGuild", null, ownerId);
+            guild.setExplosionsAllowed(false);
+            long protectedChunk = PackedChunkKey.of("world", 0, 0);
+            when(territoryService.getChunkOwner(protectedChunk)).thenReturn(guild);
+
+            Block claimed1 = blockAt(1, 1);
+            Block claimed2 = blockAt(15, 15);
+            Block wild = blockAt(16, 0);
+            List<Block> blocks = new ArrayList<>(List.of(claimed1, wild, claimed2));
+            EntityExplodeEvent event = mock(EntityExplodeEvent.class);
+            when(event.blockList()).thenReturn(blocks);
+
+            listener.onEntityExplode(event);
+
+            assertThat(blocks).containsExactly(wild);
+            verify(territoryService, times(1)).getChunkOwner(protectedChunk);
+            verify(territoryService, times(1)).getChunkOwner(PackedChunkKey.of("world", 1, 0));
+        }
+
+        @Test
+        @DisplayName("should keep blocks when guild allows explosions")
+        void shouldKeepBlocksWhenExplosionsAllowed() {
+            Guild guild = new Guild("TestGuild", null, ownerId);
+            guild.setExplosionsAllowed(true);
+            when(territoryService.getChunkOwner(anyLong())).thenReturn(guild);
+
+            List<Block> blocks = new ArrayList<>(List.of(blockAt(0, 0), blockAt(-1, -1)));
+            EntityExplodeEvent event = mock(EntityExplodeEvent.class);
+            when(event.blockList()).thenReturn(blocks);
+
+            listener.onEntityExplode(event);
+
+            assertThat(blocks).hasSize(2);
+        }
+    }
 }
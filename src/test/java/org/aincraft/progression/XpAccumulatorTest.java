@@ -0,0 +1,242 @@
+package org.aincraft.progression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.aincraft.leaderboard.GuildLeaderboard;
+import org.aincraft.leaderboard.LeaderboardMetric;
+import org.aincraft.progression.storage.GuildProgressionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for XpAccumulator.
+ */
+@DisplayName("XpAccumulator")
+class XpAccumulatorTest {
+    private static final long NEVER_MS = 60_000;
+
+    private final GuildProgressionRepository progressionRepository = mock(GuildProgressionRepository.class);
+    private final ContributionIndex contributionIndex = new ContributionIndex();
+    private final GuildLeaderboard leaderboard = new GuildLeaderboard();
+    private final Logger logger = Logger.getLogger("XpAccumulatorTest");
+    private XpAccumulator accumulator;
+    private UUID guildId;
+    private UUID playerId;
+
+    @BeforeEach
+    void setUp() {
+        accumulator = new XpAccumulator(progressionRepository, contributionIndex, leaderboard, logger, NEVER_MS);
+        guildId = UUID.randomUUID();
+        playerId = UUID.randomUUID();
+        when(progressionRepository.findByGuildId(guildId))
+                .thenReturn(Optional.of(new GuildProgression(guildId, 3, 40, 500, null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        accumulator.shutdown();
+    }
+
+    @Test
+    @DisplayName("should accumulate awards without writing synchronously")
+    void shouldAccumulateInMemory() {
+        accumulator.award(guildId, playerId, XpSource.BLOCK_MINING, p -> 5);
+        accumulator.award(guildId, playerId, XpSource.BLOCK_MINING, p -> 5);
+
+        verify(progressionRepository, times(1)).findByGuildId(guildId);
+        verify(progressionRepository, never()).saveXpGains(any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("should apply each award against the in-memory progression")
+    void shouldApplyCapInMemory() {
+        long first = accumulator.award(guildId, playerId, XpSource.MOB_KILL, p -> Math.min(50, 100 - p.getCurrentXp()));
+        long second = accumulator.award(guildId, playerId, XpSource.MOB_KILL, p -> Math.min(50, 100 - p.getCurrentXp()));
+
+        assertThat(first).isEqualTo(50);
+        assertThat(second).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("should apply a batch of awards one player at a time")
+    void shouldAwardBatch() {
+        UUID otherPlayerId = UUID.randomUUID();
+
+        long added = accumulator.awardAll(guildId, List.of(playerId, otherPlayerId), XpSource.PLAYTIME,
+                p -> Math.min(40, 100 - p.getCurrentXp()));
+
+        assertThat(added).isEqualTo(60);
+        assertThat(contributionIndex.isLoaded(guildId)).isFalse();
+        accumulator.flush();
+        verify(progressionRepository).saveXpGains(any(),
+                eq(Map.of(guildId, Map.of(playerId, 40L, otherPlayerId, 20L))), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("should write accumulated totals per player and source in one batch")
+    void shouldFlushTotals() {
+        UUID otherPlayerId = UUID.randomUUID();
+        accumulator.award(guildId, playerId, XpSource.BLOCK_MINING, p -> 5);
+        accumulator.award(guildId, playerId, XpSource.BLOCK_MINING, p -> 5);
+        accumulator.award(guildId, playerId, XpSource.MOB_KILL, p -> 20);
+        accumulator.award(guildId, otherPlayerId, XpSource.MOB_KILL, p -> 7);
+
+        accumulator.flush();
+
+        ArgumentCaptor<Collection<GuildProgression>> progressions = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<List<ProgressionLog>> logs = ArgumentCaptor.forClass(List.class);
+        verify(progressionRepository).saveXpGains(progressions.capture(),
+                eq(Map.of(guildId, Map.of(playerId, 30L, otherPlayerId, 7L))), logs.capture());
+        assertThat(progressions.getValue()).singleElement()
+                .satisfies(p -> {
+                    assertThat(p.getCurrentXp()).isEqualTo(77);
+                    assertThat(p.getTotalXpEarned()).isEqualTo(537);
+                });
+        assertThat(logs.getValue())
+                .extracting(ProgressionLog::playerId, ProgressionLog::amount, ProgressionLog::details)
+                .containsExactlyInAnyOrder(
+                        tuple(playerId, 10L, "BLOCK_MINING"),
+                        tuple(playerId, 20L, "MOB_KILL"),
+                        tuple(otherPlayerId, 7L, "MOB_KILL"));
+    }
+
+    @Test
+    @DisplayName("should keep gains from a failed write for the next flush")
+    void shouldRetryFailedWrite() {
+        doThrow(new RuntimeException("database unavailable"))
+                .doNothing()
+                .when(progressionRepository).saveXpGains(any(), any(), anyList());
+        accumulator.award(guildId, playerId, XpSource.MOB_KILL, p -> 20);
+
+        assertThatThrownBy(accumulator::flush).hasMessage("database unavailable");
+        accumulator.award(guildId, playerId, XpSource.MOB_KILL, p -> 5);
+        accumulator.flush();
+
+        verify(progressionRepository, times(2)).saveXpGains(any(), any(), anyList());
+        verify(progressionRepository).saveXpGains(any(), eq(Map.of(guildId, Map.of(playerId, 25L))), anyList());
+        verify(progressionRepository, times(1)).findByGuildId(guildId);
+    }
+
+    @Test
+    @DisplayName("should serve reads from memory without writing or dropping the guild")
+    void shouldReadPendingState() {
+        accumulator.award(guildId, playerId, XpSource.MOB_KILL, p -> 20);
+        accumulator.award(guildId, playerId, XpSource.PLAYTIME, p -> 5);
+
+        assertThat(accumulator.getProgression(guildId)).get()
+                .satisfies(p -> assertThat(p.getCurrentXp()).isEqualTo(65));
+        assertThat(accumulator.getPendingXpBySource(guildId))
+                .containsOnly(entry(XpSource.MOB_KILL, 20L), entry(XpSource.PLAYTIME, 5L));
+        assertThat(accumulator.getPendingCount()).isEqualTo(1);
+        verify(progressionRepository, times(1)).findByGuildId(guildId);
+        verify(progressionRepository, never()).saveXpGains(any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("should keep a guild in memory after writing it directly")
+    void shouldKeepGuildAfterGuildFlush() {
+        accumulator.award(guildId, playerId, XpSource.PLAYTIME, p -> 5);
+
+        accumulator.flush(guildId);
+        accumulator.award(guildId, playerId, XpSource.PLAYTIME, p -> 5);
+
+        assertThat(accumulator.getPendingCount()).isEqualTo(1);
+        verify(progressionRepository, times(1)).findByGuildId(guildId);
+        verify(progressionRepository).saveXpGains(any(), any(), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("should apply direct changes and awards to the same progression")
+    void shouldUpdateInMemory() {
+        leaderboard.addGuild(guildId);
+        accumulator.award(guildId, playerId, XpSource.MOB_KILL, p -> 60);
+
+        GuildProgression updated = accumulator.update(guildId, p -> p.levelUp(100));
+        accumulator.award(guildId, playerId, XpSource.MOB_KILL, p -> 10);
+        accumulator.flush();
+
+        assertThat(updated.getLevel()).isEqualTo(4);
+        assertThat(updated.getCurrentXp()).isZero();
+        assertThat(leaderboard.getValue(guildId, LeaderboardMetric.LEVEL)).isEqualTo(4);
+        ArgumentCaptor<Collection<GuildProgression>> progressions = ArgumentCaptor.forClass(Collection.class);
+        verify(progressionRepository).saveXpGains(progressions.capture(), any(), anyList());
+        assertThat(progressions.getValue()).singleElement()
+                .satisfies(p -> {
+                    assertThat(p.getLevel()).isEqualTo(4);
+                    assertThat(p.getCurrentXp()).isEqualTo(10);
+                });
+    }
+
+    @Test
+    @DisplayName("should write a direct change with no XP gained")
+    void shouldWriteDirectChange() {
+        accumulator.update(guildId, p -> p.setLevel(7));
+
+        accumulator.flush(guildId);
+
+        verify(progressionRepository).saveXpGains(any(), eq(Map.of(guildId, Map.of())), eq(List.of()));
+    }
+
+    @Test
+    @DisplayName("should load contributions with unwritten XP and keep them current")
+    void shouldMaintainContributionIndex() {
+        UUID otherPlayerId = UUID.randomUUID();
+        when(progressionRepository.getContributions(guildId)).thenReturn(Map.of(playerId, 100L, otherPlayerId, 120L));
+        accumulator.award(guildId, playerId, XpSource.MOB_KILL, p -> 15);
+
+        accumulator.loadContributions(guildId);
+        assertThat(contributionIndex.getContribution(guildId, playerId)).isEqualTo(115);
+        assertThat(contributionIndex.getRank(guildId, playerId)).isEqualTo(2);
+
+        accumulator.award(guildId, playerId, XpSource.MOB_KILL, p -> 10);
+        accumulator.loadContributions(guildId);
+        assertThat(contributionIndex.getTopContributors(guildId, 2)).containsExactly(
+                entry(playerId, 125L),
+                entry(otherPlayerId, 120L));
+        verify(progressionRepository, times(1)).getContributions(guildId);
+    }
+
+    @Test
+    @DisplayName("should keep the guild's total XP on the leaderboard current")
+    void shouldUpdateLeaderboard() {
+        leaderboard.addGuild(guildId);
+
+        accumulator.award(guildId, playerId, XpSource.MOB_KILL, p -> 25);
+
+        assertThat(leaderboard.getValue(guildId, LeaderboardMetric.XP)).isEqualTo(525);
+    }
+
+    @Test
+    @DisplayName("should not write discarded XP")
+    void shouldDiscard() {
+        accumulator.award(guildId, playerId, XpSource.PLAYTIME, p -> 5);
+
+        accumulator.discard(guildId);
+        accumulator.flush();
+
+        verify(progressionRepository, never()).saveXpGains(any(), any(), anyList());
+    }
+}
@@ -0,0 +1,81 @@
+package org.aincraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.aincraft.GuildPermission;
+import org.aincraft.service.MemberPermissionCache.MemberAuthority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MemberPermissionCache loading and invalidation.
+ */
+@DisplayName("MemberPermissionCache")
+class MemberPermissionCacheTest {
+    private final MemberPermissionCache cache = new MemberPermissionCache();
+    private final UUID guildId = UUID.randomUUID();
+    private final UUID playerId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private MemberAuthority load(UUID guildId, UUID playerId) {
+        loads.incrementAndGet();
+        return new MemberAuthority(false, GuildPermission.BUILD.getBit(), 10);
+    }
+
+    @Test
+    @DisplayName("should load a member once until invalidated")
+    void shouldLoadOnce() {
+        cache.get(guildId, playerId, this::load);
+        MemberAuthority authority = cache.get(guildId, playerId, this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(authority.hasPermission(GuildPermission.BUILD)).isTrue();
+        assertThat(authority.hasPermission(GuildPermission.KICK)).isFalse();
+
+        cache.invalidateMember(guildId, playerId);
+        cache.get(guildId, playerId, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should drop every member of a guild with the guild")
+    void shouldInvalidateGuild() {
+        UUID otherGuildId = UUID.randomUUID();
+        cache.get(guildId, playerId, this::load);
+        cache.get(otherGuildId, playerId, this::load);
+
+        cache.invalidateGuild(guildId);
+
+        assertThat(cache.size()).isEqualTo(1);
+        cache.get(otherGuildId, playerId, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should not keep an authority loaded across an invalidation")
+    void shouldDiscardLoadRacingInvalidation() {
+        MemberAuthority authority = cache.get(guildId, playerId, (guildId, playerId) -> {
+            // A role change lands while the load is still reading storage
+            cache.invalidateGuild(guildId);
+            return load(guildId, playerId);
+        });
+
+        assertThat(authority.hasPermission(GuildPermission.BUILD)).isTrue();
+        assertThat(cache.size()).isZero();
+        cache.get(guildId, playerId, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should grant every permission to owners and ADMIN holders")
+    void shouldGrantAllToOwnersAndAdmins() {
+        MemberAuthority admin = new MemberAuthority(false, GuildPermission.ADMIN.getBit(), 100);
+
+        assertThat(MemberAuthority.OWNER.hasPermission(GuildPermission.MANAGE_ROLES)).isTrue();
+        assertThat(admin.hasPermission(GuildPermission.KICK)).isTrue();
+        assertThat(MemberAuthority.NONE.hasPermission(GuildPermission.BUILD)).isFalse();
+    }
+}
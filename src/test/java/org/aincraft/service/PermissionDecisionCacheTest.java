@@ -0,0 +1,56 @@
+package org.aincraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.aincraft.GuildPermission;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for PermissionDecisionCache invalidation.
+ */
+@DisplayName("PermissionDecisionCache")
+class PermissionDecisionCacheTest {
+    private final PermissionDecisionCache cache = new PermissionDecisionCache();
+    private final UUID playerId = UUID.randomUUID();
+    private final UUID guildId = UUID.randomUUID();
+    private final UUID regionId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("should drop only the affected subregion's decisions")
+    void shouldInvalidateRegion() {
+        cache.put(playerId, guildId, null, GuildPermission.BUILD, true, cache.generation());
+        cache.put(playerId, guildId, regionId, GuildPermission.BUILD, false, cache.generation());
+
+        cache.invalidateRegion(regionId);
+
+        assertThat(cache.get(playerId, guildId, null, GuildPermission.BUILD)).isTrue();
+        assertThat(cache.get(playerId, guildId, regionId, GuildPermission.BUILD)).isNull();
+    }
+
+    @Test
+    @DisplayName("should drop a guild's subregion decisions with the guild")
+    void shouldInvalidateGuild() {
+        UUID otherGuildId = UUID.randomUUID();
+        cache.put(playerId, guildId, regionId, GuildPermission.BUILD, true, cache.generation());
+        cache.put(playerId, otherGuildId, null, GuildPermission.BUILD, true, cache.generation());
+
+        cache.invalidateGuild(guildId);
+
+        assertThat(cache.get(playerId, guildId, regionId, GuildPermission.BUILD)).isNull();
+        assertThat(cache.get(playerId, otherGuildId, null, GuildPermission.BUILD)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should not store a decision computed across an invalidation")
+    void shouldDiscardStaleDecision() {
+        long generation = cache.generation();
+        cache.invalidatePlayer(playerId);
+
+        cache.put(playerId, guildId, null, GuildPermission.BUILD, true, generation);
+
+        assertThat(cache.get(playerId, guildId, null, GuildPermission.BUILD)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,73 @@
+package org.aincraft.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.aincraft.GuildRelationship;
+import org.aincraft.RelationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AllianceGraph.
+ */
+@DisplayName("AllianceGraph")
+class AllianceGraphTest {
+
+    private AllianceGraph graph;
+    private UUID a;
+    private UUID b;
+    private UUID c;
+    private UUID d;
+
+    @BeforeEach
+    void setUp() {
+        graph = new AllianceGraph();
+        a = UUID.randomUUID();
+        b = UUID.randomUUID();
+        c = UUID.randomUUID();
+        d = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("should join guilds connected through a chain of alliances")
+    void shouldJoinTransitiveAllies() {
+        graph.load(List.of(new GuildRelationship(a, b, RelationType.ALLY, UUID.randomUUID())));
+        graph.link(b, c);
+
+        assertThat(graph.isSameBloc(a, c)).isTrue();
+        assertThat(graph.isSameBloc(a, d)).isFalse();
+        assertThat(graph.getBloc(c)).containsExactlyInAnyOrder(a, b, c);
+        assertThat(graph.getBloc(d)).containsExactly(d);
+    }
+
+    @Test
+    @DisplayName("should split a bloc only when no other alliance connects it")
+    void shouldSplitOnBreak() {
+        graph.link(a, b);
+        graph.link(b, c);
+        graph.link(c, a);
+
+        graph.unlink(a, b);
+        assertThat(graph.isSameBloc(a, b)).isTrue();
+
+        graph.unlink(b, c);
+        assertThat(graph.isSameBloc(a, b)).isFalse();
+        assertThat(graph.getBloc(a)).containsExactlyInAnyOrder(a, c);
+        assertThat(graph.getBloc(b)).containsExactly(b);
+    }
+
+    @Test
+    @DisplayName("should drop a deleted guild from its bloc")
+    void shouldRemoveGuild() {
+        graph.link(a, b);
+        graph.link(b, c);
+
+        graph.removeGuild(b);
+
+        assertThat(graph.isSameBloc(a, c)).isFalse();
+        assertThat(graph.getBloc(b)).containsExactly(b);
+    }
+}
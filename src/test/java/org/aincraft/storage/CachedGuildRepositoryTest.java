@@ -0,0 +1,91 @@
+package org.aincraft.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.aincraft.Guild;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CachedGuildRepository.
+ */
+@DisplayName("CachedGuildRepository")
+class CachedGuildRepositoryTest {
+
+    private InMemoryGuildRepository persisted;
+    private CachedGuildRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        persisted = new InMemoryGuildRepository();
+        repository = new CachedGuildRepository(persisted);
+    }
+
+    @Test
+    @DisplayName("should return the same instance for every lookup of a guild")
+    void shouldShareInstances() {
+        Guild guild = Guild.create("Alpha", null, UUID.randomUUID()).orElseThrow();
+        repository.save(guild);
+
+        assertThat(repository.findById(guild.getId())).containsSame(guild);
+        assertThat(repository.findByName("alpha")).containsSame(guild);
+        assertThat(repository.findAllById(List.of(guild.getId()))).containsExactly(guild);
+        assertThat(repository.findAll()).containsExactly(guild);
+    }
+
+    @Test
+    @DisplayName("should bulk load missing guilds and skip unknown IDs")
+    void shouldBulkLoad() {
+        Guild alpha = Guild.create("Alpha", null, UUID.randomUUID()).orElseThrow();
+        Guild beta = Guild.create("Beta", null, UUID.randomUUID()).orElseThrow();
+        persisted.save(alpha);
+        persisted.save(beta);
+
+        List<Guild> found = repository.findAllById(List.of(alpha.getId(), beta.getId(), UUID.randomUUID()));
+
+        assertThat(found).containsExactlyInAnyOrder(alpha, beta);
+        persisted.clear();
+        assertThat(repository.findById(beta.getId())).containsSame(beta);
+    }
+
+    @Test
+    @DisplayName("should drop deleted guilds")
+    void shouldForgetDeletedGuilds() {
+        Guild guild = Guild.create("Alpha", null, UUID.randomUUID()).orElseThrow();
+        repository.save(guild);
+
+        repository.delete(guild.getId());
+
+        assertThat(repository.findById(guild.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should keep a guild pinned before its first lookup resident")
+    void shouldPinOnLookup() {
+        Guild guild = Guild.create("Alpha", null, UUID.randomUUID()).orElseThrow();
+        persisted.save(guild);
+
+        repository.pin(guild.getId());
+        assertThat(repository.findById(guild.getId())).containsSame(guild);
+        persisted.clear();
+
+        assertThat(repository.findAllById(List.of(guild.getId()))).containsExactly(guild);
+        repository.unpin(guild.getId());
+        assertThat(repository.findById(guild.getId())).containsSame(guild);
+    }
+
+    @Test
+    @DisplayName("should drop pinned guilds on delete")
+    void shouldForgetDeletedPinnedGuilds() {
+        Guild guild = Guild.create("Alpha", null, UUID.randomUUID()).orElseThrow();
+        repository.save(guild);
+        repository.pin(guild.getId());
+
+        repository.delete(guild.getId());
+
+        assertThat(repository.findById(guild.getId())).isEmpty();
+    }
+}
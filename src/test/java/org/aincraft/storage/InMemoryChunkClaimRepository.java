@@ -1,5 +1,7 @@
 package org.aincraft.storage;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +11,8 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.aincraft.ChunkKey;
+import org.aincraft.PackedChunkKey;
+import org.aincraft.claim.NearbyClaim;
 import org.aincraft.map.ChunkClaimData;
 
 /**
@@ -42,17 +46,44 @@ public class InMemoryChunkClaimRepository implements ChunkClaimRepository {
         return true;
     }
 
+    @Override
+    public List<ChunkKey> claimChunks(Collection<ChunkKey> chunks, UUID guildId, UUID claimedBy) {
+        List<ChunkKey> claimed = new ArrayList<>();
+        for (ChunkKey chunk : chunks) {
+            if (claim(chunk, guildId, claimedBy)) {
+                claimed.add(chunk);
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public List<ChunkKey> unclaimChunks(Collection<ChunkKey> chunks, UUID guildId) {
+        List<ChunkKey> unclaimed = new ArrayList<>();
+        for (ChunkKey chunk : chunks) {
+            if (unclaim(chunk, guildId)) {
+                unclaimed.add(chunk);
+            }
+        }
+        return unclaimed;
+    }
+
     @Override
     public void unclaimAll(UUID guildId) {
         claims.entrySet().removeIf(entry -> entry.getValue().guildId().equals(guildId));
     }
 
     @Override
-    public Optional<String> getOwner(ChunkKey chunk) {
+    public Optional<UUID> getOwner(ChunkKey chunk) {
         ChunkClaimData data = claims.get(chunk);
         return data != null ? Optional.of(data.guildId()) : Optional.empty();
     }
 
+    @Override
+    public Optional<UUID> getOwner(long packedChunk) {
+        return getOwner(PackedChunkKey.toChunkKey(packedChunk));
+    }
+
     @Override
     public List<ChunkKey> getGuildChunks(UUID guildId) {
         return claims.entrySet().stream()
@@ -68,6 +99,19 @@ public class InMemoryChunkClaimRepository implements ChunkClaimRepository {
                 .count();
     }
 
+    @Override
+    public boolean hasAdjacentClaim(ChunkKey chunk, UUID guildId) {
+        return isOwnedBy(new ChunkKey(chunk.world(), chunk.x() + 1, chunk.z()), guildId)
+                || isOwnedBy(new ChunkKey(chunk.world(), chunk.x() - 1, chunk.z()), guildId)
+                || isOwnedBy(new ChunkKey(chunk.world(), chunk.x(), chunk.z() + 1), guildId)
+                || isOwnedBy(new ChunkKey(chunk.world(), chunk.x(), chunk.z() - 1), guildId);
+    }
+
+    private boolean isOwnedBy(ChunkKey chunk, UUID guildId) {
+        ChunkClaimData data = claims.get(chunk);
+        return data != null && data.guildId().equals(guildId);
+    }
+
     @Override
     public Map<ChunkKey, ChunkClaimData> getOwnersForChunks(List<ChunkKey> chunks) {
         Map<ChunkKey, ChunkClaimData> result = new HashMap<>();
@@ -80,6 +124,29 @@ public class InMemoryChunkClaimRepository implements ChunkClaimRepository {
         return result;
     }
 
+    @Override
+    public Optional<NearbyClaim> findNearestForeignClaim(ChunkKey chunk, UUID excludedGuildId, int distance) {
+        NearbyClaim nearest = null;
+        for (Map.Entry<ChunkKey, ChunkClaimData> entry : claims.entrySet()) {
+            ChunkKey other = entry.getKey();
+            if (!other.world().equals(chunk.world()) || entry.getValue().guildId().equals(excludedGuildId)) {
+                continue;
+            }
+            int manhattanDistance = Math.abs(other.x() - chunk.x()) + Math.abs(other.z() - chunk.z());
+            if (manhattanDistance < distance && (nearest == null || manhattanDistance < nearest.distance())) {
+                nearest = new NearbyClaim(other, entry.getValue().guildId(), manhattanDistance);
+            }
+        }
+        return Optional.ofNullable(nearest);
+    }
+
+    @Override
+    public Map<ChunkKey, UUID> getAllOwners() {
+        Map<ChunkKey, UUID> owners = new HashMap<>();
+        claims.forEach((chunk, data) -> owners.put(chunk, data.guildId()));
+        return owners;
+    }
+
     /**
      * Clears all claims. Useful for test cleanup.
      */
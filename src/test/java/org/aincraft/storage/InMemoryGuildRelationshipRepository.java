@@ -74,6 +74,17 @@ public class InMemoryGuildRelationshipRepository implements GuildRelationshipRep
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<GuildRelationship> findAllByType(RelationType type, RelationStatus status) {
+        Objects.requireNonNull(type, "Relation type cannot be null");
+        Objects.requireNonNull(status, "Status cannot be null");
+
+        return relationshipsById.values().stream()
+            .filter(r -> r.getRelationType() == type)
+            .filter(r -> r.getStatus() == status)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public void deleteAllByGuild(UUID guildId) {
         Objects.requireNonNull(guildId, "Guild ID cannot be null");
@@ -1,6 +1,7 @@
 package org.aincraft.storage;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.UUID;
 import java.util.List;
 import java.util.UUID;
@@ -20,7 +21,7 @@ import org.aincraft.Guild;
  */
 public class InMemoryGuildRepository implements GuildRepository {
 
-    private final Map<String, Guild> guildsById = new ConcurrentHashMap<>();
+    private final Map<UUID, Guild> guildsById = new ConcurrentHashMap<>();
     private final Map<String, Guild> guildsByName = new ConcurrentHashMap<>();
 
     @Override
@@ -53,6 +54,15 @@ public class InMemoryGuildRepository implements GuildRepository {
         return new ArrayList<>(guildsById.values());
     }
 
+    @Override
+    public List<Guild> findAllById(Collection<UUID> guildIds) {
+        return guildIds.stream()
+            .distinct()
+            .map(guildsById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
     /**
      * Clears all stored guilds. Useful for test cleanup.
      */
@@ -0,0 +1,95 @@
+package org.aincraft.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.aincraft.GuildRelationship;
+import org.aincraft.RelationStatus;
+import org.aincraft.RelationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for IndexedGuildRelationshipRepository.
+ */
+@DisplayName("IndexedGuildRelationshipRepository")
+class IndexedGuildRelationshipRepositoryTest {
+
+    private InMemoryGuildRelationshipRepository persisted;
+    private AllianceGraph allianceGraph;
+    private UUID guildA;
+    private UUID guildB;
+    private UUID playerId;
+
+    @BeforeEach
+    void setUp() {
+        persisted = new InMemoryGuildRelationshipRepository();
+        allianceGraph = new AllianceGraph();
+        guildA = UUID.randomUUID();
+        guildB = UUID.randomUUID();
+        playerId = UUID.randomUUID();
+    }
+
+    private IndexedGuildRelationshipRepository createRepository() {
+        return new IndexedGuildRelationshipRepository(persisted, allianceGraph, Logger.getLogger("test"));
+    }
+
+    @Test
+    @DisplayName("should serve live relationships loaded at startup from memory")
+    void shouldLoadLiveRelationships() {
+        GuildRelationship enemy = new GuildRelationship(guildA, guildB, RelationType.ENEMY, playerId);
+        enemy.cancel();
+        persisted.save(enemy);
+        persisted.save(new GuildRelationship(guildA, guildB, RelationType.ALLY, playerId));
+        IndexedGuildRelationshipRepository repository = createRepository();
+
+        persisted.clear();
+
+        assertThat(repository.findRelationship(guildA, guildB)).isEmpty();
+        assertThat(repository.findByType(guildB, RelationType.ALLY, RelationStatus.PENDING)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should keep the relationship and alliance views in step with writes")
+    void shouldWriteThrough() {
+        IndexedGuildRelationshipRepository repository = createRepository();
+        GuildRelationship forward = new GuildRelationship(guildA, guildB, RelationType.ALLY, playerId);
+        GuildRelationship reverse = new GuildRelationship(guildB, guildA, RelationType.ALLY, playerId);
+        forward.accept();
+        reverse.accept();
+        repository.save(forward);
+        repository.save(reverse);
+
+        assertThat(repository.findRelationship(guildB, guildA)).isPresent();
+        assertThat(allianceGraph.isSameBloc(guildA, guildB)).isTrue();
+
+        repository.delete(forward.getId());
+        assertThat(allianceGraph.isSameBloc(guildA, guildB)).isTrue();
+
+        reverse.cancel();
+        repository.save(reverse);
+        assertThat(repository.findRelationship(guildA, guildB)).isEmpty();
+        assertThat(allianceGraph.isSameBloc(guildA, guildB)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should not let an unsaved status change reach the index")
+    void shouldReturnCopies() {
+        IndexedGuildRelationshipRepository repository = createRepository();
+        GuildRelationship request = new GuildRelationship(guildA, guildB, RelationType.ALLY, playerId);
+        repository.save(request);
+        request.accept();
+
+        GuildRelationship found = repository.findById(request.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(RelationStatus.PENDING);
+        found.accept();
+
+        assertThat(repository.findByType(guildA, RelationType.ALLY, RelationStatus.PENDING)).hasSize(1);
+        assertThat(repository.findRelationship(guildA, guildB)).isEmpty();
+
+        repository.save(found);
+        assertThat(repository.findRelationship(guildA, guildB)).contains(found);
+    }
+}
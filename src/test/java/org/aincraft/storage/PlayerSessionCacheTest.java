@@ -0,0 +1,148 @@
+package org.aincraft.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for PlayerSessionCache and the session-backed mapping.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlayerSessionCache")
+class PlayerSessionCacheTest {
+
+    @Mock private PlayerGuildMapping persistedMapping;
+    @Mock private GuildRepository guildRepository;
+
+    private PlayerSessionCache sessionCache;
+    private SessionPlayerGuildMapping mapping;
+    private UUID playerId;
+    private UUID guildId;
+
+    @BeforeEach
+    void setUp() {
+        sessionCache = new PlayerSessionCache(persistedMapping, guildRepository);
+        mapping = new SessionPlayerGuildMapping(persistedMapping, sessionCache);
+        playerId = UUID.randomUUID();
+        guildId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("should answer online lookups from the session and warm the guild")
+    void shouldServeOnlinePlayers() {
+        when(persistedMapping.getPlayerGuildId(playerId)).thenReturn(Optional.of(guildId));
+        sessionCache.open(playerId);
+
+        assertThat(mapping.getPlayerGuildId(playerId)).contains(guildId);
+        assertThat(mapping.isPlayerInGuild(playerId)).isTrue();
+
+        verify(persistedMapping).getPlayerGuildId(playerId);
+        verify(guildRepository).findById(guildId);
+    }
+
+    @Test
+    @DisplayName("should follow membership changes")
+    void shouldTrackMembership() {
+        when(persistedMapping.getPlayerGuildId(playerId)).thenReturn(Optional.empty());
+        sessionCache.open(playerId);
+
+        mapping.addPlayerToGuild(playerId, guildId);
+        assertThat(mapping.getPlayerGuildId(playerId)).contains(guildId);
+
+        mapping.removePlayerFromGuild(playerId);
+        assertThat(mapping.getPlayerGuildId(playerId)).isEmpty();
+        verify(persistedMapping).getPlayerGuildId(playerId);
+    }
+
+    @Test
+    @DisplayName("should not hold offline players")
+    void shouldNotHoldOfflinePlayers() {
+        mapping.addPlayerToGuild(playerId, guildId);
+        sessionCache.close(playerId);
+
+        assertThat(sessionCache.get(playerId)).isNull();
+        assertThat(sessionCache.size()).isZero();
+        verify(guildRepository, never()).findById(guildId);
+    }
+
+    @Test
+    @DisplayName("should index online players by guild")
+    void shouldIndexOnlineMembers() {
+        UUID otherGuildId = UUID.randomUUID();
+        when(persistedMapping.getPlayerGuildId(playerId)).thenReturn(Optional.of(guildId));
+        sessionCache.open(playerId);
+
+        assertThat(sessionCache.getOnlineMembers(guildId)).containsExactly(playerId);
+
+        mapping.addPlayerToGuild(playerId, otherGuildId);
+        assertThat(sessionCache.getOnlineMembers(guildId)).isEmpty();
+        assertThat(sessionCache.getOnlineMembers(otherGuildId)).containsExactly(playerId);
+
+        sessionCache.close(playerId);
+        assertThat(sessionCache.getOnlineMembers(otherGuildId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should pin a guild while any member is online")
+    void shouldPinGuildsWithOnlineMembers() {
+        UUID otherPlayerId = UUID.randomUUID();
+        when(persistedMapping.getPlayerGuildId(playerId)).thenReturn(Optional.of(guildId));
+        when(persistedMapping.getPlayerGuildId(otherPlayerId)).thenReturn(Optional.of(guildId));
+        sessionCache.open(playerId);
+        sessionCache.open(otherPlayerId);
+
+        sessionCache.close(playerId);
+        verify(guildRepository).pin(guildId);
+        verify(guildRepository, never()).unpin(guildId);
+
+        sessionCache.close(otherPlayerId);
+        verify(guildRepository).unpin(guildId);
+    }
+
+    @Test
+    @DisplayName("should keep a newer login's session when the displaced connection quits")
+    void shouldIgnoreStaleQuit() {
+        when(persistedMapping.getPlayerGuildId(playerId)).thenReturn(Optional.of(guildId));
+        sessionCache.open(playerId);
+        assertThat(sessionCache.join(playerId)).isTrue();
+
+        // Duplicate login: the new connection opens its session before the old one quits
+        sessionCache.open(playerId);
+        assertThat(sessionCache.leave(playerId)).isFalse();
+        assertThat(sessionCache.getOnlineMembers(guildId)).containsExactly(playerId);
+
+        assertThat(sessionCache.join(playerId)).isTrue();
+        assertThat(sessionCache.leave(playerId)).isTrue();
+        assertThat(sessionCache.get(playerId)).isNull();
+        verify(guildRepository).unpin(guildId);
+    }
+
+    @Test
+    @DisplayName("should reap sessions whose connection never joined")
+    void shouldCloseAbandonedSessions() {
+        UUID joinedPlayerId = UUID.randomUUID();
+        when(persistedMapping.getPlayerGuildId(playerId)).thenReturn(Optional.of(guildId));
+        when(persistedMapping.getPlayerGuildId(joinedPlayerId)).thenReturn(Optional.empty());
+        sessionCache.open(playerId);
+        sessionCache.open(joinedPlayerId);
+        sessionCache.join(joinedPlayerId);
+
+        assertThat(sessionCache.closeAbandoned(0)).isEmpty();
+        assertThat(sessionCache.closeAbandoned(Long.MAX_VALUE)).containsExactly(playerId);
+
+        assertThat(sessionCache.get(playerId)).isNull();
+        assertThat(sessionCache.get(joinedPlayerId)).isNotNull();
+        assertThat(sessionCache.join(playerId)).isFalse();
+        verify(guildRepository).unpin(guildId);
+    }
+}
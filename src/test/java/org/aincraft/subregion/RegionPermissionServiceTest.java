@@ -0,0 +1,126 @@
+package org.aincraft.subregion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.aincraft.Guild;
+import org.aincraft.GuildDefaultPermissionsService;
+import org.aincraft.GuildPermission;
+import org.aincraft.RelationshipService;
+import org.aincraft.service.GuildLifecycleService;
+import org.aincraft.service.GuildMemberService;
+import org.aincraft.service.PermissionDecisionCache;
+import org.aincraft.service.PermissionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Unit tests for RegionPermissionService permission resolution.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RegionPermissionService")
+class RegionPermissionServiceTest {
+
+    @Mock private RegionPermissionRepository permissionRepository;
+    @Mock private SubregionRepository subregionRepository;
+    @Mock private GuildLifecycleService lifecycleService;
+    @Mock private GuildMemberService memberService;
+    @Mock private PermissionService guildPermissionService;
+    @Mock private RegionRoleRepository regionRoleRepository;
+    @Mock private MemberRegionRoleRepository memberRegionRoleRepository;
+    @Mock private RelationshipService relationshipService;
+    @Mock private GuildDefaultPermissionsService defaultPermissionsService;
+
+    private RegionPermissionService service;
+    private UUID guildId;
+    private UUID playerId;
+    private Subregion region;
+
+    @BeforeEach
+    void setUp() {
+        service = new RegionPermissionService(permissionRepository, subregionRepository, lifecycleService,
+                memberService, guildPermissionService, regionRoleRepository,
+                memberRegionRoleRepository, relationshipService, defaultPermissionsService,
+                new PermissionDecisionCache(), new RegionPermissionTables());
+        guildId = UUID.randomUUID();
+        playerId = UUID.randomUUID();
+        region = new Subregion(guildId, "shop", "world", 0, 0, 0, 10, 10, 10, UUID.randomUUID());
+
+        when(permissionRepository.findByRegion(region.getId())).thenReturn(List.of());
+        when(regionRoleRepository.findByRegion(region.getId())).thenReturn(List.of());
+        when(guildPermissionService.getMemberRoleIds(guildId, playerId)).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("should resolve repeated checks from the compiled table")
+    void shouldCompileOnce() {
+        RegionPermission override = new RegionPermission(region.getId(), playerId.toString(),
+                SubjectType.PLAYER, GuildPermission.BUILD.getBit(), UUID.randomUUID());
+        when(permissionRepository.findByRegion(region.getId())).thenReturn(List.of(override));
+
+        assertThat(service.hasPermission(region, playerId, GuildPermission.BUILD)).isTrue();
+        assertThat(service.hasPermission(region, playerId, GuildPermission.DESTROY)).isFalse();
+
+        verify(permissionRepository, times(1)).findByRegion(region.getId());
+        verify(permissionRepository, never()).findByRegionAndSubject(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should recompile a region after its permissions change")
+    void shouldRecompileAfterChange() {
+        when(permissionRepository.findByRegionAndSubject(region.getId(), playerId.toString(), SubjectType.PLAYER))
+                .thenReturn(Optional.empty());
+        assertThat(service.hasPermission(region, playerId, GuildPermission.BUILD)).isFalse();
+
+        RegionPermission override = service.setPlayerPermission(region.getId(), playerId,
+                GuildPermission.BUILD.getBit(), UUID.randomUUID());
+        when(permissionRepository.findByRegion(region.getId())).thenReturn(List.of(override));
+
+        assertThat(service.hasPermission(region, playerId, GuildPermission.BUILD)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should grant region role permissions to guild members")
+    void shouldGrantRegionRoles() {
+        Guild guild = mock(Guild.class);
+        when(guild.getId()).thenReturn(guildId);
+        when(memberService.getPlayerGuild(playerId)).thenReturn(guild);
+
+        RegionRole builder = new RegionRole(region.getId(), "builder", GuildPermission.BUILD.getBit(), UUID.randomUUID());
+        when(regionRoleRepository.findByRegion(region.getId())).thenReturn(List.of(builder));
+        when(memberRegionRoleRepository.getMembersWithRole(builder.getId())).thenReturn(List.of(playerId));
+
+        assertThat(service.hasPermission(region, playerId, GuildPermission.BUILD)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should resolve guild role grants from the member's cached role IDs")
+    void shouldGrantGuildRolesFromCachedRoleIds() {
+        Guild guild = mock(Guild.class);
+        when(guild.getId()).thenReturn(guildId);
+        when(memberService.getPlayerGuild(playerId)).thenReturn(guild);
+        when(guildPermissionService.getMemberRoleIds(guildId, playerId)).thenReturn(List.of("officer"));
+
+        RegionPermission officerGrant = new RegionPermission(region.getId(), "officer",
+                SubjectType.ROLE, GuildPermission.BUILD.getBit(), UUID.randomUUID());
+        when(permissionRepository.findByRegion(region.getId())).thenReturn(List.of(officerGrant));
+
+        assertThat(service.hasPermission(region, playerId, GuildPermission.BUILD)).isTrue();
+        verify(guildPermissionService).getMemberRoleIds(guildId, playerId);
+    }
+}
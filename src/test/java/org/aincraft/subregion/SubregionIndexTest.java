@@ -0,0 +1,110 @@
+package org.aincraft.subregion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.aincraft.ChunkKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SubregionIndex lookups and maintenance.
+ */
+@DisplayName("SubregionIndex")
+class SubregionIndexTest {
+    private final SubregionIndex index = new SubregionIndex();
+    private final UUID guildId = UUID.randomUUID();
+    private final UUID playerId = UUID.randomUUID();
+
+    private Subregion region(String name, int minX, int minZ, int maxX, int maxZ) {
+        return new Subregion(guildId, name, "world", minX, 0, minZ, maxX, 64, maxZ, playerId);
+    }
+
+    @Test
+    @DisplayName("should find regions containing a block across chunk borders")
+    void shouldFindRegionsAtBlock() {
+        Subregion spanning = region("spanning", -8, -8, 8, 8);
+        Subregion elsewhere = region("elsewhere", 100, 100, 110, 110);
+        index.putAll(List.of(spanning, elsewhere));
+
+        assertThat(index.getAt("world", -1, 10, -1)).containsExactly(spanning);
+        assertThat(index.getAt("world", 8, 64, 8)).containsExactly(spanning);
+        assertThat(index.getAt("world", 8, 65, 8)).isEmpty();
+        assertThat(index.getAt("world_nether", 0, 10, 0)).isEmpty();
+        assertThat(index.getOverlapping(new ChunkKey("world", -1, 0))).containsExactly(spanning);
+        assertThat(index.getOverlapping(Set.of(new ChunkKey("world", 0, 0), new ChunkKey("world", -1, -1))))
+                .containsExactly(spanning);
+    }
+
+    @Test
+    @DisplayName("should return nested regions innermost first regardless of load order")
+    void shouldOrderInnermostFirst() {
+        Subregion town = region("town", -20, -20, 40, 40);
+        Subregion plot = region("plot", 0, 0, 20, 20);
+        Subregion shop = region("shop", 5, 5, 10, 10);
+        index.putAll(List.of(shop, town, plot));
+
+        assertThat(index.getAt("world", 6, 1, 6)).containsExactly(shop, plot, town);
+        assertThat(index.getAt("world", 15, 1, 15)).containsExactly(plot, town);
+        assertThat(index.getAncestors(shop)).containsExactly(plot, town);
+        assertThat(index.getAncestors(town)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should prefer the newer of two equal-volume regions")
+    void shouldPreferNewerOnTie() {
+        Subregion older = new Subregion(UUID.randomUUID(), guildId, "older", "world", 0, 0, 0, 10, 64, 10,
+                playerId, 1000L, Set.of(playerId), 0, null);
+        Subregion newer = new Subregion(UUID.randomUUID(), guildId, "newer", "world", 5, 0, 5, 15, 64, 15,
+                playerId, 2000L, Set.of(playerId), 0, null);
+        index.putAll(List.of(older, newer));
+
+        Subregion renamed = new Subregion(older.getId(), guildId, "renamed", "world", 0, 0, 0, 10, 64, 10,
+                playerId, older.getCreatedAt(), older.getOwners(), 0, null);
+        index.put(renamed);
+
+        assertThat(index.getAt("world", 6, 1, 6)).extracting(Subregion::getName)
+                .containsExactly("newer", "renamed");
+        assertThat(index.getByName(guildId, "RENAMED")).isEqualTo(renamed);
+    }
+
+    @Test
+    @DisplayName("should drop regions from every bucket on removal")
+    void shouldRemoveRegions() {
+        Subregion spanning = region("spanning", 0, 0, 40, 40);
+        Subregion other = region("other", 0, 0, 4, 4);
+        index.putAll(List.of(spanning, other));
+
+        index.remove(spanning.getId());
+
+        assertThat(index.getAt("world", 30, 1, 30)).isEmpty();
+        assertThat(index.getGuildRegions(guildId)).containsExactly(other);
+
+        index.removeGuild(guildId);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.getCount(guildId)).isZero();
+    }
+
+    @Test
+    @DisplayName("should not let an unsaved change to a looked-up region reach the index")
+    void shouldReturnCopies() {
+        Subregion plot = region("plot", 0, 0, 20, 20);
+        index.put(plot);
+        plot.setName("renamed");
+
+        Subregion found = index.get(plot.getId());
+        assertThat(found.getName()).isEqualTo("plot");
+        found.setPermissions(7);
+        index.getAt("world", 1, 1, 1).getFirst().addOwner(UUID.randomUUID());
+
+        assertThat(index.getByName(guildId, "plot").getPermissions()).isZero();
+        assertThat(index.get(plot.getId()).getOwners()).containsExactly(playerId);
+
+        index.put(found);
+        assertThat(index.getAt("world", 1, 1, 1)).singleElement()
+                .extracting(Subregion::getPermissions).isEqualTo(7);
+    }
+}
@@ -13,6 +13,7 @@ import java.util.UUID;
 import org.aincraft.ChunkKey;
 import org.aincraft.Guild;
 import org.aincraft.GuildPermission;
+import org.aincraft.service.PermissionDecisionCache;
 import org.aincraft.service.TerritoryService;
 import org.aincraft.service.PermissionService;
 import org.bukkit.Location;
@@ -50,7 +51,8 @@ class SubregionServiceTest {
 
     @BeforeEach
     void setUp() {
-        subregionService = new SubregionService(subregionRepository, territoryService, permissionService, typeRegistry, regionPermissionService, limitRepository);
+        subregionService = new SubregionService(subregionRepository, territoryService, permissionService, typeRegistry, regionPermissionService, limitRepository,
+                new PermissionDecisionCache());
         playerId = UUID.randomUUID();
         ownerId = UUID.randomUUID();
         guildId = "guild-123";
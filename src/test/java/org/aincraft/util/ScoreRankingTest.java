@@ -0,0 +1,96 @@
+package org.aincraft.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ScoreRanking.
+ */
+@DisplayName("ScoreRanking")
+class ScoreRankingTest {
+
+    @Test
+    @DisplayName("should rank entries highest first")
+    void shouldRankEntries() {
+        ScoreRanking ranking = new ScoreRanking();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        ranking.add(first, 50);
+        ranking.add(second, 30);
+        ranking.add(third, 10);
+        ranking.add(third, 45);
+
+        assertThat(ranking.top(2).keySet()).containsExactly(third, first);
+        assertThat(ranking.rank(third)).isEqualTo(1);
+        assertThat(ranking.rank(second)).isEqualTo(3);
+        assertThat(ranking.get(third)).isEqualTo(55);
+        assertThat(ranking.rank(UUID.randomUUID())).isZero();
+    }
+
+    @Test
+    @DisplayName("should page through entries after scores are replaced and removed")
+    void shouldPageEntries() {
+        ScoreRanking ranking = new ScoreRanking();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            ranking.set(id, i);
+        }
+
+        ranking.set(ids.get(0), 100);
+        ranking.remove(ids.get(9));
+
+        assertThat(ranking.range(0, 3).keySet()).containsExactly(ids.get(0), ids.get(8), ids.get(7));
+        assertThat(ranking.range(3, 3).keySet()).containsExactly(ids.get(6), ids.get(5), ids.get(4));
+        assertThat(ranking.range(7, 3).keySet()).containsExactly(ids.get(2), ids.get(1));
+        assertThat(ranking.range(9, 3)).isEmpty();
+        assertThat(ranking.contains(ids.get(9))).isFalse();
+        assertThat(ranking.size()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("should match a full sort after many updates")
+    void shouldMatchFullSort() {
+        ScoreRanking ranking = new ScoreRanking();
+        Map<UUID, Long> expected = new HashMap<>();
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            players.add(UUID.randomUUID());
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            UUID playerId = players.get(random.nextInt(players.size()));
+            long xp = 1 + random.nextInt(20);
+            ranking.add(playerId, xp);
+            expected.merge(playerId, xp, Long::sum);
+        }
+
+        List<Map.Entry<UUID, Long>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Map.Entry.<UUID, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        Map<UUID, Long> expectedTop = new LinkedHashMap<>();
+        sorted.subList(0, 10).forEach(e -> expectedTop.put(e.getKey(), e.getValue()));
+
+        assertThat(ranking.size()).isEqualTo(expected.size());
+        assertThat(ranking.top(10)).containsExactlyEntriesOf(expectedTop);
+        assertThat(ranking.range(sorted.size() - 5, 10).keySet())
+                .containsExactlyElementsOf(sorted.subList(sorted.size() - 5, sorted.size()).stream().map(Map.Entry::getKey).toList());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(ranking.rank(sorted.get(i).getKey())).isEqualTo(i + 1);
+        }
+    }
+}